@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of frame related durations, such as the time spent in a pulse
+ * or the interval between two pulses. Durations are recorded in nanoseconds
+ * and counted in a fixed set of buckets whose bounds are chosen around the
+ * common frame budgets (16.7ms for 60fps, 33.3ms for 30fps, ...), so that
+ * recording a value never allocates. Values may be recorded from any thread.
+ */
+public final class FrameTimeHistogram {
+
+    /**
+     * The upper bounds, in milliseconds, of all but the last bucket.
+     * The last bucket counts all of the longer durations.
+     */
+    private static final long[] BOUNDS = {
+        1, 2, 4, 8, 12, 16, 20, 25, 33, 50, 66, 100, 200, 500
+    };
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BOUNDS.length + 1);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public FrameTimeHistogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds, negative values are ignored
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        // A duration of exactly n ms belongs to the bucket bounded by n
+        long millis = (nanos + 999999L) / 1000000L;
+        int bucket = 0;
+        while (bucket < BOUNDS.length && millis > BOUNDS[bucket]) {
+            bucket++;
+        }
+        counts.incrementAndGet(bucket);
+        totalNanos.addAndGet(nanos);
+        long max;
+        while ((max = maxNanos.get()) < nanos && !maxNanos.compareAndSet(max, nanos)) {
+        }
+    }
+
+    /**
+     * Returns the number of buckets of this histogram.
+     */
+    public int getBucketCount() {
+        return counts.length();
+    }
+
+    /**
+     * Returns the upper bound, in milliseconds, of the durations counted in
+     * the given bucket, or {@code Long.MAX_VALUE} for the last bucket.
+     */
+    public long getBucketBound(int bucket) {
+        return bucket < BOUNDS.length ? BOUNDS[bucket] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of durations recorded in the given bucket.
+     */
+    public long getCount(int bucket) {
+        return counts.get(bucket);
+    }
+
+    /**
+     * Returns the total number of durations recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average of the recorded durations in nanoseconds.
+     */
+    public long getAverage() {
+        long count = getCount();
+        return count == 0 ? 0 : totalNanos.get() / count;
+    }
+
+    /**
+     * Returns the longest recorded duration in nanoseconds.
+     */
+    public long getMax() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the upper bound, in milliseconds, of the bucket which contains
+     * the given percentile of the recorded durations, or 0 if nothing has
+     * been recorded.
+     *
+     * @param percentile the percentile, between 0 and 100
+     */
+    public long getPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return getBucketBound(i);
+            }
+        }
+        return getBucketBound(counts.length() - 1);
+    }
+
+    /**
+     * Discards all of the recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(name);
+        long count = getCount();
+        sb.append(": ").append(count).append(" samples");
+        if (count > 0) {
+            sb.append(String.format(", avg %.1fms, max %.1fms, p50 <=%dms, p90 <=%dms, p99 <=%dms",
+                                    getAverage() / 1e6, getMax() / 1e6,
+                                    getPercentile(50), getPercentile(90), getPercentile(99)));
+        }
+        sb.append("\n");
+        for (int i = 0; i < counts.length(); i++) {
+            long c = counts.get(i);
+            if (c == 0) {
+                continue;
+            }
+            sb.append("\t");
+            sb.append(i < BOUNDS.length ? "<=" + BOUNDS[i] + "ms" : ">" + BOUNDS[BOUNDS.length - 1] + "ms");
+            sb.append(": ").append(c).append("\n");
+        }
+        return sb.toString();
+    }
+}
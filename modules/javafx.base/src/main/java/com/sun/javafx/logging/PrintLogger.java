@@ -65,6 +65,13 @@ class PrintLogger extends Logger {
     private static final int EXIT_ON_PULSE =
             AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger("javafx.pulseLogger.exitOnPulse", 0));
 
+    /**
+     * Optionally print the frame time histograms every given number of pulses
+     */
+    @SuppressWarnings("removal")
+    private static final int HISTOGRAM_INTERVAL =
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger("javafx.pulseLogger.histogramInterval", 0));
+
     /**
      * We have a simple counter that keeps track of the current pulse number.
      * INTER_PULSE_DATA is used to mark data that comes between pulses.
@@ -400,7 +407,12 @@ class PrintLogger extends Logger {
             message.setLength(0);
             counters.clear();
             state = AVAILABLE;
+            if (HISTOGRAM_INTERVAL > 0 && pulseCount > 0 && pulseCount % HISTOGRAM_INTERVAL == 0) {
+                PulseLogger.printFrameTimeHistograms();
+                wrapCount = 0;
+            }
             if (EXIT_ON_PULSE > 0 && pulseCount >= EXIT_ON_PULSE) {
+                PulseLogger.printFrameTimeHistograms();
                 System.err.println("Exiting after pulse #" + pulseCount);
                 System.exit(0);
             }
@@ -50,30 +50,81 @@ public class PulseLogger {
         PULSE_LOGGING_ENABLED = loggers.length > 0;
     }
 
+    /*
+     * Frame time histograms, recorded for every pulse while pulse logging
+     * is enabled. The pulse and render times are the durations of the FX
+     * thread and render thread halves of a pulse, the pulse interval is the
+     * time between the start of two consecutive pulses.
+     */
+    private static final FrameTimeHistogram pulseTimes = new FrameTimeHistogram("Pulse time");
+    private static final FrameTimeHistogram renderTimes = new FrameTimeHistogram("Render time");
+    private static final FrameTimeHistogram pulseIntervals = new FrameTimeHistogram("Pulse interval");
+    private static long pulseStartTime;
+    private static long lastPulseStartTime;
+    private static volatile long renderStartTime;
+
     public static void pulseStart() {
+        long now = System.nanoTime();
+        if (lastPulseStartTime > 0) {
+            pulseIntervals.record(now - lastPulseStartTime);
+        }
+        lastPulseStartTime = pulseStartTime = now;
         for (Logger logger: loggers) {
             logger.pulseStart();
         }
     }
 
     public static void pulseEnd() {
+        pulseTimes.record(System.nanoTime() - pulseStartTime);
         for (Logger logger: loggers) {
             logger.pulseEnd();
         }
     }
 
     public static void renderStart() {
+        renderStartTime = System.nanoTime();
         for (Logger logger: loggers) {
             logger.renderStart();
         }
     }
 
     public static void renderEnd() {
+        renderTimes.record(System.nanoTime() - renderStartTime);
         for (Logger logger: loggers) {
             logger.renderEnd();
         }
     }
 
+    /**
+     * @return the histogram of the time spent on the FX thread per pulse
+     */
+    public static FrameTimeHistogram getPulseTimeHistogram() {
+        return pulseTimes;
+    }
+
+    /**
+     * @return the histogram of the time from the submission of the render
+     *         jobs of a pulse until all of them have completed
+     */
+    public static FrameTimeHistogram getRenderTimeHistogram() {
+        return renderTimes;
+    }
+
+    /**
+     * @return the histogram of the time between the start of consecutive
+     *         pulses
+     */
+    public static FrameTimeHistogram getPulseIntervalHistogram() {
+        return pulseIntervals;
+    }
+
+    /**
+     * Prints the frame time histograms to the standard error stream.
+     */
+    public static void printFrameTimeHistograms() {
+        System.err.print("\n" + pulseIntervals + pulseTimes + renderTimes);
+    }
+
     public static void addMessage(String message) {
         for (Logger logger: loggers) {
             logger.addMessage(message);
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging;
+
+import com.sun.javafx.logging.FrameTimeHistogram;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FrameTimeHistogramTest {
+
+    private static final long MS = 1000000L;
+
+    private static int bucketOf(FrameTimeHistogram h, long millis) {
+        for (int i = 0; i < h.getBucketCount(); i++) {
+            if (millis <= h.getBucketBound(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testDurationsAreCountedInTheirBucket() {
+        FrameTimeHistogram h = new FrameTimeHistogram("test");
+        h.record(16 * MS);
+        h.record(16 * MS + 1);
+        h.record(10 * MS);
+
+        assertEquals(3, h.getCount());
+        assertEquals(1, h.getCount(bucketOf(h, 16)));
+        assertEquals(1, h.getCount(bucketOf(h, 17)));
+        assertEquals(1, h.getCount(bucketOf(h, 10)));
+    }
+
+    @Test
+    public void testLongDurationsGoToTheLastBucket() {
+        FrameTimeHistogram h = new FrameTimeHistogram("test");
+        h.record(10000 * MS);
+
+        int last = h.getBucketCount() - 1;
+        assertEquals(Long.MAX_VALUE, h.getBucketBound(last));
+        assertEquals(1, h.getCount(last));
+    }
+
+    @Test
+    public void testNegativeDurationsAreIgnored() {
+        FrameTimeHistogram h = new FrameTimeHistogram("test");
+        h.record(-1);
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getPercentile(50));
+    }
+
+    @Test
+    public void testAverageMaxAndPercentiles() {
+        FrameTimeHistogram h = new FrameTimeHistogram("test");
+        for (int i = 0; i < 90; i++) {
+            h.record(5 * MS);
+        }
+        for (int i = 0; i < 10; i++) {
+            h.record(40 * MS);
+        }
+
+        assertEquals(8 * MS + MS / 2, h.getAverage());
+        assertEquals(40 * MS, h.getMax());
+        assertEquals(8, h.getPercentile(50));
+        assertEquals(8, h.getPercentile(90));
+        assertEquals(50, h.getPercentile(99));
+    }
+
+    @Test
+    public void testReset() {
+        FrameTimeHistogram h = new FrameTimeHistogram("test");
+        h.record(5 * MS);
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMax());
+        assertEquals(0, h.getAverage());
+    }
+
+    @Test
+    public void testToStringEndsWithNewline() {
+        FrameTimeHistogram h = new FrameTimeHistogram("test");
+        assertEquals("test: 0 samples\n", h.toString());
+
+        h.record(5 * MS);
+        String s = h.toString();
+        assertTrue(s.startsWith("test: 1 samples, avg "));
+        assertTrue(s.endsWith("ms: 1\n"));
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.scene.control;
+
+import java.util.Arrays;
+
+/**
+ * A cache of the measured sizes of the cells of a virtualized control,
+ * combined with a prefix sum index (a Fenwick tree) over these sizes.
+ * <p>
+ * Not every cell is measured: entries are either known (a size that is
+ * zero or greater) or unknown.  When computing offsets, unknown entries
+ * count for an estimated size supplied by the caller, which allows the
+ * estimate to change without touching the index.  This makes the offset
+ * of a cell, the cell at an offset and the total of the known sizes
+ * available in {@code O(log n)} instead of requiring a walk over all
+ * cells preceding the one of interest.
+ * <p>
+ * The cache is not expected to cover all cells.  Entries at or beyond
+ * {@link #size()} are unknown.
+ */
+public final class CellSizeIndex {
+
+    private static final double UNKNOWN = -1d;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The sizes, UNKNOWN for cells that have not been measured
+    private double[] sizes = new double[0];
+
+    // Fenwick trees, 1-based, holding the sum and the number of the known
+    // sizes in their range (i - lowbit(i), i]
+    private double[] sumTree = new double[1];
+    private int[] countTree = new int[1];
+
+    private int size;
+    private int knownCount;
+
+    /**
+     * Returns the number of entries, known or unknown, in this cache.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the total number of known entries.
+     */
+    public int getKnownCount() {
+        return knownCount;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        sizes = new double[0];
+        sumTree = new double[1];
+        countTree = new int[1];
+        size = 0;
+        knownCount = 0;
+    }
+
+    /**
+     * Makes sure this cache contains at least {@code newSize} entries,
+     * appending unknown entries as needed.
+     */
+    public void ensureSize(int newSize) {
+        if (newSize <= size) {
+            return;
+        }
+        if (newSize > sizes.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, sizes.length);
+            while (capacity < newSize) {
+                capacity = (capacity > Integer.MAX_VALUE / 2) ? newSize : capacity * 2;
+            }
+            int oldLength = sizes.length;
+            sizes = Arrays.copyOf(sizes, capacity);
+            Arrays.fill(sizes, oldLength, capacity, UNKNOWN);
+            rebuild();
+        }
+        size = newSize;
+    }
+
+    /**
+     * Returns the size of the entry at {@code index}, or -1 if it is unknown.
+     */
+    public double get(int index) {
+        return (index >= 0 && index < size) ? sizes[index] : UNKNOWN;
+    }
+
+    /**
+     * Returns whether the size of the entry at {@code index} is known.
+     */
+    public boolean isKnown(int index) {
+        return get(index) >= 0;
+    }
+
+    /**
+     * Sets the size of the entry at {@code index}, growing the cache if
+     * needed.  A negative value marks the entry as unknown.
+     */
+    public void set(int index, double value) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        ensureSize(index + 1);
+        double old = sizes[index];
+        if (value < 0 || Double.isNaN(value)) {
+            value = UNKNOWN;
+        }
+        if (old == value) {
+            return;
+        }
+        sizes[index] = value;
+
+        double dsum = (value < 0 ? 0 : value) - (old < 0 ? 0 : old);
+        int dcount = (value < 0 ? 0 : 1) - (old < 0 ? 0 : 1);
+        knownCount += dcount;
+        for (int i = index + 1; i < sumTree.length; i += (i & -i)) {
+            sumTree[i] += dsum;
+            countTree[i] += dcount;
+        }
+    }
+
+    /**
+     * Returns the sum of the known sizes of the entries before {@code end}.
+     */
+    public double getKnownSum(int end) {
+        double sum = 0;
+        for (int i = Math.min(end, size); i > 0; i -= (i & -i)) {
+            sum += sumTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of known entries before {@code end}.
+     */
+    public int getKnownCount(int end) {
+        int count = 0;
+        for (int i = Math.min(end, size); i > 0; i -= (i & -i)) {
+            count += countTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the offset of the start of the entry at {@code index}, that
+     * is the sum of the sizes of all entries before it, where unknown
+     * entries, including the ones beyond the end of this cache, count for
+     * {@code estimate}.
+     */
+    public double getOffset(int index, double estimate) {
+        if (index <= 0) {
+            return 0;
+        }
+        double sum = 0;
+        int count = 0;
+        for (int i = Math.min(index, size); i > 0; i -= (i & -i)) {
+            sum += sumTree[i];
+            count += countTree[i];
+        }
+        return sum + (index - count) * estimate;
+    }
+
+    /**
+     * Returns the index of the entry containing {@code offset}, that is the
+     * smallest index {@code i} below {@code count} for which
+     * {@code getOffset(i + 1, estimate) > offset}, or -1 if there is no such
+     * entry because {@code offset} lies beyond the end of the first
+     * {@code count} entries.
+     */
+    public int getIndexAt(double offset, double estimate, int count) {
+        if (count <= 0) {
+            return -1;
+        }
+        // Descend the tree over the cached entries, accumulating the
+        // largest prefix that still ends at or before offset.
+        int limit = Math.min(count, size);
+        int pos = 0;
+        double acc = 0;
+        for (int step = Integer.highestOneBit(Math.max(1, sumTree.length - 1)); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= limit) {
+                double nodeSize = sumTree[next] + (step - countTree[next]) * estimate;
+                if (acc + nodeSize <= offset) {
+                    pos = next;
+                    acc += nodeSize;
+                }
+            }
+        }
+        if (pos < limit) {
+            return pos;
+        }
+        // Past the cached entries all sizes are estimated
+        if (estimate <= 0) {
+            return -1;
+        }
+        double remaining = offset - acc;
+        if (remaining >= (count - limit) * estimate) {
+            return -1;
+        }
+        int k = (int) (remaining / estimate);
+        // Guard against rounding in the division
+        while (k > 0 && k * estimate > remaining) {
+            k--;
+        }
+        while ((k + 1) * estimate <= remaining) {
+            k++;
+        }
+        return limit + k;
+    }
+
+    private void rebuild() {
+        int n = sizes.length;
+        sumTree = new double[n + 1];
+        countTree = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            if (sizes[i] >= 0) {
+                sumTree[i + 1] += sizes[i];
+                countTree[i + 1]++;
+            }
+        }
+        // Linear time construction, push each node into its parent
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                sumTree[parent] += sumTree[i];
+                countTree[parent] += countTree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.scene.control;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A set of non-negative int indices, stored as a sorted list of disjoint,
+ * non-adjacent half-open ranges {@code [start, end)}.
+ * <p>
+ * This is used instead of a {@link java.util.BitSet} where large contiguous
+ * blocks of indices are common, such as the selected indices of a control
+ * after a select-all or shift-select on a very large list. The memory used,
+ * and the cost of setting, clearing and shifting blocks of indices, depend on
+ * the number of ranges rather than on the number or the value of the indices.
+ * <p>
+ * Translating between an index and its position in the set, see
+ * {@link #rank(int)} and {@link #select(int)}, is done with a binary search
+ * over the prefix counts of the ranges, which are rebuilt lazily after a
+ * modification.
+ */
+public final class IndexRangeSet {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    // starts[i] (inclusive) and ends[i] (exclusive) of the ranges, sorted, with
+    // ends[i] < starts[i + 1]
+    private int[] starts;
+    private int[] ends;
+    private int rangeCount;
+
+    // counts[i] is the number of indices in the ranges before range i, only
+    // valid up to (and including) validCounts
+    private int[] counts;
+    private int validCounts;
+
+    private int cardinality;
+
+    /**
+     * Creates an empty set.
+     */
+    public IndexRangeSet() {
+        starts = new int[INITIAL_CAPACITY];
+        ends = new int[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY + 1];
+    }
+
+    /**
+     * Creates a copy of the given set.
+     */
+    public IndexRangeSet(IndexRangeSet other) {
+        int capacity = Math.max(INITIAL_CAPACITY, other.rangeCount);
+        starts = Arrays.copyOf(other.starts, capacity);
+        ends = Arrays.copyOf(other.ends, capacity);
+        counts = new int[capacity + 1];
+        rangeCount = other.rangeCount;
+        cardinality = other.cardinality;
+    }
+
+    /**
+     * Returns the number of ranges in this set.
+     */
+    public int getRangeCount() {
+        return rangeCount;
+    }
+
+    /**
+     * Returns the first index of the range at position {@code i}.
+     */
+    public int getRangeStart(int i) {
+        checkRange(i);
+        return starts[i];
+    }
+
+    /**
+     * Returns the index following the last index of the range at position
+     * {@code i}.
+     */
+    public int getRangeEnd(int i) {
+        checkRange(i);
+        return ends[i];
+    }
+
+    /**
+     * Returns the number of indices in this set.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Returns whether this set contains no indices.
+     */
+    public boolean isEmpty() {
+        return rangeCount == 0;
+    }
+
+    /**
+     * Returns the highest index in this set plus one, or zero if the set is
+     * empty.
+     */
+    public int length() {
+        return rangeCount == 0 ? 0 : ends[rangeCount - 1];
+    }
+
+    /**
+     * Returns whether {@code index} is in this set.
+     */
+    public boolean get(int index) {
+        int i = findRange(index);
+        return i >= 0 && index < ends[i];
+    }
+
+    /**
+     * Adds {@code index} to this set.
+     */
+    public void set(int index) {
+        set(index, index + 1);
+    }
+
+    /**
+     * Adds the indices from {@code from} (inclusive) to {@code to}
+     * (exclusive) to this set.
+     */
+    public void set(int from, int to) {
+        checkBounds(from, to);
+        if (from == to) return;
+
+        // the ranges touching [from, to) are merged into a single one
+        int first = firstRangeEndingAtOrAfter(from);
+        int last = findRange(to);
+        if (first > last) {
+            replace(first, first, from, to, -1, -1);
+            return;
+        }
+        int start = Math.min(from, starts[first]);
+        int end = Math.max(to, ends[last]);
+        replace(first, last + 1, start, end, -1, -1);
+    }
+
+    /**
+     * Removes {@code index} from this set.
+     */
+    public void clear(int index) {
+        clear(index, index + 1);
+    }
+
+    /**
+     * Removes the indices from {@code from} (inclusive) to {@code to}
+     * (exclusive) from this set.
+     */
+    public void clear(int from, int to) {
+        checkBounds(from, to);
+        if (from == to) return;
+
+        // the ranges overlapping [from, to) are replaced by what remains of
+        // the first and the last of them
+        int first = firstRangeEndingAfter(from);
+        int last = findRange(to - 1);
+        if (first > last) return;
+        int leftStart = starts[first] < from ? starts[first] : -1;
+        int rightEnd = ends[last] > to ? ends[last] : -1;
+        if (leftStart >= 0 && rightEnd >= 0) {
+            replace(first, last + 1, leftStart, from, to, rightEnd);
+        } else if (leftStart >= 0) {
+            replace(first, last + 1, leftStart, from, -1, -1);
+        } else if (rightEnd >= 0) {
+            replace(first, last + 1, to, rightEnd, -1, -1);
+        } else {
+            replace(first, last + 1, -1, -1, -1, -1);
+        }
+    }
+
+    /**
+     * Removes all indices from this set.
+     */
+    public void clear() {
+        rangeCount = 0;
+        cardinality = 0;
+        validCounts = 0;
+    }
+
+    /**
+     * Returns the first index in this set that is greater than or equal to
+     * {@code from}, or -1 if there is no such index.
+     */
+    public int nextSetBit(int from) {
+        int i = firstRangeEndingAfter(Math.max(0, from));
+        return i < rangeCount ? Math.max(from, starts[i]) : -1;
+    }
+
+    /**
+     * Returns the first index that is not in this set and is greater than
+     * or equal to {@code from}.
+     */
+    public int nextClearBit(int from) {
+        int i = findRange(from);
+        return i >= 0 && from < ends[i] ? ends[i] : from;
+    }
+
+    /**
+     * Returns the last index in this set that is less than or equal to
+     * {@code from}, or -1 if there is no such index.
+     */
+    public int previousSetBit(int from) {
+        int i = findRange(from);
+        return i >= 0 ? Math.min(from, ends[i] - 1) : -1;
+    }
+
+    /**
+     * Returns the number of indices in this set that are less than
+     * {@code index}, which is the position of {@code index} in the sorted
+     * set if it is contained in it.
+     */
+    public int rank(int index) {
+        int i = findRange(index - 1);
+        if (i < 0) return 0;
+        return countBefore(i) + Math.min(index, ends[i]) - starts[i];
+    }
+
+    /**
+     * Returns the index at position {@code n} in the sorted set.
+     *
+     * @throws IndexOutOfBoundsException if {@code n} is negative or not less
+     *      than the {@link #cardinality()}
+     */
+    public int select(int n) {
+        if (n < 0 || n >= cardinality) {
+            throw new IndexOutOfBoundsException(n + " >= " + cardinality);
+        }
+        updateCounts();
+
+        // find the last range with counts[i] <= n
+        int low = 0;
+        int high = rangeCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (counts[mid] <= n) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return starts[low] + n - counts[low];
+    }
+
+    /**
+     * Inserts {@code count} indices at {@code position}: all indices greater
+     * than or equal to {@code position} are moved up by {@code count}, and
+     * the indices from {@code position} to {@code position + count} are not
+     * in the set afterwards.
+     */
+    public void insert(int position, int count) {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("position: " + position + ", count: " + count);
+        }
+        if (count == 0) return;
+
+        int i = firstRangeEndingAfter(position);
+        if (i < rangeCount && starts[i] < position) {
+            // split the range containing position
+            int end = ends[i];
+            replace(i, i + 1, starts[i], position, position, end);
+            i++;
+        }
+        for (int j = i; j < rangeCount; j++) {
+            starts[j] += count;
+            ends[j] += count;
+        }
+    }
+
+    /**
+     * Removes the indices from {@code position} to {@code position + count}:
+     * these are removed from the set, and all indices greater than or equal
+     * to {@code position + count} are moved down by {@code count}.
+     */
+    public void remove(int position, int count) {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("position: " + position + ", count: " + count);
+        }
+        if (count == 0) return;
+
+        clear(position, position + count);
+        int i = firstRangeEndingAfter(position);
+        for (int j = i; j < rangeCount; j++) {
+            starts[j] -= count;
+            ends[j] -= count;
+        }
+        // the ranges before and after the removed indices may now touch
+        if (i > 0 && i < rangeCount && ends[i - 1] == starts[i]) {
+            replace(i - 1, i + 1, starts[i - 1], ends[i], -1, -1);
+        }
+    }
+
+    /**
+     * Returns a new set containing the indices of this set that are not in
+     * {@code other}.
+     */
+    public IndexRangeSet andNot(IndexRangeSet other) {
+        IndexRangeSet result = new IndexRangeSet();
+        int j = 0;
+        for (int i = 0; i < rangeCount; i++) {
+            int start = starts[i];
+            int end = ends[i];
+            // skip the ranges of other that end before this range
+            while (j < other.rangeCount && other.ends[j] <= start) {
+                j++;
+            }
+            int k = j;
+            while (start < end) {
+                if (k >= other.rangeCount || other.starts[k] >= end) {
+                    result.append(start, end);
+                    break;
+                }
+                if (other.starts[k] > start) {
+                    result.append(start, other.starts[k]);
+                }
+                start = Math.max(start, other.ends[k]);
+                k++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the indices in this set, in
+     * increasing order. The view reflects later changes to this set, so
+     * callers which need a snapshot should take it of a copy.
+     */
+    public List<Integer> asList() {
+        return new IndexList();
+    }
+
+    @Override public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (!(obj instanceof IndexRangeSet)) return false;
+        IndexRangeSet other = (IndexRangeSet) obj;
+        if (rangeCount != other.rangeCount) return false;
+        for (int i = 0; i < rangeCount; i++) {
+            if (starts[i] != other.starts[i] || ends[i] != other.ends[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < rangeCount; i++) {
+            hash = 31 * (31 * hash + starts[i]) + ends[i];
+        }
+        return hash;
+    }
+
+    @Override public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < rangeCount; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(starts[i]).append("..").append(ends[i] - 1);
+        }
+        return sb.append("]").toString();
+    }
+
+    private class IndexList extends AbstractList<Integer> implements RandomAccess {
+        @Override public Integer get(int index) {
+            return select(index);
+        }
+
+        @Override public int size() {
+            return cardinality;
+        }
+
+        @Override public int indexOf(Object o) {
+            if (!(o instanceof Integer)) return -1;
+            int index = (Integer) o;
+            return index >= 0 && IndexRangeSet.this.get(index) ? rank(index) : -1;
+        }
+
+        @Override public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+
+        @Override public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+    }
+
+    // Returns the position of the last range starting at or before index, or
+    // -1 if there is none
+    private int findRange(int index) {
+        int low = 0;
+        int high = rangeCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    // Returns the position of the first range ending after index, or
+    // rangeCount if there is none
+    private int firstRangeEndingAfter(int index) {
+        int low = 0;
+        int high = rangeCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Same as above, but also including a range ending at index, as a range
+    // ending at index touches a range starting at index
+    private int firstRangeEndingAtOrAfter(int index) {
+        return firstRangeEndingAfter(index - 1);
+    }
+
+    private int countBefore(int i) {
+        updateCounts();
+        return counts[i];
+    }
+
+    private void updateCounts() {
+        for (int i = validCounts; i < rangeCount; i++) {
+            counts[i + 1] = counts[i] + ends[i] - starts[i];
+        }
+        validCounts = rangeCount;
+    }
+
+    // Appends a range after all existing ranges, merging it with the last one
+    // if they touch
+    private void append(int start, int end) {
+        if (rangeCount > 0 && ends[rangeCount - 1] == start) {
+            replace(rangeCount - 1, rangeCount, starts[rangeCount - 1], end, -1, -1);
+        } else {
+            replace(rangeCount, rangeCount, start, end, -1, -1);
+        }
+    }
+
+    // Replaces the ranges from first (inclusive) to last (exclusive) with up
+    // to two new ranges, a negative start denoting no range.
+    private void replace(int first, int last, int start1, int end1, int start2, int end2) {
+        int removed = 0;
+        for (int i = first; i < last; i++) {
+            removed += ends[i] - starts[i];
+        }
+        int added = (start1 >= 0 ? 1 : 0) + (start2 >= 0 ? 1 : 0);
+        int newCount = rangeCount - (last - first) + added;
+        if (newCount > starts.length) {
+            int capacity = Math.max(newCount, starts.length * 2);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            counts = Arrays.copyOf(counts, capacity + 1);
+        }
+        int tail = rangeCount - last;
+        System.arraycopy(starts, last, starts, first + added, tail);
+        System.arraycopy(ends, last, ends, first + added, tail);
+        int i = first;
+        if (start1 >= 0) {
+            starts[i] = start1;
+            ends[i] = end1;
+            cardinality += end1 - start1;
+            i++;
+        }
+        if (start2 >= 0) {
+            starts[i] = start2;
+            ends[i] = end2;
+            cardinality += end2 - start2;
+        }
+        cardinality -= removed;
+        rangeCount = newCount;
+        validCounts = Math.min(validCounts, first);
+    }
+
+    private void checkRange(int i) {
+        if (i < 0 || i >= rangeCount) {
+            throw new IndexOutOfBoundsException(i + " >= " + rangeCount);
+        }
+    }
+
+    private static void checkBounds(int from, int to) {
+        if (from < 0 || to < from) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to);
+        }
+    }
+}
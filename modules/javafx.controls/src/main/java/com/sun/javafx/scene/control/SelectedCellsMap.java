@@ -24,10 +24,10 @@
  */
 package com.sun.javafx.scene.control;
 
-import javafx.collections.FXCollections;
+import com.sun.javafx.collections.NonIterableChange;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
+import javafx.collections.ObservableListBase;
 import javafx.scene.control.TablePositionBase;
 
 import java.util.*;
@@ -36,36 +36,41 @@ import java.util.*;
  * Implementation code used by the TableSelectionModel implementations. In short
  * this code exists to speed up some common use cases which were incredibly
  * slow in the old approach. The old approach essentially required a lot of
- * iterating through the selectedCells list. The new approach is to keep this
- * list for what it is good for (representing selection order primarily), and
- * introduce a Map<Integer, BitSet> to speed up the slow parts - namely looking
- * up whether a given row/column intersection is selected or not.
+ * iterating through the selectedCells list, and one position object for each
+ * selected cell.
  *
- * Note that a map that contains an empty bitset is used to represent that the
- * row is selected.
+ * The selected cells are kept sorted by row and column, as runs of rows which
+ * have the same selected columns. A run stores one position per column, and the
+ * positions of its rows are created on demand. This means that selecting all
+ * of a very large table, or moving the selection when rows are added or
+ * removed, depends on the number of runs rather than on the number of cells.
+ * Looking up whether a given row/column intersection is selected, and the
+ * position of a cell in the sorted list, is done with a binary search.
  *
  * Refer to RT-33442 for more information on this issue.
  */
 // T == TablePosition<S,?>
 public abstract class SelectedCellsMap<T extends TablePositionBase> {
-    private final ObservableList<T> selectedCells;
-    private final ObservableList<T> sortedSelectedCells;
+    private static final Comparator<TablePositionBase> CELL_ORDER = (o1, o2) -> {
+        int result = Integer.compare(o1.getRow(), o2.getRow());
+        return result == 0 ? Integer.compare(o1.getColumn(), o2.getColumn()) : result;
+    };
 
-    private final Map<Integer, BitSet> selectedCellBitSetMap;
+    private final CellList selectedCells;
 
     public SelectedCellsMap(final ListChangeListener<T> listener) {
-        selectedCells = FXCollections.<T>observableArrayList();
-        sortedSelectedCells = new SortedList<>(selectedCells, (T o1, T o2) -> {
-            int result = o1.getRow() - o2.getRow();
-            return result == 0 ? (o1.getColumn() - o2.getColumn()) : result;
-        });
-        sortedSelectedCells.addListener(listener);
-
-        selectedCellBitSetMap = new TreeMap<>((o1, o2) -> o1.compareTo(o2));
+        selectedCells = new CellList(new ArrayList<>());
+        selectedCells.addListener(listener);
     }
 
     public abstract boolean isCellSelectionEnabled();
 
+    /**
+     * Returns a position in the given row, and in the column of the given
+     * position. This is used to create the positions of the rows of a run.
+     */
+    public abstract T createPosition(int row, T position);
+
     public int size() {
         return selectedCells.size();
     }
@@ -74,151 +79,729 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
         if (i < 0) {
             return null;
         }
-        return sortedSelectedCells.get(i);
+        return selectedCells.get(i);
     }
 
     public void add(T tp) {
-        final int row = tp.getRow();
-        final int columnIndex = tp.getColumn();
+        selectedCells.addCell(tp);
+    }
+
+    public void addAll(Collection<T> cells) {
+        selectedCells.addCells(cells);
+    }
+
+    /**
+     * Selects the rows from {@code fromRow} (inclusive) to {@code toRow}
+     * (exclusive) which have no selected cell, with a cell in the column of
+     * the given position. This is used in row selection mode.
+     */
+    public void addAll(int fromRow, int toRow, T position) {
+        selectedCells.addRows(fromRow, toRow, position);
+    }
+
+    public void setAll(Collection<T> cells) {
+        selectedCells.setCells(cells);
+    }
 
-        // update the bitset map
-        boolean isNewBitSet = false;
-        BitSet bitset;
-        if (! selectedCellBitSetMap.containsKey(row)) {
-            bitset = new BitSet();
-            selectedCellBitSetMap.put(row, bitset);
-            isNewBitSet = true;
-        } else {
-            bitset = selectedCellBitSetMap.get(row);
+    /**
+     * Replaces the selection with the rows from {@code fromRow} (inclusive) to
+     * {@code toRow} (exclusive), each with a cell in the column of each of the
+     * given positions.
+     */
+    public void setAll(int fromRow, int toRow, List<T> rowCells) {
+        selectedCells.setRows(fromRow, toRow, rowCells);
+    }
+
+    public void remove(T tp) {
+        selectedCells.removeCell(tp);
+    }
+
+    public void clear() {
+        selectedCells.clearCells();
+    }
+
+    /**
+     * Moves the selected cells in rows at or after {@code position} by the
+     * given shift, without firing any change. This mirrors the way the
+     * selected indices are shifted: a positive shift inserts rows with no
+     * selected cells at position, a negative shift removes the rows from
+     * position to position - shift, except for row 0, which keeps its
+     * selected cells.
+     */
+    public void shift(int position, int shift) {
+        selectedCells.shiftRows(position, shift);
+    }
+
+    public boolean isSelected(int row, int columnIndex) {
+        final int r = selectedCells.findRun(row);
+        if (r < 0) {
+            return false;
         }
+        return columnIndex < 0 || selectedCells.runs.get(r).hasColumn(columnIndex);
+    }
 
-        final boolean cellSelectionModeEnabled = isCellSelectionEnabled();
+    public int indexOf(T tp) {
+        return selectedCells.indexOf(tp);
+    }
 
-        if (cellSelectionModeEnabled) {
-            if (columnIndex >= 0) {
-                boolean isAlreadySet = bitset.get(columnIndex);
+    public boolean isEmpty() {
+        return selectedCells.runs.isEmpty();
+    }
 
-                if (!isAlreadySet) {
-                    bitset.set(columnIndex);
+    /**
+     * Returns the selected cells, sorted by row and column.
+     */
+    public ObservableList<T> getSelectedCells() {
+        return selectedCells;
+    }
 
-                    // add into the list
-                    selectedCells.add(tp);
-                }
-            } else {
-                // FIXME slow path (for now)
-                if (!selectedCells.contains(tp)) {
-                    selectedCells.add(tp);
+    /**
+     * Returns the selected cells in the given row, sorted by column.
+     */
+    public List<T> getSelectedCells(int row) {
+        return selectedCells.getRow(row);
+    }
+
+    /**
+     * Returns a copy of the selected cells, sorted by row and column. Taking
+     * the copy, and removing a cell from it, do not depend on the number of
+     * selected cells.
+     */
+    public List<T> getSnapshot() {
+        return selectedCells.copy();
+    }
+
+    /**
+     * Returns the rows which have a selected cell.
+     */
+    public IndexRangeSet getSelectedRows() {
+        return selectedCells.getRows(0, selectedCells.size());
+    }
+
+    /**
+     * Returns the rows of the cells in the given list if it is the list of
+     * selected cells, a copy of it, or a sub list of either, or null for any
+     * other list.
+     */
+    public static IndexRangeSet getRows(List<?> list) {
+        if (list instanceof SelectedCellsMap.CellList) {
+            final SelectedCellsMap<?>.CellList cells = (SelectedCellsMap<?>.CellList) list;
+            return cells.getRows(0, cells.size());
+        }
+        return null;
+    }
+
+    /*
+     * The cells of the rows from start (inclusive) to end (exclusive), which
+     * all have the same selected columns. Runs are not modified once created,
+     * so that they can be shared with copies of the list.
+     */
+    private static final class Run {
+        final int start;
+        final int end;
+
+        // the column indices of the cells of each row, sorted
+        final int[] columns;
+
+        // a position for each column, in any row unless exact is set
+        final Object[] positions;
+
+        // whether the positions are those of the cells of the run, which then
+        // has a single row
+        final boolean exact;
+
+        Run(int start, int end, int[] columns, Object[] positions, boolean exact) {
+            this.start = start;
+            this.end = end;
+            this.columns = columns;
+            this.positions = positions;
+            this.exact = exact;
+        }
+
+        int size() {
+            return (end - start) * columns.length;
+        }
+
+        boolean hasColumn(int column) {
+            for (int c : columns) {
+                if (c == column) {
+                    return true;
                 }
             }
-        } else {
-            if (isNewBitSet) {
-                if (columnIndex >= 0) {
-                    bitset.set(columnIndex);
+            return false;
+        }
+
+        // Returns the column of the run that the given position is in, or -1
+        int indexOf(TablePositionBase tp) {
+            for (int k = 0; k < positions.length; k++) {
+                final TablePositionBase p = (TablePositionBase) positions[k];
+                if (p.getClass() == tp.getClass() && Objects.equals(p.getTableColumn(), tp.getTableColumn())) {
+                    return k;
                 }
-                selectedCells.add(tp);
             }
+            return -1;
+        }
+
+        Run rows(int start, int end) {
+            if (start == this.start && end == this.end) {
+                return this;
+            }
+            return new Run(start, end, columns, positions, false);
+        }
+
+        Run moveTo(int start) {
+            return new Run(start, start + end - this.start, columns, positions, false);
         }
     }
 
-    public void addAll(Collection<T> cells) {
-        // update bitset
-        for (T tp : cells) {
-            final int row = tp.getRow();
-            final int columnIndex = tp.getColumn();
+    private final class CellList extends ObservableListBase<T> implements RandomAccess {
+        // sorted by row, with no row in more than one run
+        private final List<Run> runs;
 
-            // update the bitset map
-            BitSet bitset;
-            if (! selectedCellBitSetMap.containsKey(row)) {
-                bitset = new BitSet();
-                selectedCellBitSetMap.put(row, bitset);
-            } else {
-                bitset = selectedCellBitSetMap.get(row);
+        // counts[i] is the number of cells in the runs before run i, rebuilt
+        // lazily after a modification
+        private int[] counts;
+
+        CellList(List<Run> runs) {
+            this.runs = runs;
+        }
+
+        @Override public T get(int index) {
+            final int size = size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index + " >= " + size);
             }
+            final int r = runAt(index);
+            final Run run = runs.get(r);
+            final int offset = index - counts[r];
+            final int width = run.columns.length;
+            return position(run, offset % width, run.start + offset / width);
+        }
 
-            if (columnIndex < 0) {
-                continue;
+        @Override public int size() {
+            updateCounts();
+            return counts[runs.size()];
+        }
+
+        @Override public int indexOf(Object o) {
+            if (!(o instanceof TablePositionBase)) {
+                return -1;
+            }
+            final TablePositionBase tp = (TablePositionBase) o;
+            final int r = findRun(tp.getRow());
+            if (r < 0) {
+                return -1;
             }
+            final int k = runs.get(r).indexOf(tp);
+            return k < 0 ? -1 : indexOf(r, tp.getRow(), k);
+        }
 
-            bitset.set(columnIndex);
+        @Override public boolean contains(Object o) {
+            return indexOf(o) >= 0;
         }
 
-        // add into the list
-        selectedCells.addAll(cells);
-    }
+        @Override public T remove(int index) {
+            final T tp = get(index);
+            removeAt(index);
+            return tp;
+        }
 
-    public void setAll(Collection<T> cells) {
-        // update bitset
-        selectedCellBitSetMap.clear();
-        for (T tp : cells) {
-            final int row = tp.getRow();
-            final int columnIndex = tp.getColumn();
+        @Override public boolean remove(Object o) {
+            final int index = indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+            removeAt(index);
+            return true;
+        }
 
-            // update the bitset map
-            BitSet bitset;
-            if (! selectedCellBitSetMap.containsKey(row)) {
-                bitset = new BitSet();
-                selectedCellBitSetMap.put(row, bitset);
-            } else {
-                bitset = selectedCellBitSetMap.get(row);
+        /*
+         * Returns a copy of the given range of cells, rather than a view, so
+         * that the rows of the cells of a change can be found from their runs.
+         */
+        @Override public List<T> subList(int fromIndex, int toIndex) {
+            final int size = size();
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("from: " + fromIndex + ", to: " + toIndex + ", size: " + size);
             }
+            final List<Run> slice = new ArrayList<>();
+            for (int r = fromIndex < toIndex ? runAt(fromIndex) : runs.size(); r < runs.size() && counts[r] < toIndex; r++) {
+                final Run run = runs.get(r);
+                final int width = run.columns.length;
+                final int from = Math.max(fromIndex, counts[r]) - counts[r];
+                final int to = Math.min(toIndex, counts[r + 1]) - counts[r];
+
+                // the rows which are entirely in the range
+                final int firstRow = (from + width - 1) / width;
+                final int lastRow = to / width;
+                if (firstRow > lastRow) {
+                    slice.add(part(run, from / width, from % width, to - from / width * width));
+                } else {
+                    if (from % width != 0) {
+                        slice.add(part(run, from / width, from % width, width));
+                    }
+                    if (firstRow < lastRow) {
+                        slice.add(run.rows(run.start + firstRow, run.start + lastRow));
+                    }
+                    if (to % width != 0) {
+                        slice.add(part(run, lastRow, 0, to % width));
+                    }
+                }
+            }
+            return new CellList(slice);
+        }
 
-            if (columnIndex < 0) {
-                continue;
+        CellList copy() {
+            return new CellList(new ArrayList<>(runs));
+        }
+
+        List<T> getRow(int row) {
+            final int r = findRun(row);
+            if (r < 0) {
+                return Collections.emptyList();
+            }
+            final Run run = runs.get(r);
+            final List<T> cells = new ArrayList<>(run.columns.length);
+            for (int k = 0; k < run.columns.length; k++) {
+                cells.add(position(run, k, row));
             }
+            return cells;
+        }
 
-            bitset.set(columnIndex);
+        IndexRangeSet getRows(int from, int to) {
+            final IndexRangeSet rows = new IndexRangeSet();
+            if (from >= to) {
+                return rows;
+            }
+            for (int r = runAt(from); r < runs.size() && counts[r] < to; r++) {
+                final Run run = runs.get(r);
+                final int width = run.columns.length;
+                final int firstRow = run.start + Math.max(0, from - counts[r]) / width;
+                final int lastRow = run.start + (Math.min(to, counts[r + 1]) - 1 - counts[r]) / width;
+                if (lastRow >= 0) {
+                    rows.set(Math.max(0, firstRow), lastRow + 1);
+                }
+            }
+            return rows;
         }
 
-        // add into the list
-        selectedCells.setAll(cells);
-    }
+        void addCell(T tp) {
+            final int index = insert(tp, true);
+            if (index >= 0) {
+                beginChange();
+                nextAdd(index, index + 1);
+                endChange();
+            }
+        }
 
-    public void remove(T tp) {
-        final int row = tp.getRow();
-        final int columnIndex = tp.getColumn();
+        void addCells(Collection<T> cells) {
+            final List<T> sorted = new ArrayList<>(cells);
+            sorted.sort(CELL_ORDER);
+
+            // the cells are merged into the runs in a single pass, and the
+            // index of each added cell in the resulting list is recorded
+            final List<Run> result = new ArrayList<>(runs.size() + 1);
+            final int[] added = new int[sorted.size()];
+            int addedCount = 0;
+            int index = 0;
+            int r = 0;
+            Run run = runs.isEmpty() ? null : runs.get(0);
+            int i = 0;
+            while (run != null || i < sorted.size()) {
+                final int row = i < sorted.size() ? sorted.get(i).getRow() : Integer.MAX_VALUE;
+                if (run != null && run.end <= row) {
+                    result.add(run);
+                    index += run.size();
+                    run = ++r < runs.size() ? runs.get(r) : null;
+                    continue;
+                }
+
+                int j = i + 1;
+                while (j < sorted.size() && sorted.get(j).getRow() == row) {
+                    j++;
+                }
 
-        // update the bitset map
-        if (selectedCellBitSetMap.containsKey(row)) {
-            BitSet bitset = selectedCellBitSetMap.get(row);
+                // the cells already selected in the row, if any
+                int[] columns = new int[0];
+                Object[] positions = new Object[0];
+                if (run != null && run.start <= row) {
+                    if (run.start < row) {
+                        final Run before = run.rows(run.start, row);
+                        result.add(before);
+                        index += before.size();
+                    }
+                    columns = run.columns;
+                    positions = new Object[columns.length];
+                    for (int k = 0; k < columns.length; k++) {
+                        positions[k] = position(run, k, row);
+                    }
+                    run = row + 1 < run.end ? run.rows(row + 1, run.end) : ++r < runs.size() ? runs.get(r) : null;
+                }
 
-            if (columnIndex >= 0) {
-                bitset.clear(columnIndex);
+                // a new cell goes after the cells of the row with the same column
+                final int width = columns.length + j - i;
+                final int[] newColumns = new int[width];
+                final Object[] newPositions = new Object[width];
+                for (int k = 0, a = 0, b = i; k < width; k++) {
+                    if (b >= j || (a < columns.length && columns[a] <= sorted.get(b).getColumn())) {
+                        newColumns[k] = columns[a];
+                        newPositions[k] = positions[a++];
+                    } else {
+                        newColumns[k] = sorted.get(b).getColumn();
+                        newPositions[k] = sorted.get(b++);
+                        added[addedCount++] = index + k;
+                    }
+                }
+                result.add(new Run(row, row + 1, newColumns, newPositions, true));
+                index += width;
+                i = j;
             }
 
-            if (bitset.isEmpty()) {
-                selectedCellBitSetMap.remove(row);
+            runs.clear();
+            runs.addAll(result);
+            counts = null;
+
+            beginChange();
+            for (int k = 0; k < addedCount; k++) {
+                nextAdd(added[k], added[k] + 1);
             }
+            endChange();
         }
 
-        // update list
-        selectedCells.remove(tp);
-    }
+        void addRows(int fromRow, int toRow, T position) {
+            if (fromRow >= toRow) {
+                return;
+            }
 
-    public void clear() {
-        // update bitset
-        selectedCellBitSetMap.clear();
+            // the runs are rebuilt in a single pass, adding a run for each gap
+            // between the runs in the given rows
+            final List<Run> result = new ArrayList<>(runs.size() + 1);
+            final List<int[]> added = new ArrayList<>();
+            final int[] columns = { position.getColumn() };
+            final Object[] positions = { position };
+            int row = fromRow;
+            int index = 0;
+            for (Run run : runs) {
+                if (row < toRow && run.start > row) {
+                    final int end = Math.min(run.start, toRow);
+                    result.add(new Run(row, end, columns, positions, false));
+                    added.add(new int[] { index, index + end - row });
+                    index += end - row;
+                }
+                result.add(run);
+                index += run.size();
+                row = Math.max(row, run.end);
+            }
+            if (row < toRow) {
+                result.add(new Run(row, toRow, columns, positions, false));
+                added.add(new int[] { index, index + toRow - row });
+            }
+            if (added.isEmpty()) {
+                return;
+            }
 
-        // update list
-        selectedCells.clear();
-    }
+            runs.clear();
+            runs.addAll(result);
+            counts = null;
 
-    public boolean isSelected(int row, int columnIndex) {
-        if (columnIndex < 0) {
-            return selectedCellBitSetMap.containsKey(row);
-        } else {
-            return selectedCellBitSetMap.containsKey(row) ? selectedCellBitSetMap.get(row).get(columnIndex) : false;
+            beginChange();
+            for (int[] range : added) {
+                nextAdd(range[0], range[1]);
+            }
+            endChange();
         }
-    }
 
-    public int indexOf(T tp) {
-        return sortedSelectedCells.indexOf(tp);
-    }
+        void setCells(Collection<T> cells) {
+            final List<T> removed = copy();
+            runs.clear();
+            counts = null;
+
+            final List<T> sorted = new ArrayList<>(cells);
+            sorted.sort(CELL_ORDER);
+            int i = 0;
+            while (i < sorted.size()) {
+                final int row = sorted.get(i).getRow();
+                int j = i + 1;
+                while (j < sorted.size() && sorted.get(j).getRow() == row) {
+                    j++;
+                }
+                final int[] columns = new int[j - i];
+                final Object[] positions = new Object[j - i];
+                for (int k = i; k < j; k++) {
+                    columns[k - i] = sorted.get(k).getColumn();
+                    positions[k - i] = sorted.get(k);
+                }
+                runs.add(new Run(row, row + 1, columns, positions, true));
+                i = j;
+            }
 
-    public boolean isEmpty() {
-        return selectedCells.isEmpty();
-    }
+            fireReplace(removed);
+        }
 
-    public ObservableList<T> getSelectedCells() {
-        return selectedCells;
+        void setRows(int fromRow, int toRow, List<T> rowCells) {
+            final List<T> removed = copy();
+            runs.clear();
+            counts = null;
+
+            if (fromRow < toRow && !rowCells.isEmpty()) {
+                final List<T> sorted = new ArrayList<>(rowCells);
+                sorted.sort((o1, o2) -> o1.getColumn() - o2.getColumn());
+                final int[] columns = new int[sorted.size()];
+                for (int k = 0; k < columns.length; k++) {
+                    columns[k] = sorted.get(k).getColumn();
+                }
+                runs.add(new Run(fromRow, toRow, columns, sorted.toArray(), false));
+            }
+
+            fireReplace(removed);
+        }
+
+        void removeCell(T tp) {
+            final int index = indexOf(tp);
+            if (index < 0) {
+                return;
+            }
+            final T removed = get(index);
+            removeAt(index);
+
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        void clearCells() {
+            if (runs.isEmpty()) {
+                return;
+            }
+            final List<T> removed = copy();
+            runs.clear();
+            counts = null;
+            fireChange(new NonIterableChange.GenericAddRemoveChange<>(0, 0, removed, this));
+        }
+
+        void shiftRows(int position, int shift) {
+            if (shift > 0) {
+                for (int i = runs.size() - 1; i >= 0; i--) {
+                    final Run run = runs.get(i);
+                    if (run.end <= position) {
+                        break;
+                    }
+                    if (run.start >= position) {
+                        runs.set(i, run.moveTo(run.start + shift));
+                    } else {
+                        runs.set(i, run.rows(run.start, position));
+                        runs.add(i + 1, new Run(position + shift, run.end + shift, run.columns, run.positions, false));
+                    }
+                }
+            } else if (shift < 0) {
+                final int first = position == 0 ? findRun(0) : -1;
+                final Run firstRow = first >= 0 ? runs.get(first).rows(0, 1) : null;
+                removeRows(position, -shift);
+                if (position == 0) {
+                    // row 0 keeps the cells it had before the shift
+                    final int r = findRun(0);
+                    if (r >= 0) {
+                        final Run run = runs.get(r);
+                        if (run.end > 1) {
+                            runs.set(r, run.rows(1, run.end));
+                        } else {
+                            runs.remove(r);
+                        }
+                    }
+                    if (firstRow != null) {
+                        runs.add(-findRun(0) - 1, firstRow);
+                    }
+                }
+            }
+            counts = null;
+        }
+
+        // Removes the cells of the given rows, and moves the rows after them
+        // down by count
+        private void removeRows(int position, int count) {
+            final int end = position + count;
+            final List<Run> result = new ArrayList<>(runs.size());
+            for (Run run : runs) {
+                if (run.end <= position) {
+                    result.add(run);
+                } else if (run.start >= end) {
+                    result.add(run.moveTo(run.start - count));
+                } else {
+                    // what is left of a run overlapping the removed rows is
+                    // a single run, as the rows before and after them meet
+                    final int start = Math.min(run.start, position);
+                    final int newEnd = run.end > end ? run.end - count : position;
+                    if (start < newEnd) {
+                        result.add(run.rows(start, newEnd));
+                    }
+                }
+            }
+            runs.clear();
+            runs.addAll(result);
+            counts = null;
+        }
+
+        private void fireReplace(List<T> removed) {
+            if (removed.isEmpty() && runs.isEmpty()) {
+                return;
+            }
+            fireChange(new NonIterableChange.GenericAddRemoveChange<>(0, size(), removed, this));
+        }
+
+        // Inserts the given cell into its row and returns its index, or
+        // returns -1 if unique is set and the cell, or in row selection mode
+        // its row, is already selected
+        private int insert(T tp, boolean unique) {
+            final int row = tp.getRow();
+            final int column = tp.getColumn();
+            int r = findRun(row);
+            if (r < 0) {
+                r = -r - 1;
+                runs.add(r, new Run(row, row + 1, new int[] { column }, new Object[] { tp }, true));
+                counts = null;
+                return indexOf(r, row, 0);
+            }
+            if (unique) {
+                if (!isCellSelectionEnabled()) {
+                    return -1;
+                }
+                final Run run = runs.get(r);
+                if (column >= 0 ? run.hasColumn(column) : run.indexOf(tp) >= 0) {
+                    return -1;
+                }
+            }
+
+            r = isolate(r, row);
+            final Run run = runs.get(r);
+            final int width = run.columns.length;
+            int k = 0;
+            while (k < width && run.columns[k] <= column) {
+                k++;
+            }
+            final int[] columns = new int[width + 1];
+            final Object[] positions = new Object[width + 1];
+            System.arraycopy(run.columns, 0, columns, 0, k);
+            System.arraycopy(run.positions, 0, positions, 0, k);
+            columns[k] = column;
+            positions[k] = tp;
+            System.arraycopy(run.columns, k, columns, k + 1, width - k);
+            System.arraycopy(run.positions, k, positions, k + 1, width - k);
+            runs.set(r, new Run(row, row + 1, columns, positions, true));
+            counts = null;
+            return indexOf(r, row, k);
+        }
+
+        private void removeAt(int index) {
+            updateCounts();
+            int r = runAt(index);
+            final int offset = index - counts[r];
+            final int width = runs.get(r).columns.length;
+            final int row = runs.get(r).start + offset / width;
+            final int k = offset % width;
+
+            r = isolate(r, row);
+            final Run run = runs.get(r);
+            if (width == 1) {
+                runs.remove(r);
+            } else {
+                final int[] columns = new int[width - 1];
+                final Object[] positions = new Object[width - 1];
+                System.arraycopy(run.columns, 0, columns, 0, k);
+                System.arraycopy(run.positions, 0, positions, 0, k);
+                System.arraycopy(run.columns, k + 1, columns, k, width - k - 1);
+                System.arraycopy(run.positions, k + 1, positions, k, width - k - 1);
+                runs.set(r, new Run(row, row + 1, columns, positions, true));
+            }
+            counts = null;
+        }
+
+        // Splits the given row out of run r, with the positions of its cells,
+        // and returns the index of its run
+        private int isolate(int r, int row) {
+            final Run run = runs.get(r);
+            if (run.exact) {
+                return r;
+            }
+            final Object[] positions = new Object[run.positions.length];
+            for (int k = 0; k < positions.length; k++) {
+                positions[k] = position(run, k, row);
+            }
+            runs.set(r, new Run(row, row + 1, run.columns, positions, true));
+            if (row + 1 < run.end) {
+                runs.add(r + 1, run.rows(row + 1, run.end));
+            }
+            if (run.start < row) {
+                runs.add(r, run.rows(run.start, row));
+                r++;
+            }
+            counts = null;
+            return r;
+        }
+
+        // A run of the given row of run, with the cells of the columns from
+        // fromColumn (inclusive) to toColumn (exclusive)
+        private Run part(Run run, int rowOffset, int fromColumn, int toColumn) {
+            final int row = run.start + rowOffset;
+            final Object[] positions = new Object[toColumn - fromColumn];
+            for (int k = fromColumn; k < toColumn; k++) {
+                positions[k - fromColumn] = position(run, k, row);
+            }
+            return new Run(row, row + 1, Arrays.copyOfRange(run.columns, fromColumn, toColumn), positions, true);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T position(Run run, int k, int row) {
+            final T position = (T) run.positions[k];
+            return run.exact ? position : createPosition(row, position);
+        }
+
+        private int indexOf(int r, int row, int k) {
+            updateCounts();
+            return counts[r] + (row - runs.get(r).start) * runs.get(r).columns.length + k;
+        }
+
+        // Returns the run containing the given row, or (-(insertion point) - 1)
+        private int findRun(int row) {
+            int low = 0;
+            int high = runs.size() - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final Run run = runs.get(mid);
+                if (row < run.start) {
+                    high = mid - 1;
+                } else if (row >= run.end) {
+                    low = mid + 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        // Returns the run containing the cell at the given index
+        private int runAt(int index) {
+            updateCounts();
+            int low = 0;
+            int high = runs.size() - 1;
+            while (low < high) {
+                final int mid = (low + high + 1) >>> 1;
+                if (counts[mid] <= index) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        private void updateCounts() {
+            if (counts != null) {
+                return;
+            }
+            counts = new int[runs.size() + 1];
+            for (int i = 0; i < runs.size(); i++) {
+                counts[i + 1] = counts[i] + runs.get(i).size();
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -68,7 +68,8 @@ public abstract class TableViewBehaviorBase<C extends Control, T, TC extends Tab
         }
     };
 
-    private final SizeLimitedList<TablePositionBase> selectionHistory = new SizeLimitedList<>(50);
+    private static final int SELECTION_HISTORY_SIZE = 50;
+    private final SizeLimitedList<TablePositionBase> selectionHistory = new SizeLimitedList<>(SELECTION_HISTORY_SIZE);
 
     protected final ListChangeListener<TablePositionBase> selectedCellsListener = c -> {
         while (c.next()) {
@@ -95,7 +96,9 @@ public abstract class TableViewBehaviorBase<C extends Control, T, TC extends Tab
             int addedSize = c.getAddedSize();
             List<TablePositionBase> addedSubList = (List<TablePositionBase>) c.getAddedSubList();
 
-            for (TablePositionBase tpb : addedSubList) {
+            // only the most recently added cells can stay in the history
+            for (int i = Math.max(0, addedSize - SELECTION_HISTORY_SIZE); i < addedSize; i++) {
+                TablePositionBase tpb = addedSubList.get(i);
                 if (! selectionHistory.contains(tpb)) {
                     selectionHistory.add(tpb);
                 }
@@ -55,6 +55,7 @@ import javafx.geometry.Dimension2D;
 import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.geometry.Side;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
@@ -629,6 +630,61 @@ public abstract class Axis<T> extends Region {
         }
     }
 
+    /**
+     * Replaces the tick marks with ones for the given values, without animation. Tick marks whose value is still
+     * needed are kept, with their label refreshed, and the others are reused for the new values, so that streaming
+     * data which only shifts the range a little does not create new tick marks and text nodes, nor replace all of the
+     * children.
+     */
+    private void updateTickMarks(List<T> newTickValues) {
+        final Map<T, TickMark<T>> oldTickMarks = new HashMap<>();
+        for (TickMark<T> tick : tickMarks) {
+            oldTickMarks.putIfAbsent(tick.getValue(), tick);
+        }
+        final List<TickMark<T>> newTickMarks = new ArrayList<>(newTickValues.size());
+        for (T newValue : newTickValues) {
+            newTickMarks.add(oldTickMarks.remove(newValue));
+        }
+        // the tick marks whose value is no longer needed
+        final Set<TickMark<T>> keptTickMarks = Collections.newSetFromMap(new IdentityHashMap<>());
+        keptTickMarks.addAll(newTickMarks);
+        final List<TickMark<T>> spareTickMarks = new ArrayList<>();
+        for (TickMark<T> tick : tickMarks) {
+            if (!keptTickMarks.contains(tick)) spareTickMarks.add(tick);
+        }
+        final List<Node> addedTextNodes = new ArrayList<>();
+        for (int i = 0; i < newTickMarks.size(); i++) {
+            TickMark<T> tick = newTickMarks.get(i);
+            final T newValue = newTickValues.get(i);
+            if (tick == null) {
+                if (spareTickMarks.isEmpty()) {
+                    tick = new TickMark<T>();
+                    tick.textNode.setFont(getTickLabelFont());
+                    tick.textNode.setFill(getTickLabelFill());
+                    addedTextNodes.add(tick.textNode);
+                } else {
+                    tick = spareTickMarks.remove(spareTickMarks.size() - 1);
+                }
+                tick.setValue(newValue);
+                newTickMarks.set(i, tick);
+            }
+            // the label of a kept tick mark changes if the formatter or precision has changed
+            tick.textNode.setText(getTickMarkLabel(newValue));
+            tick.setTextVisible(isTickLabelsVisible());
+            // in case a fade in was interrupted by turning animation off
+            tick.textNode.setOpacity(1);
+        }
+        if (!spareTickMarks.isEmpty()) {
+            final List<Node> removedTextNodes = new ArrayList<>(spareTickMarks.size());
+            for (TickMark<T> tick : spareTickMarks) {
+                removedTextNodes.add(tick.textNode);
+            }
+            getChildren().removeAll(removedTextNodes);
+        }
+        getChildren().addAll(addedTextNodes);
+        tickMarks.setAll(newTickMarks);
+    }
+
     /**
      * Called during layout if the tickmarks have been updated, allowing subclasses to do anything they need to
      * in reaction.
@@ -659,42 +715,39 @@ public abstract class Axis<T> extends Region {
             // calculate new tick marks
             List<T> newTickValues = calculateTickValues(length, range);
 
-            // remove everything
-            Iterator<TickMark<T>> tickMarkIterator = tickMarks.iterator();
-            while (tickMarkIterator.hasNext()) {
-                TickMark<T> tick = tickMarkIterator.next();
-                final TickMark<T> tm = tick;
-                if (shouldAnimate()) {
-                    FadeTransition ft = new FadeTransition(Duration.millis(250),tick.textNode);
+            if (shouldAnimate()) {
+                // fade out and remove all the old tick marks
+                Iterator<TickMark<T>> tickMarkIterator = tickMarks.iterator();
+                while (tickMarkIterator.hasNext()) {
+                    final TickMark<T> tm = tickMarkIterator.next();
+                    FadeTransition ft = new FadeTransition(Duration.millis(250),tm.textNode);
                     ft.setToValue(0);
                     ft.setOnFinished(actionEvent -> {
                         getChildren().remove(tm.textNode);
                     });
                     ft.play();
-                } else {
-                    getChildren().remove(tm.textNode);
+                    // we have to remove the tick mark immediately so we don't draw tick line for it or grid lines and fills
+                    tickMarkIterator.remove();
                 }
-                // we have to remove the tick mark immediately so we don't draw tick line for it or grid lines and fills
-                tickMarkIterator.remove();
-            }
 
-            // add new tick marks for new values
-            for(T newValue: newTickValues) {
-                final TickMark<T> tick = new TickMark<T>();
-                tick.setValue(newValue);
-                tick.textNode.setText(getTickMarkLabel(newValue));
-                tick.textNode.setFont(getTickLabelFont());
-                tick.textNode.setFill(getTickLabelFill());
-                tick.setTextVisible(isTickLabelsVisible());
-                if (shouldAnimate()) tick.textNode.setOpacity(0);
-                getChildren().add(tick.textNode);
-                tickMarks.add(tick);
-                if (shouldAnimate()) {
+                // add and fade in new tick marks for new values
+                for(T newValue: newTickValues) {
+                    final TickMark<T> tick = new TickMark<T>();
+                    tick.setValue(newValue);
+                    tick.textNode.setText(getTickMarkLabel(newValue));
+                    tick.textNode.setFont(getTickLabelFont());
+                    tick.textNode.setFill(getTickLabelFill());
+                    tick.setTextVisible(isTickLabelsVisible());
+                    tick.textNode.setOpacity(0);
+                    getChildren().add(tick.textNode);
+                    tickMarks.add(tick);
                     FadeTransition ft = new FadeTransition(Duration.millis(750),tick.textNode);
                     ft.setFromValue(0);
                     ft.setToValue(1);
                     ft.play();
                 }
+            } else {
+                updateTickMarks(newTickValues);
             }
 
             // call tick marks updated to inform subclasses that we have updated tick marks
@@ -88,6 +88,8 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     private Map<Data<X,Y>, Double> XYValueMap =
                                 new HashMap<Data<X,Y>, Double>();
     private Timeline seriesRemoveTimeline = null;
+    /** Scratch space for the x, y pairs of the lines of series backed by a sample buffer */
+    private double[] sampledPoints = new double[0];
     // -------------- PUBLIC PROPERTIES ----------------------------------------
 
     /** When true, CSS styleable symbols are created for any data items that don't have a symbol node specified. */
@@ -197,10 +199,8 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         if(ya.isAutoRanging()) yData = new ArrayList<Y>();
         if(xData != null || yData != null) {
             for(Series<X,Y> series : getData()) {
-                for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
-                }
+                addRangeData(series, xData, yData);
+                addSampleBufferRange(series, xData, yData);
             }
             // RT-32838 No need to invalidate range if there is one data item - whose value is zero.
             if(xData != null && !(xData.size() == 1 && getXAxis().toNumericValue(xData.get(0)) == 0)) {
@@ -455,13 +455,120 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             final DoubleProperty seriesYAnimMultiplier = seriesYMultiplierMap.get(series);
             final Node seriesNode = series.getNode();
             if (seriesNode instanceof Path) {
-                AreaChart.makePaths(this, series,
-                                    constructedPath, null, (Path) seriesNode,
-                                    seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                final SampleBuffer sampleBuffer = series.getSampleBuffer();
+                if (sampleBuffer != null && getXAxis() instanceof ValueAxis && getYAxis() instanceof ValueAxis) {
+                    makeSampledPath(sampleBuffer, (Path) seriesNode, seriesYAnimMultiplier.get());
+                } else {
+                    AreaChart.makePaths(this, series,
+                                        constructedPath, null, (Path) seriesNode,
+                                        seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                }
             }
         }
     }
 
+    /**
+     * Builds the line for a series backed by a sample buffer. Consecutive samples whose x position falls in the same
+     * pixel column are reduced to the first, minimum, maximum and last sample of that run, in the order they were
+     * added, which draws the same pixels as the full line while keeping the number of path elements proportional to
+     * the width of the plot. Columns outside of the plot are clamped to either side of it, so samples that are out of
+     * view only add a few elements, which still connect the line to the edges of the plot. The path elements are
+     * updated in place to avoid reallocating them on every layout.
+     */
+    private void makeSampledPath(SampleBuffer buffer, Path path, double yAnimMultiplier) {
+        final ValueAxis<?> xa = (ValueAxis<?>) getXAxis();
+        final ValueAxis<?> ya = (ValueAxis<?>) getYAxis();
+        final int size = buffer.size();
+        final int lastColumn = (int) Math.ceil(xa.getWidth()) + 1;
+        double[] points = sampledPoints;
+        int count = 0;
+
+        int column = Integer.MIN_VALUE;
+        int first = -1, min = -1, max = -1, last = -1;
+        double firstX = 0, firstY = 0, minX = 0, minY = 0, maxX = 0, maxY = 0, lastX = 0, lastY = 0;
+        for (int i = 0; i <= size; i++) {
+            double x = 0, y = 0;
+            int c = Integer.MIN_VALUE;
+            if (i < size) {
+                double xValue = buffer.getX(i);
+                double yValue = buffer.getY(i);
+                if (Double.isNaN(xValue) || Double.isNaN(yValue)) continue;
+                x = displayPosition(xa, xValue);
+                y = displayPosition(ya, yValue * yAnimMultiplier);
+                c = (x < -1) ? -1 : (x > lastColumn) ? lastColumn : (int) Math.floor(x);
+                if (c == column) {
+                    last = i; lastX = x; lastY = y;
+                    if (y < minY) { min = i; minX = x; minY = y; }
+                    if (y > maxY) { max = i; maxX = x; maxY = y; }
+                    continue;
+                }
+            }
+            // flush the previous run, up to four points
+            if (first >= 0) {
+                if (points.length < count + 8) {
+                    points = Arrays.copyOf(points, Math.max(64, points.length * 2));
+                }
+                points[count++] = firstX; points[count++] = firstY;
+                int lo = Math.min(min, max), hi = Math.max(min, max);
+                if (lo != first && lo != last) {
+                    points[count++] = (lo == min) ? minX : maxX; points[count++] = (lo == min) ? minY : maxY;
+                }
+                if (hi != lo && hi != first && hi != last) {
+                    points[count++] = (hi == min) ? minX : maxX; points[count++] = (hi == min) ? minY : maxY;
+                }
+                if (last != first) {
+                    points[count++] = lastX; points[count++] = lastY;
+                }
+            }
+            column = c;
+            first = min = max = last = i;
+            firstX = minX = maxX = lastX = x;
+            firstY = minY = maxY = lastY = y;
+        }
+        sampledPoints = points;
+
+        final ObservableList<PathElement> elements = path.getElements();
+        final int pointCount = count / 2;
+        int existing = elements.size();
+        boolean reusable = existing == 0 || elements.get(0) instanceof MoveTo;
+        for (int i = 1; reusable && i < existing; i++) {
+            reusable = elements.get(i) instanceof LineTo;
+        }
+        if (!reusable || pointCount == 0) {
+            elements.clear();
+            existing = 0;
+        }
+        List<PathElement> added = null;
+        for (int i = 0; i < pointCount; i++) {
+            double x = points[2 * i];
+            double y = points[2 * i + 1];
+            if (i < existing) {
+                if (i == 0) {
+                    MoveTo moveTo = (MoveTo) elements.get(0);
+                    moveTo.setX(x);
+                    moveTo.setY(y);
+                } else {
+                    LineTo lineTo = (LineTo) elements.get(i);
+                    lineTo.setX(x);
+                    lineTo.setY(y);
+                }
+            } else {
+                if (added == null) added = new ArrayList<>(pointCount - existing);
+                added.add((i == 0) ? new MoveTo(x, y) : new LineTo(x, y));
+            }
+        }
+        if (added != null) {
+            elements.addAll(added);
+        } else if (existing > pointCount) {
+            elements.remove(pointCount, existing);
+        }
+    }
+
+    private static <T extends Number> double displayPosition(ValueAxis<T> axis, double value) {
+        // NumberAxis is final and maps values linearly, so the position can be computed without boxing
+        return (axis instanceof NumberAxis) ? axis.toDisplayPosition(value) : axis.getDisplayPosition(axis.toRealValue(value));
+    }
+
     /** {@inheritDoc} */
     @Override void dataBeingRemovedIsAdded(Data item, Series series) {
         if (fadeSymbolTransition != null) {
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * A fixed capacity ring buffer of (x, y) samples, stored in primitive arrays,
+ * for plotting high volume or streaming data in an {@link XYChart}.
+ * <p>
+ * A buffer is attached to a series with
+ * {@link XYChart.Series#setSampleBuffer(SampleBuffer)}. Unlike the
+ * {@link XYChart.Data} items of a series, samples are not observable
+ * individually and have no node: {@link LineChart} draws the whole buffer as
+ * a single line, reduced to at most four points per pixel column (the first,
+ * minimum, maximum and last sample falling in that column), so the cost of
+ * a layout is linear in the number of samples and the size of the scene graph
+ * depends only on the width of the chart.
+ * <p>
+ * Once the buffer is full, adding a sample drops the oldest one. This makes
+ * it possible to plot a window of the most recent values of a real time
+ * stream with constant memory. Samples are kept in the order they were
+ * added and are drawn in that order; they are not sorted by x value.
+ * Samples with a {@code NaN} x or y value are skipped when drawing.
+ * The bounds of the samples in the window, used to auto range the axes, are
+ * maintained as samples are added and dropped, in amortized constant time
+ * per sample.
+ * <p>
+ * Like the rest of the scene graph, a buffer attached to a live chart must
+ * only be modified on the JavaFX Application Thread. Producers running at a
+ * high rate on another thread should collect samples and add them in batches
+ * with {@link #addAll(double[], double[], int, int)}.
+ * <p>
+ * An invalidation event is fired when the contents of the buffer change.
+ * Like observable values, the buffer does not fire further invalidation
+ * events until its {@link #size() size} has been queried again, so that
+ * adding many samples between two pulses only causes a single layout of
+ * the chart.
+ *
+ * @since 17.0.14
+ */
+public final class SampleBuffer implements Observable {
+
+    private final double[] xValues;
+    private final double[] yValues;
+
+    // index of the oldest sample in the arrays
+    private int head;
+    private int size;
+
+    private boolean valid = true;
+    private List<InvalidationListener> listeners;
+
+    // the bounds of the samples in the window, maintained in amortized constant
+    // time per sample
+    private final BoundQueue minX;
+    private final BoundQueue maxX;
+    private final BoundQueue minY;
+    private final BoundQueue maxY;
+
+    /**
+     * Creates an empty buffer which holds at most {@code capacity} samples.
+     *
+     * @param capacity the maximum number of samples
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    public SampleBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        xValues = new double[capacity];
+        yValues = new double[capacity];
+        minX = new BoundQueue(xValues, true);
+        maxX = new BoundQueue(xValues, false);
+        minY = new BoundQueue(yValues, true);
+        maxY = new BoundQueue(yValues, false);
+    }
+
+    /**
+     * Returns the maximum number of samples this buffer holds.
+     *
+     * @return the capacity of this buffer
+     */
+    public int getCapacity() {
+        return xValues.length;
+    }
+
+    /**
+     * Returns the number of samples in this buffer.
+     *
+     * @return the number of samples
+     */
+    public int size() {
+        valid = true;
+        return size;
+    }
+
+    /**
+     * Returns the x value of the sample at {@code index}, where index 0 is
+     * the oldest sample.
+     *
+     * @param index the index of the sample
+     * @return the x value of the sample
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double getX(int index) {
+        return xValues[toArrayIndex(index)];
+    }
+
+    /**
+     * Returns the y value of the sample at {@code index}, where index 0 is
+     * the oldest sample.
+     *
+     * @param index the index of the sample
+     * @return the y value of the sample
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double getY(int index) {
+        return yValues[toArrayIndex(index)];
+    }
+
+    /**
+     * Appends a sample, dropping the oldest sample if the buffer is full.
+     *
+     * @param x the x value of the sample
+     * @param y the y value of the sample
+     */
+    public void add(double x, double y) {
+        store(x, y);
+        invalidate();
+    }
+
+    /**
+     * Appends {@code length} samples taken from the given arrays starting at
+     * {@code offset}, dropping the oldest samples as needed. Only the last
+     * {@link #getCapacity() capacity} samples are kept if more are added.
+     *
+     * @param x the x values of the samples
+     * @param y the y values of the samples
+     * @param offset the index of the first sample in the arrays
+     * @param length the number of samples to add
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of
+     *         either array
+     */
+    public void addAll(double[] x, double[] y, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > x.length || offset + length > y.length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length);
+        }
+        if (length == 0) {
+            return;
+        }
+        int capacity = xValues.length;
+        if (length > capacity) {
+            // only the tail can survive
+            resetWindow();
+            offset += length - capacity;
+            length = capacity;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            store(x[i], y[i]);
+        }
+        invalidate();
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        resetWindow();
+        invalidate();
+    }
+
+    /**
+     * Returns the smallest x value of the samples, or {@code NaN} if there
+     * are none. {@code NaN} values are ignored.
+     *
+     * @return the smallest x value
+     */
+    public double getMinX() {
+        return minX.get();
+    }
+
+    /**
+     * Returns the largest x value of the samples, or {@code NaN} if there
+     * are none. {@code NaN} values are ignored.
+     *
+     * @return the largest x value
+     */
+    public double getMaxX() {
+        return maxX.get();
+    }
+
+    /**
+     * Returns the smallest y value of the samples, or {@code NaN} if there
+     * are none. {@code NaN} values are ignored.
+     *
+     * @return the smallest y value
+     */
+    public double getMinY() {
+        return minY.get();
+    }
+
+    /**
+     * Returns the largest y value of the samples, or {@code NaN} if there
+     * are none. {@code NaN} values are ignored.
+     *
+     * @return the largest y value
+     */
+    public double getMaxY() {
+        return maxY.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void addListener(InvalidationListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("listener must not be null");
+        }
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void removeListener(InvalidationListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Returns a string representation of this {@code SampleBuffer} object.
+     * @return a string representation of this {@code SampleBuffer} object.
+     */
+    @Override public String toString() {
+        return "SampleBuffer[size=" + size + ", capacity=" + xValues.length + "]";
+    }
+
+    // -------------- PRIVATE METHODS -----------------------------------------
+
+    private int toArrayIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        int i = head + index;
+        return (i >= xValues.length) ? i - xValues.length : i;
+    }
+
+    private void store(double x, double y) {
+        int capacity = xValues.length;
+        int tail = head + size;
+        if (tail >= capacity) tail -= capacity;
+        if (size == capacity) {
+            // the oldest sample leaves the window
+            minX.evict(tail);
+            maxX.evict(tail);
+            minY.evict(tail);
+            maxY.evict(tail);
+            head = (head + 1 == capacity) ? 0 : head + 1;
+        } else {
+            size++;
+        }
+        xValues[tail] = x;
+        yValues[tail] = y;
+        minX.push(tail);
+        maxX.push(tail);
+        minY.push(tail);
+        maxY.push(tail);
+    }
+
+    private void resetWindow() {
+        head = 0;
+        size = 0;
+        minX.clear();
+        maxX.clear();
+        minY.clear();
+        maxY.clear();
+    }
+
+    private void invalidate() {
+        if (!valid) {
+            return;
+        }
+        valid = false;
+        if (listeners != null) {
+            for (InvalidationListener listener : listeners.toArray(new InvalidationListener[listeners.size()])) {
+                listener.invalidated(this);
+            }
+        }
+    }
+
+    /**
+     * A monotonic queue of the slots of the samples which may still become
+     * the minimum (or maximum) of the window as older samples are evicted.
+     * The values of the queued slots are strictly increasing (decreasing)
+     * from head to tail, so the head is the bound of the window. Each slot
+     * is pushed and removed at most once, which makes maintaining the bound
+     * amortized constant time per sample. NaN values are never queued.
+     */
+    private static final class BoundQueue {
+        private final double[] values;
+        private final boolean min;
+        private final int[] slots;
+        private int head;
+        private int size;
+
+        BoundQueue(double[] values, boolean min) {
+            this.values = values;
+            this.min = min;
+            this.slots = new int[values.length];
+        }
+
+        double get() {
+            return (size == 0) ? Double.NaN : values[slots[head]];
+        }
+
+        void push(int slot) {
+            double value = values[slot];
+            if (Double.isNaN(value)) {
+                return;
+            }
+            // drop the queued samples that can no longer be the bound
+            while (size > 0) {
+                double last = values[slots[index(size - 1)]];
+                if (min ? last < value : last > value) {
+                    break;
+                }
+                size--;
+            }
+            slots[index(size)] = slot;
+            size++;
+        }
+
+        void evict(int slot) {
+            if (size > 0 && slots[head] == slot) {
+                head = index(1);
+                size--;
+            }
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        private int index(int i) {
+            int k = head + i;
+            return (k >= slots.length) ? k - slots.length : k;
+        }
+    }
+}
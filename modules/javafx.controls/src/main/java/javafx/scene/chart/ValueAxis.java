@@ -465,6 +465,14 @@ public abstract class ValueAxis<T extends Number> extends Axis<T> {
         return offset + ((value.doubleValue() - currentLowerBound.get()) * getScale());
     }
 
+    /**
+     * Gets the display position for a primitive value without boxing it. This is only equivalent to
+     * {@link #getDisplayPosition(Number)} for subclasses that do not override it, such as NumberAxis.
+     */
+    final double toDisplayPosition(double value) {
+        return offset + ((value - currentLowerBound.get()) * getScale());
+    }
+
     /**
      * Gets the data value for the given display position on this axis. If the axis
      * is a CategoryAxis this will be the nearest value.
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.chart;
+
+import java.util.List;
+
+/**
+ * The bounds of the numeric values of the data items of a series along one
+ * axis, maintained as items are added and removed so that auto ranging a
+ * value axis does not need to visit every data item on every change.
+ * <p>
+ * Adding a value extends the bounds. Removing a value that lies strictly
+ * inside the bounds only updates the count, while removing one of the
+ * bounds, or a value which is not a number, invalidates them, and they are
+ * then recomputed from all values by the owner. The bounds stay invalid
+ * after recomputing them if some value is not a number, such as null, in
+ * which case the owner has to use all of the values.
+ */
+final class ValueBounds {
+
+    private boolean valid;
+    private int count;
+    private double min;
+    private double max;
+    // The values holding the bounds, as added
+    private Object minValue;
+    private Object maxValue;
+
+    boolean isValid() {
+        return valid;
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Starts recomputing the bounds, the owner then adds all values.
+     */
+    void reset() {
+        valid = true;
+        count = 0;
+        minValue = null;
+        maxValue = null;
+    }
+
+    void add(Object value) {
+        if (!valid) {
+            return;
+        }
+        if (!(value instanceof Number)) {
+            valid = false;
+            return;
+        }
+        double v = ((Number) value).doubleValue();
+        // A NaN value is kept as both bounds, as auto ranging the axis
+        // propagates NaN
+        if (count == 0 || Double.isNaN(v)) {
+            min = max = v;
+            minValue = maxValue = value;
+        } else if (!Double.isNaN(min)) {
+            if (v < min) {
+                min = v;
+                minValue = value;
+            }
+            if (v > max) {
+                max = v;
+                maxValue = value;
+            }
+        }
+        count++;
+    }
+
+    void remove(Object value) {
+        if (!valid) {
+            return;
+        }
+        if (value instanceof Number && count > 1) {
+            double v = ((Number) value).doubleValue();
+            if (v > min && v < max) {
+                count--;
+                return;
+            }
+        }
+        valid = false;
+    }
+
+    /**
+     * Adds values to the given list which give the same range as all of the
+     * values: nothing if there are none, the single value if there is one,
+     * or the minimum and the maximum. The values are added as they were
+     * given to {@link #add}, so that they have the type of the axis.
+     */
+    @SuppressWarnings("unchecked")
+    void addTo(List<?> data) {
+        final List<Object> list = (List<Object>) data;
+        if (count > 0) {
+            list.add(minValue);
+        }
+        if (count > 1) {
+            list.add(maxValue);
+        }
+    }
+}
@@ -40,6 +40,8 @@ import java.util.Set;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -499,6 +501,12 @@ public abstract class XYChart<X,Y> extends Chart {
         requestChartLayout();
     }
 
+    /** Called when the samples in a series's sample buffer have changed */
+    private void sampleBufferChanged() {
+        invalidateRange();
+        requestChartLayout();
+    }
+
     @SuppressWarnings({"UnusedParameters"})
     private void dataItemsChanged(Series<X,Y> series, List<Data<X,Y>> removed, int addedFrom, int addedTo, boolean permutation) {
         for (Data<X,Y> item : removed) {
@@ -634,7 +642,8 @@ public abstract class XYChart<X,Y> extends Chart {
     /**
      * This is called when the range has been invalidated and we need to update it. If the axis are auto
      * ranging then we compile a list of all data that the given axis has to plot and call invalidateRange() on the
-     * axis passing it that data.
+     * axis passing it that data. For a {@link ValueAxis}, whose range only depends on the smallest and largest
+     * values, the list only contains the bounds of the values of each series.
      */
     protected void updateAxisRange() {
         final Axis<X> xa = getXAxis();
@@ -645,16 +654,52 @@ public abstract class XYChart<X,Y> extends Chart {
         if(ya.isAutoRanging()) yData = new ArrayList<Y>();
         if(xData != null || yData != null) {
             for(Series<X,Y> series : getData()) {
-                for(Data<X,Y> data: series.getData()) {
-                    if(xData != null) xData.add(data.getXValue());
-                    if(yData != null) yData.add(data.getYValue());
-                }
+                addRangeData(series, xData, yData);
             }
             if(xData != null) xa.invalidateRange(xData);
             if(yData != null) ya.invalidateRange(yData);
         }
     }
 
+    /**
+     * Adds the values of the data items of the given series to the lists of data values used to auto range the axes.
+     * For value axes only the data items holding the bounds of the values are added, which the series maintains as its
+     * data changes, as the range of a value axis only depends on those. All values are added if some of them are not
+     * numbers.
+     */
+    final void addRangeData(Series<X,Y> series, List<X> xData, List<Y> yData) {
+        final ValueBounds xBounds = (xData != null && getXAxis() instanceof ValueAxis) ? series.getXBounds() : null;
+        final ValueBounds yBounds = (yData != null && getYAxis() instanceof ValueAxis) ? series.getYBounds() : null;
+        final List<X> xValues = (xBounds != null && xBounds.isValid()) ? null : xData;
+        final List<Y> yValues = (yBounds != null && yBounds.isValid()) ? null : yData;
+        if (xValues != null || yValues != null) {
+            for(Data<X,Y> data: series.getData()) {
+                if(xValues != null) xValues.add(data.getXValue());
+                if(yValues != null) yValues.add(data.getYValue());
+            }
+        }
+        if (xValues == null && xBounds != null) xBounds.addTo(xData);
+        if (yValues == null && yBounds != null) yBounds.addTo(yData);
+    }
+
+    /**
+     * Adds the bounds of the samples in the sample buffer of the given series, if any, to the lists of data values
+     * used to auto range the axes, for charts that support sample buffers. Samples are only ranged on value axes.
+     */
+    @SuppressWarnings("unchecked")
+    final void addSampleBufferRange(Series<X,Y> series, List<X> xData, List<Y> yData) {
+        final SampleBuffer buffer = series.getSampleBuffer();
+        if (buffer == null || buffer.size() == 0) return;
+        if (xData != null && getXAxis() instanceof ValueAxis && !Double.isNaN(buffer.getMinX())) {
+            xData.add((X) Double.valueOf(buffer.getMinX()));
+            xData.add((X) Double.valueOf(buffer.getMaxX()));
+        }
+        if (yData != null && getYAxis() instanceof ValueAxis && !Double.isNaN(buffer.getMinY())) {
+            yData.add((Y) Double.valueOf(buffer.getMinY()));
+            yData.add((Y) Double.valueOf(buffer.getMaxY()));
+        }
+    }
+
     /**
      * Called to update and layout the plot children. This should include all work to updates nodes representing
      * the plot on top of the axis and grid lines etc. The origin is the top left of the plot area, the plot area with
@@ -1221,6 +1266,7 @@ public abstract class XYChart<X,Y> extends Chart {
         private ObjectProperty<X> xValue = new SimpleObjectProperty<X>(Data.this, "XValue") {
             @Override protected void invalidated() {
                 if (series!=null) {
+                    series.xBounds.invalidate();
                     XYChart<X,Y> chart = series.getChart();
                     if(chart!=null) chart.dataValueChanged(Data.this, get(), currentXProperty());
                 } else {
@@ -1256,6 +1302,7 @@ public abstract class XYChart<X,Y> extends Chart {
         private ObjectProperty<Y> yValue = new SimpleObjectProperty<Y>(Data.this, "YValue") {
             @Override protected void invalidated() {
                 if (series!=null) {
+                    series.yBounds.invalidate();
                     XYChart<X,Y> chart = series.getChart();
                     if(chart!=null) chart.dataValueChanged(Data.this, get(), currentYProperty());
                 } else {
@@ -1427,11 +1474,23 @@ public abstract class XYChart<X,Y> extends Chart {
 
         private List<Data<X, Y>> displayedData = new ArrayList<>();
 
+        /** The bounds of the x and y values of the data items, for auto ranging value axes */
+        private final ValueBounds xBounds = new ValueBounds();
+        private final ValueBounds yBounds = new ValueBounds();
+
         private final ListChangeListener<Data<X,Y>> dataChangeListener = new ListChangeListener<Data<X, Y>>() {
             @Override public void onChanged(Change<? extends Data<X, Y>> c) {
                 ObservableList<? extends Data<X, Y>> data = c.getList();
                 final XYChart<X, Y> chart = getChart();
                 while (c.next()) {
+                    for (Data<X, Y> item : c.getRemoved()) {
+                        xBounds.remove(item.getXValue());
+                        yBounds.remove(item.getYValue());
+                    }
+                    for (Data<X, Y> item : c.getAddedSubList()) {
+                        xBounds.add(item.getXValue());
+                        yBounds.add(item.getYValue());
+                    }
                     if (chart != null) {
                         // RT-25187 Probably a sort happened, just reorder the pointers and return.
                         if (c.wasPermutated()) {
@@ -1537,6 +1596,46 @@ public abstract class XYChart<X,Y> extends Chart {
         public final void setNode(Node value) { node.set(value); }
         public final ObjectProperty<Node> nodeProperty() { return node; }
 
+        private final InvalidationListener sampleBufferListener = observable -> {
+            final XYChart<X,Y> chart = getChart();
+            if (chart != null) chart.sampleBufferChanged();
+        };
+        private final WeakInvalidationListener weakSampleBufferListener =
+                new WeakInvalidationListener(sampleBufferListener);
+
+        /**
+         * A buffer of samples stored in primitive arrays, for plotting large or streaming data sets. Charts that
+         * support sample buffers, currently {@link LineChart}, draw the line of the series from the buffer instead
+         * of from the data items, and use the bounds of the samples when auto ranging value axes. A series with a
+         * sample buffer would usually not have any data items, which would still get a symbol each.
+         *
+         * @see SampleBuffer
+         * @since 17.0.14
+         */
+        private final ObjectProperty<SampleBuffer> sampleBuffer = new ObjectPropertyBase<SampleBuffer>() {
+            private SampleBuffer old;
+            @Override protected void invalidated() {
+                final SampleBuffer current = get();
+                if (old != null) old.removeListener(weakSampleBufferListener);
+                if (current != null) current.addListener(weakSampleBufferListener);
+                old = current;
+                sampleBufferListener.invalidated(current);
+            }
+
+            @Override
+            public Object getBean() {
+                return Series.this;
+            }
+
+            @Override
+            public String getName() {
+                return "sampleBuffer";
+            }
+        };
+        public final SampleBuffer getSampleBuffer() { return sampleBuffer.get(); }
+        public final void setSampleBuffer(SampleBuffer value) { sampleBuffer.set(value); }
+        public final ObjectProperty<SampleBuffer> sampleBufferProperty() { return sampleBuffer; }
+
         /** ObservableList of data items that make up this series */
         private final ObjectProperty<ObservableList<Data<X,Y>>> data = new ObjectPropertyBase<ObservableList<Data<X,Y>>>() {
             private ObservableList<Data<X,Y>> old;
@@ -1647,6 +1746,22 @@ public abstract class XYChart<X,Y> extends Chart {
         int getDataSize() {
             return displayedData.size();
         }
+
+        ValueBounds getXBounds() {
+            if (!xBounds.isValid()) {
+                xBounds.reset();
+                for (Data<X,Y> item : getData()) xBounds.add(item.getXValue());
+            }
+            return xBounds;
+        }
+
+        ValueBounds getYBounds() {
+            if (!yBounds.isValid()) {
+                yBounds.reset();
+                for (Data<X,Y> item : getData()) yBounds.add(item.getYValue());
+            }
+            return yBounds;
+        }
     }
 
 }
@@ -25,6 +25,8 @@
 
 package javafx.scene.control;
 
+import com.sun.javafx.scene.control.IndexRangeSet;
+import com.sun.javafx.scene.control.SelectedCellsMap;
 import com.sun.javafx.scene.control.skin.Utils;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -157,28 +159,56 @@ class ControlUtils {
         };
     }
 
-    public static <S> void updateSelectedIndices(MultipleSelectionModelBase<S> sm, boolean isCellSelectionEnabled, ListChangeListener.Change<? extends TablePositionBase<?>> c, IntPredicate removeRowFilter) {
+    public static <S> void updateSelectedIndices(MultipleSelectionModelBase<S> sm, boolean isCellSelectionEnabled, ListChangeListener.Change<? extends TablePositionBase<?>> c, SelectedCellsMap<?> selectedCellsMap) {
         sm.selectedIndices._beginChange();
 
+        // Allow removing the row index if cell selection is not enabled or
+        // if such row doesn't have any selected cells
+        IntPredicate removeRowFilter = row -> !isCellSelectionEnabled || !selectedCellsMap.isSelected(row, -1);
+
         while (c.next()) {
             // it may look like all we are doing here is collecting the removed elements (and
             // counting the added elements), but the call to 'peek' is also crucial - it is
-            // ensuring that the selectedIndices bitset is correctly updated.
+            // ensuring that the selectedIndices are correctly updated.
+            // When the cells come from the selected cells map, their rows are
+            // found as ranges and updated a range at a time.
 
             sm.startAtomic();
-            final List<Integer> removed = c.getRemoved().stream()
-                    .mapToInt(TablePositionBase::getRow)
-                    .distinct()
-                    .filter(removeRowFilter)
-                    .boxed()
-                    .peek(sm.selectedIndices::clear)
-                    .collect(Collectors.toList());
-
-            final int addedSize = (int)c.getAddedSubList().stream()
-                    .mapToInt(TablePositionBase::getRow)
-                    .distinct()
-                    .peek(sm.selectedIndices::set)
-                    .count();
+            final List<Integer> removed;
+            IndexRangeSet removedRows = SelectedCellsMap.getRows(c.getRemoved());
+            if (removedRows != null) {
+                if (isCellSelectionEnabled) {
+                    removedRows = removedRows.andNot(selectedCellsMap.getSelectedRows());
+                }
+                for (int i = 0; i < removedRows.getRangeCount(); i++) {
+                    sm.selectedIndices.set(removedRows.getRangeStart(i), removedRows.getRangeEnd(i), false);
+                }
+                removed = removedRows.asList();
+            } else {
+                removed = c.getRemoved().stream()
+                        .mapToInt(TablePositionBase::getRow)
+                        .distinct()
+                        .filter(removeRowFilter)
+                        .boxed()
+                        .peek(sm.selectedIndices::clear)
+                        .collect(Collectors.toList());
+            }
+
+            final int addedSize;
+            final IndexRangeSet addedRows = SelectedCellsMap.getRows(c.getAddedSubList());
+            if (addedRows != null) {
+                final int itemCount = sm.getItemCount();
+                for (int i = 0; i < addedRows.getRangeCount(); i++) {
+                    sm.selectedIndices.set(addedRows.getRangeStart(i), Math.min(addedRows.getRangeEnd(i), itemCount), true);
+                }
+                addedSize = addedRows.cardinality();
+            } else {
+                addedSize = (int)c.getAddedSubList().stream()
+                        .mapToInt(TablePositionBase::getRow)
+                        .distinct()
+                        .peek(sm.selectedIndices::set)
+                        .count();
+            }
             sm.stopAtomic();
 
             int from = c.getFrom();
@@ -199,7 +229,6 @@ class ControlUtils {
             }
         }
         c.reset();
-        sm.selectedIndices.reset();
 
         if (sm.isAtomic()) {
             return;
@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.scene.control;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
+import javafx.scene.Node;
+import javafx.util.Callback;
+
+import com.sun.javafx.scene.control.BackgroundLoader;
+
+/**
+ * A TreeItem whose children are loaded in the background, by a
+ * {@link Task} created by a {@link #getChildrenLoader() children loader},
+ * the first time the item is expanded. This removes the need to override
+ * {@link #getChildren()} and {@link #isLeaf()} to populate a tree lazily,
+ * and keeps the JavaFX Application Thread responsive when fetching the
+ * children is slow, for example when they come from a remote service.
+ *
+ * <p>While the children are being loaded, the item shows a single
+ * {@link #placeholderProperty() placeholder} child. Loaded children are
+ * added to the item in batches, one batch per animation frame, ahead of the
+ * placeholder, which is removed once all children have been added. A task
+ * may publish the children it has loaded so far by calling
+ * {@code updateValue} with a collection holding all of them, in which case
+ * these are shown while the task is still running. A published collection
+ * must not be modified afterwards.
+ *
+ * <p>Collapsing the item while its children are loading cancels the task
+ * and discards the children added so far, so that expanding it again starts
+ * a new load. Once loaded, the children are kept until {@link #reload()} is
+ * called. If the task fails, the item has no children and its
+ * {@link #exceptionProperty() exception} property holds the cause of the
+ * failure.
+ *
+ * <p>A LazyTreeItem is never considered to be a leaf until its children
+ * have been loaded, after which it is a leaf if it has no children.
+ *
+ * <pre><code>
+ * TreeItem&lt;File&gt; createNode(File file) {
+ *     return new LazyTreeItem&lt;&gt;(file, item -&gt; new Task&lt;List&lt;TreeItem&lt;File&gt;&gt;&gt;() {
+ *         &#064;Override protected List&lt;TreeItem&lt;File&gt;&gt; call() {
+ *             List&lt;TreeItem&lt;File&gt;&gt; children = new ArrayList&lt;&gt;();
+ *             File[] files = file.listFiles();
+ *             if (files != null) {
+ *                 for (File f : files) {
+ *                     children.add(f.isDirectory() ? createNode(f) : new TreeItem&lt;&gt;(f));
+ *                 }
+ *             }
+ *             return children;
+ *         }
+ *     });
+ * }</code></pre>
+ *
+ * @param <T> The type of the value contained within the TreeItem
+ * @see TreeItem
+ * @since 17.0.14
+ */
+public class LazyTreeItem<T> extends TreeItem<T> {
+
+    // The maximum number of children added to the item per animation frame
+    static final int BATCH_SIZE = 10000;
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Constructors                                                            *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Creates a LazyTreeItem without a value, whose children are loaded by
+     * the given children loader.
+     *
+     * @param childrenLoader the callback that creates the task loading the
+     *      children of this TreeItem
+     * @throws NullPointerException if the children loader is null
+     */
+    public LazyTreeItem(Callback<? super LazyTreeItem<T>, ? extends Task<? extends Collection<? extends TreeItem<T>>>> childrenLoader) {
+        this(null, null, childrenLoader);
+    }
+
+    /**
+     * Creates a LazyTreeItem with the value property set to the provided
+     * object, whose children are loaded by the given children loader.
+     *
+     * @param value The object to be stored as the value of this TreeItem.
+     * @param childrenLoader the callback that creates the task loading the
+     *      children of this TreeItem
+     * @throws NullPointerException if the children loader is null
+     */
+    public LazyTreeItem(T value, Callback<? super LazyTreeItem<T>, ? extends Task<? extends Collection<? extends TreeItem<T>>>> childrenLoader) {
+        this(value, null, childrenLoader);
+    }
+
+    /**
+     * Creates a LazyTreeItem with the value property set to the provided
+     * object and the graphic set to the provided Node, whose children are
+     * loaded by the given children loader.
+     *
+     * @param value The object to be stored as the value of this TreeItem.
+     * @param graphic The Node to show in the TreeView next to this TreeItem.
+     * @param childrenLoader the callback that creates the task loading the
+     *      children of this TreeItem
+     * @throws NullPointerException if the children loader is null
+     */
+    public LazyTreeItem(T value, Node graphic,
+            Callback<? super LazyTreeItem<T>, ? extends Task<? extends Collection<? extends TreeItem<T>>>> childrenLoader) {
+        super(value, graphic);
+        if (childrenLoader == null) {
+            throw new NullPointerException("childrenLoader must not be null");
+        }
+        this.childrenLoader = childrenLoader;
+
+        expandedProperty().addListener(expandedListener);
+        if (isExpanded()) {
+            load();
+        }
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Instance Variables                                                      *
+     *                                                                         *
+     **************************************************************************/
+
+    private final Callback<? super LazyTreeItem<T>, ? extends Task<? extends Collection<? extends TreeItem<T>>>> childrenLoader;
+
+    // The task currently loading the children, or null
+    private Task<? extends Collection<? extends TreeItem<T>>> task;
+
+    // The most recent children published by the task, and how many of them
+    // have been added to the children of this item so far
+    private Collection<? extends TreeItem<T>> pendingChildren;
+    private int mergedCount;
+
+    // Iterates over the pending children that have not been added yet. This
+    // is kept across batches, and only recreated when the task publishes a
+    // new collection, so that each child is only visited once.
+    private Iterator<? extends TreeItem<T>> pendingIterator;
+    private Collection<? extends TreeItem<T>> iteratedChildren;
+
+    // The placeholder that has been added to the children, if any, and its
+    // index in the children
+    private TreeItem<T> shownPlaceholder;
+    private int placeholderIndex;
+
+    private AnimationTimer mergeTimer;
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Callbacks                                                               *
+     *                                                                         *
+     **************************************************************************/
+
+    private final InvalidationListener expandedListener = o -> {
+        if (isExpanded()) {
+            if (!isLoaded() && task == null) {
+                load();
+            }
+        } else if (task != null) {
+            // Stop loading, and forget about the children loaded so far
+            cancel();
+            getChildren().clear();
+        }
+    };
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    // --- Placeholder
+    private ObjectProperty<TreeItem<T>> placeholder;
+
+    /**
+     * The child that is shown while the children of this TreeItem are being
+     * loaded, for example to indicate progress to the user. If null, a
+     * TreeItem without a value is shown.
+     *
+     * @return the placeholder property
+     */
+    public final ObjectProperty<TreeItem<T>> placeholderProperty() {
+        if (placeholder == null) {
+            placeholder = new SimpleObjectProperty<>(this, "placeholder");
+        }
+        return placeholder;
+    }
+    public final void setPlaceholder(TreeItem<T> value) { placeholderProperty().set(value); }
+    public final TreeItem<T> getPlaceholder() { return placeholder == null ? null : placeholder.get(); }
+
+
+    // --- Executor
+    private ObjectProperty<Executor> executor;
+
+    /**
+     * The executor on which the tasks loading the children are run. If null,
+     * a shared pool of daemon threads is used.
+     *
+     * @return the executor property
+     */
+    public final ObjectProperty<Executor> executorProperty() {
+        if (executor == null) {
+            executor = new SimpleObjectProperty<>(this, "executor");
+        }
+        return executor;
+    }
+    public final void setExecutor(Executor value) { executorProperty().set(value); }
+    public final Executor getExecutor() { return executor == null ? null : executor.get(); }
+
+
+    // --- Loading
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(this, "loading", false);
+
+    /**
+     * Indicates whether the children of this TreeItem are being loaded.
+     *
+     * @return the loading property
+     */
+    public final ReadOnlyBooleanProperty loadingProperty() { return loading.getReadOnlyProperty(); }
+    public final boolean isLoading() { return loading.get(); }
+
+
+    // --- Loaded
+    private final ReadOnlyBooleanWrapper loaded = new ReadOnlyBooleanWrapper(this, "loaded", false);
+
+    /**
+     * Indicates whether the children of this TreeItem have been loaded and
+     * added to its {@link #getChildren() children}.
+     *
+     * @return the loaded property
+     */
+    public final ReadOnlyBooleanProperty loadedProperty() { return loaded.getReadOnlyProperty(); }
+    public final boolean isLoaded() { return loaded.get(); }
+
+
+    // --- Exception
+    private final ReadOnlyObjectWrapper<Throwable> exception = new ReadOnlyObjectWrapper<>(this, "exception");
+
+    /**
+     * The exception that caused the last load of the children of this
+     * TreeItem to fail, or null.
+     *
+     * @return the exception property
+     */
+    public final ReadOnlyObjectProperty<Throwable> exceptionProperty() { return exception.getReadOnlyProperty(); }
+    public final Throwable getException() { return exception.get(); }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Public API                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Returns the callback that creates the task loading the children of
+     * this TreeItem.
+     *
+     * @return the children loader
+     */
+    public final Callback<? super LazyTreeItem<T>, ? extends Task<? extends Collection<? extends TreeItem<T>>>> getChildrenLoader() {
+        return childrenLoader;
+    }
+
+    /**
+     * Discards the children of this TreeItem, cancelling a load that is in
+     * progress, and loads them again if this TreeItem is expanded.
+     */
+    public void reload() {
+        cancel();
+        loaded.set(false);
+        getChildren().clear();
+        if (isExpanded()) {
+            load();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A LazyTreeItem is not a leaf until its children have been loaded.
+     */
+    @Override public boolean isLeaf() {
+        return isLoaded() && super.isLeaf();
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Private Implementation                                                  *
+     *                                                                         *
+     **************************************************************************/
+
+    private void load() {
+        exception.set(null);
+        loaded.set(false);
+
+        Task<? extends Collection<? extends TreeItem<T>>> t = childrenLoader.call(this);
+        if (t == null) {
+            getChildren().clear();
+            loaded.set(true);
+            return;
+        }
+
+        task = t;
+        pendingChildren = null;
+        pendingIterator = null;
+        iteratedChildren = null;
+        mergedCount = 0;
+        loading.set(true);
+
+        TreeItem<T> p = getPlaceholder();
+        shownPlaceholder = p != null ? p : new TreeItem<>();
+        placeholderIndex = 0;
+        getChildren().setAll(Collections.singletonList(shownPlaceholder));
+
+        t.valueProperty().addListener(o -> {
+            if (task == t && t.getValue() != null) {
+                pendingChildren = t.getValue();
+                mergeChildren();
+            }
+        });
+        t.stateProperty().addListener(o -> {
+            if (task != t) return;
+            Worker.State state = t.getState();
+            if (state == Worker.State.SUCCEEDED) {
+                // The value may be set, or not, before the state changes
+                if (t.getValue() != null) {
+                    pendingChildren = t.getValue();
+                }
+                mergeChildren();
+            } else if (state == Worker.State.FAILED || state == Worker.State.CANCELLED) {
+                cancel();
+                getChildren().clear();
+                exception.set(t.getException());
+            }
+        });
+
+        Executor e = getExecutor();
+        (e != null ? e : BackgroundLoader.getExecutor()).execute(t);
+    }
+
+    // Adds the next batch of the pending children, and schedules the next
+    // batch for the next animation frame if needed
+    private void mergeChildren() {
+        if (task == null) return;
+
+        int size = pendingChildren == null ? 0 : pendingChildren.size();
+        if (mergedCount < size) {
+            int end = Math.min(size, mergedCount + BATCH_SIZE);
+            if (iteratedChildren != pendingChildren) {
+                // A new collection has been published, continue after the
+                // children already added from the previous one
+                iteratedChildren = pendingChildren;
+                if (pendingChildren instanceof List) {
+                    pendingIterator = ((List<? extends TreeItem<T>>) pendingChildren).listIterator(mergedCount);
+                } else {
+                    pendingIterator = pendingChildren.iterator();
+                    for (int i = 0; i < mergedCount; i++) {
+                        pendingIterator.next();
+                    }
+                }
+            }
+            List<TreeItem<T>> batch = new ArrayList<>(end - mergedCount);
+            while (mergedCount < end) {
+                batch.add(pendingIterator.next());
+                mergedCount++;
+            }
+
+            // Keep the placeholder after the children added so far. Its
+            // index is only looked up again if the children have been
+            // modified by someone else in the meantime.
+            List<TreeItem<T>> children = getChildren();
+            if (placeholderIndex >= children.size() || children.get(placeholderIndex) != shownPlaceholder) {
+                placeholderIndex = children.lastIndexOf(shownPlaceholder);
+            }
+            if (placeholderIndex == -1) {
+                children.addAll(batch);
+            } else {
+                children.addAll(placeholderIndex, batch);
+                placeholderIndex += batch.size();
+            }
+        }
+
+        if (mergedCount < size) {
+            if (mergeTimer == null) {
+                mergeTimer = new AnimationTimer() {
+                    @Override public void handle(long now) {
+                        mergeChildren();
+                    }
+                };
+            }
+            mergeTimer.start();
+        } else {
+            if (mergeTimer != null) {
+                mergeTimer.stop();
+            }
+            if (task.getState() == Worker.State.SUCCEEDED) {
+                // All children are in, remove the placeholder
+                TreeItem<T> p = shownPlaceholder;
+                task = null;
+                pendingChildren = null;
+                pendingIterator = null;
+                iteratedChildren = null;
+                shownPlaceholder = null;
+                loading.set(false);
+                loaded.set(true);
+                getChildren().remove(p);
+            }
+        }
+    }
+
+    private void cancel() {
+        if (mergeTimer != null) {
+            mergeTimer.stop();
+        }
+        Task<?> t = task;
+        task = null;
+        pendingChildren = null;
+        pendingIterator = null;
+        iteratedChildren = null;
+        shownPlaceholder = null;
+        loading.set(false);
+        if (t != null) {
+            t.cancel();
+        }
+    }
+}
@@ -1422,7 +1422,7 @@ public class ListView<T> extends Control {
             }
 
             if (!shifts.isEmpty()) {
-                shiftSelection(shifts, null);
+                shiftSelection(shifts);
             }
 
             previousModelSize = getItemCount();
@@ -32,13 +32,13 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import com.sun.javafx.scene.control.IndexRangeSet;
 import com.sun.javafx.scene.control.MultipleAdditionAndRemovedChange;
 import com.sun.javafx.scene.control.ReadOnlyUnbackedObservableList;
 import com.sun.javafx.scene.control.SelectedItemsReadOnlyObservableList;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableListBase;
-import javafx.util.Callback;
 
 import javafx.util.Pair;
 
@@ -157,61 +157,29 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
     protected abstract void focus(int index);
     protected abstract int getFocusedIndex();
 
-    static class ShiftParams {
-        private final int clearIndex;
-        private final int setIndex;
-        private final boolean selected;
-
-        ShiftParams(int clearIndex, int setIndex, boolean selected) {
-            this.clearIndex = clearIndex;
-            this.setIndex = setIndex;
-            this.selected = selected;
-        }
-
-        public final int getClearIndex() {
-            return clearIndex;
-        }
-
-        public final int getSetIndex() {
-            return setIndex;
-        }
-
-        public final boolean isSelected() {
-            return selected;
-        }
-    }
-
     // package only
-    void shiftSelection(int position, int shift, final Callback<ShiftParams, Void> callback) {
-        shiftSelection(Arrays.asList(new Pair<>(position, shift)), callback);
+    void shiftSelection(int position, int shift) {
+        shiftSelection(Arrays.asList(new Pair<>(position, shift)));
     }
 
-    void shiftSelection(List<Pair<Integer, Integer>> shifts, final Callback<ShiftParams, Void> callback) {
-        int selectedIndicesCardinality = selectedIndices.size(); // number of true bits
+    void shiftSelection(List<Pair<Integer, Integer>> shifts) {
+        int selectedIndicesCardinality = selectedIndices.size(); // number of selected indices
         if (selectedIndicesCardinality == 0) return;
 
-        int selectedIndicesSize = selectedIndices.bitsetSize();   // number of bits reserved
-
-        int[] perm = new int[selectedIndicesSize];
-        Arrays.fill(perm, -1);
-
         // sort the list so that we iterate from highest position to lowest position
         Collections.sort(shifts, (s1, s2) -> Integer.compare(s2.getKey(), s1.getKey()));
         final int lowestShiftPosition = shifts.get(shifts.size() - 1).getKey();
 
         // make a copy of the selectedIndices before so we can compare to it afterwards
-        BitSet selectedIndicesCopy = (BitSet) selectedIndices.bitset.clone();
+        IndexRangeSet selectedIndicesCopy = new IndexRangeSet(selectedIndices.ranges);
 
+        boolean hasSelectionChanged = false;
         startAtomic();
         for (Pair<Integer, Integer> shift : shifts) {
-            doShift(shift, callback, perm);
+            hasSelectionChanged |= doShift(shift);
         }
         stopAtomic();
 
-        // strip out all useless -1 default values from the perm array
-        final int[] prunedPerm = Arrays.stream(perm).filter(value -> value > -1).toArray();
-        final boolean hasSelectionChanged = prunedPerm.length > 0;
-
         // This ensure that the selection remains accurate when a shift occurs.
         final int selectedIndex = getSelectedIndex();
         if (selectedIndex >= lowestShiftPosition && selectedIndex > -1) {
@@ -245,68 +213,43 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         }
 
         if (hasSelectionChanged) {
-            // work out what indices were removed and added
-            BitSet removed = (BitSet) selectedIndicesCopy.clone();
-            removed.andNot(selectedIndices.bitset);
-
-            BitSet added = (BitSet) selectedIndices.bitset.clone();
-            added.andNot(selectedIndicesCopy);
+            // work out what indices were removed and added, as ranges, so
+            // that shifting a large selection does not box every index
+            List<Integer> removed = selectedIndicesCopy.andNot(selectedIndices.ranges).asList();
+            List<Integer> added = selectedIndices.ranges.andNot(selectedIndicesCopy).asList();
 
-            selectedIndices.reset();
             selectedIndices.callObservers(new MultipleAdditionAndRemovedChange<>(
-                    added.stream().boxed().collect(Collectors.toList()),
-                    removed.stream().boxed().collect(Collectors.toList()),
-                    selectedIndices
+                    added, removed, selectedIndices
             ));
         }
     }
 
-    private void doShift(Pair<Integer, Integer> shiftPair, final Callback<ShiftParams, Void> callback, int[] perm) {
+    /*
+     * Shifts the selected indices at or after the position of the given shift
+     * by its amount, and returns whether any selected index was moved.
+     */
+    private boolean doShift(Pair<Integer, Integer> shiftPair) {
         final int position = shiftPair.getKey();
         final int shift = shiftPair.getValue();
 
         // with no check here, we get RT-15024
-        if (position < 0) return;
-        if (shift == 0) return;
-
-        int idx = (int) Arrays.stream(perm).filter(value -> value > -1).count();
-
-        int selectedIndicesSize = selectedIndices.bitsetSize() - idx;   // number of bits reserved
+        if (position < 0) return false;
+        if (shift == 0) return false;
 
+        final boolean moved;
         if (shift > 0) {
-            for (int i = selectedIndicesSize - 1; i >= position && i >= 0; i--) {
-                boolean selected = selectedIndices.isSelected(i);
-
-                if (callback == null) {
-                    selectedIndices.clear(i);
-                    selectedIndices.set(i + shift, selected);
-                } else {
-                    callback.call(new ShiftParams(i, i + shift, selected));
-                }
-
-                if (selected) {
-                    perm[idx++] = i + 1;
-                }
-            }
-            selectedIndices.clear(position);
-        } else if (shift < 0) {
-            for (int i = position; i < selectedIndicesSize; i++) {
-                if ((i + shift) < 0) continue;
-                if ((i + 1 + shift) < position) continue;
-                boolean selected = selectedIndices.isSelected(i + 1);
-
-                if (callback == null) {
-                    selectedIndices.clear(i + 1);
-                    selectedIndices.set(i + 1 + shift, selected);
-                } else {
-                    callback.call(new ShiftParams(i + 1, i + 1 + shift, selected));
-                }
-
-                if (selected) {
-                    perm[idx++] = i;
-                }
-            }
-        }
+            // the indices from position onwards move up, the inserted
+            // indices are not selected
+            moved = selectedIndices.ranges.nextSetBit(position) >= 0;
+        } else {
+            // the indices from position + removed onwards move down, the
+            // removed indices are no longer selected. Note that index 0 is
+            // never the target of a move, so it keeps its selection state.
+            final int removed = -shift;
+            moved = selectedIndices.ranges.nextSetBit(Math.max(position + removed, removed + 1)) >= 0;
+        }
+        selectedIndices.shift(position, shift);
+        return moved;
     }
 
     void startAtomic() {
@@ -342,8 +285,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         // firstly we make a copy of the selection, so that we can send out
         // the correct details in the selection change event.
         // We remove the new selection from the list seeing as it is not removed.
-        BitSet selectedIndicesCopy = new BitSet();
-        selectedIndicesCopy.or(selectedIndices.bitset);
+        IndexRangeSet selectedIndicesCopy = new IndexRangeSet(selectedIndices.ranges);
         selectedIndicesCopy.clear(row);
         // No modifications should be made to 'selectedIndicesCopy' to honour the constructor.
         List<Integer> previousSelectedIndices = new SelectedIndicesList(selectedIndicesCopy);
@@ -572,17 +514,13 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
 
     @Override public boolean isSelected(int index) {
         // Note the change in semantics here - we used to check to ensure that
-        // the index is less than the item count, but now simply ensure that
-        // it is less than the length of the selectedIndices bitset. This helps
-        // to resolve issues such as RT-26721, where isSelected(int) was being
-        // called for indices that exceeded the item count, as a TreeItem (e.g.
-        // the root) was being collapsed.
+        // the index is less than the item count, but now simply look the
+        // index up in the selectedIndices. This helps to resolve issues such
+        // as RT-26721, where isSelected(int) was being called for indices that
+        // exceeded the item count, as a TreeItem (e.g. the root) was being
+        // collapsed.
 //        if (index >= 0 && index < getItemCount()) {
-        if (index >= 0 && index < selectedIndices.bitsetSize()) {
-            return selectedIndices.isSelected(index);
-        }
-
-        return false;
+        return index >= 0 && selectedIndices.isSelected(index);
     }
 
     @Override public boolean isEmpty() {
@@ -625,12 +563,11 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
      *                                                                     *
      **********************************************************************/
 
-    class SelectedIndicesList extends ReadOnlyUnbackedObservableList<Integer> {
-        private final BitSet bitset;
-
-        private int size = -1;
-        private int lastGetIndex = -1;
-        private int lastGetValue = -1;
+    class SelectedIndicesList extends ReadOnlyUnbackedObservableList<Integer> implements RandomAccess {
+        // The selected indices are kept as ranges, so that selecting all of a
+        // very large list, or a range of it, is cheap. The n'th selected index
+        // and the position of a selected index are found in O(log(ranges)).
+        private final IndexRangeSet ranges;
 
         // Fix for RT-20945 (and numerous other issues!)
         private int atomicityCount = 0;
@@ -644,16 +581,16 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
          * Constructs a new instance of SelectedIndicesList
          */
         public SelectedIndicesList() {
-            this(new BitSet());
+            this(new IndexRangeSet());
         }
 
         /**
-         * Constructs a new instance of SelectedIndicesList from the provided BitSet.
-         * The underlying source BitSet shouldn't be modified once it has been passed to the constructor.
-         * @param bitset Bitset to be used.
+         * Constructs a new instance of SelectedIndicesList from the provided IndexRangeSet.
+         * The underlying source IndexRangeSet shouldn't be modified once it has been passed to the constructor.
+         * @param ranges IndexRangeSet to be used.
          */
-        public SelectedIndicesList(BitSet bitset) {
-            this.bitset = bitset;
+        public SelectedIndicesList(IndexRangeSet ranges) {
+            this.ranges = ranges;
         }
 
         boolean isAtomic() {
@@ -673,30 +610,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             if (index < 0 || index >= itemCount)  {
                 throw new IndexOutOfBoundsException(index + " >= " + itemCount);
             }
-
-            if (index == (lastGetIndex + 1) && lastGetValue < itemCount) {
-                // we're iterating forward in order, short circuit for
-                // performance reasons (RT-39776)
-                lastGetIndex++;
-                lastGetValue = bitset.nextSetBit(lastGetValue + 1);
-                return lastGetValue;
-            } else if (index == (lastGetIndex - 1) && lastGetValue > 0) {
-                // we're iterating backward in order, short circuit for
-                // performance reasons (RT-39776)
-                lastGetIndex--;
-                lastGetValue = bitset.previousSetBit(lastGetValue - 1);
-                return lastGetValue;
-            } else {
-                for (lastGetIndex = 0, lastGetValue = bitset.nextSetBit(0);
-                     lastGetValue >= 0 || lastGetIndex == index;
-                     lastGetIndex++, lastGetValue = bitset.nextSetBit(lastGetValue + 1)) {
-                    if (lastGetIndex == index) {
-                        return lastGetValue;
-                    }
-                }
-            }
-
-            return -1;
+            return ranges.select(index);
         }
 
         public void set(int index) {
@@ -705,8 +619,7 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             }
 
             _beginChange();
-            size = -1;
-            bitset.set(index);
+            ranges.set(index);
             int indicesIndex = indexOf(index);
             _nextAdd(indicesIndex, indicesIndex + 1);
             _endChange();
@@ -725,16 +638,31 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         }
 
         public void set(int index, int end, boolean isSet) {
+            if (index >= end) return;
+
+            // the change is reported per contiguous run of indices that
+            // actually changed, in increasing order
             _beginChange();
-            size = -1;
             if (isSet) {
-                bitset.set(index, end, isSet);
-                int indicesIndex = indexOf(index);
-                int span = end - index;
-                _nextAdd(indicesIndex, indicesIndex + span);
+                IndexRangeSet added = new IndexRangeSet();
+                added.set(index, end);
+                added = added.andNot(ranges);
+                ranges.set(index, end);
+                for (int i = 0, max = added.getRangeCount(); i < max; i++) {
+                    int from = ranges.rank(added.getRangeStart(i));
+                    _nextAdd(from, from + added.getRangeEnd(i) - added.getRangeStart(i));
+                }
             } else {
-                // TODO handle remove
-                bitset.set(index, end, isSet);
+                IndexRangeSet removed = new IndexRangeSet(ranges);
+                removed.clear(0, index);
+                removed.clear(end, Integer.MAX_VALUE);
+                for (int i = 0, max = removed.getRangeCount(); i < max; i++) {
+                    int start = removed.getRangeStart(i);
+                    int rangeEnd = removed.getRangeEnd(i);
+                    int from = ranges.rank(start);
+                    ranges.clear(start, rangeEnd);
+                    _nextRemove(from, rangeList(start, rangeEnd));
+                }
             }
             _endChange();
         }
@@ -802,45 +730,56 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
         }
 
         public void clear() {
+            if (ranges.isEmpty()) return;
+
             _beginChange();
-            List<Integer> removed = bitset.stream().boxed().collect(Collectors.toList());
-            size = 0;
-            bitset.clear();
+            List<Integer> removed = new IndexRangeSet(ranges).asList();
+            ranges.clear();
             _nextRemove(0, removed);
             _endChange();
         }
 
         public void clear(int index) {
-            if (!bitset.get(index)) return;
+            if (!ranges.get(index)) return;
 
             int indicesIndex = indexOf(index);
             _beginChange();
-            size = -1;
-            bitset.clear(index);
+            ranges.clear(index);
             _nextRemove(indicesIndex, index);
             _endChange();
         }
 
+        /*
+         * Moves the selected indices at or after position by the given shift,
+         * without firing any change. A positive shift inserts unselected
+         * indices at position, a negative shift removes the indices from
+         * position to position - shift, except for index 0, which keeps its
+         * selection state.
+         */
+        void shift(int position, int shift) {
+            if (shift > 0) {
+                ranges.insert(position, shift);
+            } else if (shift < 0) {
+                final boolean firstSelected = ranges.get(0);
+                ranges.remove(position, -shift);
+                if (position == 0) {
+                    ranges.clear(0);
+                    if (firstSelected) ranges.set(0);
+                }
+            }
+        }
+
         public boolean isSelected(int index) {
-            return bitset.get(index);
+            return ranges.get(index);
         }
 
         public boolean isNotSelected(int index) {
             return !isSelected(index);
         }
 
-        /** Returns number of true bits in BitSet */
+        /** Returns the number of selected indices */
         @Override public int size() {
-            if (size >= 0) {
-                return size;
-            }
-            size = bitset.cardinality();
-            return size;
-        }
-
-        /** Returns the number of bits reserved in the BitSet */
-        public int bitsetSize() {
-            return bitset.size();
+            return ranges.cardinality();
         }
 
         @Override public int indexOf(Object obj) {
@@ -849,35 +788,10 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
             }
             Number n = (Number) obj;
             int index = n.intValue();
-            if (!bitset.get(index)) {
+            if (index < 0 || !ranges.get(index)) {
                 return -1;
             }
-
-            // is left most bit
-            if (index == 0) {
-                return 0;
-            }
-
-            // is right most bit
-            if (index == bitset.length() - 1) {
-                return size() - 1;
-            }
-
-            // count right bit
-            if (index > bitset.length() / 2) {
-                int count = 1;
-                for (int i = bitset.nextSetBit(index+1); i >= 0; i = bitset.nextSetBit(i+1)) {
-                    count++;
-                }
-                return size() - count;
-            }
-
-            // count left bit
-            int count = 0;
-            for (int i = bitset.previousSetBit(index-1);  i >= 0; i = bitset.previousSetBit(i-1)) {
-                count++;
-            }
-            return count;
+            return ranges.rank(index);
         }
 
         @Override public boolean contains(Object o) {
@@ -885,16 +799,16 @@ abstract class MultipleSelectionModelBase<T> extends MultipleSelectionModel<T> {
                 Number n = (Number) o;
                 int index = n.intValue();
 
-                return index >= 0 && index < bitset.length() &&
-                        bitset.get(index);
+                return index >= 0 && ranges.get(index);
             }
 
             return false;
         }
 
-        public void reset() {
-            this.lastGetIndex = -1;
-            this.lastGetValue = -1;
+        private List<Integer> rangeList(int start, int end) {
+            IndexRangeSet set = new IndexRangeSet();
+            set.set(start, end);
+            return set.asList();
         }
 
         @Override public void _beginChange() {
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.scene.control;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A source of rows for a {@link TableView} whose data is too large to be
+ * held in memory, for example because it lives in a database. A data
+ * provider is used through a {@link TableDataProviderList}, which is set as
+ * the {@link TableView#itemsProperty() items} of the TableView and which only
+ * fetches the rows that are actually accessed, typically the rows that are
+ * visible, one page at a time.
+ *
+ * <p>Sorting and filtering are pushed down to the data provider: both are
+ * described by the {@link Query} passed to each call, and the provider is
+ * expected to apply them when counting and fetching rows.
+ *
+ * <p>The methods of a data provider are called on a background thread, never
+ * on the JavaFX Application Thread, and may be called concurrently.
+ *
+ * @param <S> The type of the rows
+ * @see TableDataProviderList
+ * @since 17.0.14
+ */
+public interface TableDataProvider<S> {
+
+    /**
+     * Returns the number of rows matching the given query.
+     *
+     * @param query the sort order and filter to apply
+     * @return the number of rows
+     * @throws Exception if the rows could not be counted
+     */
+    int getRowCount(Query query) throws Exception;
+
+    /**
+     * Returns the rows from {@code from} (inclusive) to {@code from + count}
+     * (exclusive), in the order and with the filter given by the query. Fewer
+     * rows may be returned if there are not that many.
+     *
+     * @param query the sort order and filter to apply
+     * @param from the index of the first row to return
+     * @param count the number of rows to return
+     * @return the rows
+     * @throws Exception if the rows could not be fetched
+     */
+    List<S> getRows(Query query, int from, int count) throws Exception;
+
+    /**
+     * The sort order and filter that a {@link TableDataProvider} applies to
+     * its rows. Queries are immutable.
+     *
+     * @since 17.0.14
+     */
+    public static final class Query {
+        private final List<SortKey> sortKeys;
+        private final Object filter;
+
+        /**
+         * Creates a query.
+         *
+         * @param sortKeys the sort keys, the most significant first, or null
+         *      for no particular order
+         * @param filter the filter, or null for no filtering
+         */
+        public Query(List<SortKey> sortKeys, Object filter) {
+            this.sortKeys = sortKeys == null ?
+                    Collections.emptyList() :
+                    Collections.unmodifiableList(List.copyOf(sortKeys));
+            this.filter = filter;
+        }
+
+        /**
+         * Returns the keys to sort the rows by, the most significant first.
+         *
+         * @return an unmodifiable list of sort keys, empty if the rows are
+         *      not sorted
+         */
+        public List<SortKey> getSortKeys() {
+            return sortKeys;
+        }
+
+        /**
+         * Returns the filter to apply to the rows. The filter is opaque to
+         * the TableView and is interpreted by the data provider.
+         *
+         * @return the filter, or null if the rows are not filtered
+         */
+        public Object getFilter() {
+            return filter;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (!(obj instanceof Query)) return false;
+            Query other = (Query) obj;
+            return sortKeys.equals(other.sortKeys) && Objects.equals(filter, other.filter);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return 31 * sortKeys.hashCode() + Objects.hashCode(filter);
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return "Query [ sortKeys: " + sortKeys + ", filter: " + filter + " ]";
+        }
+    }
+
+    /**
+     * A column to sort by and the direction to sort it in.
+     *
+     * @since 17.0.14
+     */
+    public static final class SortKey {
+        private final TableColumn<?,?> column;
+        private final String columnId;
+        private final TableColumn.SortType sortType;
+
+        /**
+         * Creates a sort key for the given column. The id of the column is
+         * captured so that it can be read from a background thread.
+         *
+         * @param column the column to sort by
+         * @param sortType the direction to sort in
+         * @throws NullPointerException if the column or the sort type is null
+         */
+        public SortKey(TableColumn<?,?> column, TableColumn.SortType sortType) {
+            if (column == null || sortType == null) {
+                throw new NullPointerException("column and sortType must not be null");
+            }
+            this.column = column;
+            this.columnId = column.getId();
+            this.sortType = sortType;
+        }
+
+        /**
+         * Returns the column to sort by. Only its identity should be used
+         * outside of the JavaFX Application Thread.
+         *
+         * @return the column
+         */
+        public TableColumn<?,?> getColumn() {
+            return column;
+        }
+
+        /**
+         * Returns the {@link TableColumnBase#getId() id} the column had when
+         * this sort key was created.
+         *
+         * @return the column id, which may be null
+         */
+        public String getColumnId() {
+            return columnId;
+        }
+
+        /**
+         * Returns the direction to sort in.
+         *
+         * @return the sort type
+         */
+        public TableColumn.SortType getSortType() {
+            return sortType;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (!(obj instanceof SortKey)) return false;
+            SortKey other = (SortKey) obj;
+            return column == other.column && sortType == other.sortType;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return 31 * System.identityHashCode(column) + sortType.hashCode();
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return "SortKey [ column: " + (columnId != null ? columnId : column.getText())
+                    + ", sortType: " + sortType + " ]";
+        }
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package javafx.scene.control;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.TableDataProvider.Query;
+import javafx.scene.control.TableDataProvider.SortKey;
+
+import com.sun.javafx.collections.NonIterableChange;
+import com.sun.javafx.scene.control.BackgroundLoader;
+
+/**
+ * A read-only ObservableList whose elements are fetched on demand, one page
+ * at a time, from a {@link TableDataProvider}. Set as the
+ * {@link TableView#itemsProperty() items} of a TableView, it allows the
+ * TableView to show data sets that are far too large to be held in memory:
+ * the TableView only accesses the rows it shows, and only the pages holding
+ * these rows are fetched and kept in a bounded cache.
+ *
+ * <p>All fetching happens in the background. The list is empty until
+ * {@link #refresh()} has been called and the row count it fetches has
+ * arrived. {@link #get(int)} returns {@code null} for a row that has not
+ * been fetched yet, and starts fetching its page. When the page arrives, a
+ * single update change is fired for its rows, so that the TableView shows
+ * them.
+ *
+ * <p>The list is sorted and filtered by the data provider. When the
+ * TableView uses the {@link TableView#DEFAULT_SORT_POLICY default sort
+ * policy}, its sort order is pushed down as the
+ * {@link TableDataProvider.Query#getSortKeys() sort keys} of the query. The
+ * {@link #filterProperty() filter} is passed on as is. Whenever
+ * {@link #refresh()} is called, or the query changes after the first
+ * refresh, the cached pages are discarded and the row count is fetched
+ * again, after which a change replacing all elements of the list is fired.
+ *
+ * <p>Methods that search the list, such as {@link #indexOf(Object)}, only
+ * consider the rows that have been fetched. Iterating over the whole list
+ * accesses every row, and should be avoided.
+ *
+ * <p>For very large data sets, the TableView should be given a
+ * {@link TableView#fixedCellSizeProperty() fixed cell size}, so that it does
+ * not need to measure or remember the size of the rows it scrolls past.
+ *
+ * @param <S> The type of the rows
+ * @see TableDataProvider
+ * @since 17.0.14
+ */
+public class TableDataProviderList<S> extends ObservableListBase<S> {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int DEFAULT_MAX_CACHED_PAGES = 50;
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Constructors                                                            *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Creates a TableDataProviderList fetching pages of 100 rows from the
+     * given data provider, and caching at most 50 pages.
+     *
+     * @param provider the data provider
+     * @throws NullPointerException if the data provider is null
+     */
+    public TableDataProviderList(TableDataProvider<S> provider) {
+        this(provider, DEFAULT_PAGE_SIZE, DEFAULT_MAX_CACHED_PAGES);
+    }
+
+    /**
+     * Creates a TableDataProviderList fetching pages of the given size from
+     * the given data provider, and caching at most the given number of pages.
+     * Pages are evicted from the cache in least recently used order.
+     *
+     * @param provider the data provider
+     * @param pageSize the number of rows fetched at once
+     * @param maxCachedPages the maximum number of pages kept in memory
+     * @throws NullPointerException if the data provider is null
+     * @throws IllegalArgumentException if the page size or the maximum
+     *      number of cached pages is less than 1
+     */
+    public TableDataProviderList(TableDataProvider<S> provider, int pageSize, int maxCachedPages) {
+        if (provider == null) {
+            throw new NullPointerException("provider must not be null");
+        }
+        if (pageSize < 1 || maxCachedPages < 1) {
+            throw new IllegalArgumentException("pageSize and maxCachedPages must be at least 1");
+        }
+        this.provider = provider;
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<Integer, List<S>>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<Integer, List<S>> eldest) {
+                return size() > maxCachedPages;
+            }
+        };
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Instance Variables                                                      *
+     *                                                                         *
+     **************************************************************************/
+
+    private final TableDataProvider<S> provider;
+    private final int pageSize;
+
+    // The fetched pages by page index, in least recently used order
+    private final LinkedHashMap<Integer, List<S>> pages;
+
+    // The pages being fetched, and the pages that could not be fetched and
+    // will not be tried again until the next refresh
+    private final Set<Integer> pendingPages = new HashSet<>();
+    private final Set<Integer> failedPages = new HashSet<>();
+
+    // The size of the list, as last reported to the listeners
+    private int size;
+
+    // Incremented on every refresh, so that results of fetches made for a
+    // previous query are ignored
+    private int generation;
+
+    private boolean countPending;
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    // --- Query
+    private final ReadOnlyObjectWrapper<Query> query =
+            new ReadOnlyObjectWrapper<>(this, "query", new Query(null, null));
+
+    /**
+     * The query passed to the data provider, made of the current sort keys
+     * and {@link #filterProperty() filter}.
+     *
+     * @return the query property
+     */
+    public final ReadOnlyObjectProperty<Query> queryProperty() { return query.getReadOnlyProperty(); }
+    public final Query getQuery() { return query.get(); }
+
+
+    // --- Filter
+    private final ObjectProperty<Object> filter = new ObjectPropertyBase<Object>() {
+        @Override protected void invalidated() {
+            updateQuery(getQuery().getSortKeys(), get());
+        }
+
+        @Override public Object getBean() {
+            return TableDataProviderList.this;
+        }
+
+        @Override public String getName() {
+            return "filter";
+        }
+    };
+
+    /**
+     * The filter passed on to the data provider. The filter is opaque to this
+     * list, and is interpreted by the data provider. Changing it fetches the
+     * rows again.
+     *
+     * @return the filter property
+     */
+    public final ObjectProperty<Object> filterProperty() { return filter; }
+    public final void setFilter(Object value) { filter.set(value); }
+    public final Object getFilter() { return filter.get(); }
+
+
+    // --- Executor
+    private ObjectProperty<Executor> executor;
+
+    /**
+     * The executor on which the data provider is called. If null, a shared
+     * pool of daemon threads is used. The executor must run the fetches
+     * asynchronously.
+     *
+     * @return the executor property
+     */
+    public final ObjectProperty<Executor> executorProperty() {
+        if (executor == null) {
+            executor = new SimpleObjectProperty<>(this, "executor");
+        }
+        return executor;
+    }
+    public final void setExecutor(Executor value) { executorProperty().set(value); }
+    public final Executor getExecutor() { return executor == null ? null : executor.get(); }
+
+
+    // --- Loading
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(this, "loading", false);
+
+    /**
+     * Indicates whether the row count or any page is being fetched.
+     *
+     * @return the loading property
+     */
+    public final ReadOnlyBooleanProperty loadingProperty() { return loading.getReadOnlyProperty(); }
+    public final boolean isLoading() { return loading.get(); }
+
+
+    // --- Exception
+    private final ReadOnlyObjectWrapper<Throwable> exception = new ReadOnlyObjectWrapper<>(this, "exception");
+
+    /**
+     * The exception thrown by the data provider the last time it failed to
+     * count or fetch rows since the last refresh, or null.
+     *
+     * @return the exception property
+     */
+    public final ReadOnlyObjectProperty<Throwable> exceptionProperty() { return exception.getReadOnlyProperty(); }
+    public final Throwable getException() { return exception.get(); }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Public API                                                              *
+     *                                                                         *
+     **************************************************************************/
+
+    /**
+     * Sets the keys the data provider sorts the rows by, the most significant
+     * first, and fetches the rows again if they changed. This is called by
+     * the {@link TableView#DEFAULT_SORT_POLICY default sort policy} of
+     * TableView with its sort order.
+     *
+     * @param sortKeys the sort keys, or null for no particular order
+     */
+    public void setSortKeys(List<SortKey> sortKeys) {
+        updateQuery(sortKeys, getFilter());
+    }
+
+    /**
+     * Discards all fetched rows and fetches the row count again. This must be
+     * called once for the list to fetch any rows, and should be called again
+     * when the data behind the data provider changes.
+     */
+    public void refresh() {
+        generation++;
+        pages.clear();
+        pendingPages.clear();
+        failedPages.clear();
+        exception.set(null);
+
+        final int gen = generation;
+        final Query q = getQuery();
+        countPending = true;
+        updateLoading();
+        execute(() -> {
+            int count = 0;
+            Throwable error = null;
+            try {
+                count = provider.getRowCount(q);
+            } catch (Throwable t) {
+                error = t;
+            }
+            final int c = count;
+            final Throwable e = error;
+            Platform.runLater(() -> countFetched(gen, c, e));
+        });
+    }
+
+    /**
+     * Returns whether the row at the given index has been fetched and is
+     * in the cache.
+     *
+     * @param index the index of the row
+     * @return true if the row is available without fetching it
+     */
+    public boolean isRowFetched(int index) {
+        if (index < 0 || index >= size) return false;
+        List<S> rows = pages.get(index / pageSize);
+        return rows != null && index % pageSize < rows.size();
+    }
+
+    /**
+     * Returns the row at the given index if it has been fetched. Otherwise,
+     * starts fetching its page and returns null.
+     *
+     * @param index the index of the row
+     * @return the row, or null if it has not been fetched yet
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override public S get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int page = index / pageSize;
+        List<S> rows = pages.get(page);
+        if (rows == null) {
+            fetchPage(page);
+            return null;
+        }
+        int i = index - page * pageSize;
+        return i < rows.size() ? rows.get(i) : null;
+    }
+
+    /**
+     * Returns the number of rows, as last counted by the data provider. This
+     * is 0 until the row count has been fetched.
+     *
+     * @return the number of rows
+     */
+    @Override public int size() {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int indexOf(Object o) {
+        for (Map.Entry<Integer, List<S>> entry : getFetchedPages().entrySet()) {
+            int i = entry.getValue().indexOf(o);
+            if (i != -1) {
+                return entry.getKey() * pageSize + i;
+            }
+        }
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int lastIndexOf(Object o) {
+        List<Map.Entry<Integer, List<S>>> entries = new ArrayList<>(getFetchedPages().entrySet());
+        Collections.reverse(entries);
+        for (Map.Entry<Integer, List<S>> entry : entries) {
+            int i = entry.getValue().lastIndexOf(o);
+            if (i != -1) {
+                return entry.getKey() * pageSize + i;
+            }
+        }
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Private Implementation                                                  *
+     *                                                                         *
+     **************************************************************************/
+
+    // Called from the default sort policy of TableView
+    void sort(List<? extends TableColumnBase<?,?>> sortOrder) {
+        List<SortKey> sortKeys = new ArrayList<>(sortOrder.size());
+        for (TableColumnBase<?,?> column : sortOrder) {
+            if (column instanceof TableColumn) {
+                TableColumn<?,?> tc = (TableColumn<?,?>) column;
+                if (tc.getSortType() != null) {
+                    sortKeys.add(new SortKey(tc, tc.getSortType()));
+                }
+            }
+        }
+        setSortKeys(sortKeys);
+    }
+
+    private void updateQuery(List<SortKey> sortKeys, Object filter) {
+        Query newQuery = new Query(sortKeys, filter);
+        if (newQuery.equals(getQuery())) {
+            return;
+        }
+        query.set(newQuery);
+        if (generation != 0) {
+            refresh();
+        }
+    }
+
+    // The fetched pages, by increasing page index
+    private Map<Integer, List<S>> getFetchedPages() {
+        return new TreeMap<>(pages);
+    }
+
+    private void fetchPage(int page) {
+        if (countPending || pendingPages.contains(page) || failedPages.contains(page)) {
+            return;
+        }
+        pendingPages.add(page);
+        updateLoading();
+
+        final int gen = generation;
+        final Query q = getQuery();
+        final int from = page * pageSize;
+        final int count = Math.min(pageSize, size - from);
+        execute(() -> {
+            List<S> rows = null;
+            Throwable error = null;
+            try {
+                rows = provider.getRows(q, from, count);
+            } catch (Throwable t) {
+                error = t;
+            }
+            final List<S> r = rows;
+            final Throwable e = error;
+            Platform.runLater(() -> pageFetched(gen, page, r, e));
+        });
+    }
+
+    private void countFetched(int gen, int count, Throwable error) {
+        if (gen != generation) return;
+
+        countPending = false;
+        updateLoading();
+        if (error != null) {
+            exception.set(error);
+        }
+
+        int oldSize = size;
+        size = Math.max(0, count);
+        if (oldSize != 0 || size != 0) {
+            beginChange();
+            nextReplace(0, size, Collections.nCopies(oldSize, (S) null));
+            endChange();
+        }
+    }
+
+    private void pageFetched(int gen, int page, List<S> rows, Throwable error) {
+        if (gen != generation) return;
+
+        pendingPages.remove(page);
+        updateLoading();
+        if (error != null || rows == null) {
+            failedPages.add(page);
+            exception.set(error);
+            return;
+        }
+
+        pages.put(page, Collections.unmodifiableList(new ArrayList<>(rows)));
+
+        int from = page * pageSize;
+        int to = Math.min(size, from + Math.min(pageSize, rows.size()));
+        if (from < to) {
+            fireChange(new NonIterableChange.SimpleUpdateChange<>(from, to, this));
+        }
+    }
+
+    private void updateLoading() {
+        loading.set(countPending || !pendingPages.isEmpty());
+    }
+
+    private void execute(Runnable runnable) {
+        Executor e = getExecutor();
+        (e != null ? e : BackgroundLoader.getExecutor()).execute(runnable);
+    }
+}
@@ -27,7 +27,6 @@ package javafx.scene.control;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -35,7 +34,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.function.IntPredicate;
 
 import com.sun.javafx.logging.PlatformLogger.Level;
 import com.sun.javafx.scene.control.Logging;
@@ -463,6 +461,12 @@ public class TableView<S> extends Control {
                         }
                     }
                     return comparatorsBound;
+                } else if (itemsList instanceof TableDataProviderList) {
+                    // the rows are sorted by the data provider, so we only
+                    // need to pass the sort order on to it
+                    final TableView<?> tableView = table;
+                    ((TableDataProviderList<?>) itemsList).sort(tableView.getSortOrder());
+                    return true;
                 } else {
                     if (itemsList == null || itemsList.isEmpty()) {
                         // sorting is not supported on null or empty lists
@@ -2128,6 +2132,10 @@ public class TableView<S> extends Control {
                 @Override public boolean isCellSelectionEnabled() {
                     return TableViewArrayListSelectionModel.this.isCellSelectionEnabled();
                 }
+
+                @Override public TablePosition<S,?> createPosition(int row, TablePosition<S,?> position) {
+                    return new TablePosition<>(tableView, row, position.getTableColumn());
+                }
             };
 
             selectedCellsSeq = new ReadOnlyUnbackedObservableList<TablePosition<S,?>>() {
@@ -2138,6 +2146,10 @@ public class TableView<S> extends Control {
                 @Override public int size() {
                     return selectedCellsMap.size();
                 }
+
+                @Override public int indexOf(Object o) {
+                    return o instanceof TablePosition ? selectedCellsMap.indexOf((TablePosition<S,?>) o) : -1;
+                }
             };
 //            selectedCellsSeq.addListener((ListChangeListener<? super TablePosition<S,?>>) c -> {
 //                ControlUtils.updateSelectedIndices(this, c);
@@ -2364,42 +2376,12 @@ public class TableView<S> extends Control {
                 }
             }
 
-            shiftSelection(startRow, shift, new Callback<ShiftParams, Void>() {
-                @Override public Void call(ShiftParams param) {
-
-                    // we make the shifts atomic, as otherwise listeners to
-                    // the items / indices lists get a lot of intermediate
-                    // noise. They eventually get the summary event fired
-                    // from within shiftSelection, so this is ok.
-                    startAtomic();
-
-                    final int clearIndex = param.getClearIndex();
-                    final int setIndex = param.getSetIndex();
-                    TablePosition<S,?> oldTP = null;
-                    if (clearIndex > -1) {
-                        for (int i = 0; i < selectedCellsMap.size(); i++) {
-                            TablePosition<S,?> tp = selectedCellsMap.get(i);
-                            if (tp.getRow() == clearIndex) {
-                                oldTP = tp;
-                                selectedCellsMap.remove(tp);
-                            } else if (tp.getRow() == setIndex && !param.isSelected()) {
-                                selectedCellsMap.remove(tp);
-                            }
-                        }
-                    }
-
-                    if (oldTP != null && param.isSelected()) {
-                        TablePosition<S,?> newTP = new TablePosition<>(
-                                tableView, param.getSetIndex(), oldTP.getTableColumn());
-
-                        selectedCellsMap.add(newTP);
-                    }
-
-                    stopAtomic();
-
-                    return null;
-                }
-            });
+            // the selected cells are moved as ranges of rows, in the same way
+            // as the selected indices are moved by shiftSelection
+            if (startRow >= 0 && shift != 0) {
+                selectedCellsMap.shift(startRow, shift);
+            }
+            shiftSelection(startRow, shift);
 
             previousModelSize = getItemCount();
         }
@@ -2425,7 +2407,7 @@ public class TableView<S> extends Control {
 
             // firstly we make a copy of the selection, so that we can send out
             // the correct details in the selection change event.
-            List<TablePosition<S,?>> previousSelection = new ArrayList<>(selectedCellsMap.getSelectedCells());
+            List<TablePosition<S,?>> previousSelection = selectedCellsMap.getSnapshot();
 
             // secondly we check if we can short-circuit out of here because the new selection
             // equals the current selection
@@ -2460,11 +2442,10 @@ public class TableView<S> extends Control {
             if (isCellSelectionEnabled) {
                 previousSelection.remove(newTablePosition);
             } else {
-                for (TablePosition<S,?> tp : previousSelection) {
-                    if (tp.getRow() == row) {
-                        previousSelection.remove(tp);
-                        break;
-                    }
+                // the previous selection is sorted by row
+                int index = Collections.binarySearch(previousSelection, newTablePosition, Comparator.comparing(TablePosition::getRow));
+                if (index >= 0) {
+                    previousSelection.remove(index);
                 }
             }
 
@@ -2650,36 +2631,30 @@ public class TableView<S> extends Control {
         @Override public void selectAll() {
             if (getSelectionMode() == SelectionMode.SINGLE) return;
 
+            // all rows are selected as a single range, with the positions of
+            // the last row standing for those of every row
+            final int itemCount = getItemCount();
             if (isCellSelectionEnabled()) {
-                List<TablePosition<S,?>> indices = new ArrayList<>();
-                TableColumn<S,?> column;
-                TablePosition<S,?> tp = null;
-                for (int col = 0; col < getTableView().getVisibleLeafColumns().size(); col++) {
-                    column = getTableView().getVisibleLeafColumns().get(col);
-                    for (int row = 0; row < getItemCount(); row++) {
-                        tp = new TablePosition<>(getTableView(), row, column);
-                        indices.add(tp);
-                    }
+                List<TablePosition<S,?>> rowCells = new ArrayList<>();
+                for (TableColumn<S,?> column : getTableView().getVisibleLeafColumns()) {
+                    rowCells.add(new TablePosition<>(getTableView(), itemCount - 1, column));
                 }
-                selectedCellsMap.setAll(indices);
+                selectedCellsMap.setAll(0, itemCount, rowCells);
 
-                if (tp != null) {
+                if (itemCount > 0 && !rowCells.isEmpty()) {
+                    TablePosition<S,?> tp = rowCells.get(rowCells.size() - 1);
                     select(tp.getRow(), tp.getTableColumn());
                     focus(tp.getRow(), tp.getTableColumn());
                 }
             } else {
-                List<TablePosition<S,?>> indices = new ArrayList<>();
-                for (int i = 0; i < getItemCount(); i++) {
-                    indices.add(new TablePosition<>(getTableView(), i, null));
-                }
-                selectedCellsMap.setAll(indices);
+                TablePosition<S,?> tp = new TablePosition<>(getTableView(), itemCount - 1, null);
+                selectedCellsMap.setAll(0, itemCount, Collections.singletonList(tp));
 
                 int focusedIndex = getFocusedIndex();
                 if (focusedIndex == -1) {
-                    final int itemCount = getItemCount();
                     if (itemCount > 0) {
                         select(itemCount - 1);
-                        focus(indices.get(indices.size() - 1));
+                        focus(tp);
                     }
                 } else {
                     select(focusedIndex);
@@ -2709,16 +2684,19 @@ public class TableView<S> extends Control {
             final int _minRow = Math.min(minRow, maxRow);
             final int _maxRow = Math.max(minRow, maxRow);
 
-            List<TablePosition<S,?>> cellsToSelect = new ArrayList<>();
+            if (! isCellSelectionEnabled) {
+                // the rows which are not selected yet are added as ranges
+                final int fromRow = Math.max(0, _minRow);
+                final int toRow = Math.min(itemCount, _maxRow + 1);
+                selectedCellsMap.addAll(fromRow, toRow, new TablePosition<>(tableView, toRow - 1, (TableColumn<S,?>)minColumn));
+            } else {
+                List<TablePosition<S,?>> cellsToSelect = new ArrayList<>();
 
-            for (int _row = _minRow; _row <= _maxRow; _row++) {
-                // begin copy/paste of select(int, column) method (with some
-                // slight modifications)
-                if (_row < 0 || _row >= itemCount) continue;
+                for (int _row = _minRow; _row <= _maxRow; _row++) {
+                    // begin copy/paste of select(int, column) method (with some
+                    // slight modifications)
+                    if (_row < 0 || _row >= itemCount) continue;
 
-                if (! isCellSelectionEnabled) {
-                    cellsToSelect.add(new TablePosition<>(tableView, _row, (TableColumn<S,?>)minColumn));
-                } else {
                     for (int _col = _minColumnIndex; _col <= _maxColumnIndex; _col++) {
                         final TableColumn<S, ?> column = tableView.getVisibleLeafColumn(_col);
 
@@ -2730,13 +2708,13 @@ public class TableView<S> extends Control {
                         // end copy/paste
                     }
                 }
-            }
 
-            // to prevent duplication we remove all currently selected cells from
-            // our list of cells to select.
-            cellsToSelect.removeAll(getSelectedCells());
+                // to prevent duplication we remove all currently selected cells from
+                // our list of cells to select.
+                cellsToSelect.removeAll(getSelectedCells());
 
-            selectedCellsMap.addAll(cellsToSelect);
+                selectedCellsMap.addAll(cellsToSelect);
+            }
             stopAtomic();
 
             // fire off events.
@@ -2753,7 +2731,10 @@ public class TableView<S> extends Control {
                 final int startIndex = Math.min(startChangeIndex, endChangeIndex);
                 final int endIndex = Math.max(startChangeIndex, endChangeIndex);
 
-                ListChangeListener.Change c = new NonIterableChange.SimpleAddChange<>(startIndex, endIndex + 1, selectedCellsSeq);
+                // the change is on the list of the selected cells map, so that
+                // the added rows are found as ranges. It is reported on
+                // selectedCellsSeq by fireCustomSelectedCellsListChangeEvent.
+                ListChangeListener.Change c = new NonIterableChange.SimpleAddChange<>(startIndex, endIndex + 1, selectedCellsMap.getSelectedCells());
                 fireCustomSelectedCellsListChangeEvent(c);
 //                selectedCellsSeq.fireChange(() -> selectedCellsSeq._nextAdd(startIndex, endIndex + 1));
             }
@@ -2774,7 +2755,7 @@ public class TableView<S> extends Control {
             final boolean columnIsNull = tp.getTableColumn() == null;
 
             List<TablePosition> toRemove = new ArrayList<>();
-            for (TablePosition pos : getSelectedCells()) {
+            for (TablePosition pos : selectedCellsMap.getSelectedCells(row)) {
                 if (!csMode) {
                     if (pos.getRow() == row) {
                         toRemove.add(pos);
@@ -2800,7 +2781,7 @@ public class TableView<S> extends Control {
         }
 
         @Override public void clearSelection() {
-            final List<TablePosition<S,?>> removed = new ArrayList<>((Collection)getSelectedCells());
+            final List<TablePosition<S,?>> removed = selectedCellsMap.getSnapshot();
 
             quietClearSelection();
 
@@ -3034,11 +3015,7 @@ public class TableView<S> extends Control {
         }
 
         private void fireCustomSelectedCellsListChangeEvent(ListChangeListener.Change<? extends TablePosition<S,?>> c) {
-            // Allow removing the row index if cell selection is not enabled or
-            // if such row doesn't have any selected cells
-            IntPredicate removeRowFilter = row -> !isCellSelectionEnabled() ||
-                    getSelectedCells().stream().noneMatch(tp -> tp.getRow() == row);
-            ControlUtils.updateSelectedIndices(this, this.isCellSelectionEnabled(), c, removeRowFilter);
+            ControlUtils.updateSelectedIndices(this, this.isCellSelectionEnabled(), c, selectedCellsMap);
 
             if (isAtomic()) {
                 return;
@@ -49,6 +49,7 @@ import javafx.css.StyleableProperty;
 import com.sun.javafx.binding.ExpressionHelper;
 import com.sun.javafx.collections.ListListenerHelper;
 import com.sun.javafx.collections.NonIterableChange;
+import com.sun.javafx.scene.control.TextAreaHelper;
 import javafx.css.converter.SizeConverter;
 import javafx.scene.control.skin.TextAreaSkin;
 
@@ -84,56 +85,71 @@ import javafx.scene.AccessibleRole;
  * @since JavaFX 2.0
  */
 public class TextArea extends TextInputControl {
+    static {
+        TextAreaHelper.setTextAreaAccessor(new TextAreaHelper.TextAreaAccessor() {
+            @Override
+            public int getParagraphIndex(TextArea textArea, int offset) {
+                return ((TextAreaContent)textArea.getContent()).getParagraphIndex(offset);
+            }
+
+            @Override
+            public int getParagraphOffset(TextArea textArea, int paragraphIndex) {
+                return ((TextAreaContent)textArea.getContent()).getParagraphOffset(paragraphIndex);
+            }
+        });
+    }
+
     // Text area content model
     private static final class TextAreaContent implements Content {
         private ExpressionHelper<String> helper = null;
-        private ArrayList<StringBuilder> paragraphs = new ArrayList<StringBuilder>();
+        private ArrayList<CharSequence> paragraphs = new ArrayList<CharSequence>();
         private int contentLength = 0;
         private ParagraphList paragraphList = new ParagraphList();
         private ListListenerHelper<CharSequence> listenerHelper;
 
+        // A Fenwick tree, 1-based, over the length of each paragraph plus
+        // its line separator, mapping between offsets and paragraphs in
+        // O(log n). It is rebuilt lazily after paragraphs were added or removed.
+        private int[] offsetTree = new int[0];
+        private boolean offsetTreeValid = false;
+
+        // The complete text, cached until the content changes
+        private String cachedText = "";
+
         private TextAreaContent() {
             paragraphs.add(new StringBuilder(DEFAULT_PARAGRAPH_CAPACITY));
             paragraphList.content = this;
         }
 
         @Override public String get(int start, int end) {
+            if (cachedText != null) {
+                return cachedText.substring(start, end);
+            }
+
             int length = end - start;
             StringBuilder textBuilder = new StringBuilder(length);
 
-            int paragraphCount = paragraphs.size();
-
-            int paragraphIndex = 0;
-            int offset = start;
-
-            while (paragraphIndex < paragraphCount) {
-                StringBuilder paragraph = paragraphs.get(paragraphIndex);
-                int count = paragraph.length() + 1;
-
-                if (offset < count) {
-                    break;
-                }
-
-                offset -= count;
-                paragraphIndex++;
-            }
+            int paragraphIndex = getParagraphIndex(start);
+            int offset = start - getParagraphOffset(paragraphIndex);
 
             // Read characters until end is reached, appending to text builder
             // and moving to next paragraph as needed
-            StringBuilder paragraph = paragraphs.get(paragraphIndex);
+            while (length > 0) {
+                CharSequence paragraph = paragraphs.get(paragraphIndex);
+                int count = Math.min(length, paragraph.length() - offset);
+                if (paragraph instanceof TextSlice) {
+                    ((TextSlice)paragraph).appendTo(textBuilder, offset, offset + count);
+                } else {
+                    textBuilder.append(paragraph, offset, offset + count);
+                }
+                length -= count;
 
-            int i = 0;
-            while (i < length) {
-                if (offset == paragraph.length()
-                    && i < contentLength) {
+                if (length > 0) {
                     textBuilder.append('\n');
-                    paragraph = paragraphs.get(++paragraphIndex);
+                    length--;
+                    paragraphIndex++;
                     offset = 0;
-                } else {
-                    textBuilder.append(paragraph.charAt(offset++));
                 }
-
-                i++;
             }
 
             return textBuilder.toString();
@@ -153,62 +169,57 @@ public class TextArea extends TextInputControl {
             text = TextInputControl.filterInput(text, false, false);
             int length = text.length();
             if (length > 0) {
-                // Split the text into lines
-                ArrayList<StringBuilder> lines = new ArrayList<StringBuilder>();
+                // When the content was empty, the inserted text is the new content
+                cachedText = (contentLength == 0) ? text : null;
 
-                StringBuilder line = new StringBuilder(DEFAULT_PARAGRAPH_CAPACITY);
-                for (int i = 0; i < length; i++) {
-                    char c = text.charAt(i);
+                // Find the intersecting paragraph
+                int paragraphIndex = getParagraphIndex(index);
+                int start = index - getParagraphOffset(paragraphIndex);
+                CharSequence oldParagraph = paragraphs.get(paragraphIndex);
 
-                    if (c == '\n') {
-                        lines.add(line);
-                        line = new StringBuilder(DEFAULT_PARAGRAPH_CAPACITY);
-                    } else {
-                        line.append(c);
-                    }
-                }
-
-                lines.add(line);
-
-                // Merge the text into the existing content
-                // Merge the text into the existing content
-                int paragraphIndex = paragraphs.size();
-                int offset = contentLength + 1;
-
-                StringBuilder paragraph = null;
-
-                do {
-                    paragraph = paragraphs.get(--paragraphIndex);
-                    offset -= paragraph.length() + 1;
-                } while (index < offset);
-
-                int start = index - offset;
-
-                int n = lines.size();
-                if (n == 1) {
+                int lineEnd = text.indexOf('\n');
+                if (lineEnd < 0) {
                     // The text contains only a single line; insert it into the
                     // intersecting paragraph
-                    paragraph.insert(start, line);
+                    StringBuilder paragraph = getEditableParagraph(paragraphIndex);
+                    paragraph.insert(start, text);
+                    updateParagraphLength(paragraphIndex, length);
                     fireParagraphListChangeEvent(paragraphIndex, paragraphIndex + 1,
-                        Collections.singletonList((CharSequence)paragraph));
+                        Collections.singletonList(oldParagraph));
                 } else {
                     // The text contains multiple line; split the intersecting
-                    // paragraph
-                    int end = paragraph.length();
-                    CharSequence trailingText = paragraph.subSequence(start, end);
-                    paragraph.delete(start, end);
-
-                    // Append the first line to the intersecting paragraph and
-                    // append the trailing text to the last line
-                    StringBuilder first = lines.get(0);
-                    paragraph.insert(start, first);
-                    line.append(trailingText);
+                    // paragraph and append the first line to it
+                    StringBuilder paragraph = getEditableParagraph(paragraphIndex);
+                    String trailingText = paragraph.substring(start);
+                    paragraph.setLength(start);
+                    paragraph.append(text, 0, lineEnd);
+                    offsetTreeValid = false;
                     fireParagraphListChangeEvent(paragraphIndex, paragraphIndex + 1,
-                        Collections.singletonList((CharSequence)paragraph));
+                        Collections.singletonList(oldParagraph));
+
+                    // The remaining lines share the characters of the text
+                    // until they are edited; the last line also receives the
+                    // trailing text of the split paragraph
+                    ArrayList<CharSequence> lines = new ArrayList<CharSequence>();
+                    int lineStart = lineEnd + 1;
+                    while ((lineEnd = text.indexOf('\n', lineStart)) >= 0) {
+                        lines.add(new TextSlice(text, lineStart, lineEnd));
+                        lineStart = lineEnd + 1;
+                    }
+
+                    if (trailingText.isEmpty()) {
+                        lines.add(new TextSlice(text, lineStart, length));
+                    } else {
+                        StringBuilder line = new StringBuilder(length - lineStart
+                            + trailingText.length() + DEFAULT_PARAGRAPH_CAPACITY);
+                        line.append(text, lineStart, length);
+                        line.append(trailingText);
+                        lines.add(line);
+                    }
 
                     // Insert the remaining lines into the paragraph list
-                    paragraphs.addAll(paragraphIndex + 1, lines.subList(1, n));
-                    fireParagraphListChangeEvent(paragraphIndex + 1, paragraphIndex + n,
+                    paragraphs.addAll(paragraphIndex + 1, lines);
+                    fireParagraphListChangeEvent(paragraphIndex + 1, paragraphIndex + 1 + lines.size(),
                         Collections.EMPTY_LIST);
                 }
 
@@ -233,66 +244,49 @@ public class TextArea extends TextInputControl {
             int length = end - start;
 
             if (length > 0) {
-                // Identify the trailing paragraph index
-                int paragraphIndex = paragraphs.size();
-                int offset = contentLength + 1;
-
-                StringBuilder paragraph = null;
-
-                do {
-                    paragraph = paragraphs.get(--paragraphIndex);
-                    offset -= paragraph.length() + 1;
-                } while (end < offset);
-
-                int trailingParagraphIndex = paragraphIndex;
-                int trailingOffset = offset;
-                StringBuilder trailingParagraph = paragraph;
+                cachedText = null;
 
-                // Identify the leading paragraph index
-                paragraphIndex++;
-                offset += paragraph.length() + 1;
+                // Identify the leading and trailing paragraphs
+                int leadingParagraphIndex = getParagraphIndex(start);
+                int leadingOffset = getParagraphOffset(leadingParagraphIndex);
+                CharSequence leadingParagraph = paragraphs.get(leadingParagraphIndex);
 
-                do {
-                    paragraph = paragraphs.get(--paragraphIndex);
-                    offset -= paragraph.length() + 1;
-                } while (start < offset);
-
-                int leadingParagraphIndex = paragraphIndex;
-                int leadingOffset = offset;
-                StringBuilder leadingParagraph = paragraph;
+                int trailingParagraphIndex = getParagraphIndex(end);
+                int trailingOffset = getParagraphOffset(trailingParagraphIndex);
 
                 // Remove the text
                 if (leadingParagraphIndex == trailingParagraphIndex) {
                     // The removal affects only a single paragraph
-                    leadingParagraph.delete(start - leadingOffset,
-                        end - leadingOffset);
+                    StringBuilder paragraph = getEditableParagraph(leadingParagraphIndex);
+                    paragraph.delete(start - leadingOffset, end - leadingOffset);
+                    updateParagraphLength(leadingParagraphIndex, -length);
 
                     fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex + 1,
-                        Collections.singletonList((CharSequence)leadingParagraph));
+                        Collections.singletonList(leadingParagraph));
                 } else {
                     // The removal spans paragraphs; remove any intervening paragraphs and
                     // merge the leading and trailing segments
                     CharSequence leadingSegment = leadingParagraph.subSequence(0,
                         start - leadingOffset);
-                    int trailingSegmentLength = (start + length) - trailingOffset;
 
-                    trailingParagraph.delete(0, trailingSegmentLength);
+                    CharSequence oldTrailingParagraph = paragraphs.get(trailingParagraphIndex);
+                    StringBuilder trailingParagraph = getEditableParagraph(trailingParagraphIndex);
+                    trailingParagraph.delete(0, end - trailingOffset);
+                    offsetTreeValid = false;
                     fireParagraphListChangeEvent(trailingParagraphIndex, trailingParagraphIndex + 1,
-                        Collections.singletonList((CharSequence)trailingParagraph));
-
-                    if (trailingParagraphIndex - leadingParagraphIndex > 0) {
-                        List<CharSequence> removed = new ArrayList<CharSequence>(paragraphs.subList(leadingParagraphIndex,
-                            trailingParagraphIndex));
-                        paragraphs.subList(leadingParagraphIndex,
-                            trailingParagraphIndex).clear();
-                        fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex,
-                            removed);
-                    }
+                        Collections.singletonList(oldTrailingParagraph));
+
+                    List<CharSequence> removed = new ArrayList<CharSequence>(paragraphs.subList(leadingParagraphIndex,
+                        trailingParagraphIndex));
+                    paragraphs.subList(leadingParagraphIndex,
+                        trailingParagraphIndex).clear();
+                    fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex,
+                        removed);
 
                     // Trailing paragraph is now at the former leading paragraph's index
                     trailingParagraph.insert(0, leadingSegment);
                     fireParagraphListChangeEvent(leadingParagraphIndex, leadingParagraphIndex + 1,
-                        Collections.singletonList((CharSequence)leadingParagraph));
+                        Collections.singletonList(leadingParagraph));
                 }
 
                 // Update content length
@@ -308,7 +302,10 @@ public class TextArea extends TextInputControl {
         }
 
         @Override public String get() {
-            return get(0, length());
+            if (cachedText == null) {
+                cachedText = get(0, length());
+            }
+            return cachedText;
         }
 
         @Override public void addListener(ChangeListener<? super String> changeListener) {
@@ -331,12 +328,135 @@ public class TextArea extends TextInputControl {
             helper = ExpressionHelper.removeListener(helper, listener);
         }
 
+        /**
+         * Returns the index of the paragraph containing the given offset, the
+         * line separator at the end of a paragraph being part of it.
+         */
+        private int getParagraphIndex(int offset) {
+            validateOffsetTree();
+
+            // Descend the tree, skipping the paragraphs ending at or before offset
+            int n = paragraphs.size();
+            int paragraphIndex = 0;
+            for (int step = Integer.highestOneBit(n); step > 0; step >>= 1) {
+                int next = paragraphIndex + step;
+                if (next <= n && offsetTree[next] <= offset) {
+                    paragraphIndex = next;
+                    offset -= offsetTree[next];
+                }
+            }
+            return Math.min(paragraphIndex, n - 1);
+        }
+
+        /**
+         * Returns the offset of the first character of the given paragraph.
+         */
+        private int getParagraphOffset(int paragraphIndex) {
+            validateOffsetTree();
+
+            int offset = 0;
+            for (int i = Math.min(paragraphIndex, paragraphs.size()); i > 0; i -= (i & -i)) {
+                offset += offsetTree[i];
+            }
+            return offset;
+        }
+
+        private void updateParagraphLength(int paragraphIndex, int delta) {
+            if (offsetTreeValid) {
+                for (int i = paragraphIndex + 1, n = paragraphs.size(); i <= n; i += (i & -i)) {
+                    offsetTree[i] += delta;
+                }
+            }
+        }
+
+        private void validateOffsetTree() {
+            if (offsetTreeValid) {
+                return;
+            }
+
+            int n = paragraphs.size();
+            if (offsetTree.length <= n) {
+                offsetTree = new int[n + (n >> 1) + 1];
+            }
+            for (int i = 0; i < n; i++) {
+                offsetTree[i + 1] = paragraphs.get(i).length() + 1;
+            }
+            // Linear time construction, push each node into its parent
+            for (int i = 1; i <= n; i++) {
+                int parent = i + (i & -i);
+                if (parent <= n) {
+                    offsetTree[parent] += offsetTree[i];
+                }
+            }
+            offsetTreeValid = true;
+        }
+
+        /**
+         * Returns the given paragraph as a StringBuilder, copying it first if
+         * it still shares the characters of the text it was inserted with.
+         */
+        private StringBuilder getEditableParagraph(int paragraphIndex) {
+            CharSequence paragraph = paragraphs.get(paragraphIndex);
+            if (paragraph instanceof StringBuilder) {
+                return (StringBuilder)paragraph;
+            }
+
+            StringBuilder editableParagraph = new StringBuilder(paragraph.length() + DEFAULT_PARAGRAPH_CAPACITY);
+            editableParagraph.append(paragraph);
+            paragraphs.set(paragraphIndex, editableParagraph);
+            return editableParagraph;
+        }
+
         private void fireParagraphListChangeEvent(int from, int to, List<CharSequence> removed) {
             ParagraphListChange change = new ParagraphListChange(paragraphList, from, to, removed);
             ListListenerHelper.fireValueChangedEvent(listenerHelper, change);
         }
     }
 
+    // A paragraph which has not been edited since it was inserted, sharing
+    // the characters of the inserted text
+    private static final class TextSlice implements CharSequence {
+        private final String text;
+        private final int start;
+        private final int end;
+
+        private TextSlice(String text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("index: " + index);
+            }
+            return text.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > end - start || from > to) {
+                throw new IndexOutOfBoundsException("from: " + from + ", to: " + to);
+            }
+            return text.substring(start + from, start + to);
+        }
+
+        private void appendTo(StringBuilder builder, int from, int to) {
+            builder.append(text, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return text.substring(start, end);
+        }
+    }
+
     // Observable list of paragraphs
     private static final class ParagraphList extends AbstractList<CharSequence>
             implements ObservableList<CharSequence> {
@@ -146,18 +146,19 @@ public abstract class TextInputControl extends Control {
             text.controlContentHasChanged();
         });
 
-        // Bind the length to be based on the length of the text property
+        // Bind the length to be based on the length of the text property.
+        // The content is always up to date and a null text has an empty
+        // content, so there is no need to get the text itself.
         length.bind(new IntegerBinding() {
             { bind(text); }
             @Override protected int computeValue() {
-                String txt = text.get();
-                return txt == null ? 0 : txt.length();
+                return content.length();
             }
         });
 
         // Bind the selected text to be based on the selection and text properties
         selection.addListener((ob, o, n) -> updateSelectedText());
-        text.addListener((ob, o, n) -> updateSelectedText());
+        text.addListener(o -> updateSelectedText());
 
         focusedProperty().addListener((ob, o, n) -> {
             if (n) {
@@ -175,21 +176,20 @@ public abstract class TextInputControl extends Control {
 
     private void updateSelectedText() {
         if (!blockSelectedTextUpdate) {
-            String txt = text.get();
             IndexRange sel = selection.get();
-            if (txt == null || sel == null) {
+            if (text.textIsNull || sel == null) {
                 selectedText.set("");
             } else {
                 int start = sel.getStart();
                 int end = sel.getEnd();
-                int length = txt.length();
+                int length = content.length();
                 if (end > start + length) {
                     end = length;
                 }
                 if (start > length - 1) {
                     start = end = 0;
                 }
-                selectedText.set(txt.substring(start, end));
+                selectedText.set(content.get(start, end));
             }
         }
     }
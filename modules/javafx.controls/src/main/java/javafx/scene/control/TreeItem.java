@@ -366,6 +366,14 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         new EventHandler<TreeModificationEvent<Object>>() {
             @Override public void handle(TreeModificationEvent<Object> event) {
                 expandedDescendentCountDirty = true;
+
+                // The event passes through each ancestor of the item it was
+                // fired on, so each of them only needs to tell its own parent
+                // that its number of rows may have changed
+                TreeItem<T> parent = getParent();
+                if (parent != null) {
+                    parent.childRowCountChanged(TreeItem.this);
+                }
             }
     };
 
@@ -404,6 +412,31 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // when all children are collapsed.
     int previousExpandedDescendentCount = 1;
 
+    // A Fenwick tree (1-based) over the number of rows taken by each child,
+    // that is 1 for a collapsed child and its expanded descendent count
+    // otherwise. This allows TreeView to map between rows and tree items in
+    // O(log n) per level, and allows the expanded descendent count to be
+    // updated in O(log n) when the row count of a single child changes,
+    // rather than by iterating over all children. A null value means the
+    // tree must be rebuilt from the children.
+    private int[] childRowTree;
+
+    // The number of rows taken by each child, as recorded in childRowTree
+    private int[] childRowCounts;
+
+    // The children whose number of rows may have changed since childRowTree
+    // was last updated, or null if there are none. This is only allocated
+    // when needed, as most TreeItems are leaves or collapsed.
+    private List<TreeItem<T>> changedChildren;
+
+    // Whether this TreeItem is in the changedChildren list of its parent
+    private boolean rowCountChanged;
+
+    // The index of this TreeItem in the children of its parent, as recorded
+    // when the parent last rebuilt its childRowTree. This is only a hint,
+    // which must be verified before use.
+    private int indexInParent = -1;
+
     Comparator<TreeItem<T>> lastComparator = null;
     TreeSortMode lastSortMode = null;
 
@@ -422,6 +455,8 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // called whenever the contents of the children sequence changes
     private ListChangeListener<TreeItem<T>> childrenListener = c -> {
         expandedDescendentCountDirty = true;
+        childRowTree = null;
+        clearChangedChildren();
         updateChildren(c);
     };
 
@@ -912,14 +947,150 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
         ignoreSortUpdate = true;
         if (!isLeaf() && isExpanded()) {
-            for (TreeItem<T> child : getChildren()) {
-                if (child == null) continue;
-                expandedDescendentCount += child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
-            }
+            expandedDescendentCount += updateChildRowTree(getChildren(), reset);
         }
         ignoreSortUpdate = false;
     }
 
+    // Brings childRowTree up to date and returns the total number of rows
+    // taken by the children. Only the children recorded as changed are
+    // visited, unless the tree must be rebuilt.
+    private int updateChildRowTree(List<TreeItem<T>> children, boolean reset) {
+        final int size = children.size();
+
+        boolean rebuild = reset || childRowTree == null || childRowCounts.length != size;
+        if (!rebuild && changedChildren != null) {
+            for (int i = 0, max = changedChildren.size(); i < max; i++) {
+                TreeItem<T> child = changedChildren.get(i);
+                child.rowCountChanged = false;
+
+                int index = child.indexInParent;
+                if (index < 0 || index >= size || children.get(index) != child) {
+                    rebuild = true;
+                    break;
+                }
+
+                int delta = getChildRowCount(child, false) - childRowCounts[index];
+                if (delta != 0) {
+                    childRowCounts[index] += delta;
+                    for (int j = index + 1; j <= size; j += (j & -j)) {
+                        childRowTree[j] += delta;
+                    }
+                }
+            }
+        }
+
+        clearChangedChildren();
+
+        if (rebuild) {
+            childRowCounts = new int[size];
+            childRowTree = new int[size + 1];
+            for (int i = 0; i < size; i++) {
+                TreeItem<T> child = children.get(i);
+                if (child != null) {
+                    child.indexInParent = i;
+                    childRowCounts[i] = getChildRowCount(child, reset);
+                }
+
+                // Linear time construction, push each node into its parent
+                int node = i + 1;
+                childRowTree[node] += childRowCounts[i];
+                int parent = node + (node & -node);
+                if (parent <= size) {
+                    childRowTree[parent] += childRowTree[node];
+                }
+            }
+        }
+
+        return getChildRowOffset(size);
+    }
+
+    private static int getChildRowCount(TreeItem<?> child, boolean reset) {
+        if (child == null) return 0;
+        return child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+    }
+
+    // Called when the number of rows taken by the given child may have
+    // changed, to record that its entry in childRowTree needs updating.
+    private void childRowCountChanged(TreeItem<T> child) {
+        if (childRowTree == null || child.rowCountChanged) return;
+
+        if (changedChildren == null) {
+            changedChildren = new ArrayList<>();
+        } else if (changedChildren.size() > childRowCounts.length / 4) {
+            // Rebuilding the tree is cheaper than updating it
+            clearChangedChildren();
+            childRowTree = null;
+            return;
+        }
+        child.rowCountChanged = true;
+        changedChildren.add(child);
+    }
+
+    private void clearChangedChildren() {
+        if (changedChildren != null) {
+            for (TreeItem<T> child : changedChildren) {
+                child.rowCountChanged = false;
+            }
+            changedChildren = null;
+        }
+    }
+
+    // Makes sure the childRowTree is up to date. This goes directly to the
+    // children field rather than via getChildren(), as the latter may be
+    // expensive, or may even be in the process of populating the children
+    // when TreeView asks for the row of one of them (RT-37502).
+    private void validateChildRowTree() {
+        if (childRowTree == null || changedChildren != null) {
+            updateChildRowTree(children == null ? Collections.emptyList() : children, false);
+        }
+    }
+
+    // Returns the number of rows taken by the children before the child at
+    // the given index. Package accessible so that it may be used from TreeUtil.
+    int getChildRowOffset(int index) {
+        validateChildRowTree();
+        int offset = 0;
+        for (int i = Math.min(index, childRowCounts.length); i > 0; i -= (i & -i)) {
+            offset += childRowTree[i];
+        }
+        return offset;
+    }
+
+    // Returns the index of the child that contains the given row, where row 0
+    // is the first child, or -1 if the row is beyond the last child. Package
+    // accessible so that it may be used from TreeUtil.
+    int getChildIndexAtRow(int row) {
+        validateChildRowTree();
+        if (row < 0) return -1;
+
+        // Descend the tree, accumulating the largest prefix that still ends
+        // at or before the row
+        final int size = childRowCounts.length;
+        int pos = 0;
+        for (int step = Integer.highestOneBit(Math.max(1, size)); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next <= size && childRowTree[next] <= row) {
+                pos = next;
+                row -= childRowTree[next];
+            }
+        }
+        return pos < size ? pos : -1;
+    }
+
+    // Returns the index of the given child in the children of this TreeItem,
+    // or -1 if it is not a child. Package accessible so that it may be used
+    // from TreeUtil.
+    int getChildIndex(TreeItem<T> child) {
+        if (children == null || child == null) return -1;
+        validateChildRowTree();
+        int index = child.indexInParent;
+        if (index >= 0 && index < children.size() && children.get(index) == child) {
+            return index;
+        }
+        return children.indexOf(child);
+    }
+
     private void updateChildren(ListChangeListener.Change<? extends TreeItem<T>> c) {
         setLeaf(children.isEmpty());
 
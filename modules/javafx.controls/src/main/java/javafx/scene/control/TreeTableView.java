@@ -28,7 +28,6 @@ package javafx.scene.control;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -38,7 +37,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
-import java.util.function.IntPredicate;
 
 import javafx.application.Platform;
 import javafx.beans.DefaultProperty;
@@ -1647,7 +1645,7 @@ public class TreeTableView<S> extends Control {
      *      collapsed).
      */
     public int getRow(TreeItem<S> item) {
-        return TreeUtil.getRow(item, getRoot(), expandedItemCountDirty, isShowRoot());
+        return TreeUtil.getRow(item, getRoot(), isShowRoot());
     }
 
     /**
@@ -1674,7 +1672,7 @@ public class TreeTableView<S> extends Control {
             }
         }
 
-        TreeItem<S> treeItem = TreeUtil.getItem(getRoot(), _row, expandedItemCountDirty);
+        TreeItem<S> treeItem = TreeUtil.getItem(getRoot(), _row);
         treeItemCacheMap.put(_row, new SoftReference<>(treeItem));
         return treeItem;
     }
@@ -2447,6 +2445,10 @@ public class TreeTableView<S> extends Control {
                 @Override public boolean isCellSelectionEnabled() {
                     return TreeTableViewArrayListSelectionModel.this.isCellSelectionEnabled();
                 }
+
+                @Override public TreeTablePosition<S,?> createPosition(int row, TreeTablePosition<S,?> position) {
+                    return new TreeTablePosition<>(treeTableView, row, position.getTableColumn());
+                }
             };
 
             selectedCellsSeq = new ReadOnlyUnbackedObservableList<TreeTablePosition<S,?>>() {
@@ -2457,6 +2459,10 @@ public class TreeTableView<S> extends Control {
                 @Override public int size() {
                     return selectedCellsMap.size();
                 }
+
+                @Override public int indexOf(Object o) {
+                    return o instanceof TreeTablePosition ? selectedCellsMap.indexOf((TreeTablePosition<S,?>) o) : -1;
+                }
             };
 //            selectedCellsSeq.addListener((ListChangeListener<? super TreeTablePosition<S,?>>) c -> {
 //                ControlUtils.updateSelectedIndices(this, c);
@@ -2498,7 +2504,7 @@ public class TreeTableView<S> extends Control {
         };
 
         private InvalidationListener showRootPropertyListener = o -> {
-            shiftSelection(0, treeTableView.isShowRoot() ? 1 : -1, null);
+            shiftSelection(0, treeTableView.isShowRoot() ? 1 : -1);
         };
 
         private EventHandler<TreeItem.TreeModificationEvent<S>> treeItemListener = new EventHandler<>() {
@@ -2703,42 +2709,12 @@ public class TreeTableView<S> extends Control {
                 } while (e.getChange() != null && e.getChange().next());
 
                 if (shift != 0) {
-                    shiftSelection(startRow, shift, new Callback<ShiftParams, Void>() {
-                        @Override public Void call(ShiftParams param) {
-
-                            // we make the shifts atomic, as otherwise listeners to
-                            // the items / indices lists get a lot of intermediate
-                            // noise. They eventually get the summary event fired
-                            // from within shiftSelection, so this is ok.
-                            startAtomic();
-
-                            final int clearIndex = param.getClearIndex();
-                            final int setIndex = param.getSetIndex();
-                            TreeTablePosition<S,?> oldTP = null;
-                            if (clearIndex > -1) {
-                                for (int i = 0; i < selectedCellsMap.size(); i++) {
-                                    TreeTablePosition<S,?> tp = selectedCellsMap.get(i);
-                                    if (tp.getRow() == clearIndex) {
-                                        oldTP = tp;
-                                        selectedCellsMap.remove(tp);
-                                    } else if (tp.getRow() == setIndex && !param.isSelected()) {
-                                        selectedCellsMap.remove(tp);
-                                    }
-                                }
-                            }
-
-                            if (oldTP != null && param.isSelected()) {
-                                TreeTablePosition<S,?> newTP = new TreeTablePosition<>(
-                                        treeTableView, param.getSetIndex(), oldTP.getTableColumn());
-
-                                selectedCellsMap.add(newTP);
-                            }
-
-                            stopAtomic();
-
-                            return null;
-                        }
-                    });
+                    // the selected cells are moved as ranges of rows, in the
+                    // same way as the selected indices are moved by shiftSelection
+                    if (startRow >= 0) {
+                        selectedCellsMap.shift(startRow, shift);
+                    }
+                    shiftSelection(startRow, shift);
                 }
             }
         };
@@ -2795,7 +2771,7 @@ public class TreeTableView<S> extends Control {
 
             // firstly we make a copy of the selection, so that we can send out
             // the correct details in the selection change event.
-            List<TreeTablePosition<S,?>> previousSelection = new ArrayList<>(selectedCellsMap.getSelectedCells());
+            List<TreeTablePosition<S,?>> previousSelection = selectedCellsMap.getSnapshot();
 
             // secondly we check if we can short-circuit out of here because the new selection
             // equals the current selection
@@ -2829,11 +2805,10 @@ public class TreeTableView<S> extends Control {
             if (isCellSelectionEnabled) {
                 previousSelection.remove(newTablePosition);
             } else {
-                for (TreeTablePosition<S,?> tp : previousSelection) {
-                    if (tp.getRow() == row) {
-                        previousSelection.remove(tp);
-                        break;
-                    }
+                // the previous selection is sorted by row
+                int index = Collections.binarySearch(previousSelection, newTablePosition, Comparator.comparing(TreeTablePosition::getRow));
+                if (index >= 0) {
+                    previousSelection.remove(index);
                 }
             }
 
@@ -3010,36 +2985,31 @@ public class TreeTableView<S> extends Control {
         @Override public void selectAll() {
             if (getSelectionMode() == SelectionMode.SINGLE) return;
 
+            // all rows are selected as a single range, with the positions of
+            // the last row standing for those of every row
+            final int rowCount = getRowCount();
             if (isCellSelectionEnabled()) {
-                List<TreeTablePosition<S,?>> indices = new ArrayList<>();
-                TreeTableColumn<S,?> column;
-                TreeTablePosition<S,?> tp = null;
-                for (int col = 0; col < getTreeTableView().getVisibleLeafColumns().size(); col++) {
-                    column = getTreeTableView().getVisibleLeafColumns().get(col);
-                    for (int row = 0; row < getRowCount(); row++) {
-                        tp = new TreeTablePosition<>(getTreeTableView(), row, column);
-                        indices.add(tp);
-                    }
+                List<TreeTablePosition<S,?>> rowCells = new ArrayList<>();
+                for (TreeTableColumn<S,?> column : getTreeTableView().getVisibleLeafColumns()) {
+                    rowCells.add(new TreeTablePosition<>(getTreeTableView(), rowCount - 1, column));
                 }
-                selectedCellsMap.setAll(indices);
+                selectedCellsMap.setAll(0, rowCount, rowCells);
 
-                if (tp != null) {
+                if (rowCount > 0 && !rowCells.isEmpty()) {
+                    TreeTablePosition<S,?> tp = rowCells.get(rowCells.size() - 1);
                     select(tp.getRow(), tp.getTableColumn());
                     focus(tp.getRow(), tp.getTableColumn());
                 }
             } else {
-                List<TreeTablePosition<S,?>> indices = new ArrayList<>();
-                for (int i = 0; i < getRowCount(); i++) {
-                    indices.add(new TreeTablePosition<>(getTreeTableView(), i, null));
-                }
-                selectedCellsMap.setAll(indices);
+                TreeTablePosition<S,?> tp = new TreeTablePosition<>(getTreeTableView(), rowCount - 1, null);
+                selectedCellsMap.setAll(0, rowCount, Collections.singletonList(tp));
 
                 int focusedIndex = getFocusedIndex();
                 if (focusedIndex == -1) {
                     final int itemCount = getItemCount();
                     if (itemCount > 0) {
                         select(itemCount - 1);
-                        focus(indices.get(indices.size() - 1));
+                        focus(tp);
                     }
                 } else {
                     select(focusedIndex);
@@ -3069,16 +3039,19 @@ public class TreeTableView<S> extends Control {
             final int _minRow = Math.min(minRow, maxRow);
             final int _maxRow = Math.max(minRow, maxRow);
 
-            List<TreeTablePosition<S,?>> cellsToSelect = new ArrayList<>();
+            if (! isCellSelectionEnabled) {
+                // the rows which are not selected yet are added as ranges
+                final int fromRow = Math.max(0, _minRow);
+                final int toRow = Math.min(itemCount, _maxRow + 1);
+                selectedCellsMap.addAll(fromRow, toRow, new TreeTablePosition<>(treeTableView, toRow - 1, (TreeTableColumn<S,?>)minColumn));
+            } else {
+                List<TreeTablePosition<S,?>> cellsToSelect = new ArrayList<>();
 
-            for (int _row = _minRow; _row <= _maxRow; _row++) {
-                // begin copy/paste of select(int, column) method (with some
-                // slight modifications)
-                if (_row < 0 || _row >= itemCount) continue;
+                for (int _row = _minRow; _row <= _maxRow; _row++) {
+                    // begin copy/paste of select(int, column) method (with some
+                    // slight modifications)
+                    if (_row < 0 || _row >= itemCount) continue;
 
-                if (! isCellSelectionEnabled) {
-                    cellsToSelect.add(new TreeTablePosition<>(treeTableView, _row, (TreeTableColumn<S,?>)minColumn));
-                } else {
                     for (int _col = _minColumnIndex; _col <= _maxColumnIndex; _col++) {
                         final TreeTableColumn<S, ?> column = treeTableView.getVisibleLeafColumn(_col);
 
@@ -3090,13 +3063,13 @@ public class TreeTableView<S> extends Control {
                         // end copy/paste
                     }
                 }
-            }
 
-            // to prevent duplication we remove all currently selected cells from
-            // our list of cells to select.
-            cellsToSelect.removeAll(getSelectedCells());
+                // to prevent duplication we remove all currently selected cells from
+                // our list of cells to select.
+                cellsToSelect.removeAll(getSelectedCells());
 
-            selectedCellsMap.addAll(cellsToSelect);
+                selectedCellsMap.addAll(cellsToSelect);
+            }
             stopAtomic();
 
             // fire off events
@@ -3113,7 +3086,10 @@ public class TreeTableView<S> extends Control {
                 final int startIndex = Math.min(startChangeIndex, endChangeIndex);
                 final int endIndex = Math.max(startChangeIndex, endChangeIndex);
 
-                ListChangeListener.Change c = new NonIterableChange.SimpleAddChange<>(startIndex, endIndex + 1, selectedCellsSeq);
+                // the change is on the list of the selected cells map, so that
+                // the added rows are found as ranges. It is reported on
+                // selectedCellsSeq by fireCustomSelectedCellsListChangeEvent.
+                ListChangeListener.Change c = new NonIterableChange.SimpleAddChange<>(startIndex, endIndex + 1, selectedCellsMap.getSelectedCells());
                 fireCustomSelectedCellsListChangeEvent(c);
 //                selectedCellsSeq.fireChange(() -> selectedCellsSeq._nextAdd(startIndex, endIndex + 1));
             }
@@ -3134,7 +3110,7 @@ public class TreeTableView<S> extends Control {
             final boolean columnIsNull = tp.getTableColumn() == null;
 
             List<TreeTablePosition> toRemove = new ArrayList<>();
-            for (TreeTablePosition pos : getSelectedCells()) {
+            for (TreeTablePosition pos : selectedCellsMap.getSelectedCells(row)) {
                 if (!csMode) {
                     if (pos.getRow() == row) {
                         toRemove.add(pos);
@@ -3160,7 +3136,7 @@ public class TreeTableView<S> extends Control {
         }
 
         @Override public void clearSelection() {
-            final List<TreeTablePosition<S,?>> removed = new ArrayList<>((Collection)getSelectedCells());
+            final List<TreeTablePosition<S,?>> removed = selectedCellsMap.getSnapshot();
 
             quietClearSelection();
 
@@ -3396,11 +3372,7 @@ public class TreeTableView<S> extends Control {
         }
 
         private void fireCustomSelectedCellsListChangeEvent(ListChangeListener.Change<? extends TreeTablePosition<S,?>> c) {
-            // Allow removing the row index if cell selection is not enabled or
-            // if such row doesn't have any selected cells
-            IntPredicate removeRowFilter = row -> !isCellSelectionEnabled() ||
-                    getSelectedCells().stream().noneMatch(tp -> tp.getRow() == row);
-            ControlUtils.updateSelectedIndices(this, this.isCellSelectionEnabled(), c, removeRowFilter);
+            ControlUtils.updateSelectedIndices(this, this.isCellSelectionEnabled(), c, selectedCellsMap);
 
             if (isAtomic()) {
                 return;
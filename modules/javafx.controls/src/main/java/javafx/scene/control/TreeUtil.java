@@ -25,8 +25,6 @@
 
 package javafx.scene.control;
 
-import java.util.List;
-
 /**
  * A package protected util class used by TreeView and TreeTableView to reduce
  * the level of code duplication.
@@ -53,47 +51,28 @@ class TreeUtil {
         }
     }
 
-    static <T> TreeItem<T> getItem(TreeItem<T> parent, int itemIndex, boolean treeItemCountDirty) {
-        if (parent == null) return null;
-
-        // if itemIndex is 0 then our parent is what we were looking for
-        if (itemIndex == 0) return parent;
-
-        // if itemIndex is > the total item count, then it is out of range
-        if (itemIndex >= getExpandedDescendantCount(parent, treeItemCountDirty)) return null;
-
-        // if we got here, then one of our descendants is the item we're after
-        List<TreeItem<T>> children = parent.getChildren();
-        if (children == null) return null;
-
-        int idx = itemIndex - 1;
-
-        TreeItem<T> child;
-        for (int i = 0, max = children.size(); i < max; i++) {
-            child = children.get(i);
-            if (idx == 0) return child;
+    static <T> TreeItem<T> getItem(TreeItem<T> parent, int itemIndex) {
+        while (parent != null) {
+            // if itemIndex is 0 then our parent is what we were looking for
+            if (itemIndex == 0) return parent;
 
-            if (child.isLeaf() || ! child.isExpanded()) {
-                idx--;
-                continue;
-            }
+            // if itemIndex is > the total item count, then it is out of range
+            if (itemIndex >= getExpandedDescendantCount(parent, false)) return null;
 
-            int expandedChildCount = getExpandedDescendantCount(child, treeItemCountDirty);
-            if (idx >= expandedChildCount) {
-                idx -= expandedChildCount;
-                continue;
-            }
+            // if we got here, then one of our descendants is the item we're
+            // after, find the child that contains it and continue from there
+            int childIndex = parent.getChildIndexAtRow(itemIndex - 1);
+            if (childIndex == -1) return null;
 
-            TreeItem<T> result = getItem(child, idx, treeItemCountDirty);
-            if (result != null) return result;
-            idx--;
+            itemIndex -= parent.getChildRowOffset(childIndex) + 1;
+            parent = parent.getChildren().get(childIndex);
         }
 
         // We might get here if getItem(0) is called on an empty tree
         return null;
     }
 
-    static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean treeItemCountDirty, boolean isShowRoot) {
+    static <T> int getRow(TreeItem<T> item, TreeItem<T> root, boolean isShowRoot) {
         if (item == null) {
             return -1;
         } else if (isShowRoot && item.equals(root)) {
@@ -104,8 +83,6 @@ class TreeUtil {
         TreeItem<T> i = item;
         TreeItem<T> p = item.getParent();
 
-        TreeItem<T> sibling;
-        List<TreeItem<T>> siblings;
         boolean parentIsCollapsed = false;
 
         while (!i.equals(root) && p != null) {
@@ -114,25 +91,21 @@ class TreeUtil {
                 break;
             }
 
-            siblings = p.children;
-
-            // work up each sibling, from the current item
-            int itemIndex = siblings.indexOf(i);
-            for (int pos = itemIndex - 1; pos > -1; pos--) {
-                sibling = siblings.get(pos);
-                if (sibling == null) continue;
-
-                row += getExpandedDescendantCount(sibling, treeItemCountDirty);
-
-                if (sibling.equals(root)) {
+            // count the rows of the siblings before the current item
+            int itemIndex = p.getChildIndex(i);
+            if (itemIndex > 0) {
+                int rootIndex = root != null && root.getParent() == p ? p.getChildIndex(root) : -1;
+                if (rootIndex >= 0 && rootIndex < itemIndex) {
                     if (! isShowRoot) {
                         // special case: we've found out that our sibling is
                         // actually the root node AND we aren't showing root nodes.
                         // This means that the item shouldn't actually be shown.
                         return -1;
                     }
-                    return row;
+                    return row + p.getChildRowOffset(itemIndex) - p.getChildRowOffset(rootIndex);
                 }
+
+                row += p.getChildRowOffset(itemIndex);
             }
 
             i = p;
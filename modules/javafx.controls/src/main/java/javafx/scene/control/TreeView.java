@@ -984,7 +984,7 @@ public class TreeView<T> extends Control {
      *      collapsed).
      */
     public int getRow(TreeItem<T> item) {
-        return TreeUtil.getRow(item, getRoot(), expandedItemCountDirty, isShowRoot());
+        return TreeUtil.getRow(item, getRoot(), isShowRoot());
     }
 
     /**
@@ -1011,7 +1011,7 @@ public class TreeView<T> extends Control {
             }
         }
 
-        TreeItem<T> treeItem = TreeUtil.getItem(getRoot(), _row, expandedItemCountDirty);
+        TreeItem<T> treeItem = TreeUtil.getItem(getRoot(), _row);
         treeItemCacheMap.put(_row, new SoftReference<>(treeItem));
         return treeItem;
     }
@@ -1299,7 +1299,7 @@ public class TreeView<T> extends Control {
             this.treeView = treeView;
             this.treeView.rootProperty().addListener(weakRootPropertyListener);
             showRootListener = o -> {
-                shiftSelection(0, treeView.isShowRoot() ? 1 : -1, null);
+                shiftSelection(0, treeView.isShowRoot() ? 1 : -1);
             };
             this.treeView.showRootProperty().addListener(new WeakInvalidationListener(showRootListener));
 
@@ -1458,7 +1458,7 @@ public class TreeView<T> extends Control {
                 }
             } while (e.getChange() != null && e.getChange().next());
 
-            shiftSelection(startRow, shift, null);
+            shiftSelection(startRow, shift);
 
             if (e.wasAdded() || e.wasRemoved()) {
                 Integer anchor = TreeCellBehavior.getAnchor(treeView, null);
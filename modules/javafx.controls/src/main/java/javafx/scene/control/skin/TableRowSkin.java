@@ -25,7 +25,7 @@
 
 package javafx.scene.control.skin;
 
-
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -123,6 +123,10 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
                 registerChangeListener(fixedCellSizeProperty, e -> {
                     fixedCellSize = fixedCellSizeProperty.get();
                     fixedCellSizeEnabled = fixedCellSize > 0;
+
+                    // the set of columns with cells depends on the fixed cell size
+                    isDirty = true;
+                    getSkinnable().requestLayout();
                 });
                 fixedCellSize = fixedCellSizeProperty.get();
                 fixedCellSizeEnabled = fixedCellSize > 0;
@@ -169,7 +173,9 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
                                 /* This is the row-based case */
                                 column = getTableView().getVisibleLeafColumn(0);
                             }
-                            TableCell<T,?> cell = cellsMap.get(column).get();
+                            // cells only exist for the columns that are shown
+                            Reference<TableCell<T,?>> cellRef = cellsMap.get(column);
+                            TableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                             if (cell != null) selection.add(cell);
                         }
                         return FXCollections.observableArrayList(selection);
@@ -224,6 +230,20 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
         return cell;
     }
 
+    /** {@inheritDoc} */
+    @Override double getFixedCellSize() {
+        TableView<T> tableView = getSkinnable().getTableView();
+        return tableView == null ? -1 : tableView.getFixedCellSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override TableViewSkinBase<?,?,?,?,?> getTableSkin() {
+        // not using the tableViewSkin field, as this is called from the constructor
+        TableView<T> tableView = getSkinnable().getTableView();
+        return tableView != null && tableView.getSkin() instanceof TableViewSkin ?
+                (TableViewSkin<?>) tableView.getSkin() : null;
+    }
+
     /** {@inheritDoc} */
     @Override protected ObservableList<TableColumn<T, ?>> getVisibleLeafColumns() {
         return getTableView() == null ? FXCollections.emptyObservableList() : getTableView().getVisibleLeafColumns();
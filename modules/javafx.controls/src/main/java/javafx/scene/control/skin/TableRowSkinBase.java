@@ -39,7 +39,6 @@ import javafx.collections.ObservableList;
 import javafx.collections.WeakListChangeListener;
 import javafx.css.StyleOrigin;
 import javafx.css.StyleableObjectProperty;
-import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Parent;
@@ -114,9 +113,11 @@ public abstract class TableRowSkinBase<T,
     /*
      * A map that maps from TableColumn to TableCell (i.e. model to view).
      * This is recreated whenever the leaf columns change, however to increase
-     * efficiency we create cells for all columns, even if they aren't visible,
-     * and we only create new cells if we don't already have it cached in this
-     * map.
+     * efficiency we only create new cells if we don't already have it cached
+     * in this map. Cells are created lazily for the columns that are shown:
+     * normally these are all visible leaf columns, but when a fixed cell size
+     * is set only the columns intersecting the horizontal viewport are shown
+     * (see updateVisibleColumnRange()).
      *
      * Note that this means that it is possible for this map to therefore be
      * a memory leak if an application uses TableView and is creating and removing
@@ -128,6 +129,13 @@ public abstract class TableRowSkinBase<T,
     // This observableArrayList contains the currently visible table cells for this row.
     final List<R> cells = new ArrayList<>();
 
+    // The range of visible leaf columns represented by the cells list, from
+    // visibleColumnStart (inclusive) to visibleColumnEnd (exclusive), and
+    // the total width of the visible leaf columns before this range.
+    int visibleColumnStart;
+    int visibleColumnEnd;
+    private double leadingColumnsWidth;
+
     private int fullRefreshCounter = DEFAULT_FULL_REFRESH_COUNTER;
 
     boolean isDirty = false;
@@ -155,6 +163,11 @@ public abstract class TableRowSkinBase<T,
         super(control);
         getSkinnable().setPickOnBounds(false);
 
+        // We need to know about the fixed cell size before creating any cells,
+        // as it determines whether cells are created for all columns.
+        fixedCellSize = getFixedCellSize();
+        fixedCellSizeEnabled = fixedCellSize > 0;
+
         recreateCells();
         updateCells(true);
 
@@ -254,6 +267,12 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected void layoutChildren(double x, final double y, final double w, final double h) {
         checkState();
+
+        // the horizontal viewport may have moved since the cells were updated
+        if (fixedCellSizeEnabled && updateVisibleColumnRange()) {
+            updateCells(false);
+        }
+
         if (cellsMap.isEmpty()) return;
 
         ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
@@ -339,116 +358,114 @@ public abstract class TableRowSkinBase<T,
         int index = control.getIndex();
         if (index < 0/* || row >= itemsProperty().get().size()*/) return;
 
+        // When only the cells intersecting the horizontal viewport exist, the
+        // first of them starts after the width of the columns before it. The
+        // cells are then sized from the same snapped column offsets that were
+        // used to find them, so that they line up with the offsets exactly.
+        final double[] columnOffsets = getLayoutColumnOffsets();
+        x += columnOffsets != null ? columnOffsets[visibleColumnStart] : leadingColumnsWidth;
+
         for (int column = 0, max = cells.size(); column < max; column++) {
             R tableCell = cells.get(column);
-            TableColumnBase<T, ?> tableColumn = getTableColumn(tableCell);
 
-            boolean isVisible = true;
             if (fixedCellSizeEnabled) {
-                // we determine if the cell is visible, and if not we have the
-                // ability to take it out of the scenegraph to help improve
-                // performance. However, we only do this when there is a
-                // fixed cell length specified in the TableView. This is because
-                // when we have a fixed cell length it is possible to know with
-                // certainty the height of each TableCell - it is the fixed value
-                // provided by the developer, and this means that we do not have
-                // to concern ourselves with the possibility that the height
-                // may be variable and / or dynamic.
-                isVisible = isColumnPartiallyOrFullyVisible(tableColumn);
-
+                // Only the cells of the columns that intersect the horizontal
+                // viewport are in the cells list, the others have been taken
+                // out of the scenegraph to help improve performance. We only
+                // do this when there is a fixed cell length specified in the
+                // TableView. This is because when we have a fixed cell length
+                // it is possible to know with certainty the height of each
+                // TableCell - it is the fixed value provided by the developer,
+                // and this means that we do not have to concern ourselves with
+                // the possibility that the height may be variable and / or
+                // dynamic.
                 height = fixedCellSize;
             } else {
                 height = Math.max(controlHeight, tableCell.prefHeight(-1));
                 height = snapSizeY(height) - snapSizeY(verticalPadding);
             }
 
-            if (isVisible) {
-                if (fixedCellSizeEnabled && tableCell.getParent() == null) {
-                    getChildren().add(tableCell);
-                }
+            if (fixedCellSizeEnabled && tableCell.getParent() == null) {
+                getChildren().add(tableCell);
+            }
 
+            if (columnOffsets != null) {
+                final int columnIndex = visibleColumnStart + column;
+                width = columnOffsets[columnIndex + 1] - columnOffsets[columnIndex] - snapSizeX(horizontalPadding);
+            } else {
                 width = tableCell.prefWidth(height) - snapSizeX(horizontalPadding);
+            }
 
-                // Added for RT-32700, and then updated for RT-34074.
-                // We change the alignment from CENTER_LEFT to TOP_LEFT if the
-                // height of the row is greater than the default size, and if
-                // the alignment is the default alignment.
-                // What I would rather do is only change the alignment if the
-                // alignment has not been manually changed, but for now this will
-                // do.
-                final boolean centreContent = h <= 24.0;
-
-                // if the style origin is null then the property has not been
-                // set (or it has been reset to its default), which means that
-                // we can set it without overwriting someone elses settings.
-                final StyleOrigin origin = ((StyleableObjectProperty<?>) tableCell.alignmentProperty()).getStyleOrigin();
-                if (! centreContent && origin == null) {
-                    tableCell.setAlignment(Pos.TOP_LEFT);
-                }
-                // --- end of RT-32700 fix
-
-                ///////////////////////////////////////////
-                // further indentation code starts here
-                ///////////////////////////////////////////
-                if (indentationRequired && column == indentationColumnIndex) {
-                    if (disclosureVisible) {
-                        double ph = disclosureNode.prefHeight(disclosureWidth);
-
-                        if (width > 0 && width < (disclosureWidth + leftMargin)) {
-                            fadeOut(disclosureNode);
-                        } else {
-                            fadeIn(disclosureNode);
-                            disclosureNode.resize(disclosureWidth, ph);
-
-                            disclosureNode.relocate(x + leftMargin,
-                                    centreContent ? (h / 2.0 - ph / 2.0) :
-                                            (y + tableCell.getPadding().getTop()));
-                            disclosureNode.toFront();
-                        }
+            // Added for RT-32700, and then updated for RT-34074.
+            // We change the alignment from CENTER_LEFT to TOP_LEFT if the
+            // height of the row is greater than the default size, and if
+            // the alignment is the default alignment.
+            // What I would rather do is only change the alignment if the
+            // alignment has not been manually changed, but for now this will
+            // do.
+            final boolean centreContent = h <= 24.0;
+
+            // if the style origin is null then the property has not been
+            // set (or it has been reset to its default), which means that
+            // we can set it without overwriting someone elses settings.
+            final StyleOrigin origin = ((StyleableObjectProperty<?>) tableCell.alignmentProperty()).getStyleOrigin();
+            if (! centreContent && origin == null) {
+                tableCell.setAlignment(Pos.TOP_LEFT);
+            }
+            // --- end of RT-32700 fix
+
+            ///////////////////////////////////////////
+            // further indentation code starts here
+            ///////////////////////////////////////////
+            if (indentationRequired && visibleColumnStart + column == indentationColumnIndex) {
+                if (disclosureVisible) {
+                    double ph = disclosureNode.prefHeight(disclosureWidth);
+
+                    if (width > 0 && width < (disclosureWidth + leftMargin)) {
+                        fadeOut(disclosureNode);
+                    } else {
+                        fadeIn(disclosureNode);
+                        disclosureNode.resize(disclosureWidth, ph);
+
+                        disclosureNode.relocate(x + leftMargin,
+                                centreContent ? (h / 2.0 - ph / 2.0) :
+                                        (y + tableCell.getPadding().getTop()));
+                        disclosureNode.toFront();
                     }
+                }
 
-                    // determine starting point of the graphic or cell node, and the
-                    // remaining width available to them
-                    ObjectProperty<Node> graphicProperty = graphicProperty();
-                    Node graphic = graphicProperty == null ? null : graphicProperty.get();
+                // determine starting point of the graphic or cell node, and the
+                // remaining width available to them
+                ObjectProperty<Node> graphicProperty = graphicProperty();
+                Node graphic = graphicProperty == null ? null : graphicProperty.get();
 
-                    if (graphic != null) {
-                        graphicWidth = graphic.prefWidth(-1) + 3;
-                        double ph = graphic.prefHeight(graphicWidth);
+                if (graphic != null) {
+                    graphicWidth = graphic.prefWidth(-1) + 3;
+                    double ph = graphic.prefHeight(graphicWidth);
 
-                        if (width > 0 && width < disclosureWidth + leftMargin + graphicWidth) {
-                            fadeOut(graphic);
-                        } else {
-                            fadeIn(graphic);
+                    if (width > 0 && width < disclosureWidth + leftMargin + graphicWidth) {
+                        fadeOut(graphic);
+                    } else {
+                        fadeIn(graphic);
 
-                            graphic.relocate(x + leftMargin + disclosureWidth,
-                                    centreContent ? (h / 2.0 - ph / 2.0) :
-                                            (y + tableCell.getPadding().getTop()));
+                        graphic.relocate(x + leftMargin + disclosureWidth,
+                                centreContent ? (h / 2.0 - ph / 2.0) :
+                                        (y + tableCell.getPadding().getTop()));
 
-                            graphic.toFront();
-                        }
+                        graphic.toFront();
                     }
                 }
-                ///////////////////////////////////////////
-                // further indentation code ends here
-                ///////////////////////////////////////////
-
-                tableCell.resize(width, height);
-                tableCell.relocate(x, snappedTopInset());
+            }
+            ///////////////////////////////////////////
+            // further indentation code ends here
+            ///////////////////////////////////////////
 
-                // Request layout is here as (partial) fix for RT-28684.
-                // This does not appear to impact performance...
-                tableCell.requestLayout();
-            } else {
-                width = snapSizeX(tableCell.prefWidth(-1)) - snapSizeX(horizontalPadding);
+            tableCell.resize(width, height);
+            tableCell.relocate(x, snappedTopInset());
 
-                if (fixedCellSizeEnabled) {
-                    // we only add/remove to the scenegraph if the fixed cell
-                    // length support is enabled - otherwise we keep all
-                    // TableCells in the scenegraph
-                    getChildren().remove(tableCell);
-                }
-            }
+            // Request layout is here as (partial) fix for RT-28684.
+            // This does not appear to impact performance...
+            tableCell.requestLayout();
 
             x += width;
         }
@@ -510,13 +527,15 @@ public abstract class TableRowSkinBase<T,
         // if clear isn't called first, we can run into situations where the
         // cells aren't updated properly.
         final boolean cellsEmpty = cells.isEmpty();
+        final List<R> oldCells = fixedCellSizeEnabled ? new ArrayList<>(cells) : null;
         cells.clear();
 
         final C skinnable = getSkinnable();
         final int skinnableIndex = skinnable.getIndex();
         final List<? extends TableColumnBase/*<T,?>*/> visibleLeafColumns = getVisibleLeafColumns();
 
-        for (int i = 0, max = visibleLeafColumns.size(); i < max; i++) {
+        updateVisibleColumnRange();
+        for (int i = visibleColumnStart, max = visibleColumnEnd; i < max; i++) {
             TableColumnBase<T,?> col = visibleLeafColumns.get(i);
 
             R cell = null;
@@ -542,13 +561,21 @@ public abstract class TableRowSkinBase<T,
 
         // update children of each row
         if (fixedCellSizeEnabled) {
+            // Cells that scrolled out of the horizontal viewport no longer
+            // represent this row, so that they do not hold on to its item.
+            for (int i = 0, max = oldCells.size(); i < max; i++) {
+                R cell = oldCells.get(i);
+                if (!cells.contains(cell)) {
+                    cell.updateIndex(-1);
+                }
+            }
+
             // we leave the adding / removing up to the layoutChildren method mostly, but here we remove any children
-            // cells that refer to columns that are removed or not visible.
+            // cells that refer to columns that are removed or not within the horizontal viewport.
             List<Node> toRemove = new ArrayList<>();
             for (Node cell : getChildren()) {
                 if (!(cell instanceof IndexedCell)) continue;
-                TableColumnBase<T, ?> tableColumn = getTableColumn((R) cell);
-                if (!getVisibleLeafColumns().contains(tableColumn)) {
+                if (!cells.contains(cell)) {
                     toRemove.add(cell);
                 }
             }
@@ -569,8 +596,32 @@ public abstract class TableRowSkinBase<T,
         return null;
     }
 
+    /**
+     * Returns the fixed cell size of the table this row belongs to, or a value
+     * of zero or less if no fixed cell size is set. This is called from the
+     * constructor, and must therefore only depend on the skinnable.
+     */
+    double getFixedCellSize() {
+        return -1;
+    }
+
+    /**
+     * Returns the skin of the table this row belongs to, or null if it is not
+     * known (yet).
+     */
+    TableViewSkinBase<?,?,?,?,?> getTableSkin() {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
+        // When only some columns have cells, the width of all columns is
+        // taken from the table skin, as the cells may not be up to date.
+        final double[] offsets = getLayoutColumnOffsets();
+        if (offsets != null) {
+            return offsets[offsets.length - 1];
+        }
+
         double prefWidth = 0.0;
         for (R cell : cells) {
             prefWidth += cell.prefWidth(height);
@@ -663,27 +714,59 @@ public abstract class TableRowSkinBase<T,
      *                                                                         *
      **************************************************************************/
 
-    private boolean isColumnPartiallyOrFullyVisible(TableColumnBase col) {
-        if (col == null || !col.isVisible()) return false;
-
-        final VirtualFlow<?> virtualFlow = getVirtualFlow();
-        double scrollX = virtualFlow == null ? 0.0 : virtualFlow.getHbar().getValue();
-
-        // work out where this column header is, and it's width (start -> end)
-        double start = 0;
-        final ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
-        for (int i = 0, max = visibleLeafColumns.size(); i < max; i++) {
-            TableColumnBase<?,?> c = visibleLeafColumns.get(i);
-            if (c.equals(col)) break;
-            start += c.getWidth();
+    /**
+     * Determines the range of visible leaf columns that this row has cells
+     * for. When a fixed cell size is set, this is only the range of columns
+     * which intersect the horizontal viewport of the virtual flow, which is
+     * found using the column offsets shared by the table skin. Otherwise, and
+     * as long as the viewport is not known, this is all visible leaf columns.
+     *
+     * @return true if the range changed
+     */
+    boolean updateVisibleColumnRange() {
+        final int columnCount = getVisibleLeafColumns().size();
+        int start = 0;
+        int end = columnCount;
+        double leading = 0;
+
+        final VirtualFlow<?> virtualFlow = fixedCellSizeEnabled ? getVirtualFlow() : null;
+        final TableViewSkinBase<?,?,?,?,?> tableSkin = virtualFlow == null ? null : getTableSkin();
+        if (tableSkin != null && virtualFlow.getViewportBreadth() > 0) {
+            final double[] offsets = tableSkin.getColumnOffsets();
+            if (offsets.length == columnCount + 1 && columnCount > 0) {
+                final double scrollX = virtualFlow.getHbar().getValue();
+                start = tableSkin.getColumnIndexAt(scrollX);
+                end = tableSkin.getColumnIndexAt(scrollX + virtualFlow.getViewportBreadth()) + 1;
+                leading = offsets[start];
+            }
         }
-        double end = start + col.getWidth();
 
-        // determine the width of the table
-        final Insets padding = getSkinnable().getPadding();
-        double headerWidth = getSkinnable().getWidth() - padding.getLeft() + padding.getRight();
+        leadingColumnsWidth = leading;
+        if (start == visibleColumnStart && end == visibleColumnEnd) {
+            return false;
+        }
+        visibleColumnStart = start;
+        visibleColumnEnd = end;
+        return true;
+    }
 
-        return (start >= scrollX || end > scrollX) && (start < (headerWidth + scrollX) || end <= (headerWidth + scrollX));
+    /**
+     * Returns the column offsets shared by the table skin if this row lays
+     * out its cells from them, which it does in fixed cell size mode, and
+     * null if the cells are laid out from their own pref widths. The offsets
+     * are only used while they match the cells this row has, which they may
+     * not until the cells are updated after a column change.
+     */
+    private double[] getLayoutColumnOffsets() {
+        if (!fixedCellSizeEnabled) return null;
+        final TableViewSkinBase<?,?,?,?,?> tableSkin = getTableSkin();
+        if (tableSkin == null) return null;
+        final double[] offsets = tableSkin.getColumnOffsets();
+        if (offsets.length != getVisibleLeafColumns().size() + 1
+                || visibleColumnStart + cells.size() >= offsets.length) {
+            return null;
+        }
+        return offsets;
     }
 
     private void requestCellUpdate() {
@@ -724,15 +807,8 @@ public abstract class TableRowSkinBase<T,
         fullRefreshCounter = DEFAULT_FULL_REFRESH_COUNTER;
         getChildren().clear();
 
-        for (TableColumnBase col : columns) {
-            if (cellsMap.containsKey(col)) {
-                continue;
-            }
-
-            // create a TableCell for this column and store it in the cellsMap
-            // for future use
-            createCellAndCache(col);
-        }
+        // the cells themselves are created by updateCells(), for the columns
+        // that need them
     }
 
     private R createCellAndCache(TableColumnBase<T,?> col) {
@@ -153,6 +153,17 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
 
     private int itemCount = -1;
 
+    /*
+     * Prefix sums of the widths of the visible leaf columns: columnOffsets[i]
+     * is the x position of the i'th visible leaf column relative to the first
+     * one, and the last element is the total width of all visible leaf
+     * columns. This is shared by all rows, so that each row can find the
+     * columns intersecting the horizontal viewport with a binary search
+     * rather than by walking all columns. It is rebuilt lazily when the
+     * visible leaf columns or their widths change.
+     */
+    private double[] columnOffsets;
+
 
 
     /* *************************************************************************
@@ -212,6 +223,7 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
     };
 
     private ListChangeListener<TC> visibleLeafColumnsListener = c -> {
+        columnOffsets = null;
         updateVisibleColumnCount();
         while (c.next()) {
             updateVisibleLeafColumnWidthListeners(c.getAddedSubList(), c.getRemoved());
@@ -219,6 +231,8 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
     };
 
     private InvalidationListener widthListener = observable -> {
+        columnOffsets = null;
+
         // This forces the horizontal scrollbar to show when the column
         // resizing occurs. It is not ideal, but will work for now.
 
@@ -228,6 +242,16 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
         if (getSkinnable() != null) {
             getSkinnable().requestLayout();
         }
+
+        // In fixed cell size mode the rows only have cells for the columns in
+        // the viewport, so a resize of any other column does not reach them
+        // through their cells. Mark them dirty, so that they are measured and
+        // laid out again.
+        if (flow != null && flow.getFixedCellSize() > 0) {
+            for (int i = 0, max = flow.cells.size(); i < max; i++) {
+                flow.setCellDirty(i);
+            }
+        }
     };
 
     private InvalidationListener itemsChangeListener;
@@ -985,6 +1009,49 @@ public abstract class TableViewSkinBase<M, S, C extends Control, I extends Index
         flow.getHbar().setValue(newPos);
     }
 
+    /**
+     * Returns the prefix sums of the widths of the visible leaf columns. The
+     * returned array has one more element than there are visible leaf
+     * columns, element i being the start of the i'th column and the last
+     * element the total width. The array must not be modified.
+     */
+    double[] getColumnOffsets() {
+        if (columnOffsets == null) {
+            final List<? extends TC> columns = getVisibleLeafColumns();
+            final int count = columns.size();
+            double[] offsets = new double[count + 1];
+            for (int i = 0; i < count; i++) {
+                offsets[i + 1] = offsets[i] + snapSizeX(columns.get(i).getWidth());
+            }
+            columnOffsets = offsets;
+        }
+        return columnOffsets;
+    }
+
+    /**
+     * Returns the index of the visible leaf column at the given horizontal
+     * position, clamped to the range of visible leaf columns, or -1 if there
+     * are no visible leaf columns.
+     */
+    int getColumnIndexAt(double x) {
+        final double[] offsets = getColumnOffsets();
+        final int count = offsets.length - 1;
+        if (count <= 0) return -1;
+
+        // find the last column starting at or before x
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= x) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
     private boolean isCellSelected(int row) {
         TableSelectionModel<S> sm = getSelectionModel();
         if (sm == null) return false;
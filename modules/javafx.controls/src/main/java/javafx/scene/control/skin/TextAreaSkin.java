@@ -25,9 +25,11 @@
 
 package javafx.scene.control.skin;
 
+import com.sun.javafx.scene.control.TextAreaHelper;
 import com.sun.javafx.scene.control.behavior.BehaviorBase;
 import com.sun.javafx.scene.control.behavior.TextAreaBehavior;
 import com.sun.javafx.scene.control.skin.Utils;
+import com.sun.javafx.scene.text.HitInfoHelper;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
@@ -65,7 +67,11 @@ import javafx.scene.text.Text;
 import javafx.scene.text.HitInfo;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import static com.sun.javafx.PlatformUtil.isMac;
 import static com.sun.javafx.PlatformUtil.isWindows;
@@ -87,6 +93,13 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     /** A shared helper object, used only by downLines(). */
     private static final Path tmpCaretPath = new Path();
 
+    /**
+     * The number of paragraphs from which a text area that does not wrap its
+     * text only creates text nodes for the paragraphs that are visible,
+     * instead of laying out all of its text in a single text node.
+     */
+    static final int VIRTUAL_PARAGRAPH_THRESHOLD = 1000;
+
 
 
     /* ************************************************************************
@@ -113,6 +126,17 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     private ContentView contentView = new ContentView();
     private Group paragraphNodes = new Group();
 
+    // Whether only the visible paragraphs have a text node, see updateVirtualMode()
+    private boolean virtual;
+    // In virtual mode, the text nodes of the paragraphs that have one, by
+    // paragraph index, and the text nodes that are not used at the moment
+    private final Map<Integer, ParagraphText> paragraphTexts = new HashMap<>();
+    private final List<ParagraphText> unusedParagraphTexts = new ArrayList<>();
+    // In virtual mode, the paragraph with the most characters, or -1 if it
+    // must be searched for
+    private int longestParagraph = -1;
+    private int longestParagraphLength;
+
     private Text promptNode;
     private ObservableBooleanValue usePromptText;
 
@@ -254,6 +278,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             CharSequence paragraph = (n == 1) ? control.textProperty().getValueSafe() : control.getParagraphs().get(i);
             addParagraphNode(i, paragraph.toString());
         }
+        updateVirtualMode();
 
         control.selectionProperty().addListener((observable, oldValue, newValue) -> {
             // TODO Why do we need two calls here?
@@ -263,6 +288,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
         control.wrapTextProperty().addListener((observable, oldValue, newValue) -> {
             invalidateMetrics();
+            updateVirtualMode();
             scrollPane.setFitToWidth(newValue);
         });
 
@@ -307,6 +333,10 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             double vValue = (newValue.doubleValue() < getScrollTopMax())
                                ? (newValue.doubleValue() / getScrollTopMax()) : 1.0;
             scrollPane.setVvalue(vValue);
+            if (virtual) {
+                // Different paragraphs may have become visible
+                contentView.requestLayout();
+            }
         });
 
         control.scrollLeftProperty().addListener((observable, oldValue, newValue) -> {
@@ -343,9 +373,20 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
                 }
             });
         } else {
+            control.getParagraphs().addListener((ListChangeListener.Change<? extends CharSequence> change) -> {
+                if (virtual) {
+                    while (change.next()) {
+                        virtualParagraphsChanged(change);
+                    }
+                }
+            });
+
             control.textProperty().addListener(observable -> {
                 invalidateMetrics();
-                ((Text)paragraphNodes.getChildren().get(0)).setText(control.textProperty().getValueSafe());
+                updateVirtualMode();
+                if (!virtual) {
+                    ((Text)paragraphNodes.getChildren().get(0)).setText(control.textProperty().getValueSafe());
+                }
                 contentView.requestLayout();
             });
         }
@@ -353,9 +394,8 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         usePromptText = new BooleanBinding() {
             { bind(control.textProperty(), control.promptTextProperty()); }
             @Override protected boolean computeValue() {
-                String txt = control.getText();
                 String promptTxt = control.getPromptText();
-                return ((txt == null || txt.isEmpty()) &&
+                return (control.getLength() == 0 &&
                         promptTxt != null && !promptTxt.isEmpty());
             }
         };
@@ -397,22 +437,16 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             selectionHandle2.setOnMouseReleased(handleReleaseHandler);
 
             caretHandle.setOnMouseDragged(e -> {
-                Text textNode = getTextNode();
-                Point2D tp = textNode.localToScene(0, 0);
-                Point2D p = new Point2D(e.getSceneX() - tp.getX() - pressX + caretHandle.getWidth() / 2,
-                                        e.getSceneY() - tp.getY() - pressY - 6);
-                HitInfo hit = textNode.hitTest(translateCaretPosition(p));
+                HitInfo hit = getIndexAtScene(e.getSceneX() - pressX + caretHandle.getWidth() / 2,
+                                              e.getSceneY() - pressY - 6);
                 positionCaret(hit, false);
                 e.consume();
             });
 
             selectionHandle1.setOnMouseDragged(e -> {
                 TextArea control1 = getSkinnable();
-                Text textNode = getTextNode();
-                Point2D tp = textNode.localToScene(0, 0);
-                Point2D p = new Point2D(e.getSceneX() - tp.getX() - pressX + selectionHandle1.getWidth() / 2,
-                                        e.getSceneY() - tp.getY() - pressY + selectionHandle1.getHeight() + 5);
-                HitInfo hit = textNode.hitTest(translateCaretPosition(p));
+                HitInfo hit = getIndexAtScene(e.getSceneX() - pressX + selectionHandle1.getWidth() / 2,
+                                              e.getSceneY() - pressY + selectionHandle1.getHeight() + 5);
                 if (control1.getAnchor() < control1.getCaretPosition()) {
                     // Swap caret and anchor
                     control1.selectRange(control1.getCaretPosition(), control1.getAnchor());
@@ -429,11 +463,8 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
             selectionHandle2.setOnMouseDragged(e -> {
                 TextArea control1 = getSkinnable();
-                Text textNode = getTextNode();
-                Point2D tp = textNode.localToScene(0, 0);
-                Point2D p = new Point2D(e.getSceneX() - tp.getX() - pressX + selectionHandle2.getWidth() / 2,
-                                        e.getSceneY() - tp.getY() - pressY - 6);
-                HitInfo hit = textNode.hitTest(translateCaretPosition(p));
+                HitInfo hit = getIndexAtScene(e.getSceneX() - pressX + selectionHandle2.getWidth() / 2,
+                                              e.getSceneY() - pressY - 6);
                 if (control1.getAnchor() > control1.getCaretPosition()) {
                     // Swap caret and anchor
                     control1.selectRange(control1.getCaretPosition(), control1.getAnchor());
@@ -488,6 +519,15 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
      * @return a {@code HitInfo} object describing the index and forward bias.
      */
     public HitInfo getIndex(double x, double y) {
+        if (virtual) {
+            ParagraphText paragraphNode = getParagraphText(getParagraphIndexAt(y));
+            Point2D p = new Point2D(x - paragraphNode.getLayoutX(), y - paragraphNode.getLayoutY());
+            HitInfo hit = paragraphNode.hitTest(translateCaretPosition(p));
+            int paragraphOffset = getTextNodeStart(paragraphNode);
+            return HitInfoHelper.createHitInfo(paragraphOffset + hit.getCharIndex(),
+                    paragraphOffset + hit.getInsertionIndex(), hit.isLeading(), null);
+        }
+
         // adjust the event to be in the same coordinate space as the
         // text content of the textInputControl
         Text textNode = getTextNode();
@@ -572,7 +612,8 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             moveRight = !moveRight;
         }
 
-        Text textNode = getTextNode();
+        Text textNode = getTextNodeAt(textArea.getCaretPosition());
+        int textNodeStart = getTextNodeStart(textNode);
         Bounds caretBounds = caretPath.getLayoutBounds();
         if (caretPath.getElements().size() == 4) {
             // The caret is split
@@ -589,7 +630,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         if ((moveRight && charShape.getLayoutBounds().getMaxX() > caretBounds.getMaxX()) ||
                 (!moveRight && charShape.getLayoutBounds().getMinX() < caretBounds.getMinX())) {
             leading = !leading;
-            positionCaret(hit.getInsertionIndex(), leading, false, false);
+            positionCaret(textNodeStart + hit.getInsertionIndex(), leading, false, false);
         } else {
             // We're at beginning or end of line. Try moving up / down.
             int dot = textArea.getCaretPosition();
@@ -608,6 +649,11 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     }
 
     private void downLines(int nLines, boolean select, boolean extendSelection) {
+        if (virtual) {
+            downParagraphs(nLines, select, extendSelection);
+            return;
+        }
+
         Text textNode = getTextNode();
         Bounds caretBounds = caretPath.getLayoutBounds();
 
@@ -651,6 +697,25 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         }
     }
 
+    // Virtual mode version of downLines(), where each paragraph is a single line
+    private void downParagraphs(int nLines, boolean select, boolean extendSelection) {
+        int paragraphIndex = TextAreaHelper.getParagraphIndex(textArea, textArea.getCaretPosition());
+        int targetParagraphIndex = Math.max(0,
+                Math.min(paragraphIndex + nLines, textArea.getParagraphs().size() - 1));
+
+        if (nLines == 0 || targetParagraphIndex != paragraphIndex) {
+            // The target x for the caret. This may have been set during a
+            // previous call.
+            double x = (targetCaretX >= 0) ? targetCaretX : (caretPath.getLayoutBounds().getMaxX());
+
+            ParagraphText paragraphNode = getParagraphText(targetParagraphIndex);
+            HitInfo hit = paragraphNode.hitTest(translateCaretPosition(new Point2D(x, getParagraphHeight() / 2)));
+            positionCaret(getTextNodeStart(paragraphNode) + hit.getInsertionIndex(), hit.isLeading(),
+                    select, extendSelection);
+            targetCaretX = x;
+        }
+    }
+
     private void previousLine(boolean select) {
         downLines(-1, select, false);
     }
@@ -684,19 +749,18 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     private void paragraphStart(boolean previousIfAtStart, boolean select) {
         TextArea textArea = getSkinnable();
-        String text = textArea.textProperty().getValueSafe();
         int pos = textArea.getCaretPosition();
 
         if (pos > 0) {
-            if (previousIfAtStart && text.codePointAt(pos-1) == 0x0a) {
+            int paragraphIndex = TextAreaHelper.getParagraphIndex(textArea, pos);
+            int paragraphStart = TextAreaHelper.getParagraphOffset(textArea, paragraphIndex);
+            if (previousIfAtStart && pos == paragraphStart) {
                 // We are at the beginning of a paragraph.
                 // Back up to the previous paragraph.
-                pos--;
+                paragraphStart = TextAreaHelper.getParagraphOffset(textArea, paragraphIndex - 1);
             }
             // Back up to the beginning of this paragraph
-            while (pos > 0 && text.codePointAt(pos-1) != 0x0a) {
-                pos--;
-            }
+            pos = paragraphStart;
             if (select) {
                 textArea.selectPositionCaret(pos);
             } else {
@@ -708,24 +772,25 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     private void paragraphEnd(boolean goPastInitialNewline, boolean select) {
         TextArea textArea = getSkinnable();
-        String text = textArea.textProperty().getValueSafe();
         int pos = textArea.getCaretPosition();
-        int len = text.length();
+        int len = textArea.getLength();
         boolean wentPastInitialNewline = false;
         boolean goPastTrailingNewline = isWindows();
 
         if (pos < len) {
-            if (goPastInitialNewline && text.codePointAt(pos) == 0x0a) {
+            int paragraphIndex = TextAreaHelper.getParagraphIndex(textArea, pos);
+            int paragraphEnd = TextAreaHelper.getParagraphOffset(textArea, paragraphIndex)
+                    + textArea.getParagraphs().get(paragraphIndex).length();
+            if (goPastInitialNewline && pos == paragraphEnd) {
                 // We are at the end of a paragraph, start by moving to the
                 // next paragraph.
                 pos++;
                 wentPastInitialNewline = true;
+                paragraphEnd = pos + textArea.getParagraphs().get(paragraphIndex + 1).length();
             }
             if (!(goPastTrailingNewline && wentPastInitialNewline)) {
                 // Go to the end of this paragraph
-                while (pos < len && text.codePointAt(pos) != 0x0a) {
-                    pos++;
-                }
+                pos = paragraphEnd;
                 if (goPastTrailingNewline && pos < len) {
                     // We are at the end of a paragraph, finish by moving to
                     // the beginning of the next paragraph (Windows behavior).
@@ -742,51 +807,24 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
     /** {@inheritDoc} */
     @Override protected PathElement[] getUnderlineShape(int start, int end) {
-        int pStart = 0;
-        for (Node node : paragraphNodes.getChildren()) {
-            Text p = (Text)node;
-            int pEnd = pStart + p.textProperty().getValueSafe().length();
-            if (pEnd >= start) {
-                return p.underlineShape(start - pStart, end - pStart);
-            }
-            pStart = pEnd + 1;
-        }
-        return null;
+        Text p = getTextNodeAt(start);
+        int pStart = getTextNodeStart(p);
+        return p.underlineShape(start - pStart, end - pStart);
     }
 
     /** {@inheritDoc} */
     @Override protected PathElement[] getRangeShape(int start, int end) {
-        int pStart = 0;
-        for (Node node : paragraphNodes.getChildren()) {
-            Text p = (Text)node;
-            int pEnd = pStart + p.textProperty().getValueSafe().length();
-            if (pEnd >= start) {
-                return p.rangeShape(start - pStart, end - pStart);
-            }
-            pStart = pEnd + 1;
-        }
-        return null;
+        Text p = getTextNodeAt(start);
+        int pStart = getTextNodeStart(p);
+        return p.rangeShape(start - pStart, end - pStart);
     }
 
     /** {@inheritDoc} */
     @Override protected void addHighlight(List<? extends Node> nodes, int start) {
-        int pStart = 0;
-        Text paragraphNode = null;
-        for (Node node : paragraphNodes.getChildren()) {
-            Text p = (Text)node;
-            int pEnd = pStart + p.textProperty().getValueSafe().length();
-            if (pEnd >= start) {
-                paragraphNode = p;
-                break;
-            }
-            pStart = pEnd + 1;
-        }
-
-        if (paragraphNode != null) {
-            for (Node node : nodes) {
-                node.setLayoutX(paragraphNode.getLayoutX());
-                node.setLayoutY(paragraphNode.getLayoutY());
-            }
+        Text paragraphNode = getTextNodeAt(start);
+        for (Node node : nodes) {
+            node.setLayoutX(paragraphNode.getLayoutX());
+            node.setLayoutY(paragraphNode.getLayoutY());
         }
         contentView.getChildren().addAll(nodes);
     }
@@ -824,6 +862,9 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             case LINE_END:
             case BOUNDS_FOR_RANGE:
             case OFFSET_AT_POINT:
+                if (virtual) {
+                    return queryVirtualAccessibleAttribute(attribute, parameters);
+                }
                 Text text = getTextNode();
                 return text.queryAccessibleAttribute(attribute, parameters);
             default: return super.queryAccessibleAttribute(attribute, parameters);
@@ -876,6 +917,10 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     @Override protected int getInsertionPoint(double x, double y) {
         TextArea textArea = getSkinnable();
 
+        if (virtual) {
+            return getIndex(x, y).getInsertionIndex();
+        }
+
         int n = paragraphNodes.getChildren().size();
         int index = -1;
 
@@ -930,7 +975,7 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         boolean isNewLine =
                 (pos > 0 &&
                         pos <= getSkinnable().getLength() &&
-                        getSkinnable().getText().codePointAt(pos-1) == 0x0a);
+                        getSkinnable().getText(pos - 1, pos).charAt(0) == '\n');
 
         // special handling for a new line
         if (!leading && isNewLine) {
@@ -955,18 +1000,18 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     @Override public Rectangle2D getCharacterBounds(int index) {
         TextArea textArea = getSkinnable();
 
-        int paragraphIndex = paragraphNodes.getChildren().size();
-        int paragraphOffset = textArea.getLength() + 1;
-
-        Text paragraphNode = null;
-        do {
-            paragraphNode = (Text)paragraphNodes.getChildren().get(--paragraphIndex);
-            paragraphOffset -= paragraphNode.getText().length() + 1;
-        } while (index < paragraphOffset);
+        Text paragraphNode = getTextNodeAt(index);
+        int paragraphOffset = getTextNodeStart(paragraphNode);
 
         int characterIndex = index - paragraphOffset;
         boolean terminator = false;
 
+        if (paragraphNode.getText().isEmpty()) {
+            // An empty paragraph in virtual mode, there is no character to measure
+            return new Rectangle2D(paragraphNode.getLayoutX() - textArea.getScrollLeft(),
+                    paragraphNode.getLayoutY() - textArea.getScrollTop(), 0, getParagraphHeight());
+        }
+
         if (characterIndex == paragraphNode.getText().length()) {
             characterIndex--;
             terminator = true;
@@ -1035,8 +1080,11 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     }
 
     private void addParagraphNode(int i, String string) {
+        addParagraphNode(i, new Text(string));
+    }
+
+    private void addParagraphNode(int i, Text paragraphNode) {
         final TextArea textArea = getSkinnable();
-        Text paragraphNode = new Text(string);
         paragraphNode.setTextOrigin(VPos.TOP);
         paragraphNode.setManaged(false);
         paragraphNode.getStyleClass().add("text");
@@ -1176,7 +1224,8 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
     }
 
     private void updateTextNodeCaretPos(int pos) {
-        Text textNode = getTextNode();
+        Text textNode = getTextNodeAt(pos);
+        pos -= getTextNodeStart(textNode);
         if (isForwardBias()) {
             textNode.setCaretPosition(pos);
         } else {
@@ -1185,6 +1234,254 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
         textNode.caretBiasProperty().set(isForwardBias());
     }
 
+    // Performs a hit test at the given point in scene coordinates
+    private HitInfo getIndexAtScene(double sceneX, double sceneY) {
+        Point2D p = contentView.sceneToLocal(sceneX, sceneY);
+        return getIndex(p.getX(), p.getY());
+    }
+
+    // Returns the text node showing the character at the given offset,
+    // creating it in virtual mode if needed
+    private Text getTextNodeAt(int offset) {
+        if (virtual) {
+            return getParagraphText(TextAreaHelper.getParagraphIndex(getSkinnable(), offset));
+        }
+        return getTextNode();
+    }
+
+    // Returns the offset of the first character shown by the given text node
+    private int getTextNodeStart(Text textNode) {
+        if (textNode instanceof ParagraphText) {
+            return TextAreaHelper.getParagraphOffset(getSkinnable(), ((ParagraphText)textNode).paragraphIndex);
+        }
+        return 0;
+    }
+
+    /*
+     * Switches between laying out all of the text in a single text node and
+     * virtual mode, where a paragraph only has a text node while it is
+     * visible or contains the caret or the anchor, like the cells of a
+     * VirtualFlow. Virtual mode is used when the text is not wrapped and
+     * there are many paragraphs, as every paragraph is then a single line of
+     * a known height, which lets the paragraphs that are visible be found
+     * without laying out the ones before them.
+     */
+    private void updateVirtualMode() {
+        TextArea textArea = getSkinnable();
+        boolean useVirtualMode = !textArea.isWrapText()
+                && textArea.getParagraphs().size() >= VIRTUAL_PARAGRAPH_THRESHOLD;
+        if (useVirtualMode == virtual) {
+            return;
+        }
+
+        virtual = useVirtualMode;
+        paragraphNodes.getChildren().clear();
+        paragraphTexts.clear();
+        unusedParagraphTexts.clear();
+        longestParagraph = -1;
+        if (virtual) {
+            getParagraphText(0);
+        } else {
+            addParagraphNode(0, textArea.textProperty().getValueSafe());
+        }
+        invalidateMetrics();
+        contentView.requestLayout();
+    }
+
+    // Returns the text node of the given paragraph in virtual mode, reusing
+    // an unused text node or creating one if it does not have one yet
+    private ParagraphText getParagraphText(int paragraphIndex) {
+        ParagraphText paragraphNode = paragraphTexts.get(paragraphIndex);
+        if (paragraphNode == null) {
+            if (unusedParagraphTexts.isEmpty()) {
+                paragraphNode = new ParagraphText();
+                addParagraphNode(paragraphNodes.getChildren().size(), paragraphNode);
+            } else {
+                paragraphNode = unusedParagraphTexts.remove(unusedParagraphTexts.size() - 1);
+                paragraphNode.setVisible(true);
+            }
+            paragraphNode.paragraphIndex = paragraphIndex;
+            paragraphNode.setText(getSkinnable().getParagraphs().get(paragraphIndex).toString());
+            paragraphNode.setLayoutX(contentView.snappedLeftInset());
+            paragraphNode.setLayoutY(contentView.snappedTopInset() + paragraphIndex * getParagraphHeight());
+            paragraphTexts.put(paragraphIndex, paragraphNode);
+        }
+        return paragraphNode;
+    }
+
+    private void releaseParagraphText(ParagraphText paragraphNode) {
+        paragraphNode.paragraphIndex = -1;
+        paragraphNode.setVisible(false);
+        paragraphNode.setText("");
+        paragraphNode.setSelectionStart(-1);
+        paragraphNode.setSelectionEnd(-1);
+        unusedParagraphTexts.add(paragraphNode);
+    }
+
+    // Returns the height of every paragraph in virtual mode, where the
+    // paragraphs are single lines of text
+    private double getParagraphHeight() {
+        return paragraphNodes.getChildren().get(0).getLayoutBounds().getHeight();
+    }
+
+    // Returns the index of the paragraph at the given y coordinate of the
+    // content view in virtual mode
+    private int getParagraphIndexAt(double y) {
+        double paragraphHeight = getParagraphHeight();
+        int paragraphIndex = (paragraphHeight > 0)
+                ? (int)Math.floor((y - contentView.snappedTopInset()) / paragraphHeight) : 0;
+        return Math.max(0, Math.min(paragraphIndex, getSkinnable().getParagraphs().size() - 1));
+    }
+
+    // Gives the visible paragraphs and the ones containing the caret and the
+    // anchor a text node in virtual mode, releasing the other text nodes
+    private void layoutVirtualParagraphs() {
+        TextArea textArea = getSkinnable();
+        // Before the scroll pane has been sized, its viewport may be as large
+        // as the content, which is not what will be visible
+        Bounds viewportBounds = scrollPane.getViewportBounds();
+        double viewportHeight = (viewportBounds != null)
+                ? Math.min(viewportBounds.getHeight(), scrollPane.getHeight()) : 0;
+        int first = getParagraphIndexAt(textArea.getScrollTop());
+        int last = getParagraphIndexAt(textArea.getScrollTop() + viewportHeight);
+        int caretParagraph = TextAreaHelper.getParagraphIndex(textArea, textArea.getCaretPosition());
+        int anchorParagraph = TextAreaHelper.getParagraphIndex(textArea, textArea.getAnchor());
+
+        for (Iterator<Map.Entry<Integer, ParagraphText>> it = paragraphTexts.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Integer, ParagraphText> entry = it.next();
+            int paragraphIndex = entry.getKey();
+            if ((paragraphIndex < first || paragraphIndex > last)
+                    && paragraphIndex != caretParagraph && paragraphIndex != anchorParagraph) {
+                it.remove();
+                releaseParagraphText(entry.getValue());
+            }
+        }
+
+        for (int i = first; i <= last; i++) {
+            getParagraphText(i);
+        }
+        getParagraphText(caretParagraph);
+        getParagraphText(anchorParagraph);
+
+        double leftPadding = contentView.snappedLeftInset();
+        double topPadding = contentView.snappedTopInset();
+        double paragraphHeight = getParagraphHeight();
+        for (ParagraphText paragraphNode : paragraphTexts.values()) {
+            paragraphNode.setLayoutX(leftPadding);
+            paragraphNode.setLayoutY(topPadding + paragraphNode.paragraphIndex * paragraphHeight);
+        }
+    }
+
+    // Updates the text nodes in virtual mode after paragraphs were changed,
+    // added or removed
+    private void virtualParagraphsChanged(ListChangeListener.Change<? extends CharSequence> change) {
+        List<? extends CharSequence> paragraphs = change.getList();
+        int from = change.getFrom();
+        int to = change.getTo();
+
+        if (change.wasReplaced()) {
+            for (int i = from; i < to; i++) {
+                CharSequence paragraph = paragraphs.get(i);
+                ParagraphText paragraphNode = paragraphTexts.get(i);
+                if (paragraphNode != null) {
+                    paragraphNode.setText(paragraph.toString());
+                }
+                if (longestParagraph >= 0) {
+                    if (i == longestParagraph && paragraph.length() < longestParagraphLength) {
+                        longestParagraph = -1;
+                    } else if (paragraph.length() >= longestParagraphLength) {
+                        longestParagraph = i;
+                        longestParagraphLength = paragraph.length();
+                    }
+                }
+            }
+            return;
+        }
+
+        // The indices of the paragraphs after the added or removed ones have
+        // changed, so all text nodes are released and acquired again in the
+        // next layout pass
+        for (ParagraphText paragraphNode : paragraphTexts.values()) {
+            releaseParagraphText(paragraphNode);
+        }
+        paragraphTexts.clear();
+
+        if (longestParagraph >= 0) {
+            if (change.wasAdded()) {
+                if (longestParagraph >= from) {
+                    longestParagraph += to - from;
+                }
+                for (int i = from; i < to; i++) {
+                    if (paragraphs.get(i).length() > longestParagraphLength) {
+                        longestParagraph = i;
+                        longestParagraphLength = paragraphs.get(i).length();
+                    }
+                }
+            } else {
+                int removedSize = change.getRemovedSize();
+                if (longestParagraph >= from + removedSize) {
+                    longestParagraph -= removedSize;
+                } else if (longestParagraph >= from) {
+                    longestParagraph = -1;
+                }
+            }
+        }
+    }
+
+    // Returns the paragraph with the most characters, which is used to
+    // estimate the preferred width of the content in virtual mode
+    private CharSequence getLongestParagraph() {
+        List<CharSequence> paragraphs = getSkinnable().getParagraphs();
+        if (longestParagraph < 0 || longestParagraph >= paragraphs.size()) {
+            longestParagraph = 0;
+            longestParagraphLength = paragraphs.get(0).length();
+            for (int i = 1, n = paragraphs.size(); i < n; i++) {
+                int length = paragraphs.get(i).length();
+                if (length > longestParagraphLength) {
+                    longestParagraph = i;
+                    longestParagraphLength = length;
+                }
+            }
+        }
+        return paragraphs.get(longestParagraph);
+    }
+
+    // Answers the line and range queries of assistive technologies in
+    // virtual mode, where every paragraph is a single line
+    private Object queryVirtualAccessibleAttribute(AccessibleAttribute attribute, Object... parameters) {
+        TextArea textArea = getSkinnable();
+        switch (attribute) {
+            case LINE_FOR_OFFSET: {
+                int offset = (Integer)parameters[0];
+                if (offset > textArea.getLength()) return null;
+                return TextAreaHelper.getParagraphIndex(textArea, offset);
+            }
+            case LINE_START:
+            case LINE_END: {
+                int lineIndex = (Integer)parameters[0];
+                if (lineIndex < 0 || lineIndex >= textArea.getParagraphs().size()) return null;
+                int lineStart = TextAreaHelper.getParagraphOffset(textArea, lineIndex);
+                return (attribute == AccessibleAttribute.LINE_START)
+                        ? lineStart : lineStart + textArea.getParagraphs().get(lineIndex).length();
+            }
+            case BOUNDS_FOR_RANGE: {
+                // Only the part of the range in its first paragraph is reported
+                int start = (Integer)parameters[0];
+                int end = (Integer)parameters[1];
+                Text paragraphNode = getTextNodeAt(start);
+                int paragraphStart = getTextNodeStart(paragraphNode);
+                int paragraphEnd = paragraphStart + paragraphNode.getText().length();
+                return paragraphNode.queryAccessibleAttribute(attribute,
+                        start - paragraphStart, Math.min(end, paragraphEnd) - paragraphStart);
+            }
+            case OFFSET_AT_POINT: {
+                Point2D point = contentView.screenToLocal((Point2D)parameters[0]);
+                return (point == null) ? null : getIndex(point.getX(), point.getY()).getCharIndex();
+            }
+            default: return super.queryAccessibleAttribute(attribute, parameters);
+        }
+    }
+
 
 
     /* ************************************************************************
@@ -1193,6 +1490,11 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
      *
      **************************************************************************/
 
+    // The text node of a paragraph in virtual mode
+    private static final class ParagraphText extends Text {
+        private int paragraphIndex = -1;
+    }
+
     private class ContentView extends Region {
         {
             getStyleClass().add("content");
@@ -1225,11 +1527,16 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             if (computedPrefWidth < 0) {
                 double prefWidth = 0;
 
-                for (Node node : paragraphNodes.getChildren()) {
-                    Text paragraphNode = (Text)node;
-                    prefWidth = Math.max(prefWidth,
-                            Utils.computeTextWidth(paragraphNode.getFont(),
-                                    paragraphNode.getText(), 0));
+                if (virtual) {
+                    prefWidth = Utils.computeTextWidth(getSkinnable().getFont(),
+                            getLongestParagraph().toString(), 0);
+                } else {
+                    for (Node node : paragraphNodes.getChildren()) {
+                        Text paragraphNode = (Text)node;
+                        prefWidth = Math.max(prefWidth,
+                                Utils.computeTextWidth(paragraphNode.getFont(),
+                                        paragraphNode.getText(), 0));
+                    }
                 }
 
                 prefWidth += snappedLeftInset() + snappedRightInset();
@@ -1256,13 +1563,18 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
                 double prefHeight = 0;
 
-                for (Node node : paragraphNodes.getChildren()) {
-                    Text paragraphNode = (Text)node;
-                    prefHeight += Utils.computeTextHeight(
-                            paragraphNode.getFont(),
-                            paragraphNode.getText(),
-                            wrappingWidth,
-                            paragraphNode.getBoundsType());
+                if (virtual) {
+                    // Paragraphs are not wrapped in virtual mode
+                    prefHeight = getSkinnable().getParagraphs().size() * getParagraphHeight();
+                } else {
+                    for (Node node : paragraphNodes.getChildren()) {
+                        Text paragraphNode = (Text)node;
+                        prefHeight += Utils.computeTextHeight(
+                                paragraphNode.getFont(),
+                                paragraphNode.getText(),
+                                wrappingWidth,
+                                paragraphNode.getBoundsType());
+                    }
                 }
 
                 prefHeight += snappedTopInset() + snappedBottomInset();
@@ -1303,16 +1615,20 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
             final List<Node> paragraphNodesChildren = paragraphNodes.getChildren();
 
-            for (int i = 0; i < paragraphNodesChildren.size(); i++) {
-                Node node = paragraphNodesChildren.get(i);
-                Text paragraphNode = (Text)node;
-                paragraphNode.setWrappingWidth(wrappingWidth);
+            if (virtual) {
+                layoutVirtualParagraphs();
+            } else {
+                for (int i = 0; i < paragraphNodesChildren.size(); i++) {
+                    Node node = paragraphNodesChildren.get(i);
+                    Text paragraphNode = (Text)node;
+                    paragraphNode.setWrappingWidth(wrappingWidth);
 
-                Bounds bounds = paragraphNode.getBoundsInLocal();
-                paragraphNode.setLayoutX(leftPadding);
-                paragraphNode.setLayoutY(y);
+                    Bounds bounds = paragraphNode.getBoundsInLocal();
+                    paragraphNode.setLayoutX(leftPadding);
+                    paragraphNode.setLayoutY(y);
 
-                y += bounds.getHeight();
+                    y += bounds.getHeight();
+                }
             }
 
             if (promptNode != null) {
@@ -1345,15 +1661,8 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
                 // Position the handle for the anchor. This could be handle1 or handle2.
                 // Do this before positioning the actual caret.
                 if (selection.getLength() > 0) {
-                    int paragraphIndex = paragraphNodesChildren.size();
-                    int paragraphOffset = textArea.getLength() + 1;
-                    Text paragraphNode = null;
-                    do {
-                        paragraphNode = (Text)paragraphNodesChildren.get(--paragraphIndex);
-                        paragraphOffset -= paragraphNode.getText().length() + 1;
-                    } while (anchorPos < paragraphOffset);
-
-                    updateTextNodeCaretPos(anchorPos - paragraphOffset);
+                    Text paragraphNode = getTextNodeAt(anchorPos);
+                    updateTextNodeCaretPos(anchorPos);
                     caretPath.getElements().clear();
                     caretPath.getElements().addAll(paragraphNode.getCaretShape());
                     caretPath.setLayoutX(paragraphNode.getLayoutX());
@@ -1372,24 +1681,18 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
 
             {
                 // Position caret
-                int paragraphIndex = paragraphNodesChildren.size();
-                int paragraphOffset = textArea.getLength() + 1;
-
-                Text paragraphNode = null;
-                do {
-                    paragraphNode = (Text)paragraphNodesChildren.get(--paragraphIndex);
-                    paragraphOffset -= paragraphNode.getText().length() + 1;
-                } while (caretPos < paragraphOffset);
-
-                updateTextNodeCaretPos(caretPos - paragraphOffset);
+                Text paragraphNode = getTextNodeAt(caretPos);
+                updateTextNodeCaretPos(caretPos);
 
                 caretPath.getElements().clear();
                 caretPath.getElements().addAll(paragraphNode.getCaretShape());
 
                 caretPath.setLayoutX(paragraphNode.getLayoutX());
 
-                // TODO: Remove this temporary workaround for RT-27533
-                paragraphNode.setLayoutX(2 * paragraphNode.getLayoutX() - paragraphNode.getBoundsInParent().getMinX());
+                if (!virtual) {
+                    // TODO: Remove this temporary workaround for RT-27533
+                    paragraphNode.setLayoutX(2 * paragraphNode.getLayoutX() - paragraphNode.getBoundsInParent().getMinX());
+                }
 
                 caretPath.setLayoutY(paragraphNode.getLayoutY());
                 if (oldCaretBounds == null || !oldCaretBounds.equals(caretPath.getBoundsInParent())) {
@@ -1398,14 +1701,20 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
             }
 
             // Update selection fg and bg
-            int start = selection.getStart();
-            int end = selection.getEnd();
+            boolean selectionVisible = false;
             for (int i = 0, max = paragraphNodesChildren.size(); i < max; i++) {
                 Node paragraphNode = paragraphNodesChildren.get(i);
                 Text textNode = (Text)paragraphNode;
+                if (!textNode.isVisible()) {
+                    // An unused text node in virtual mode
+                    continue;
+                }
+                int paragraphStart = getTextNodeStart(textNode);
                 int paragraphLength = textNode.getText().length() + 1;
-                if (end > start && start < paragraphLength) {
-                    textNode.setSelectionStart(start);
+                int start = selection.getStart() - paragraphStart;
+                int end = selection.getEnd() - paragraphStart;
+                if (end > start && end > 0 && start < paragraphLength) {
+                    textNode.setSelectionStart(Math.max(0, start));
                     textNode.setSelectionEnd(Math.min(end, paragraphLength));
 
                     Path selectionHighlightPath = new Path();
@@ -1416,17 +1725,17 @@ public class TextAreaSkin extends TextInputControlSkin<TextArea> {
                         selectionHighlightPath.getElements().addAll(selectionShape);
                     }
                     selectionHighlightGroup.getChildren().add(selectionHighlightPath);
-                    selectionHighlightGroup.setVisible(true);
+                    selectionVisible = true;
                     selectionHighlightPath.setLayoutX(textNode.getLayoutX());
                     selectionHighlightPath.setLayoutY(textNode.getLayoutY());
-                    updateHighlightFill();
                 } else {
                     textNode.setSelectionStart(-1);
                     textNode.setSelectionEnd(-1);
-                    selectionHighlightGroup.setVisible(false);
                 }
-                start = Math.max(0, start - paragraphLength);
-                end   = Math.max(0, end   - paragraphLength);
+            }
+            selectionHighlightGroup.setVisible(selectionVisible);
+            if (selectionVisible) {
+                updateHighlightFill();
             }
 
             if (SHOW_HANDLES) {
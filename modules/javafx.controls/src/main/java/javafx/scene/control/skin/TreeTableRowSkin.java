@@ -38,6 +38,7 @@ import javafx.scene.control.TreeTablePosition;
 import javafx.scene.control.TreeTableRow;
 import javafx.scene.control.TreeTableView;
 
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -143,6 +144,10 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                 registerChangeListener(fixedCellSizeProperty, e -> {
                     fixedCellSize = fixedCellSizeProperty.get();
                     fixedCellSizeEnabled = fixedCellSize > 0;
+
+                    // the set of columns with cells depends on the fixed cell size
+                    isDirty = true;
+                    getSkinnable().requestLayout();
                 });
                 fixedCellSize = fixedCellSizeProperty.get();
                 fixedCellSizeEnabled = fixedCellSize > 0;
@@ -396,6 +401,20 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
         }
     }
 
+    /** {@inheritDoc} */
+    @Override double getFixedCellSize() {
+        TreeTableView<T> tableView = getSkinnable().getTreeTableView();
+        return tableView == null ? -1 : tableView.getFixedCellSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override TableViewSkinBase<?,?,?,?,?> getTableSkin() {
+        // not using the treeTableViewSkin field, as this is called from the constructor
+        TreeTableView<T> tableView = getSkinnable().getTreeTableView();
+        return tableView != null && tableView.getSkin() instanceof TreeTableViewSkin ?
+                (TreeTableViewSkin<?>) tableView.getSkin() : null;
+    }
+
     private void updateTableViewSkin() {
         TreeTableView<T> tableView = getSkinnable().getTreeTableView();
         if (tableView != null && tableView.getSkin() instanceof TreeTableViewSkin) {
@@ -471,7 +490,9 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                                 /* This is the row-based case */
                                 column = treeTableView.getVisibleLeafColumn(0);
                             }
-                            TreeTableCell<T,?> cell = cellsMap.get(column).get();
+                            // cells only exist for the columns that are shown
+                            Reference<TreeTableCell<T,?>> cellRef = cellsMap.get(column);
+                            TreeTableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                             if (cell != null) selection.add(cell);
                         }
                         return FXCollections.observableArrayList(selection);
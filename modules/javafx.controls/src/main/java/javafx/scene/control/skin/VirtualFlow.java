@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.ParentHelper;
+import com.sun.javafx.scene.control.CellSizeIndex;
 import com.sun.javafx.scene.control.Logging;
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.VirtualScrollBar;
@@ -72,6 +73,7 @@ import com.sun.javafx.logging.PlatformLogger;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -117,6 +119,18 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private static final int DEFAULT_IMPROVEMENT = 2;
 
+    /**
+     * The maximum number of cells that are prepared ahead of the viewport, in
+     * the direction of scrolling, after a layout pass.
+     */
+    private static final int PREFETCH_CELL_COUNT = 3;
+
+    /**
+     * The maximum amount of time, in nanoseconds, spent preparing cells ahead
+     * of the viewport in a single pulse.
+     */
+    private static final long PREFETCH_TIME_BUDGET = 2_000_000L;
+
 
 
     /* *************************************************************************
@@ -187,11 +201,29 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     /**
      * A structure containing cells that can be reused later. These are cells
      * that at one time were needed to populate the view, but now are no longer
-     * needed. We keep them here until they are needed again.
+     * needed. We keep them here until they are needed again. The pile is
+     * indexed by the item index of the cells, so that a cell which still
+     * represents the requested item can be found without a scan.
      * <p>
      * This is package private ONLY FOR TESTING
      */
-    final ArrayLinkedList<T> pile = new ArrayLinkedList<T>();
+    final CellPile<T> pile = new CellPile<T>();
+
+    /**
+     * The direction of the last pixel scroll, 1 when scrolling towards the
+     * end, -1 when scrolling towards the start, and 0 if the flow has not
+     * been scrolled by pixels. Jumps to a position or index do not change it,
+     * as there is no direction to prepare cells in.
+     */
+    private int scrollDirection;
+
+    /**
+     * The scene on which the prefetch pulse listener is registered, or null
+     * if no prefetch is pending.
+     */
+    private Scene prefetchScene;
+
+    private final Runnable prefetchPulseListener = this::runPrefetch;
 
     /**
      * A special cell used to accumulate bounds, such that we reduce object
@@ -280,8 +312,11 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      * The list is not expected to be complete, but it is always up to date.
      * When the size of the items in the backing list changes, this list is
      * cleared.
+     * The cache also maintains prefix sums of the sizes, so that the offset
+     * of a cell and the cell at a given offset can be found in logarithmic
+     * time, rather than by walking over all cells preceding it.
      */
-    private ArrayList<Double> itemSizeCache = new ArrayList<>();
+    private final CellSizeIndex itemSizeCache = new CellSizeIndex();
 
     // used for panning the virtual flow
     private double lastX;
@@ -1375,14 +1410,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         T cell = null;
         // Fix for RT-12822. We try to retrieve the cell from the pile rather
         // than just grab a random cell from the pile (or create another cell).
-        for (int i = 0, max = pile.size(); i < max; i++) {
-            T _cell = pile.get(i);
-            assert _cell != null;
-            if (getCellIndex(_cell) == prefIndex) {
-                cell = _cell;
-                pile.remove(i);
-                break;
-            }
+        T _cell = pile.getByIndex(prefIndex);
+        if (_cell != null && getCellIndex(_cell) == prefIndex) {
+            cell = pile.removeByIndex(prefIndex);
         }
 
         if (cell == null && !pile.isEmpty()) {
@@ -1724,6 +1754,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         // Finally, update the scroll bars
         updateScrollBarsAndCells(false);
 
+        // Prepare the cells which are about to scroll into view
+        scrollDirection = delta > 0 ? 1 : -1;
+        schedulePrefetch();
+
         // notify
         return answer;
     }
@@ -1758,16 +1792,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         }
 
         // check the pile
-        for (int i = 0; i < pile.size(); i++) {
-            T cell = pile.get(i);
-            if (getCellIndex(cell) == index) {
-                // Note that we don't remove from the pile: if we do it leads
-                // to a severe performance decrease. This seems to be OK, as
-                // getCell() is only used for cell measurement purposes.
-                // pile.remove(i);
-                resizeCell(cell);
-                return cell;
-            }
+        T pileCell = pile.getByIndex(index);
+        if (pileCell != null && getCellIndex(pileCell) == index) {
+            // Note that we don't remove from the pile: if we do it leads
+            // to a severe performance decrease. This seems to be OK, as
+            // getCell() is only used for cell measurement purposes.
+            resizeCell(pileCell);
+            return pileCell;
         }
 
         // We need to use the accumCell and return that
@@ -1891,7 +1922,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     private final void setViewportBreadth(double value) {
         this.viewportBreadth = value;
     }
-    private final double getViewportBreadth() {
+    final double getViewportBreadth() {
         return viewportBreadth;
     }
 
@@ -2799,7 +2830,87 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private void addToPile(T cell) {
         assert cell != null;
-        pile.addLast(cell);
+        pile.add(cell, getCellIndex(cell));
+    }
+
+    /**
+     * Schedules the preparation of the cells just outside of the viewport
+     * once the layout pass of the current pulse has completed.
+     */
+    private void schedulePrefetch() {
+        if (scrollDirection == 0 || prefetchScene != null) return;
+        Scene scene = getScene();
+        if (scene == null) return;
+        prefetchScene = scene;
+        scene.addPostLayoutPulseListener(prefetchPulseListener);
+    }
+
+    private void runPrefetch() {
+        if (prefetchScene != null) {
+            prefetchScene.removePostLayoutPulseListener(prefetchPulseListener);
+            prefetchScene = null;
+        }
+        if (getScene() != null) {
+            prefetchCells();
+        }
+    }
+
+    /**
+     * Prepares the cells for the items just outside of the viewport in the
+     * direction of the last scroll, so that when they scroll into view they
+     * can be picked from the pile already updated, styled and sized, instead
+     * of being updated while laying out the flow. Cells on the pile which
+     * represent items behind the viewport are used for this, and as long as
+     * there are not enough of them, up to {@link #PREFETCH_CELL_COUNT} new
+     * cells are created, which then stay on the pile to be recycled.
+     * This has package access ONLY FOR TESTING.
+     */
+    void prefetchCells() {
+        if (scrollDirection == 0 || cells.isEmpty() || getCellFactory() == null) return;
+
+        final int cellCount = getCellCount();
+        final int firstIndex = getCellIndex(cells.getFirst());
+        final int lastIndex = getCellIndex(cells.getLast());
+        final long deadline = System.nanoTime() + PREFETCH_TIME_BUDGET;
+
+        for (int i = 1; i <= PREFETCH_CELL_COUNT; i++) {
+            int index = scrollDirection > 0 ? lastIndex + i : firstIndex - i;
+            if (index < 0 || index >= cellCount) break;
+
+            T cell = pile.getByIndex(index);
+            if (cell != null && getCellIndex(cell) == index) continue;
+
+            cell = scrollDirection > 0 ?
+                    removeSpareCellFromPile(firstIndex, lastIndex + PREFETCH_CELL_COUNT) :
+                    removeSpareCellFromPile(firstIndex - PREFETCH_CELL_COUNT, lastIndex);
+            if (cell == null) {
+                if (pile.size() >= PREFETCH_CELL_COUNT) break;
+                cell = getCellFactory().call(this);
+                cell.getProperties().put(NEW_CELL, null);
+                sheetChildren.add(cell);
+            }
+
+            setCellIndex(cell, index);
+            resizeCell(cell);
+            cell.setVisible(false);
+            addToPile(cell);
+
+            if (System.nanoTime() > deadline) break;
+        }
+    }
+
+    /**
+     * Removes a cell from the pile which does not represent an item in the
+     * given range, or returns null if there is no such cell.
+     */
+    private T removeSpareCellFromPile(int fromIndex, int toIndex) {
+        for (int i = pile.size() - 1; i >= 0; i--) {
+            int index = getCellIndex(pile.get(i));
+            if (index < fromIndex || index > toIndex) {
+                return pile.remove(i);
+            }
+        }
+        return null;
     }
 
     private void cleanPile() {
@@ -2901,15 +3012,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             return maxOff - absoluteOffset;
         }
 
-        for (int i = 0; i < localCellCount; i++) {
-            double h = getCellSize(i);
-            if (h < 0) h = estSize;
-            if (bound + h > absoluteOffset) {
-                return absoluteOffset - bound;
-            }
-            bound += h;
+        int i = itemSizeCache.getIndexAt(absoluteOffset, estSize, localCellCount);
+        if (i < 0) {
+            return 0d;
         }
-        return 0d;
+        bound = itemSizeCache.getOffset(i, estSize);
+        return absoluteOffset - bound;
     }
 
     private void adjustPositionToIndex(int index) {
@@ -2920,13 +3028,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (cellCount <= 0) {
             setPosition(0.0f);
         } else {
-            double targetOffset = 0;
             double estSize = estimatedSize/cellCount;
-            for (int i = 0; i < index; i++) {
-                double cz = getCellSize(i);
-                if (cz < 0) cz = estSize;
-                targetOffset = targetOffset+ cz;
-            }
+            double targetOffset = itemSizeCache.getOffset(index, estSize);
             this.absoluteOffset = (estimatedSize < viewportLength)  ? 0  : targetOffset;
             adjustPosition();
         }
@@ -2981,15 +3084,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeBaseOffset(int index) {
-        double baseOffset = 0d;
         int currentCellCount = getCellCount();
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < index; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            baseOffset += nextSize;
-        }
-        return baseOffset;
+        return itemSizeCache.getOffset(index, estSize);
     }
 
     /**
@@ -3001,15 +3098,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex(int currentCellCount) {
-        double total = 0;
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < currentCellCount; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            total = total + nextSize;
-            if (total > absoluteOffset) {
-                return i;
-            }
+        int i = itemSizeCache.getIndexAt(absoluteOffset, estSize, currentCellCount);
+        if (i >= 0) {
+            return i;
         }
         return currentCellCount == 0 ? 0 : currentCellCount - 1;
     }
@@ -3045,24 +3137,28 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (idx < 0) return -1;
         // is the current cache long enough to contain idx?
         if (itemSizeCache.size() > idx) {
-            // is there a non-null value stored in the cache?
-            if (itemSizeCache.get(idx) != null) {
+            // is there a known value stored in the cache?
+            if (itemSizeCache.isKnown(idx)) {
                 return itemSizeCache.get(idx);
             }
         }
         if (!create) return -1;
         boolean doRelease = false;
 
-        // Make sure we have enough space in the cache to store this index
-        while (idx >= itemSizeCache.size()) {
-            itemSizeCache.add(itemSizeCache.size(), null);
-        }
-
         double answer = 1d;
         if (getFixedCellSize() > 0) {
             answer = getFixedCellSize();
-            itemSizeCache.set(idx, answer);
+            // All cells have this size, so unknown entries are estimated at
+            // exactly this size. Only grow the cache contiguously, so that
+            // jumping far into a very large list does not allocate an entry
+            // for each cell before it.
+            if (idx <= itemSizeCache.size()) {
+                itemSizeCache.set(idx, answer);
+            }
         } else {
+            // Make sure we have enough space in the cache to store this index
+            itemSizeCache.ensureSize(idx + 1);
+
             // Do we have a visible cell for this index?
             T cell = getVisibleCell(idx);
             if (cell == null) { // we might get the accumcell here
@@ -3097,10 +3193,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         int cellIndex = cell.getIndex();
 
         if (itemSizeCache.size() > cellIndex) {
-            Double oldSize = itemSizeCache.get(cellIndex);
+            double oldSize = itemSizeCache.get(cellIndex);
             double newSize = getCellLength(cell);
             itemSizeCache.set(cellIndex, newSize);
-            if ((oldSize != null) && !oldSize.equals(newSize)) {
+            if ((oldSize >= 0) && (oldSize != newSize)) {
                 int currentIndex = computeCurrentIndex();
                 double oldOffset = computeViewportOffset(getPosition());
                 if ((cellIndex == currentIndex) && (oldOffset != 0)) {
@@ -3145,28 +3241,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 getOrCreateCellSize(itemSizeCache.size());
                 added++;
             }
-            cacheCount = itemSizeCache.size();
-            int cnt = 0;
-            double tot = 0d;
-            for (int i = 0; (i < itemCount && i < cacheCount); i++) {
-                Double il = itemSizeCache.get(i);
-                if (il != null) {
-                    tot = tot + il;
-                    cnt++;
-                }
-            }
+            int cnt = itemSizeCache.getKnownCount(itemCount);
+            double tot = itemSizeCache.getKnownSum(itemCount);
             this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             double estSize = estimatedSize / itemCount;
 
             if (keepRatio) {
-                double newOffset = 0;
-                for (int i = 0; i < oldIndex; i++) {
-                    double h = getCellSize(i);
-                    if (h < 0) {
-                        h = estSize;
-                    }
-                    newOffset += h;
-                }
+                double newOffset = itemSizeCache.getOffset(oldIndex, estSize);
                 this.absoluteOffset = newOffset + oldOffset;
                 adjustPosition();
             }
@@ -3404,4 +3485,93 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             }
         }
     }
+
+    /**
+     * The pile of cells which are not currently used to make up the view.
+     * Besides the list of cells, the pile keeps a map from the item index each
+     * cell represented when it was added to its position in the list, so that
+     * a cell can be looked up by item index in constant time. The order of the
+     * cells in the pile is not significant, cells are removed by moving the
+     * last cell into their place.
+     * <p>
+     * This class is package private solely for the sake of testing.
+     */
+    static final class CellPile<T> {
+        private final ArrayList<T> cells = new ArrayList<>();
+        private final ArrayList<Integer> indices = new ArrayList<>();
+        private final HashMap<Integer, Integer> positions = new HashMap<>();
+
+        public int size() {
+            return cells.size();
+        }
+
+        public boolean isEmpty() {
+            return cells.isEmpty();
+        }
+
+        public T get(int i) {
+            return cells.get(i);
+        }
+
+        /**
+         * Adds a cell to the pile. If another cell was added for the same
+         * item index, it remains on the pile but can no longer be found
+         * by index.
+         */
+        public void add(T cell, int index) {
+            if (index >= 0) {
+                positions.put(index, cells.size());
+            }
+            cells.add(cell);
+            indices.add(index);
+        }
+
+        /**
+         * Returns the cell added for the given item index, or null.
+         */
+        public T getByIndex(int index) {
+            Integer pos = positions.get(index);
+            return pos == null ? null : cells.get(pos);
+        }
+
+        /**
+         * Removes and returns the cell added for the given item index, or
+         * returns null.
+         */
+        public T removeByIndex(int index) {
+            Integer pos = positions.get(index);
+            return pos == null ? null : remove(pos);
+        }
+
+        public T removeLast() {
+            return cells.isEmpty() ? null : remove(cells.size() - 1);
+        }
+
+        public T remove(int i) {
+            T cell = cells.get(i);
+            int index = indices.get(i);
+            if (index >= 0 && Integer.valueOf(i).equals(positions.get(index))) {
+                positions.remove(index);
+            }
+            int last = cells.size() - 1;
+            if (i != last) {
+                T lastCell = cells.get(last);
+                int lastIndex = indices.get(last);
+                cells.set(i, lastCell);
+                indices.set(i, lastIndex);
+                if (lastIndex >= 0 && Integer.valueOf(last).equals(positions.get(lastIndex))) {
+                    positions.put(lastIndex, i);
+                }
+            }
+            cells.remove(last);
+            indices.remove(last);
+            return cell;
+        }
+
+        public void clear() {
+            cells.clear();
+            indices.clear();
+            positions.clear();
+        }
+    }
 }
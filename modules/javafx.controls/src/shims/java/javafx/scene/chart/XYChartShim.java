@@ -24,6 +24,7 @@
  */
 package javafx.scene.chart;
 
+import java.util.List;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.chart.XYChart.Data;
@@ -43,6 +44,10 @@ public class XYChartShim {
         c.updateAxisRange();
     }
 
+    public static <X, Y> void addRangeData(XYChart<X, Y> c, Series<X, Y> series, List<X> xData, List<Y> yData) {
+        c.addRangeData(series, xData, yData);
+    }
+
     public static void removeSeriesFromDisplay(XYChart xy, Series<String, Number> series) {
         xy.removeSeriesFromDisplay(series);
     }
@@ -107,6 +107,14 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
         return super.accumCell;
     }
 
+    public CellPile<T> get_pile() {
+        return super.pile;
+    }
+
+    public void shim_prefetchCells() {
+        super.prefetchCells();
+    }
+
     @Override
     public boolean addTrailingCells(boolean fillEmptyCells) {
         return super.addTrailingCells(fillEmptyCells);
@@ -135,6 +143,14 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
         return list.size();
     }
 
+    public static <T> T pile_getByIndex(VirtualFlow.CellPile<T> pile, int index) {
+        return pile.getByIndex(index);
+    }
+
+    public static int pile_size(VirtualFlow.CellPile<?> pile) {
+        return pile.size();
+    }
+
 
 
     public static class ArrayLinkedListShim<T> extends VirtualFlow.ArrayLinkedList<T> {
@@ -196,4 +212,40 @@ public class VirtualFlowShim<T extends IndexedCell> extends VirtualFlow<T> {
 
     }
 
+    public static class CellPileShim<T> {
+        private final VirtualFlow.CellPile<T> pile = new VirtualFlow.CellPile<>();
+
+        public int size() {
+            return pile.size();
+        }
+
+        public T get(int i) {
+            return pile.get(i);
+        }
+
+        public void add(T cell, int index) {
+            pile.add(cell, index);
+        }
+
+        public T getByIndex(int index) {
+            return pile.getByIndex(index);
+        }
+
+        public T removeByIndex(int index) {
+            return pile.removeByIndex(index);
+        }
+
+        public T remove(int i) {
+            return pile.remove(i);
+        }
+
+        public T removeLast() {
+            return pile.removeLast();
+        }
+
+        public void clear() {
+            pile.clear();
+        }
+    }
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import com.sun.javafx.scene.control.CellSizeIndex;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CellSizeIndexTest {
+
+    private CellSizeIndex index;
+
+    @Before
+    public void setup() {
+        index = new CellSizeIndex();
+    }
+
+    private static double bruteOffset(double[] sizes, int end, double estimate) {
+        double total = 0;
+        for (int i = 0; i < end; i++) {
+            double s = (i < sizes.length) ? sizes[i] : -1;
+            total += (s < 0) ? estimate : s;
+        }
+        return total;
+    }
+
+    private static int bruteIndexAt(double[] sizes, double offset, double estimate, int count) {
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            double s = (i < sizes.length) ? sizes[i] : -1;
+            total += (s < 0) ? estimate : s;
+            if (total > offset) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        assertEquals(0, index.size());
+        assertEquals(-1, index.get(0), 0);
+        assertEquals(30, index.getOffset(3, 10), 0);
+        assertEquals(2, index.getIndexAt(25, 10, 5));
+        assertEquals(-1, index.getIndexAt(50, 10, 5));
+        assertEquals(-1, index.getIndexAt(0, 10, 0));
+    }
+
+    @Test
+    public void testSetGrowsWithUnknownEntries() {
+        index.set(5, 20);
+        assertEquals(6, index.size());
+        assertFalse(index.isKnown(4));
+        assertTrue(index.isKnown(5));
+        assertEquals(20, index.get(5), 0);
+        assertEquals(1, index.getKnownCount());
+        assertEquals(0, index.getKnownSum(5), 0);
+        assertEquals(20, index.getKnownSum(6), 0);
+    }
+
+    @Test
+    public void testReplacingAndForgettingSizes() {
+        index.set(0, 10);
+        index.set(1, 20);
+        index.set(1, 30);
+        assertEquals(40, index.getKnownSum(2), 0);
+        assertEquals(2, index.getKnownCount(2));
+        index.set(0, -1);
+        assertEquals(30, index.getKnownSum(2), 0);
+        assertEquals(1, index.getKnownCount(2));
+        assertEquals(35, index.getOffset(2, 5), 0);
+    }
+
+    @Test
+    public void testClear() {
+        index.set(100, 10);
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(0, index.getKnownCount());
+        assertEquals(0, index.getKnownSum(200), 0);
+    }
+
+    @Test
+    public void testIndexAtBoundaries() {
+        index.set(0, 10);
+        index.set(1, 20);
+        index.set(2, 30);
+        assertEquals(0, index.getIndexAt(0, 1, 3));
+        assertEquals(0, index.getIndexAt(9.5, 1, 3));
+        assertEquals(1, index.getIndexAt(10, 1, 3));
+        assertEquals(2, index.getIndexAt(59, 1, 3));
+        assertEquals(-1, index.getIndexAt(60, 1, 3));
+        // zero sized cells are skipped
+        index.set(1, 0);
+        assertEquals(2, index.getIndexAt(10, 1, 3));
+    }
+
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(42);
+        int count = 1000;
+        double[] sizes = new double[count];
+        Arrays.fill(sizes, -1);
+        for (int round = 0; round < 2000; round++) {
+            int i = random.nextInt(count);
+            double s = random.nextInt(10) == 0 ? -1 : random.nextInt(50);
+            sizes[i] = s;
+            index.set(i, s);
+        }
+        double estimate = 17;
+        double total = bruteOffset(sizes, count, estimate);
+        for (int i = 0; i <= count; i += 7) {
+            assertEquals(bruteOffset(sizes, i, estimate), index.getOffset(i, estimate), 1e-6);
+        }
+        for (int n = 0; n < 500; n++) {
+            double offset = random.nextDouble() * (total + 100);
+            // offsets close to the boundaries may legitimately differ by
+            // rounding, use whole numbers which are exact
+            offset = Math.floor(offset);
+            assertEquals(bruteIndexAt(sizes, offset, estimate, count),
+                         index.getIndexAt(offset, estimate, count));
+            assertEquals(bruteIndexAt(sizes, offset, estimate, count + 50),
+                         index.getIndexAt(offset, estimate, count + 50));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.com.sun.javafx.scene.control;
+
+import com.sun.javafx.scene.control.IndexRangeSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexRangeSetTest {
+
+    private IndexRangeSet set;
+
+    @Before
+    public void setup() {
+        set = new IndexRangeSet();
+    }
+
+    private static void assertSameAs(BitSet expected, IndexRangeSet actual) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        assertEquals(expected.length(), actual.length());
+        int n = 0;
+        for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1), n++) {
+            assertTrue(actual.get(i));
+            assertEquals(i, actual.select(n));
+            assertEquals(n, actual.rank(i));
+        }
+        for (int i = 0; i < expected.length() + 2; i++) {
+            assertEquals(expected.get(i), actual.get(i));
+            assertEquals(expected.nextSetBit(i), actual.nextSetBit(i));
+            assertEquals(expected.nextClearBit(i), actual.nextClearBit(i));
+            assertEquals(expected.previousSetBit(i), actual.previousSetBit(i));
+        }
+        // ranges are disjoint and never touch
+        for (int i = 1; i < actual.getRangeCount(); i++) {
+            assertTrue(actual.getRangeEnd(i - 1) < actual.getRangeStart(i));
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.cardinality());
+        assertEquals(0, set.length());
+        assertEquals(-1, set.nextSetBit(0));
+        assertEquals(-1, set.previousSetBit(100));
+        assertFalse(set.get(0));
+    }
+
+    @Test
+    public void testSetMergesAdjacentRanges() {
+        set.set(0, 5);
+        set.set(10, 15);
+        assertEquals(2, set.getRangeCount());
+        set.set(5, 10);
+        assertEquals(1, set.getRangeCount());
+        assertEquals(0, set.getRangeStart(0));
+        assertEquals(15, set.getRangeEnd(0));
+        assertEquals(15, set.cardinality());
+    }
+
+    @Test
+    public void testClearSplitsRange() {
+        set.set(0, 100);
+        set.clear(40, 60);
+        assertEquals(2, set.getRangeCount());
+        assertEquals(80, set.cardinality());
+        assertEquals(40, set.rank(60));
+        assertEquals(60, set.select(40));
+    }
+
+    @Test
+    public void testLargeRangeIsCheap() {
+        set.set(0, 5_000_000);
+        assertEquals(1, set.getRangeCount());
+        assertEquals(5_000_000, set.cardinality());
+        assertEquals(4_999_999, set.select(4_999_999));
+        assertEquals(2_500_000, set.rank(2_500_000));
+
+        set.insert(10, 1);
+        assertEquals(2, set.getRangeCount());
+        assertFalse(set.get(10));
+        assertEquals(5_000_001, set.length());
+
+        set.remove(10, 1);
+        assertEquals(1, set.getRangeCount());
+        assertEquals(5_000_000, set.length());
+    }
+
+    @Test
+    public void testInsertAndRemove() {
+        set.set(2, 6);
+        set.set(8);
+        set.insert(4, 3);
+        assertEquals(Arrays.asList(2, 3, 7, 8, 11), set.asList());
+        set.remove(3, 5);
+        assertEquals(Arrays.asList(2, 3, 6), set.asList());
+        set.remove(0, 3);
+        assertEquals(Arrays.asList(0, 3), set.asList());
+    }
+
+    @Test
+    public void testAndNot() {
+        set.set(0, 10);
+        set.set(20, 30);
+        IndexRangeSet other = new IndexRangeSet();
+        other.set(5, 25);
+        other.set(28);
+        IndexRangeSet result = set.andNot(other);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 25, 26, 27, 29), result.asList());
+        assertEquals(set, set.andNot(new IndexRangeSet()));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        set.set(0, 10);
+        IndexRangeSet copy = new IndexRangeSet(set);
+        set.clear(5);
+        assertTrue(copy.get(5));
+        assertEquals(10, copy.cardinality());
+        assertEquals(9, set.cardinality());
+    }
+
+    @Test
+    public void testListView() {
+        set.set(3, 6);
+        set.set(10);
+        List<Integer> list = set.asList();
+        assertEquals(4, list.size());
+        assertEquals(10, (int) list.get(3));
+        assertEquals(1, list.indexOf(4));
+        assertEquals(-1, list.indexOf(7));
+        assertTrue(list.contains(10));
+    }
+
+    @Test
+    public void testRandomOperationsMatchBitSet() {
+        Random random = new Random(7);
+        BitSet expected = new BitSet();
+        for (int step = 0; step < 2000; step++) {
+            int from = random.nextInt(200);
+            int to = from + random.nextInt(20);
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    set.set(from, to);
+                    expected.set(from, to);
+                    break;
+                case 2:
+                    set.clear(from, to);
+                    expected.clear(from, to);
+                    break;
+                case 3: {
+                    int count = to - from;
+                    set.insert(from, count);
+                    BitSet shifted = expected.get(0, from);
+                    for (int i = expected.nextSetBit(from); i >= 0; i = expected.nextSetBit(i + 1)) {
+                        shifted.set(i + count);
+                    }
+                    expected = shifted;
+                    break;
+                }
+                default: {
+                    int count = to - from;
+                    set.remove(from, count);
+                    BitSet shifted = expected.get(0, from);
+                    for (int i = expected.nextSetBit(to); i >= 0; i = expected.nextSetBit(i + 1)) {
+                        shifted.set(i - count);
+                    }
+                    expected = shifted;
+                    break;
+                }
+            }
+            if (step % 50 == 0) {
+                assertSameAs(expected, set);
+            }
+        }
+        assertSameAs(expected, set);
+    }
+}
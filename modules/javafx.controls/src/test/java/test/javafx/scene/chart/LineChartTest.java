@@ -31,9 +31,11 @@ import javafx.scene.Node;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.SampleBuffer;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
 import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import org.junit.Ignore;
@@ -44,6 +46,8 @@ import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class LineChartTest extends XYChartTestBase {
 
@@ -679,6 +683,71 @@ public class LineChartTest extends XYChartTestBase {
         assertArrayEquals(convertSeriesDataToPoint2D(expectedSeries).toArray(), findDataPointsFromPathLine(lineChart).toArray());
     }
 
+    @Test public void testSampleBufferIsDecimatedPerPixelColumn() {
+        startApp();
+        SampleBuffer buffer = new SampleBuffer(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            // a sawtooth between 0 and 30 with a period of 100 samples
+            buffer.add(i * 90.0 / 100_000, (i % 100) * 0.3);
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setSampleBuffer(buffer);
+        lineChart.getData().add(series);
+        pulse();
+
+        Path line = (Path) series.getNode();
+        ObservableList<PathElement> elements = line.getElements();
+        double width = lineChart.getXAxis().getWidth();
+        assertTrue(elements.get(0) instanceof MoveTo);
+        assertTrue(elements.size() > width);
+        assertTrue(elements.size() <= 4 * (width + 3));
+        assertEquals(0, countSymbols(lineChart, "chart-line-symbol"));
+
+        // every pixel column still reaches both the minimum and the maximum
+        final NumberAxis yAxis = (NumberAxis) lineChart.getYAxis();
+        double top = yAxis.getDisplayPosition(29.7);
+        double bottom = yAxis.getDisplayPosition(0);
+        int reachedTop = 0, reachedBottom = 0;
+        for (PathElement e : elements) {
+            double y = (e instanceof MoveTo) ? ((MoveTo) e).getY() : ((LineTo) e).getY();
+            if (Math.abs(y - top) < 1e-6) reachedTop++;
+            if (Math.abs(y - bottom) < 1e-6) reachedBottom++;
+        }
+        assertTrue(reachedTop >= width - 2);
+        assertTrue(reachedBottom >= width - 2);
+    }
+
+    @Test public void testSampleBufferStreamingReusesPathElements() {
+        startApp();
+        SampleBuffer buffer = new SampleBuffer(1000);
+        for (int i = 0; i < 1000; i++) {
+            buffer.add(i, i % 7);
+        }
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.setSampleBuffer(buffer);
+        lineChart.getData().add(series);
+        final NumberAxis xAxis = (NumberAxis) lineChart.getXAxis();
+        xAxis.setForceZeroInRange(false);
+        xAxis.setAutoRanging(true);
+        lineChart.getYAxis().setAutoRanging(true);
+        pulse();
+
+        assertTrue(xAxis.getUpperBound() >= 999);
+        assertTrue(xAxis.getUpperBound() < 1499);
+
+        Path line = (Path) series.getNode();
+        PathElement first = line.getElements().get(0);
+        for (int i = 1000; i < 1500; i++) {
+            buffer.add(i, i % 7);
+        }
+        pulse();
+
+        assertSame(first, line.getElements().get(0));
+        assertTrue(xAxis.getLowerBound() <= 500 && xAxis.getLowerBound() > 0);
+        assertTrue(xAxis.getUpperBound() >= 1499);
+        assertEquals(500, xAxis.getValueForDisplay(((MoveTo) first).getX()).doubleValue(), 1);
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
@@ -38,11 +38,15 @@ import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.chart.Axis;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.NumberAxisShim;
+import javafx.scene.text.Text;
 
 /**
  * All public members of NumberAxis are tested here .
@@ -312,4 +316,61 @@ public class NumberAxisTest {
         NumberAxisShim.calculateTickValues(axis, 500, range);
         NumberAxisShim.calculateMinorTickMarks(axis);
     }
+
+    @Test
+    public void testTickMarksAreReusedWhenRangeShifts() {
+        threeValueAxis.setSide(Side.BOTTOM);
+        threeValueAxis.setAutoRanging(false);
+        threeValueAxis.resize(500, 30);
+        threeValueAxis.layout();
+        assertEquals(11, threeValueAxis.getTickMarks().size());
+        Axis.TickMark<Number> fifty = threeValueAxis.getTickMarks().get(5);
+        assertEquals(50.0, fifty.getValue().doubleValue(), 0.0);
+        int childCount = threeValueAxis.getChildrenUnmodifiable().size();
+
+        threeValueAxis.setLowerBound(20);
+        threeValueAxis.setUpperBound(120);
+        threeValueAxis.layout();
+
+        List<Axis.TickMark<Number>> tickMarks = threeValueAxis.getTickMarks();
+        assertEquals(11, tickMarks.size());
+        assertSame(fifty, tickMarks.get(3));
+        assertEquals(childCount, threeValueAxis.getChildrenUnmodifiable().size());
+        for (int i = 0; i < tickMarks.size(); i++) {
+            assertEquals(20 + 10 * i, tickMarks.get(i).getValue().doubleValue(), 0.0);
+        }
+        List<String> labels = new ArrayList<>();
+        for (Node child : threeValueAxis.getChildrenUnmodifiable()) {
+            if (child instanceof Text) labels.add(((Text) child).getText());
+        }
+        assertTrue(labels.contains("120"));
+        assertFalse(labels.contains("10"));
+    }
+
+    @Test
+    public void testLabelsOfKeptTickMarksFollowTheFormatter() {
+        threeValueAxis.setSide(Side.BOTTOM);
+        threeValueAxis.setAutoRanging(false);
+        threeValueAxis.resize(500, 30);
+        threeValueAxis.layout();
+        Axis.TickMark<Number> fifty = threeValueAxis.getTickMarks().get(5);
+
+        threeValueAxis.setTickLabelFormatter(new StringConverter<Number>() {
+            @Override public String toString(Number value) {
+                return value.intValue() + "%";
+            }
+            @Override public Number fromString(String string) {
+                return null;
+            }
+        });
+        threeValueAxis.layout();
+
+        assertSame(fifty, threeValueAxis.getTickMarks().get(5));
+        List<String> labels = new ArrayList<>();
+        for (Node child : threeValueAxis.getChildrenUnmodifiable()) {
+            if (child instanceof Text) labels.add(((Text) child).getText());
+        }
+        assertTrue(labels.contains("50%"));
+        assertFalse(labels.contains("50"));
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.chart;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import javafx.scene.chart.SampleBuffer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SampleBufferTest {
+
+    private static void assertContents(SampleBuffer buffer, double... xs) {
+        assertEquals(xs.length, buffer.size());
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(xs[i], buffer.getX(i), 0);
+            assertEquals(-xs[i], buffer.getY(i), 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityMustBePositive() {
+        new SampleBuffer(0);
+    }
+
+    @Test
+    public void testAddKeepsMostRecentSamples() {
+        SampleBuffer buffer = new SampleBuffer(3);
+        buffer.add(1, -1);
+        buffer.add(2, -2);
+        assertContents(buffer, 1, 2);
+        buffer.add(3, -3);
+        buffer.add(4, -4);
+        buffer.add(5, -5);
+        assertContents(buffer, 3, 4, 5);
+        assertEquals(3, buffer.getCapacity());
+    }
+
+    @Test
+    public void testAddAllWrapsAround() {
+        SampleBuffer buffer = new SampleBuffer(4);
+        buffer.add(1, -1);
+        buffer.add(2, -2);
+        buffer.add(3, -3);
+        buffer.addAll(new double[] {0, 4, 5, 0}, new double[] {0, -4, -5, 0}, 1, 2);
+        assertContents(buffer, 2, 3, 4, 5);
+
+        buffer.addAll(new double[] {6, 7, 8, 9, 10, 11}, new double[] {-6, -7, -8, -9, -10, -11}, 0, 6);
+        assertContents(buffer, 8, 9, 10, 11);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        SampleBuffer buffer = new SampleBuffer(4);
+        buffer.add(1, 1);
+        buffer.getX(1);
+    }
+
+    @Test
+    public void testBoundsFollowEvictedSamples() {
+        SampleBuffer buffer = new SampleBuffer(3);
+        assertTrue(Double.isNaN(buffer.getMinX()));
+        buffer.add(1, 10);
+        buffer.add(2, Double.NaN);
+        buffer.add(3, -5);
+        assertEquals(1, buffer.getMinX(), 0);
+        assertEquals(3, buffer.getMaxX(), 0);
+        assertEquals(-5, buffer.getMinY(), 0);
+        assertEquals(10, buffer.getMaxY(), 0);
+
+        // evicts the maximum y
+        buffer.add(4, 0);
+        assertEquals(2, buffer.getMinX(), 0);
+        assertEquals(0, buffer.getMaxY(), 0);
+
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertTrue(Double.isNaN(buffer.getMaxY()));
+    }
+
+    @Test
+    public void testBoundsMatchContentsAfterRandomAppends() {
+        Random random = new Random(35);
+        SampleBuffer buffer = new SampleBuffer(50);
+        Deque<Double> expected = new ArrayDeque<>();
+        for (int round = 0; round < 200; round++) {
+            int length = random.nextInt(20);
+            double[] xs = new double[length];
+            double[] ys = new double[length];
+            for (int i = 0; i < length; i++) {
+                xs[i] = random.nextInt(1000);
+                ys[i] = -xs[i];
+                expected.addLast(xs[i]);
+                if (expected.size() > 50) expected.removeFirst();
+            }
+            if (length == 1) {
+                buffer.add(xs[0], ys[0]);
+            } else {
+                buffer.addAll(xs, ys, 0, length);
+            }
+            double min = Double.NaN, max = Double.NaN;
+            int i = 0;
+            for (double x : expected) {
+                assertEquals(x, buffer.getX(i++), 0);
+                min = (i == 1) ? x : Math.min(min, x);
+                max = (i == 1) ? x : Math.max(max, x);
+            }
+            assertEquals(expected.size(), buffer.size());
+            if (!expected.isEmpty()) {
+                assertEquals(min, buffer.getMinX(), 0);
+                assertEquals(max, buffer.getMaxX(), 0);
+                assertEquals(-max, buffer.getMinY(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidationIsFiredOnceUntilSizeIsQueried() {
+        SampleBuffer buffer = new SampleBuffer(10);
+        int[] count = new int[1];
+        buffer.addListener(o -> count[0]++);
+        buffer.add(1, 1);
+        buffer.add(2, 2);
+        buffer.addAll(new double[] {3, 4}, new double[] {3, 4}, 0, 2);
+        assertEquals(1, count[0]);
+
+        assertEquals(4, buffer.size());
+        buffer.add(5, 5);
+        assertEquals(2, count[0]);
+    }
+}
@@ -26,6 +26,9 @@
 package test.javafx.scene.chart;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.SimpleListProperty;
 import org.junit.Test;
@@ -44,8 +47,10 @@ import javafx.scene.chart.AxisShim;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.Chart;
 import javafx.scene.chart.ChartShim;
+import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
+import javafx.scene.chart.XYChartShim;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 
@@ -171,4 +176,67 @@ public class XYChartTest extends ChartTestBase {
             seriesProperty.add(new XYChart.Series<>());
         });
     }
+
+    @Test
+    public void testAutoRangeFollowsDataChanges() {
+        startApp();
+        yaxis.setForceZeroInRange(false);
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        XYChart.Data<String, Number> low = new XYChart.Data<>("a", 10);
+        XYChart.Data<String, Number> middle = new XYChart.Data<>("b", 50);
+        XYChart.Data<String, Number> high = new XYChart.Data<>("c", 1000);
+        series.getData().addAll(low, middle, high);
+        areachart.getData().add(series);
+        pulse();
+        assertEquals(1000, yaxis.getUpperBound(), 100);
+        assertEquals(3, ((CategoryAxis) areachart.getXAxis()).getCategories().size());
+
+        // removing a value inside the range keeps it
+        series.getData().remove(middle);
+        pulse();
+        assertEquals(1000, yaxis.getUpperBound(), 100);
+
+        // removing the maximum shrinks it
+        series.getData().remove(high);
+        pulse();
+        assertEquals(10, yaxis.getUpperBound(), 1);
+
+        // as does changing the value of the minimum
+        series.getData().add(new XYChart.Data<>("d", 20));
+        low.setYValue(-500);
+        pulse();
+        assertEquals(-500, yaxis.getLowerBound(), 50);
+        Assert.assertTrue(yaxis.getUpperBound() >= 20 && yaxis.getUpperBound() < 100);
+    }
+
+    @Test
+    public void testRangeDataKeepsTheDataValues() {
+        LineChart<Number, Number> chart = new LineChart<>(new NumberAxis(), new NumberAxis());
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.getData().addAll(new XYChart.Data<>(1, 30L),
+                                new XYChart.Data<>(2, 10L),
+                                new XYChart.Data<>(3, 20L));
+        List<Number> xData = new ArrayList<>();
+        List<Number> yData = new ArrayList<>();
+        XYChartShim.addRangeData(chart, series, xData, yData);
+
+        // only the bounds, with the type of the data
+        assertEquals(Arrays.asList(1, 3), xData);
+        assertEquals(Arrays.asList(10L, 30L), yData);
+    }
+
+    @Test
+    public void testRangeDataHasAllValuesWhenSomeAreNull() {
+        LineChart<Number, Number> chart = new LineChart<>(new NumberAxis(), new NumberAxis());
+        XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        series.getData().addAll(new XYChart.Data<>(1, 30),
+                                new XYChart.Data<>(2, null),
+                                new XYChart.Data<>(3, 10));
+        List<Number> xData = new ArrayList<>();
+        List<Number> yData = new ArrayList<>();
+        XYChartShim.addRangeData(chart, series, xData, yData);
+
+        assertEquals(Arrays.asList(1, 3), xData);
+        assertEquals(Arrays.asList(30, null, 10), yData);
+    }
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.scene.control;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import javafx.concurrent.Task;
+import javafx.scene.control.LazyTreeItem;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.javafx.tk.Toolkit;
+import test.com.sun.javafx.pgstub.StubToolkit;
+
+public class LazyTreeItemTest {
+
+    private final StubToolkit toolkit = (StubToolkit) Toolkit.getToolkit();
+
+    // Tasks are queued here instead of being run, so that each test
+    // controls when loading happens
+    private final List<Runnable> queue = new ArrayList<>();
+    private final List<Task<List<TreeItem<String>>>> tasks = new ArrayList<>();
+    private int childCount;
+    private boolean fail;
+
+    private LazyTreeItem<String> item;
+
+    @Before public void setup() {
+        toolkit.setAnimationTime(0);
+        item = new LazyTreeItem<>("root", i -> {
+            Task<List<TreeItem<String>>> task = new Task<List<TreeItem<String>>>() {
+                @Override protected List<TreeItem<String>> call() throws Exception {
+                    if (fail) {
+                        throw new Exception("load failed");
+                    }
+                    return createChildren(childCount);
+                }
+            };
+            tasks.add(task);
+            return task;
+        });
+        item.setExecutor(queue::add);
+    }
+
+    private static List<TreeItem<String>> createChildren(int count) {
+        List<TreeItem<String>> children = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            children.add(new TreeItem<>("child" + i));
+        }
+        return children;
+    }
+
+    private void runQueuedTasks() {
+        while (!queue.isEmpty()) {
+            queue.remove(0).run();
+        }
+    }
+
+    @Test public void isNotLeafAndNotLoadedUntilExpanded() {
+        assertFalse(item.isLeaf());
+        assertFalse(item.isLoaded());
+        assertTrue(item.getChildren().isEmpty());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test public void placeholderIsShownWhileLoading() {
+        TreeItem<String> placeholder = new TreeItem<>("Loading...");
+        item.setPlaceholder(placeholder);
+        childCount = 3;
+        item.setExpanded(true);
+
+        assertTrue(item.isLoading());
+        assertEquals(1, item.getChildren().size());
+        assertSame(placeholder, item.getChildren().get(0));
+
+        runQueuedTasks();
+
+        assertFalse(item.isLoading());
+        assertTrue(item.isLoaded());
+        assertEquals(3, item.getChildren().size());
+        assertEquals("child0", item.getChildren().get(0).getValue());
+        assertNull(placeholder.getParent());
+    }
+
+    @Test public void defaultPlaceholderHasNoValue() {
+        item.setExpanded(true);
+        assertEquals(1, item.getChildren().size());
+        assertNull(item.getChildren().get(0).getValue());
+    }
+
+    @Test public void emptyChildrenMakeALeaf() {
+        item.setExpanded(true);
+        runQueuedTasks();
+
+        assertTrue(item.isLoaded());
+        assertTrue(item.getChildren().isEmpty());
+        assertTrue(item.isLeaf());
+    }
+
+    @Test public void childrenAreLoadedOnlyOnce() {
+        childCount = 2;
+        item.setExpanded(true);
+        runQueuedTasks();
+        item.setExpanded(false);
+        item.setExpanded(true);
+
+        assertEquals(1, tasks.size());
+        assertTrue(queue.isEmpty());
+        assertEquals(2, item.getChildren().size());
+    }
+
+    @Test public void collapsingCancelsLoading() {
+        childCount = 2;
+        item.setExpanded(true);
+        item.setExpanded(false);
+
+        assertTrue(tasks.get(0).isCancelled());
+        assertFalse(item.isLoading());
+        assertFalse(item.isLoaded());
+        assertTrue(item.getChildren().isEmpty());
+
+        item.setExpanded(true);
+        runQueuedTasks();
+
+        assertEquals(2, tasks.size());
+        assertTrue(item.isLoaded());
+        assertEquals(2, item.getChildren().size());
+    }
+
+    @Test public void failureLeavesNoChildrenAndSetsException() {
+        fail = true;
+        item.setExpanded(true);
+        runQueuedTasks();
+
+        assertFalse(item.isLoading());
+        assertFalse(item.isLoaded());
+        assertTrue(item.getChildren().isEmpty());
+        assertEquals("load failed", item.getException().getMessage());
+
+        fail = false;
+        childCount = 1;
+        item.reload();
+        runQueuedTasks();
+
+        assertNull(item.getException());
+        assertEquals(1, item.getChildren().size());
+    }
+
+    @Test public void reloadReplacesChildren() {
+        childCount = 2;
+        item.setExpanded(true);
+        runQueuedTasks();
+
+        childCount = 5;
+        item.reload();
+        assertEquals(1, item.getChildren().size());
+        runQueuedTasks();
+
+        assertEquals(5, item.getChildren().size());
+    }
+
+    @Test public void largeResultsAreAddedInBatches() {
+        childCount = 25000;
+        item.setExpanded(true);
+        runQueuedTasks();
+
+        // The first batch has been added, ahead of the placeholder
+        int size = item.getChildren().size();
+        assertTrue(size > 1 && size < childCount);
+        assertTrue(item.isLoading());
+        assertNull(item.getChildren().get(size - 1).getValue());
+
+        for (int frame = 1; frame < 10 && item.isLoading(); frame++) {
+            toolkit.setAnimationTime(frame * 16);
+        }
+
+        assertTrue(item.isLoaded());
+        assertEquals(childCount, item.getChildren().size());
+        assertEquals("child24999", item.getChildren().get(childCount - 1).getValue());
+    }
+
+    @Test public void largeCollectionsThatAreNotListsAreAddedInOrder() {
+        LazyTreeItem<String> set = new LazyTreeItem<>("root", i -> new Task<Collection<TreeItem<String>>>() {
+            @Override protected Collection<TreeItem<String>> call() {
+                return new LinkedHashSet<>(createChildren(25000));
+            }
+        });
+        set.setExecutor(queue::add);
+        set.setExpanded(true);
+        runQueuedTasks();
+
+        for (int frame = 1; frame < 10 && set.isLoading(); frame++) {
+            toolkit.setAnimationTime(frame * 16);
+        }
+
+        assertTrue(set.isLoaded());
+        assertEquals(25000, set.getChildren().size());
+        for (int i = 0; i < 25000; i++) {
+            assertEquals("child" + i, set.getChildren().get(i).getValue());
+        }
+    }
+
+    @Test public void partialResultsAreShownWhileLoading() {
+        List<Integer> sizesWhileLoading = new ArrayList<>();
+        LazyTreeItem<String> partial = new LazyTreeItem<>("root", i -> new Task<List<TreeItem<String>>>() {
+            @Override protected List<TreeItem<String>> call() {
+                List<TreeItem<String>> children = new ArrayList<>();
+                for (int n = 0; n < 3; n++) {
+                    children.add(new TreeItem<>("child" + n));
+                    updateValue(Collections.unmodifiableList(new ArrayList<>(children)));
+                    sizesWhileLoading.add(i.getChildren().size());
+                }
+                return children;
+            }
+        });
+        partial.setExecutor(queue::add);
+        partial.setExpanded(true);
+        runQueuedTasks();
+
+        // Each time, the children published so far plus the placeholder
+        assertEquals(List.of(2, 3, 4), sizesWhileLoading);
+        assertEquals(3, partial.getChildren().size());
+        assertTrue(partial.isLoaded());
+    }
+
+    @Test public void treeViewShowsPlaceholderAndThenChildren() {
+        childCount = 4;
+        TreeView<String> treeView = new TreeView<>(item);
+        assertEquals(1, treeView.getExpandedItemCount());
+
+        item.setExpanded(true);
+        assertEquals(2, treeView.getExpandedItemCount());
+
+        runQueuedTasks();
+        assertEquals(5, treeView.getExpandedItemCount());
+        assertEquals("child3", treeView.getTreeItem(4).getValue());
+    }
+}
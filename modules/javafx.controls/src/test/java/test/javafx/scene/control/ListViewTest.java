@@ -2471,4 +2471,41 @@ public class ListViewTest {
 
     }
 
+    @Test
+    public void testSelectAllAndShiftOnLargeList() {
+        final int count = 1_000_000;
+        ListView<Integer> listView = new ListView<>(FXCollections.observableArrayList(
+                Collections.nCopies(count, 0)));
+        MultipleSelectionModel<Integer> sm = listView.getSelectionModel();
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+
+        int[] addedSize = new int[1];
+        sm.getSelectedIndices().addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                if (c.wasAdded()) addedSize[0] += c.getAddedSize();
+            }
+        });
+
+        sm.selectAll();
+        assertEquals(count, sm.getSelectedIndices().size());
+        assertEquals(count, addedSize[0]);
+        assertEquals(count - 1, (int) sm.getSelectedIndices().get(count - 1));
+        assertEquals(500_000, sm.getSelectedIndices().indexOf(500_000));
+
+        // inserting a row shifts the selection, the new row is not selected
+        listView.getItems().add(10, 1);
+        assertEquals(count, sm.getSelectedIndices().size());
+        assertFalse(sm.isSelected(10));
+        assertTrue(sm.isSelected(11));
+        assertTrue(sm.isSelected(count));
+
+        // removing it again restores a single range of selected indices
+        listView.getItems().remove(10);
+        assertEquals(count, sm.getSelectedIndices().size());
+        assertTrue(sm.isSelected(10));
+        assertFalse(sm.isSelected(count));
+
+        sm.clearSelection();
+        assertTrue(sm.getSelectedIndices().isEmpty());
+    }
 }
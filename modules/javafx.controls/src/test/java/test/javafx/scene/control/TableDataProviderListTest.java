@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package test.javafx.scene.control;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableDataProvider;
+import javafx.scene.control.TableDataProviderList;
+import javafx.scene.control.TableView;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.javafx.tk.Toolkit;
+import test.com.sun.javafx.scene.control.infrastructure.StageLoader;
+import test.com.sun.javafx.scene.control.infrastructure.VirtualFlowTestUtils;
+
+public class TableDataProviderListTest {
+
+    private static final int ROW_COUNT = 100_000_000;
+
+    /**
+     * Provides the numbers from 0 to ROW_COUNT - 1, in ascending or
+     * descending order, filtered to the multiples of the filter (an Integer).
+     */
+    private class NumberProvider implements TableDataProvider<Integer> {
+        final List<Integer> fetchedPages = new ArrayList<>();
+        final List<Query> queries = new ArrayList<>();
+
+        @Override public int getRowCount(Query query) throws Exception {
+            queries.add(query);
+            if (fail) {
+                throw new Exception("count failed");
+            }
+            int step = query.getFilter() == null ? 1 : (Integer) query.getFilter();
+            return (ROW_COUNT + step - 1) / step;
+        }
+
+        @Override public List<Integer> getRows(Query query, int from, int count) {
+            fetchedPages.add(from);
+            int step = query.getFilter() == null ? 1 : (Integer) query.getFilter();
+            boolean descending = !query.getSortKeys().isEmpty() &&
+                    query.getSortKeys().get(0).getSortType() == TableColumn.SortType.DESCENDING;
+            int total = (ROW_COUNT + step - 1) / step;
+            List<Integer> rows = new ArrayList<>();
+            for (int i = from; i < from + count && i < total; i++) {
+                rows.add((descending ? total - 1 - i : i) * step);
+            }
+            return rows;
+        }
+    }
+
+    private final List<Runnable> queue = new ArrayList<>();
+    private NumberProvider provider;
+    private TableDataProviderList<Integer> list;
+    private boolean fail;
+    private StageLoader stageLoader;
+
+    @Before public void setup() {
+        // Fetched rows are delivered through Platform.runLater
+        Toolkit.getToolkit();
+
+        provider = new NumberProvider();
+        list = new TableDataProviderList<>(provider, 100, 5);
+        list.setExecutor(queue::add);
+    }
+
+    @After public void cleanup() {
+        if (stageLoader != null) {
+            stageLoader.dispose();
+        }
+    }
+
+    private void runQueuedFetches() {
+        while (!queue.isEmpty()) {
+            queue.remove(0).run();
+        }
+    }
+
+    @Test public void sizeIsZeroUntilCountIsFetched() {
+        List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) c -> changes.add(c));
+
+        // accessing the list does not fetch anything
+        assertEquals(0, list.size());
+        assertFalse(list.isLoading());
+        assertTrue(queue.isEmpty());
+
+        list.refresh();
+        assertEquals(0, list.size());
+        assertTrue(list.isLoading());
+
+        runQueuedFetches();
+
+        assertEquals(ROW_COUNT, list.size());
+        assertFalse(list.isLoading());
+        assertEquals(1, changes.size());
+    }
+
+    @Test public void rowsAreFetchedOnePageAtATime() {
+        list.refresh();
+        runQueuedFetches();
+
+        assertNull(list.get(12_345_678));
+        assertFalse(list.isRowFetched(12_345_678));
+        // asking again does not fetch the page twice
+        assertNull(list.get(12_345_699));
+        runQueuedFetches();
+
+        assertEquals(List.of(12_345_600), provider.fetchedPages);
+        assertTrue(list.isRowFetched(12_345_678));
+        assertEquals(12_345_678, (int) list.get(12_345_678));
+        assertEquals(12_345_699, (int) list.get(12_345_699));
+    }
+
+    @Test public void fetchedPageFiresUpdateChange() {
+        list.refresh();
+        runQueuedFetches();
+
+        List<Integer> updated = new ArrayList<>();
+        List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) c -> {
+            changes.add(c);
+            while (c.next()) {
+                assertTrue(c.wasUpdated());
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    updated.add(i);
+                }
+            }
+        });
+        list.get(250);
+        runQueuedFetches();
+
+        // one update change for the whole page
+        assertEquals(1, changes.size());
+        assertEquals(100, updated.size());
+        assertEquals(200, (int) updated.get(0));
+        assertEquals(299, (int) updated.get(99));
+    }
+
+    @Test public void leastRecentlyUsedPagesAreEvicted() {
+        list.refresh();
+        runQueuedFetches();
+        for (int page = 0; page < 6; page++) {
+            list.get(page * 100);
+            runQueuedFetches();
+        }
+
+        assertFalse(list.isRowFetched(0));
+        assertTrue(list.isRowFetched(100));
+        assertTrue(list.isRowFetched(500));
+    }
+
+    @Test public void indexOfOnlySearchesFetchedRows() {
+        list.refresh();
+        runQueuedFetches();
+        list.get(1000);
+        runQueuedFetches();
+
+        assertEquals(1050, list.indexOf(1050));
+        assertTrue(list.contains(1099));
+        assertEquals(-1, list.indexOf(5));
+        assertEquals(List.of(1000), provider.fetchedPages);
+    }
+
+    @Test public void filterIsPushedDownAndRefetches() {
+        list.refresh();
+        runQueuedFetches();
+        list.get(0);
+        runQueuedFetches();
+
+        list.setFilter(3);
+        runQueuedFetches();
+
+        assertEquals(3, provider.queries.get(1).getFilter());
+        assertEquals((ROW_COUNT + 2) / 3, list.size());
+        assertFalse(list.isRowFetched(0));
+        list.get(10);
+        runQueuedFetches();
+        assertEquals(30, (int) list.get(10));
+    }
+
+    @Test public void resultsForAPreviousQueryAreIgnored() {
+        list.refresh();
+        runQueuedFetches();
+        list.get(0);
+        list.setFilter(2);
+        runQueuedFetches();
+
+        assertFalse(list.isRowFetched(0));
+        assertEquals(ROW_COUNT / 2, list.size());
+    }
+
+    @Test public void failureSetsException() {
+        fail = true;
+        list.refresh();
+        runQueuedFetches();
+
+        assertEquals(0, list.size());
+        assertEquals("count failed", list.getException().getMessage());
+
+        fail = false;
+        list.refresh();
+        runQueuedFetches();
+
+        assertNull(list.getException());
+        assertEquals(ROW_COUNT, list.size());
+    }
+
+    @Test public void tableViewOnlyFetchesVisibleRows() {
+        list.refresh();
+        TableView<Integer> table = new TableView<>(list);
+        table.setFixedCellSize(24);
+        TableColumn<Integer, Integer> column = new TableColumn<>("Number");
+        column.setCellValueFactory(cdf -> new SimpleObjectProperty<>(cdf.getValue()));
+        table.getColumns().add(column);
+
+        stageLoader = new StageLoader(table);
+        runQueuedFetches();
+        Toolkit.getToolkit().firePulse();
+        runQueuedFetches();
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(ROW_COUNT, table.getItems().size());
+        assertEquals(List.of(0), provider.fetchedPages);
+        assertEquals("0", VirtualFlowTestUtils.getCell(table, 0, 0).getText());
+        assertEquals("5", VirtualFlowTestUtils.getCell(table, 5, 0).getText());
+
+        table.scrollTo(50_000_000);
+        Toolkit.getToolkit().firePulse();
+        runQueuedFetches();
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(List.of(0, 50_000_000), provider.fetchedPages);
+        assertEquals("50000001", VirtualFlowTestUtils.getCell(table, 50_000_001, 0).getText());
+    }
+
+    @Test public void tableViewSortIsPushedDown() {
+        list.refresh();
+        TableView<Integer> table = new TableView<>(list);
+        table.setFixedCellSize(24);
+        TableColumn<Integer, Integer> column = new TableColumn<>("Number");
+        column.setCellValueFactory(cdf -> new SimpleObjectProperty<>(cdf.getValue()));
+        table.getColumns().add(column);
+
+        stageLoader = new StageLoader(table);
+        runQueuedFetches();
+
+        column.setSortType(TableColumn.SortType.DESCENDING);
+        table.getSortOrder().add(column);
+        runQueuedFetches();
+        Toolkit.getToolkit().firePulse();
+        runQueuedFetches();
+        Toolkit.getToolkit().firePulse();
+
+        TableDataProvider.Query query = list.getQuery();
+        assertEquals(1, query.getSortKeys().size());
+        assertSame(column, query.getSortKeys().get(0).getColumn());
+        assertEquals(TableColumn.SortType.DESCENDING, query.getSortKeys().get(0).getSortType());
+        assertEquals(String.valueOf(ROW_COUNT - 1), VirtualFlowTestUtils.getCell(table, 0, 0).getText());
+    }
+}
@@ -2833,6 +2833,10 @@ public class TableViewTest {
             @Override public boolean isCellSelectionEnabled() {
                 return false;
             }
+
+            @Override public TablePosition createPosition(int row, TablePosition position) {
+                return new TablePosition(position.getTableView(), row, position.getTableColumn());
+            }
         };
         ReadOnlyUnbackedObservableList<TablePosition<Object, ?>> selectedCellsSeq = new ReadOnlyUnbackedObservableList<TablePosition<Object, ?>>() {
             @Override public TablePosition<Object, ?> get(int i) {
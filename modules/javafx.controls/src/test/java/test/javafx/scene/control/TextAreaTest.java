@@ -31,6 +31,7 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.collections.ListChangeListener;
 import javafx.scene.Scene;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextInputControlShim;
@@ -38,6 +39,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static test.com.sun.javafx.scene.control.infrastructure.ControlTestUtils.*;
 import static org.junit.Assert.*;
 
@@ -500,4 +505,79 @@ public class TextAreaTest {
         dummyTxtArea.deleteText(0,6);
         assertEquals(dummyTxtArea.getParagraphs().get(0).toString(), "another");
     }
+
+    private static String createLines(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            for (int j = 0; j < i % 7; j++) {
+                text.append("line ").append(i);
+            }
+        }
+        return text.toString();
+    }
+
+    @Test public void largeTextParagraphsAndSubRanges() {
+        String text = createLines(3000);
+        dummyTxtArea.setText(text);
+
+        assertEquals(3000, dummyTxtArea.getParagraphs().size());
+        assertEquals(text.length(), dummyTxtArea.getLength());
+        String[] lines = text.split("\n", -1);
+        for (int i = 0; i < lines.length; i += 97) {
+            assertEquals(lines[i], dummyTxtArea.getParagraphs().get(i).toString());
+        }
+        for (int start = 0; start < text.length(); start += 1013) {
+            int end = Math.min(text.length(), start + 517);
+            assertEquals(text.substring(start, end), dummyTxtArea.getText(start, end));
+        }
+    }
+
+    @Test public void randomEditsKeepContentConsistent() {
+        Random random = new Random(0);
+        StringBuilder expected = new StringBuilder(createLines(200));
+        dummyTxtArea.setText(expected.toString());
+
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(expected.length() + 1);
+            int end = Math.min(expected.length(), start + random.nextInt(40));
+            String replacement = (random.nextInt(3) == 0) ? "" : createLines(random.nextInt(4)) + "x";
+            dummyTxtArea.replaceText(start, end, replacement);
+            expected.replace(start, end, replacement);
+
+            int from = random.nextInt(expected.length() + 1);
+            int to = Math.min(expected.length(), from + random.nextInt(200));
+            assertEquals(expected.substring(from, to), dummyTxtArea.getText(from, to));
+        }
+
+        assertEquals(expected.toString(), dummyTxtArea.getText());
+        assertEquals(expected.toString(), String.join("\n", dummyTxtArea.getParagraphs()));
+    }
+
+    @Test public void insertLinesIntoLargeTextAndCheckParagraphEvents() {
+        dummyTxtArea.setText(createLines(2000));
+        List<String> events = new ArrayList<>();
+        dummyTxtArea.getParagraphs().addListener((ListChangeListener<CharSequence>) c -> {
+            while (c.next()) {
+                events.add(c.getFrom() + "-" + c.getTo() + ":" + c.getRemovedSize());
+            }
+        });
+
+        int offset = dummyTxtArea.getText().indexOf("line 1000");
+        dummyTxtArea.insertText(offset, "a\nb\nc");
+
+        assertEquals(2002, dummyTxtArea.getParagraphs().size());
+        assertEquals("a", dummyTxtArea.getParagraphs().get(1000).toString());
+        assertEquals("b", dummyTxtArea.getParagraphs().get(1001).toString());
+        assertTrue(dummyTxtArea.getParagraphs().get(1002).toString().startsWith("cline 1000"));
+        assertEquals(2, events.size());
+        assertEquals("1000-1001:1", events.get(0));
+        assertEquals("1001-1003:0", events.get(1));
+
+        dummyTxtArea.deleteText(offset, offset + 5);
+        assertEquals(2000, dummyTxtArea.getParagraphs().size());
+        assertEquals(createLines(2000), dummyTxtArea.getText());
+    }
 }
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -3935,6 +3936,63 @@ public class TreeViewTest {
         assertTrue(scrolledCell.isVisible());
     }
 
+    @Test
+    public void testRowsAndTreeItemsStayConsistentWithRandomChanges() {
+        TreeItem<String> rootNode = new TreeItem<>("Root");
+        rootNode.setExpanded(true);
+        List<TreeItem<String>> allItems = new ArrayList<>();
+        allItems.add(rootNode);
+        for (int i = 0; i < 20; i++) {
+            TreeItem<String> child = new TreeItem<>("c" + i);
+            rootNode.getChildren().add(child);
+            allItems.add(child);
+            for (int j = 0; j < 20; j++) {
+                TreeItem<String> grandChild = new TreeItem<>("c" + i + "-" + j);
+                child.getChildren().add(grandChild);
+                allItems.add(grandChild);
+            }
+        }
+        TreeView<String> treeView = new TreeView<>(rootNode);
+
+        Random random = new Random(38);
+        for (int n = 0; n < 200; n++) {
+            TreeItem<String> item = allItems.get(1 + random.nextInt(allItems.size() - 1));
+            switch (random.nextInt(3)) {
+                case 0:
+                    item.setExpanded(!item.isExpanded());
+                    break;
+                case 1:
+                    TreeItem<String> newItem = new TreeItem<>("n" + n);
+                    item.getChildren().add(random.nextInt(item.getChildren().size() + 1), newItem);
+                    allItems.add(newItem);
+                    break;
+                default:
+                    if (!item.getChildren().isEmpty()) {
+                        item.getChildren().remove(random.nextInt(item.getChildren().size()));
+                    }
+                    break;
+            }
+
+            List<TreeItem<String>> rows = new ArrayList<>();
+            addVisibleItems(rootNode, rows);
+            assertEquals(rows.size(), treeView.getExpandedItemCount());
+            for (int row = 0; row < rows.size(); row++) {
+                assertEquals(row, treeView.getRow(rows.get(row)));
+                assertSame(rows.get(row), treeView.getTreeItem(row));
+            }
+            assertNull(treeView.getTreeItem(rows.size()));
+        }
+    }
+
+    private static void addVisibleItems(TreeItem<String> item, List<TreeItem<String>> rows) {
+        rows.add(item);
+        if (item.isExpanded()) {
+            for (TreeItem<String> child : item.getChildren()) {
+                addVisibleItems(child, rows);
+            }
+        }
+    }
+
     public static class MisbehavingOnCancelTreeCell<S> extends TreeCell<S> {
 
         @Override
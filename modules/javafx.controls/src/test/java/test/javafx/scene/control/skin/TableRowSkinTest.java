@@ -28,6 +28,10 @@ package test.javafx.scene.control.skin;
 import com.sun.javafx.tk.Toolkit;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
@@ -39,6 +43,8 @@ import test.com.sun.javafx.scene.control.infrastructure.VirtualFlowTestUtils;
 import test.com.sun.javafx.scene.control.test.Person;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class TableRowSkinTest {
 
@@ -75,6 +81,9 @@ public class TableRowSkinTest {
     @Test
     public void removedColumnsShouldRemoveCorrespondingCellsInRowFixedCellSize() {
         tableView.setFixedCellSize(24);
+        // make sure all columns fit, as only the cells intersecting the
+        // viewport are created when a fixed cell size is set
+        tableView.setPrefWidth(1000);
         removedColumnsShouldRemoveCorrespondingCellsInRowImpl();
     }
 
@@ -86,6 +95,9 @@ public class TableRowSkinTest {
     @Test
     public void invisibleColumnsShouldRemoveCorrespondingCellsInRowFixedCellSize() {
         tableView.setFixedCellSize(24);
+        // make sure all columns fit, as only the cells intersecting the
+        // viewport are created when a fixed cell size is set
+        tableView.setPrefWidth(1000);
         invisibleColumnsShouldRemoveCorrespondingCellsInRowImpl();
     }
 
@@ -94,6 +106,85 @@ public class TableRowSkinTest {
         invisibleColumnsShouldRemoveCorrespondingCellsInRowImpl();
     }
 
+    @Test
+    public void onlyCellsInViewportAreCreatedForWideTableWithFixedCellSize() {
+        for (int i = 0; i < 100; i++) {
+            tableView.getColumns().add(new TableColumn<>("Column " + i));
+        }
+        tableView.setPrefWidth(300);
+        tableView.setFixedCellSize(24);
+
+        Toolkit.getToolkit().firePulse();
+
+        IndexedCell<?> row = VirtualFlowTestUtils.getCell(tableView, 0);
+        assertTrue(row.getChildrenUnmodifiable().size() < 10);
+        assertFalse(containsCellOf(row, tableView.getColumns().get(tableView.getColumns().size() - 1)));
+
+        // the row is still as wide as all columns together
+        double totalWidth = 0;
+        for (TableColumn<Person, ?> column : tableView.getColumns()) {
+            totalWidth += column.getWidth();
+        }
+        assertEquals(totalWidth, row.prefWidth(-1), 0.5);
+
+        // after scrolling to the end, the cell of the last column is created
+        ScrollBar hbar = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView);
+        hbar.setValue(hbar.getMax());
+        Toolkit.getToolkit().firePulse();
+
+        assertTrue(row.getChildrenUnmodifiable().size() < 10);
+        assertTrue(containsCellOf(row, tableView.getColumns().get(tableView.getColumns().size() - 1)));
+        assertFalse(containsCellOf(row, tableView.getColumns().get(0)));
+    }
+
+    @Test
+    public void cellsAreLaidOutFromColumnOffsetsWithFixedCellSize() {
+        tableView.getColumns().clear();
+        for (int i = 0; i < 100; i++) {
+            TableColumn<Person, String> column = new TableColumn<>("Column " + i);
+            column.setPrefWidth(40.4);
+            // cells whose own pref width disagrees with their column
+            column.setCellFactory(c -> {
+                TableCell<Person, String> cell = new TableCell<>();
+                cell.setPrefWidth(10);
+                return cell;
+            });
+            tableView.getColumns().add(column);
+        }
+        tableView.setPrefWidth(300);
+        tableView.setFixedCellSize(24);
+
+        ScrollBar hbar = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView);
+        Toolkit.getToolkit().firePulse();
+        hbar.setValue(hbar.getMax() / 2);
+        Toolkit.getToolkit().firePulse();
+
+        IndexedCell<?> row = VirtualFlowTestUtils.getCell(tableView, 0);
+        int cellCount = 0;
+        for (Node child : row.getChildrenUnmodifiable()) {
+            if (!(child instanceof TableCell)) continue;
+            TableColumn<?, ?> column = ((TableCell<?, ?>) child).getTableColumn();
+            double offset = 0;
+            for (TableColumn<Person, ?> c : tableView.getColumns()) {
+                if (c == column) break;
+                offset += row.snapSizeX(c.getWidth());
+            }
+            assertEquals(offset, child.getLayoutX(), 0.0);
+            assertEquals(row.snapSizeX(column.getWidth()), ((TableCell<?, ?>) child).getWidth(), 0.0);
+            cellCount++;
+        }
+        assertTrue(cellCount > 0);
+    }
+
+    private static boolean containsCellOf(IndexedCell<?> row, TableColumn<?, ?> column) {
+        for (Node child : row.getChildrenUnmodifiable()) {
+            if (child instanceof TableCell && ((TableCell<?, ?>) child).getTableColumn() == column) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @After
     public void after() {
         stageLoader.dispose();
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.control.skin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.javafx.tk.Toolkit;
+import javafx.scene.Node;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.skin.TextAreaSkin;
+import javafx.scene.control.skin.TextInputControlSkin.Direction;
+import javafx.scene.control.skin.TextInputControlSkin.TextUnit;
+import javafx.scene.text.HitInfo;
+import javafx.scene.text.Text;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.scene.control.infrastructure.StageLoader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TextAreaSkinTest {
+
+    private static final int LINE_COUNT = 5000;
+
+    private TextArea textArea;
+    private TextAreaSkin skin;
+    private StageLoader stageLoader;
+
+    @Before public void setup() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append("line ").append(i);
+        }
+        textArea = new TextArea(text.toString());
+        textArea.setPrefSize(300, 200);
+        skin = new TextAreaSkin(textArea);
+        textArea.setSkin(skin);
+        stageLoader = new StageLoader(textArea);
+        Toolkit.getToolkit().firePulse();
+    }
+
+    @After public void cleanup() {
+        stageLoader.dispose();
+    }
+
+    private List<Text> getTextNodes() {
+        List<Text> textNodes = new ArrayList<>();
+        for (Node node : textArea.lookupAll(".text")) {
+            if (node instanceof Text && node.isVisible()) {
+                textNodes.add((Text)node);
+            }
+        }
+        return textNodes;
+    }
+
+    private Text getTextNode(String text) {
+        for (Text textNode : getTextNodes()) {
+            if (text.equals(textNode.getText())) {
+                return textNode;
+            }
+        }
+        return null;
+    }
+
+    private double getLineHeight() {
+        return getTextNode("line 1").getLayoutY() - getTextNode("line 0").getLayoutY();
+    }
+
+    @Test public void onlyVisibleParagraphsHaveTextNodes() {
+        List<Text> textNodes = getTextNodes();
+        assertTrue(textNodes.size() > 1);
+        assertTrue(textNodes.size() < 100);
+        assertNotNull(getTextNode("line 0"));
+        assertNull(getTextNode("line " + (LINE_COUNT - 1)));
+        assertTrue(getLineHeight() > 0);
+    }
+
+    @Test public void scrollingLaysOutNewlyVisibleParagraphs() {
+        double lineHeight = getLineHeight();
+        textArea.setScrollTop(2500 * lineHeight);
+        Toolkit.getToolkit().firePulse();
+
+        Text textNode = getTextNode("line 2500");
+        assertNotNull(textNode);
+        assertEquals(getTextNode("line 0").getLayoutY() + 2500 * lineHeight, textNode.getLayoutY(), 0.001);
+        // The paragraph containing the caret keeps its text node
+        assertNotNull(getTextNode("line 0"));
+        assertNull(getTextNode("line 100"));
+        assertTrue(getTextNodes().size() < 100);
+    }
+
+    @Test public void hitTestReturnsContentOffsets() {
+        Text textNode = getTextNode("line 3");
+        HitInfo hit = skin.getIndex(textNode.getLayoutX(), textNode.getLayoutY() + getLineHeight() / 2);
+        assertEquals(3 * "line 0\n".length(), hit.getInsertionIndex());
+    }
+
+    @Test public void caretMovesBetweenParagraphs() {
+        textArea.positionCaret(0);
+        Toolkit.getToolkit().firePulse();
+
+        skin.moveCaret(TextUnit.LINE, Direction.DOWN, false);
+        assertEquals("line 0\n".length(), textArea.getCaretPosition());
+
+        skin.moveCaret(TextUnit.PARAGRAPH, Direction.END, false);
+        assertEquals("line 0\nline 1".length(), textArea.getCaretPosition());
+
+        skin.moveCaret(TextUnit.PARAGRAPH, Direction.BEGINNING, false);
+        assertEquals("line 0\n".length(), textArea.getCaretPosition());
+
+        textArea.positionCaret(textArea.getLength());
+        Toolkit.getToolkit().firePulse();
+        assertNotNull(getTextNode("line " + (LINE_COUNT - 1)));
+    }
+
+    @Test public void selectionIsShownInEachParagraph() {
+        textArea.selectRange(3, 4 * "line 0\n".length() + 2);
+        Toolkit.getToolkit().firePulse();
+
+        Text first = getTextNode("line 0");
+        assertEquals(3, first.getSelectionStart());
+        assertEquals("line 0\n".length(), first.getSelectionEnd());
+        Text last = getTextNode("line 4");
+        assertEquals(0, last.getSelectionStart());
+        assertEquals(2, last.getSelectionEnd());
+        assertEquals(-1, getTextNode("line 5").getSelectionStart());
+    }
+
+    @Test public void editsUpdateTextNodes() {
+        double lineHeight = getLineHeight();
+        textArea.replaceText("line 0\n".length(), "line 0\nline 1".length(), "edited");
+        Toolkit.getToolkit().firePulse();
+        assertNotNull(getTextNode("edited"));
+        assertNull(getTextNode("line 1"));
+
+        textArea.insertText(0, "first\n");
+        Toolkit.getToolkit().firePulse();
+        assertEquals(LINE_COUNT + 1, textArea.getParagraphs().size());
+        assertEquals(getTextNode("first").getLayoutY() + lineHeight, getTextNode("line 0").getLayoutY(), 0.001);
+    }
+
+    @Test public void wrappedTextIsLaidOutInSingleTextNode() {
+        textArea.setWrapText(true);
+        Toolkit.getToolkit().firePulse();
+        List<Text> textNodes = getTextNodes();
+        assertEquals(1, textNodes.size());
+        assertEquals(textArea.getText(), textNodes.get(0).getText());
+
+        textArea.setWrapText(false);
+        Toolkit.getToolkit().firePulse();
+        assertNotNull(getTextNode("line 0"));
+        assertTrue(getTextNodes().size() > 1);
+    }
+
+    @Test public void fewParagraphsAreLaidOutInSingleTextNode() {
+        textArea.setText("short\ntext");
+        Toolkit.getToolkit().firePulse();
+        List<Text> textNodes = getTextNodes();
+        assertEquals(1, textNodes.size());
+        assertEquals("short\ntext", textNodes.get(0).getText());
+        assertFalse(textNodes.get(0).getText().isEmpty());
+    }
+}
@@ -60,6 +60,7 @@ import javafx.scene.control.IndexedCellShim;
 import javafx.scene.control.ScrollBar;
 import javafx.scene.control.skin.VirtualFlowShim;
 import javafx.scene.control.skin.VirtualFlowShim.ArrayLinkedListShim;
+import javafx.scene.control.skin.VirtualFlowShim.CellPileShim;
 
 /**
  * Tests for the VirtualFlow class. VirtualFlow is the guts of the ListView,
@@ -1768,6 +1769,57 @@ assertEquals(0, firstCell.getIndex());
         assertEquals(29, idx);
     }
 
+    @Test
+    public void testCellPileLookupByIndex() {
+        CellPileShim<CellStub> pile = new CellPileShim<>();
+        pile.add(a, 3);
+        pile.add(b, 7);
+        pile.add(c, -1);
+        assertSame(a, pile.getByIndex(3));
+        assertSame(b, pile.getByIndex(7));
+        assertNull(pile.getByIndex(-1));
+
+        // removing moves the last cell into place, which must remain findable
+        assertSame(a, pile.removeByIndex(3));
+        assertEquals(2, pile.size());
+        assertNull(pile.getByIndex(3));
+        assertSame(b, pile.getByIndex(7));
+        assertSame(b, pile.removeByIndex(7));
+        assertSame(c, pile.removeLast());
+        assertEquals(0, pile.size());
+    }
+
+    @Test
+    public void testCellPileDuplicateIndex() {
+        CellPileShim<CellStub> pile = new CellPileShim<>();
+        pile.add(a, 5);
+        pile.add(b, 5);
+        assertSame(b, pile.getByIndex(5));
+        assertSame(b, pile.removeByIndex(5));
+        assertNull(pile.getByIndex(5));
+        assertEquals(1, pile.size());
+        assertSame(a, pile.get(0));
+    }
+
+    @Test
+    public void testPrefetchPreparesNextCellsFromPile() {
+        flow.scrollPixels(30);
+        pulse();
+        int lastIndex = VirtualFlowShim.cells_getLast(flow.cells).getIndex();
+        flow.shim_prefetchCells();
+        IndexedCell next = VirtualFlowShim.pile_getByIndex(flow.get_pile(), lastIndex + 1);
+        assertNotNull(next);
+        assertEquals(lastIndex + 1, next.getIndex());
+        assertFalse(next.isVisible());
+
+        // the prepared cell is picked up as the next cell scrolls into view
+        flow.scrollPixels(30);
+        pulse();
+        assertSame(next, flow.getVisibleCell(lastIndex + 1));
+        // at most a few prepared cells are kept ahead of the viewport
+        assertTrue(VirtualFlowShim.pile_size(flow.get_pile()) <= 3);
+    }
+
 }
 
 class GraphicalCellStub extends IndexedCellShim<Node> {
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * The frames of a multi-frame image, decoded on demand from the encoded
+ * image kept in memory instead of all being decoded when the image is
+ * loaded.
+ * <p>
+ * The frames of an animated image may be composed over the preceding ones,
+ * so they can only be decoded in order.  A frame stream keeps a loader
+ * positioned after the last decoded frame, which holds the compositing
+ * state, and decodes the image again from its start when an earlier frame
+ * is requested, e.g. when the animation loops.  Whatever the number of
+ * frames, only the encoded image and the compositing state are retained.
+ * <p>
+ * Frame streams may be used from any thread, decoding is serialized.
+ */
+public final class FrameStream {
+    private final byte[] data;
+    private final ImageLoaderFactory factory;
+    private final ImageMetadata[] metadata;
+    private final int width;
+    private final int height;
+    private final boolean preserveAspectRatio;
+    private final float pixelScale;
+    private final boolean smooth;
+
+    private ImageLoader loader;
+    private int nextIndex;
+    private boolean disposed;
+
+    /**
+     * Creates a frame stream.  The arguments describing the frames are the
+     * ones passed to {@link ImageLoader#load}.
+     *
+     * @param data the encoded image
+     * @param factory the factory of the loaders decoding the image
+     * @param metadata the metadata of each frame of the image
+     * @param pixelScale the pixel scale of the decoded frames
+     */
+    public FrameStream(byte[] data, ImageLoaderFactory factory, ImageMetadata[] metadata,
+                       int width, int height, boolean preserveAspectRatio,
+                       float pixelScale, boolean smooth) {
+        this.data = data;
+        this.factory = factory;
+        this.metadata = metadata;
+        this.width = width;
+        this.height = height;
+        this.preserveAspectRatio = preserveAspectRatio;
+        this.pixelScale = pixelScale;
+        this.smooth = smooth;
+    }
+
+    /**
+     * Returns a new frame stream decoding the same frames as this one, with
+     * its own decoding state.  Frame streams which are read from different
+     * positions, e.g. by several animations of the same image, should not
+     * be shared as each of them would make the others start over.
+     */
+    public FrameStream copy() {
+        return new FrameStream(data, factory, metadata, width, height,
+                               preserveAspectRatio, pixelScale, smooth);
+    }
+
+    public int getFrameCount() {
+        return metadata.length;
+    }
+
+    public ImageMetadata getMetadata(int index) {
+        return metadata[index];
+    }
+
+    /**
+     * Decodes the frame at the given index.  Decoding the frame following
+     * the last decoded one is cheapest, any other frame requires decoding
+     * the frames in between, starting over from the first frame if it
+     * precedes the last decoded one.
+     *
+     * @return the frame, or null if it could not be decoded or this stream
+     * has been disposed
+     */
+    public synchronized ImageFrame getFrame(int index) {
+        if (disposed || index < 0 || index >= metadata.length) {
+            return null;
+        }
+        try {
+            if (loader == null || index < nextIndex) {
+                closeLoader();
+                loader = factory.createImageLoader(new ByteArrayInputStream(data));
+                nextIndex = 0;
+            }
+            ImageFrame frame = null;
+            while (nextIndex <= index) {
+                frame = loader.load(nextIndex++, width, height, preserveAspectRatio, smooth);
+                if (frame == null) {
+                    closeLoader();
+                    return null;
+                }
+            }
+            frame.setPixelScale(pixelScale);
+            return frame;
+        } catch (IOException e) {
+            closeLoader();
+            return null;
+        }
+    }
+
+    /**
+     * Releases the decoding state.  No frame can be decoded afterwards.
+     */
+    public synchronized void dispose() {
+        disposed = true;
+        closeLoader();
+    }
+
+    private void closeLoader() {
+        if (loader != null) {
+            loader.dispose();
+            loader = null;
+        }
+    }
+}
@@ -41,6 +41,7 @@ public class ImageFrame {
     private float pixelScale;
     private byte[][] palette;
     private ImageMetadata metadata;
+    private FrameStream frameStream;
 
     /**
      * Create an <code>ImageFrame</code> with a default 72DPI pixel scale.
@@ -130,4 +131,17 @@ public class ImageFrame {
     public ImageMetadata getMetadata() {
         return this.metadata;
     }
+
+    /**
+     * Returns the stream decoding the other frames of the image on demand
+     * if this is the first frame of an image whose frames are not all
+     * loaded up front, or null.
+     */
+    public FrameStream getFrameStream() {
+        return this.frameStream;
+    }
+
+    public void setFrameStream(FrameStream frameStream) {
+        this.frameStream = frameStream;
+    }
 }
@@ -50,4 +50,21 @@ public interface ImageLoaderFactory {
      * @throws <IOException> if there is an error creating the loader.
      */
     ImageLoader createImageLoader(InputStream input) throws IOException;
+
+    /**
+     * Creates a decoder for regions of the image at the specified location.
+     * Factories for formats which can decode part of an image without
+     * decoding all of it, such as tiled or pyramidal formats, may return a
+     * decoder for large images, which are then decoded in tiles instead of
+     * by a loader.  This is only tried for images loaded from a location,
+     * after their signature matched the format of this factory.
+     *
+     * @param input the location of an image in the supported format.
+     * @return a decoder for regions of the image, or <code>null</code> if
+     * the image should be decoded by a loader.
+     * @throws <IOException> if there is an error creating the decoder.
+     */
+    default RegionImageDecoder createRegionDecoder(String input) throws IOException {
+        return null;
+    }
 }
@@ -29,23 +29,43 @@ import com.sun.javafx.PlatformUtil;
 import com.sun.javafx.iio.ImageFormatDescription.Signature;
 import com.sun.javafx.iio.bmp.BMPImageLoaderFactory;
 import com.sun.javafx.iio.common.ImageTools;
+import com.sun.javafx.iio.gif.GIFImageLoader2;
 import com.sun.javafx.iio.gif.GIFImageLoaderFactory;
 import com.sun.javafx.iio.ios.IosImageLoaderFactory;
 import com.sun.javafx.iio.jpeg.JPEGImageLoaderFactory;
 import com.sun.javafx.iio.png.PNGImageLoaderFactory;
+import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.util.DataURI;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * A convenience class for simple image loading. Factories for creating loaders
  * for image formats must be registered with this class.
+ * <p>
+ * Besides the built-in factories, the {@link ImageLoaderFactory}
+ * implementations found by {@link ServiceLoader} are registered, except on
+ * iOS.  The service interface is internal: the {@code com.sun.javafx.iio}
+ * package is not exported by the {@code javafx.graphics} module, so a
+ * provider must be compiled and run with
+ * {@code --add-exports javafx.graphics/com.sun.javafx.iio=<provider module>},
+ * or {@code =ALL-UNNAMED} for a provider on the class path, and with the
+ * same option for {@code com.sun.javafx.iio.common} if it uses the helper
+ * classes there.  The interface may change in any release.
  */
 public class ImageStorage {
 
@@ -115,7 +135,8 @@ public class ImageStorage {
      */
 //    private static HashMap<String, ImageLoaderFactory> loaderFactoriesByExtension;
     /**
-     * A mapping of format signature byte sequences to loader factories.
+     * A mapping of format signature byte sequences to loader factories,
+     * guarded by the class as factories may be registered at any time.
      */
     private static final HashMap<Signature, ImageLoaderFactory> loaderFactoriesBySignature;
     private static final ImageLoaderFactory[] loaderFactories;
@@ -146,6 +167,29 @@ public class ImageStorage {
         for (int i = 0; i < loaderFactories.length; i++) {
             addImageLoaderFactory(loaderFactories[i]);
         }
+
+        if (!isIOS) {
+            addServiceLoaderFactories();
+        }
+    }
+
+    /*
+     * Registers the image loader factories provided as services, which
+     * add formats or replace the built-in loaders of a format.
+     */
+    @SuppressWarnings("removal")
+    private static void addServiceLoaderFactories() {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            try {
+                for (ImageLoaderFactory factory : ServiceLoader.load(ImageLoaderFactory.class)) {
+                    addImageLoaderFactory(factory);
+                }
+            } catch (ServiceConfigurationError e) {
+                PlatformLogger.getLogger("javafx.scene.image")
+                        .warning("Cannot load image loader factories: " + e.getMessage());
+            }
+            return null;
+        });
     }
 
     public static ImageFormatDescription[] getSupportedDescriptions() {
@@ -196,7 +240,7 @@ public class ImageStorage {
      *
      * @param factory the factory to register.
      */
-    public static void addImageLoaderFactory(ImageLoaderFactory factory) {
+    public static synchronized void addImageLoaderFactory(ImageLoaderFactory factory) {
         ImageFormatDescription desc = factory.getFormatDescription();
 //        String[] extensions = desc.getExtensions();
 //        for (int j = 0; j < extensions.length; j++) {
@@ -208,9 +252,26 @@ public class ImageStorage {
         }
 
         // invalidate max signature length
-        synchronized (ImageStorage.class) {
-            maxSignatureLength = -1;
+        maxSignatureLength = -1;
+    }
+
+    /**
+     * Unregisters an image loader factory registered with
+     * {@link #addImageLoaderFactory}.  The built-in factory of a signature
+     * which the factory replaced, if any, is registered again.
+     *
+     * @param factory the factory to unregister.
+     */
+    public static synchronized void removeImageLoaderFactory(ImageLoaderFactory factory) {
+        loaderFactoriesBySignature.values().removeIf(f -> f == factory);
+        for (ImageLoaderFactory builtIn : loaderFactories) {
+            for (final Signature signature: builtIn.getFormatDescription().getSignatures()) {
+                loaderFactoriesBySignature.putIfAbsent(signature, builtIn);
+            }
         }
+
+        // invalidate max signature length
+        maxSignatureLength = -1;
     }
 
     /**
@@ -257,6 +318,25 @@ public class ImageStorage {
     public static ImageFrame[] loadAll(InputStream input, ImageLoadListener listener,
             double width, double height, boolean preserveAspectRatio,
             float pixelScale, boolean smooth) throws ImageStorageException {
+        return loadAll(input, listener, width, height, preserveAspectRatio,
+                       pixelScale, smooth, -1);
+    }
+
+    /**
+     * Load all images present in the specified stream, except for large
+     * animated GIF images.  If the frames of a GIF image would take more than
+     * {@code streamingThreshold} bytes once decoded, only its first frame is
+     * decoded and returned, and the {@link FrameStream} of that frame decodes
+     * the other frames on demand.  For more details refer to
+     * {@link #loadAll(InputStream, ImageLoadListener, double, double, boolean, float, boolean)}.
+     *
+     * @param streamingThreshold the decoded size in bytes above which the
+     * frames of an animated image are decoded on demand, or a negative value
+     * to always decode all frames.
+     */
+    public static ImageFrame[] loadAll(InputStream input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float pixelScale, boolean smooth, long streamingThreshold) throws ImageStorageException {
         ImageLoader loader = null;
         ImageFrame[] images = null;
 
@@ -266,6 +346,14 @@ public class ImageStorage {
                 // we always want the iOS native loader
                 loader = IosImageLoaderFactory.getInstance().createImageLoader(input);
             } else {
+                if (streamingThreshold >= 0) {
+                    input = new BufferedInputStream(input);
+                    images = loadStreamed(input, width, height, preserveAspectRatio,
+                                          pixelScale, smooth, streamingThreshold);
+                    if (images != null) {
+                        return images;
+                    }
+                }
                 loader = getLoaderBySignature(input, listener);
             }
             if (loader != null) {
@@ -292,6 +380,18 @@ public class ImageStorage {
     public static ImageFrame[] loadAll(String input, ImageLoadListener listener,
             double width, double height, boolean preserveAspectRatio,
             float devPixelScale, boolean smooth) throws ImageStorageException {
+        return loadAll(input, listener, width, height, preserveAspectRatio,
+                       devPixelScale, smooth, -1);
+    }
+
+    /**
+     * Load all images present in the specified input, except for large
+     * animated GIF images.  For more details refer to
+     * {@link #loadAll(InputStream, ImageLoadListener, double, double, boolean, float, boolean, long)}.
+     */
+    public static ImageFrame[] loadAll(String input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float devPixelScale, boolean smooth, long streamingThreshold) throws ImageStorageException {
 
         if (input == null || input.isEmpty()) {
             throw new ImageStorageException("URL can't be null or empty");
@@ -300,9 +400,11 @@ public class ImageStorage {
         ImageFrame[] images = null;
         InputStream theStream = null;
         ImageLoader loader = null;
+        RegionImageDecoder decoder = null;
 
         try {
             float imgPixelScale = 1.0f;
+            String location = null;
             try {
                 if (devPixelScale >= 1.5f) {
                     // Use Mac Retina conventions for >= 1.5f
@@ -310,6 +412,7 @@ public class ImageStorage {
                         String name2x = ImageTools.getScaledImageName(input);
                         theStream = ImageTools.createInputStream(name2x);
                         imgPixelScale = 2.0f;
+                        location = name2x;
                     } catch (IOException ignored) {
                     }
                 }
@@ -317,6 +420,7 @@ public class ImageStorage {
                 if (theStream == null) {
                     try {
                         theStream = ImageTools.createInputStream(input);
+                        location = input;
                     } catch (IOException ex) {
                         DataURI dataUri = DataURI.tryParse(input);
                         if (dataUri != null) {
@@ -335,7 +439,24 @@ public class ImageStorage {
                 if (isIOS) {
                     loader = IosImageLoaderFactory.getInstance().createImageLoader(theStream);
                 } else {
-                    loader = getLoaderBySignature(theStream, listener);
+                    if (streamingThreshold >= 0) {
+                        theStream = new BufferedInputStream(theStream);
+                        images = loadStreamed(theStream, width, height, preserveAspectRatio,
+                                              imgPixelScale, smooth, streamingThreshold);
+                        if (images != null) {
+                            return images;
+                        }
+                    }
+                    byte[] header = readSignature(theStream);
+                    ImageLoaderFactory factory = getFactoryBySignature(header);
+                    if (factory != null) {
+                        if (location != null) {
+                            decoder = factory.createRegionDecoder(location);
+                        }
+                        if (decoder == null) {
+                            loader = createImageLoader(factory, header, theStream, listener);
+                        }
+                    }
                 }
             } catch (Exception e) {
                 throw new ImageStorageException(e.getMessage(), e);
@@ -343,6 +464,8 @@ public class ImageStorage {
 
             if (loader != null) {
                 images = loadAll(loader, width, height, preserveAspectRatio, imgPixelScale, smooth);
+            } else if (decoder != null) {
+                images = loadTiled(decoder, width, height, preserveAspectRatio, imgPixelScale, smooth);
             } else {
                 throw new ImageStorageException("No loader for image data");
             }
@@ -350,6 +473,9 @@ public class ImageStorage {
             if (loader != null) {
                 loader.dispose();
             }
+            if (decoder != null) {
+                decoder.dispose();
+            }
             try {
                 if (theStream != null) {
                     theStream.close();
@@ -411,6 +537,70 @@ public class ImageStorage {
         return images;
     }
 
+    /*
+     * Returns the first frame of the image in the stream, carrying a frame
+     * stream for the other frames, if it is a multi-frame GIF image whose
+     * frames would take more than streamingThreshold bytes once decoded.
+     * Otherwise returns null and leaves the stream, which must support mark,
+     * positioned at its start.
+     */
+    private static ImageFrame[] loadStreamed(InputStream stream,
+            double width, double height, boolean preserveAspectRatio,
+            float pixelScale, boolean smooth, long streamingThreshold) throws IOException {
+        // Keep everything read in the stream buffer until we know whether
+        // the image is streamed, the other images are then read again
+        stream.mark(Integer.MAX_VALUE);
+        byte[] header = new byte[getMaxSignatureLength()];
+        int n = stream.readNBytes(header, 0, header.length);
+        ImageLoaderFactory factory = (n == header.length) ? getFactoryBySignature(header) : null;
+        if (factory != GIFImageLoaderFactory.getInstance()) {
+            stream.reset();
+            return null;
+        }
+        stream.reset();
+        byte[] data = stream.readAllBytes();
+
+        // Scan the frames without decoding them
+        int imgw = (int) Math.round(width * pixelScale);
+        int imgh = (int) Math.round(height * pixelScale);
+        ArrayList<ImageMetadata> frames = new ArrayList<ImageMetadata>();
+        long decodedSize = 0;
+        try {
+            GIFImageLoader2 scanner = new GIFImageLoader2(new ByteArrayInputStream(data));
+            ImageMetadata metadata;
+            while ((metadata = scanner.skip(imgw, imgh, preserveAspectRatio)) != null) {
+                frames.add(metadata);
+                decodedSize += 4L * metadata.imageWidth * metadata.imageHeight;
+            }
+        } catch (IOException e) {
+            // allow partially loaded animated images, like loadAll does
+        }
+
+        if (frames.size() > 1 && decodedSize > streamingThreshold) {
+            FrameStream frameStream = new FrameStream(data, factory,
+                    frames.toArray(new ImageMetadata[frames.size()]),
+                    imgw, imgh, preserveAspectRatio, pixelScale, smooth);
+            ImageFrame first = frameStream.getFrame(0);
+            if (first != null) {
+                first.setFrameStream(frameStream);
+                return new ImageFrame[] { first };
+            }
+            frameStream.dispose();
+        }
+        stream.reset();
+        return null;
+    }
+
+    private static synchronized ImageLoaderFactory getFactoryBySignature(byte[] header) {
+        for (final Entry<Signature, ImageLoaderFactory> factoryRegistration:
+                 loaderFactoriesBySignature.entrySet()) {
+            if (factoryRegistration.getKey().matches(header)) {
+                return factoryRegistration.getValue();
+            }
+        }
+        return null;
+    }
+
 //    private static ImageLoader getLoaderByExtension(String input, ImageLoadListener listener) {
 //        ImageLoader loader = null;
 //
@@ -434,25 +624,114 @@ public class ImageStorage {
 //    }
 
     private static ImageLoader getLoaderBySignature(InputStream stream, ImageLoadListener listener) throws IOException {
+        byte[] header = readSignature(stream);
+        ImageLoaderFactory factory = getFactoryBySignature(header);
+
+        // not found
+        if (factory == null) {
+            return null;
+        }
+        return createImageLoader(factory, header, stream, listener);
+    }
+
+    private static byte[] readSignature(InputStream stream) throws IOException {
         byte[] header = new byte[getMaxSignatureLength()];
         ImageTools.readFully(stream, header);
+        return header;
+    }
 
-        for (final Entry<Signature, ImageLoaderFactory> factoryRegistration:
-                 loaderFactoriesBySignature.entrySet()) {
-            if (factoryRegistration.getKey().matches(header)) {
-                InputStream headerStream = new ByteArrayInputStream(header);
-                InputStream seqStream = new SequenceInputStream(headerStream, stream);
-                ImageLoader loader = factoryRegistration.getValue().createImageLoader(seqStream);
-                if (listener != null) {
-                    loader.addListener(listener);
-                }
+    // Creates a loader for the stream whose header has already been read
+    private static ImageLoader createImageLoader(ImageLoaderFactory factory, byte[] header,
+            InputStream stream, ImageLoadListener listener) throws IOException {
+        InputStream headerStream = new ByteArrayInputStream(header);
+        InputStream seqStream = new SequenceInputStream(headerStream, stream);
+        ImageLoader loader = factory.createImageLoader(seqStream);
+        if (listener != null) {
+            loader.addListener(listener);
+        }
 
-                return loader;
+        return loader;
+    }
+
+    // The smallest size of the side of a tile worth decoding on its own
+    private static final int MIN_TILE_SIZE = 256;
+
+    /*
+     * Decodes an image in tiles, concurrently on the common fork join pool,
+     * and assembles them into a single frame.  The tiles are aligned on the
+     * tiles of the decoder, several of them being grouped when the image is
+     * downscaled so that each decoded tile has at least MIN_TILE_SIZE pixels
+     * on each side.
+     */
+    private static ImageFrame[] loadTiled(RegionImageDecoder decoder,
+            double width, double height, boolean preserveAspectRatio,
+            float pixelScale, boolean smooth) throws ImageStorageException {
+        int srcw = decoder.getWidth();
+        int srch = decoder.getHeight();
+        int[] outWH = ImageTools.computeDimensions(srcw, srch,
+                (int) Math.round(width * pixelScale), (int) Math.round(height * pixelScale),
+                preserveAspectRatio);
+        int outw = outWH[0];
+        int outh = outWH[1];
+
+        ImageType type = decoder.getImageType();
+        int bands = getNumBands(type);
+        if ((long) outw * outh * bands > Integer.MAX_VALUE) {
+            throw new ImageStorageException("Image too large: " + outw + "x" + outh);
+        }
+        int stride = outw * bands;
+        byte[] data = new byte[stride * outh];
+
+        int stepx = getTileStep(decoder.getTileWidth(), srcw, outw);
+        int stepy = getTileStep(decoder.getTileHeight(), srch, outh);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int y = 0; y < srch; y += stepy) {
+            for (int x = 0; x < srcw; x += stepx) {
+                int sx = x, sy = y;
+                int sw = Math.min(stepx, srcw - x);
+                int sh = Math.min(stepy, srch - y);
+                // Tiles share their edges, as they are rounded the same way
+                int ox = (int) ((long) sx * outw / srcw);
+                int oy = (int) ((long) sy * outh / srch);
+                int ow = (int) ((long) (sx + sw) * outw / srcw) - ox;
+                int oh = (int) ((long) (sy + sh) * outh / srch) - oy;
+                if (ow <= 0 || oh <= 0) {
+                    continue;
+                }
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    ImageFrame tile = decoder.decodeRegion(sx, sy, sw, sh, ow, oh, smooth);
+                    if (tile == null || tile.getImageType() != type
+                            || tile.getWidth() != ow || tile.getHeight() != oh) {
+                        throw new IOException("Bad image region at " + sx + "," + sy);
+                    }
+                    ByteBuffer src = ((ByteBuffer) tile.getImageData()).duplicate();
+                    for (int row = 0; row < oh; row++) {
+                        src.position(row * tile.getStride());
+                        src.get(data, (oy + row) * stride + ox * bands, ow * bands);
+                    }
+                    return null;
+                }));
             }
         }
+        try {
+            ForkJoinTask.invokeAll(tasks);
+        } catch (RuntimeException e) {
+            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+            throw new ImageStorageException(cause.getMessage(), cause);
+        }
 
-        // not found
-        return null;
+        return new ImageFrame[] {
+            new ImageFrame(type, ByteBuffer.wrap(data), outw, outh, stride, null, pixelScale, null)
+        };
+    }
+
+    // Returns a multiple of the tile size covering at least MIN_TILE_SIZE
+    // output pixels
+    private static int getTileStep(int tileSize, int srcSize, int outSize) {
+        tileSize = Math.max(1, Math.min(tileSize, srcSize));
+        long wanted = ((long) MIN_TILE_SIZE * srcSize + outSize - 1) / outSize;
+        long tiles = Math.max(1, (wanted + tileSize - 1) / tileSize);
+        return (int) Math.min(tiles * tileSize, srcSize);
     }
 
     private ImageStorage() {
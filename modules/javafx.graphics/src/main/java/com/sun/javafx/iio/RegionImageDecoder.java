@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio;
+
+import java.io.IOException;
+
+/**
+ * A decoder for rectangular regions of an image, created by an
+ * {@link ImageLoaderFactory} for formats which support random access to
+ * the image data.
+ * <p>
+ * Regions may be decoded concurrently from several threads, so
+ * {@link #decodeRegion} must be thread safe.
+ */
+public interface RegionImageDecoder {
+    /**
+     * Gets the width of the image in pixels.
+     */
+    int getWidth();
+
+    /**
+     * Gets the height of the image in pixels.
+     */
+    int getHeight();
+
+    /**
+     * Gets the width of the regions which can be decoded most efficiently,
+     * e.g. the width of the tiles of a tiled image.  The regions requested
+     * from this decoder are aligned on multiples of this width.
+     */
+    int getTileWidth();
+
+    /**
+     * Gets the height of the regions which can be decoded most efficiently.
+     */
+    int getTileHeight();
+
+    /**
+     * Gets the type of the frames returned by {@link #decodeRegion}, which
+     * must not be one of the palette types.
+     */
+    ImageStorage.ImageType getImageType();
+
+    /**
+     * Decodes a region of the image, scaled to the given size.  Decoders of
+     * pyramidal formats should decode the region from the smallest level
+     * which is at least as large as the requested size.
+     *
+     * @param x the left edge of the region in image pixels.
+     * @param y the top edge of the region in image pixels.
+     * @param width the width of the region in image pixels.
+     * @param height the height of the region in image pixels.
+     * @param outWidth the width of the decoded frame, at most <code>width</code>.
+     * @param outHeight the height of the decoded frame, at most <code>height</code>.
+     * @param smooth whether to use a smooth downscaling algorithm.
+     * @return a frame of type {@link #getImageType} and of size
+     * <code>outWidth</code> by <code>outHeight</code>.
+     * @throws IOException if the region cannot be decoded.
+     */
+    ImageFrame decodeRegion(int x, int y, int width, int height,
+                            int outWidth, int outHeight, boolean smooth) throws IOException;
+
+    /**
+     * Disposes of any resources held by this decoder.  No region is
+     * decoded afterwards.
+     */
+    void dispose();
+}
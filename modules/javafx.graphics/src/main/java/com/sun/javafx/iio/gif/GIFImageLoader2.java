@@ -243,6 +243,40 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
                 width, height, width * 4, null, metadata);
     }
 
+    /**
+     * Skips the next image frame without decoding it.  This is much cheaper
+     * than {@link #load}, as the image data is not decompressed, but it does
+     * not update the compositing state either, so a loader which has skipped
+     * a frame cannot load the frames that follow it.
+     *
+     * @return the metadata that {@code load} would have reported for the
+     * frame, or null if there are no more frames
+     */
+    public ImageMetadata skip(int width, int height, boolean preserveAspectRatio) throws IOException {
+        int imageControlCode = waitForImageFrame();
+
+        if (imageControlCode < 0) {
+            return null;
+        }
+
+        int left = readShort(), top = readShort(), w = readShort(), h = readShort();
+
+        if (left + w > screenW || top + h > screenH) {
+            throw new IOException("Wrong GIF image frame size");
+        }
+
+        int imgCtrl = readByte();
+        if ((imgCtrl & 0x80) != 0) {
+            skipBytes(3 * (2 << (imgCtrl & 7)));
+        }
+
+        readByte(); // LZW minimum code size
+        consumeAnExtension(); // image data sub-blocks
+
+        int[] outWH = ImageTools.computeDimensions(screenW, screenH, width, height, preserveAspectRatio);
+        return createMetadata(outWH[0], outWH[1], imageControlCode & 0xFFFF);
+    }
+
     // IO helpers
     private int readByte() throws IOException {
         int ch = stream.read();
@@ -328,12 +362,16 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
 
     // fill metadata
     private ImageMetadata updateMetadata(int w, int h, int delayTime) {
-        ImageMetadata metaData = new ImageMetadata(null, true, null, null, null,
-                delayTime != 0 ? delayTime*10 : 1000/DEFAULT_FPS, loopCount, w, h, null, null, null);
+        ImageMetadata metaData = createMetadata(w, h, delayTime);
         updateImageMetadata(metaData);
         return metaData;
     }
 
+    private ImageMetadata createMetadata(int w, int h, int delayTime) {
+        return new ImageMetadata(null, true, null, null, null,
+                delayTime != 0 ? delayTime*10 : 1000/DEFAULT_FPS, loopCount, w, h, null, null, null);
+    }
+
     class LZWDecoder {
         private final int initCodeSize, clearCode, eofCode;
         private int codeSize, codeMask, tableIndex, oldCode;
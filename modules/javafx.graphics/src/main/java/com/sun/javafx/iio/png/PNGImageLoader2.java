@@ -33,7 +33,14 @@ import com.sun.javafx.iio.*;
 import com.sun.javafx.iio.common.*;
 import java.io.*;
 import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.*;
 
 public final class PNGImageLoader2 extends ImageLoaderImpl {
@@ -73,6 +80,42 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     // Palette data : r,g,b,[a]  -  alpha optional
     private byte palette[][];
 
+    // The source of the image data while it is being loaded
+    private PNGIDATChunkInputStream iDat;
+    private Inflater inflater;
+    private byte inflaterInput[];
+
+    private static final int INFLATER_INPUT_SIZE = 8192;
+
+    // Images with at least this many bytes of pixel data are inflated on a
+    // separate thread while the rows are unfiltered
+    private static final int PIPELINE_THRESHOLD = 1 << 22;
+
+    /*
+     * The threads inflating the rows of large images, shared by all loaders
+     * and created on first use.  When they are all busy, an image is
+     * inflated by its loading thread instead of waiting for one of them.
+     */
+    private static final class Inflaters {
+        static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor() {
+            @SuppressWarnings("removal")
+            final ThreadFactory threadFactory =
+                    runnable -> AccessController.doPrivileged(
+                            (PrivilegedAction<Thread>) () -> {
+                                final Thread newThread = new Thread(runnable, "PNG Inflater");
+                                newThread.setDaemon(true);
+                                return newThread;
+                            }
+                    );
+
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            return new ThreadPoolExecutor(0, threads, 1, TimeUnit.SECONDS,
+                    new SynchronousQueue<Runnable>(), threadFactory);
+        }
+    }
+
     public PNGImageLoader2(InputStream input) throws IOException {
         super(PNGDescriptor.getInstance());
         stream = new DataInputStream(input);
@@ -322,28 +365,28 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         }
     }
 
-    private void doSubFilter(byte line[], int bpp) {
-        int l = line.length;
-        for (int i = bpp; i != l; ++i) {
+    // The filters work on the len bytes of the scanline starting at off in
+    // line, the previous scanline starts at poff in pline
+
+    private void doSubFilter(byte line[], int off, int len, int bpp) {
+        for (int i = off + bpp, l = off + len; i < l; ++i) {
             line[i] = (byte) (line[i] + line[i - bpp]);
         }
     }
 
-    private void doUpFilter(byte line[], byte pline[]) {
-        int l = line.length;
-        for (int i = 0; i != l; ++i) {
-            line[i] = (byte) (line[i] + pline[i]);
+    private void doUpFilter(byte line[], int off, byte pline[], int poff, int len) {
+        for (int i = 0; i != len; ++i) {
+            line[off + i] = (byte) (line[off + i] + pline[poff + i]);
         }
     }
 
-    private void doAvrgFilter(byte line[], byte pline[], int bpp) {
-        int l = line.length;
+    private void doAvrgFilter(byte line[], int off, byte pline[], int poff, int len, int bpp) {
         for (int i = 0; i != bpp; ++i) {
-            line[i] = (byte) (line[i] + (pline[i] & 0xFF) / 2);
+            line[off + i] = (byte) (line[off + i] + (pline[poff + i] & 0xFF) / 2);
         }
-        for (int i = bpp; i != l; ++i) {
-            line[i] = (byte) (line[i]
-                    + (((line[i - bpp] & 0xFF) + (pline[i] & 0xFF))) / 2);
+        for (int i = bpp; i < len; ++i) {
+            line[off + i] = (byte) (line[off + i]
+                    + (((line[off + i - bpp] & 0xFF) + (pline[poff + i] & 0xFF))) / 2);
         }
     }
 
@@ -355,30 +398,35 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         return (pa <= pb && pa <= pc) ? a : (pb <= pc) ? b : c;
     }
 
-    private void doPaethFilter(byte line[], byte pline[], int bpp) {
-        int l = line.length;
+    private void doPaethFilter(byte line[], int off, byte pline[], int poff, int len, int bpp) {
         for (int i = 0; i != bpp; ++i) {
-            line[i] = (byte) (line[i] + pline[i]);
+            line[off + i] = (byte) (line[off + i] + pline[poff + i]);
         }
-        for (int i = bpp; i != l; ++i) {
-            line[i] = (byte) (line[i]
-                    + paethPr(line[i - bpp] & 0xFF, pline[i] & 0xFF, pline[i - bpp] & 0xFF));
+        for (int i = bpp; i < len; ++i) {
+            line[off + i] = (byte) (line[off + i]
+                    + paethPr(line[off + i - bpp] & 0xFF, pline[poff + i] & 0xFF,
+                              pline[poff + i - bpp] & 0xFF));
         }
     }
 
     private void doFilter(byte line[], byte pline[], int fType, int bpp) {
+        doFilter(line, 0, pline, 0, line.length, fType, bpp);
+    }
+
+    private void doFilter(byte line[], int off, byte pline[], int poff, int len,
+                          int fType, int bpp) {
         switch (fType) {
             case PNG_FILTER_SUB:
-                doSubFilter(line, bpp);
+                doSubFilter(line, off, len, bpp);
                 break;
             case PNG_FILTER_UP:
-                doUpFilter(line, pline);
+                doUpFilter(line, off, pline, poff, len);
                 break;
             case PNG_FILTER_AVERAGE:
-                doAvrgFilter(line, pline, bpp);
+                doAvrgFilter(line, off, pline, poff, len, bpp);
                 break;
             case PNG_FILTER_PAETH:
-                doPaethFilter(line, pline, bpp);
+                doPaethFilter(line, off, pline, poff, len, bpp);
                 break;
         }
     }
@@ -535,7 +583,17 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         return start[mip] + pos * increment[mip];
     }
 
-    private void loadMip(byte image[], InputStream data, int mip) throws IOException {
+    private void loadMip(byte image[], int mip) throws IOException {
+        loadMip(image, mip, null, null);
+    }
+
+    /*
+     * If scaler is not null, image only holds one row. Each row is converted
+     * into it and then pushed to the scaler, expanding the palette indices
+     * into paletteRow first if it is not null.
+     */
+    private void loadMip(byte image[], int mip, PushbroomScaler scaler,
+                         byte paletteRow[]) throws IOException {
 
         int mipWidth = mipSize(width, mip, starting_x, increment_x);
         int mipHeight = mipSize(height, mip, starting_y, increment_y);
@@ -548,19 +606,16 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         // to support tRNS
         int resultBpp = bpp(), srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
 
-        for (int y = 0; y != mipHeight; ++y) {
-            int filterByte = data.read();
-            if (filterByte == -1) {
-                throw new EOFException();
-            }
+        byte filterByte[] = new byte[1];
 
-            if (data.read(scanLine0) != scanLineSize) {
-                throw new EOFException();
-            }
+        for (int y = 0; y != mipHeight; ++y) {
+            inflateFully(filterByte, 0, 1);
+            inflateFully(scanLine0, 0, scanLineSize);
 
-            doFilter(scanLine0, scanLine1, filterByte, srcBpp);
+            doFilter(scanLine0, scanLine1, filterByte[0], srcBpp);
 
-            int pos = (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
+            int pos = scaler != null ? 0
+                    : (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
             int step = increment_x[mip];
 
             if (bitDepth == 16) {
@@ -571,57 +626,274 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 copy(scanLine0, image, pos, step, resultBpp);
             }
 
+            if (scaler != null) {
+                if (paletteRow != null) {
+                    expandPalette(image, 0, paletteRow, 0, width);
+                    scaler.putSourceScanline(paletteRow, 0);
+                } else {
+                    scaler.putSourceScanline(image, 0);
+                }
+            }
+
             byte scanLineSwp[] = scanLine0;
             scanLine0 = scanLine1;
             scanLine1 = scanLineSwp;
         }
     }
 
-    private void load(byte image[], InputStream data) throws IOException {
-        if (isInterlaced) {
-            for (int mip = 0; mip != 7; ++mip) {
-                if (width > starting_x[mip] && height > starting_y[mip]) {
-                    loadMip(image, data, mip);
+    /**
+     * Inflates exactly len bytes of image data into b at off.
+     */
+    private void inflateFully(byte b[], int off, int len) throws IOException {
+        try {
+            while (len > 0) {
+                int n = inflater.inflate(b, off, len);
+                if (n == 0) {
+                    if (inflater.finished() || inflater.needsDictionary()) {
+                        throw new EOFException();
+                    }
+                    if (inflater.needsInput()) {
+                        int count = iDat.read(inflaterInput, 0, inflaterInput.length);
+                        if (count == -1) {
+                            throw new EOFException();
+                        }
+                        inflater.setInput(inflaterInput, 0, count);
+                    }
                 }
+                off += n;
+                len -= n;
             }
+        } catch (DataFormatException e) {
+            String s = e.getMessage();
+            throw new ZipException(s != null ? s : "Invalid ZLIB data format");
+        }
+    }
+
+    /*
+     * In the common case of a non interlaced image with 8 bit samples and
+     * no tRNS conversion the scanlines have the layout of the rows of the
+     * image. They are then inflated straight into the image buffer and
+     * unfiltered in place, using the previous row of the image.
+     */
+    private boolean isDirect() {
+        return !isInterlaced && bitDepth == 8 && !tRNS_GRAY_RGB;
+    }
+
+    private void loadDirect(byte image[]) throws IOException {
+        int bpp = bpp(), stride = width * bpp;
+        byte firstPrior[] = new byte[stride];
+        byte filterByte[] = new byte[1];
+
+        for (int y = 0, pos = 0; y != height; ++y, pos += stride) {
+            inflateFully(filterByte, 0, 1);
+            inflateFully(image, pos, stride);
+            unfilterRow(image, y, stride, filterByte[0], bpp, firstPrior);
+        }
+    }
+
+    private void unfilterRow(byte image[], int y, int stride, int fType, int bpp,
+                             byte firstPrior[]) {
+        int pos = y * stride;
+        if (y == 0) {
+            doFilter(image, pos, firstPrior, 0, stride, fType, bpp);
         } else {
-            loadMip(image, data, 7);
+            doFilter(image, pos, image, pos - stride, stride, fType, bpp);
+        }
+    }
+
+    /**
+     * Inflates the rows of the image into the image buffer on its own
+     * thread, so that inflating a row overlaps with unfiltering the
+     * previous ones.
+     */
+    private final class RowInflater implements Runnable {
+        private final byte image[];
+        private final byte filters[];
+        private final int stride;
+        // guarded by this
+        private int rowCount;
+        private Throwable error;
+        private boolean cancelled;
+        private boolean finished;
+
+        RowInflater(byte image[], int stride) {
+            this.image = image;
+            this.filters = new byte[height];
+            this.stride = stride;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int y = 0, pos = 0; y != height; ++y, pos += stride) {
+                    inflateFully(filters, y, 1);
+                    inflateFully(image, pos, stride);
+                    synchronized (this) {
+                        if (cancelled) {
+                            return;
+                        }
+                        rowCount = y + 1;
+                        notifyAll();
+                    }
+                }
+            } catch (Throwable t) {
+                synchronized (this) {
+                    error = t;
+                    notifyAll();
+                }
+            } finally {
+                synchronized (this) {
+                    finished = true;
+                    notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Waits until more than {@code y} rows have been inflated and returns
+         * the number of rows available.
+         */
+        synchronized int awaitRows(int y) throws IOException {
+            while (rowCount <= y && error == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            if (error instanceof IOException) {
+                throw (IOException) error;
+            } else if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error != null) {
+                throw (Error) error;
+            }
+            return rowCount;
+        }
+
+        /**
+         * Stops inflating rows and waits until the inflater is no longer
+         * used.
+         */
+        synchronized void cancel() {
+            cancelled = true;
+            boolean interrupted = false;
+            while (!finished) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
-    private ImageFrame decodePalette(byte srcImage[], ImageMetadata metadata) throws IOException {
-        int bpp = tRNS_present ? 4 : 3;
-        if (width >= (Integer.MAX_VALUE / height / bpp)) {
-            throw new IOException("Bad PNG image size!");
+    private void loadPipelined(byte image[]) throws IOException {
+        int bpp = bpp(), stride = width * bpp;
+        byte firstPrior[] = new byte[stride];
+        RowInflater rowInflater = new RowInflater(image, stride);
+        try {
+            Inflaters.EXECUTOR.execute(rowInflater);
+        } catch (RejectedExecutionException e) {
+            loadDirect(image);
+            return;
         }
-        byte newImage[] = new byte[width * height * bpp];
-        int l = width * height;
+        try {
+            int y = 0;
+            while (y != height) {
+                int available = rowInflater.awaitRows(y);
+                for (; y != available; ++y) {
+                    unfilterRow(image, y, stride, rowInflater.filters[y], bpp, firstPrior);
+                }
+            }
+        } finally {
+            // The inflater must not be used after it has been ended
+            rowInflater.cancel();
+        }
+    }
 
+    private void load(byte image[]) throws IOException {
+        if (isDirect()) {
+            if (width * bpp() * (long) height >= PIPELINE_THRESHOLD
+                    && Runtime.getRuntime().availableProcessors() > 1) {
+                loadPipelined(image);
+            } else {
+                loadDirect(image);
+            }
+        } else if (isInterlaced) {
+            for (int mip = 0; mip != 7; ++mip) {
+                if (width > starting_x[mip] && height > starting_y[mip]) {
+                    loadMip(image, mip);
+                }
+            }
+        } else {
+            loadMip(image, 7);
+        }
+    }
+
+    private void expandPalette(byte src[], int srcPos, byte dst[], int dstPos, int count) {
+        int l = srcPos + count;
         if (tRNS_present) {
-            for (int i = 0, j = 0; i != l; j += 4, i++) {
-                int index = 0xFF & srcImage[i];
-                newImage[j + 0] = palette[0][index];
-                newImage[j + 1] = palette[1][index];
-                newImage[j + 2] = palette[2][index];
-                newImage[j + 3] = palette[3][index];
+            for (int i = srcPos, j = dstPos; i != l; j += 4, i++) {
+                int index = 0xFF & src[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
+                dst[j + 3] = palette[3][index];
             }
         } else {
-            for (int i = 0, j = 0; i != l; j += 3, i++) {
-                int index = 0xFF & srcImage[i];
-                newImage[j + 0] = palette[0][index];
-                newImage[j + 1] = palette[1][index];
-                newImage[j + 2] = palette[2][index];
+            for (int i = srcPos, j = dstPos; i != l; j += 3, i++) {
+                int index = 0xFF & src[i];
+                dst[j + 0] = palette[0][index];
+                dst[j + 1] = palette[1][index];
+                dst[j + 2] = palette[2][index];
             }
         }
+    }
 
-        ImageStorage.ImageType type = tRNS_present
+    private ImageStorage.ImageType getPaletteType() {
+        return tRNS_present
                 ? ImageStorage.ImageType.RGBA
                 : ImageStorage.ImageType.RGB;
+    }
+
+    private ImageFrame decodePalette(byte srcImage[], ImageMetadata metadata) throws IOException {
+        int bpp = tRNS_present ? 4 : 3;
+        if (width >= (Integer.MAX_VALUE / height / bpp)) {
+            throw new IOException("Bad PNG image size!");
+        }
+        byte newImage[] = new byte[width * height * bpp];
+        expandPalette(srcImage, 0, newImage, 0, width * height);
 
-        return new ImageFrame(type, ByteBuffer.wrap(newImage), width, height,
+        return new ImageFrame(getPaletteType(), ByteBuffer.wrap(newImage), width, height,
                 width * bpp, null, metadata);
     }
 
+    /*
+     * Decodes a non interlaced image at the requested size, pushing the rows
+     * into a scaler as soon as they are decoded, so that only the scaled
+     * image and a few rows are kept in memory instead of the full image.
+     */
+    private ImageFrame loadScaled(int rWidth, int rHeight, boolean smooth,
+                                  ImageMetadata metadata) throws IOException {
+        boolean isPalette = colorType == PNG_COLOR_PALETTE;
+        int numBands = isPalette ? (tRNS_present ? 4 : 3) : bpp();
+        PushbroomScaler scaler = ScalerFactory.createScaler(width, height,
+                numBands, rWidth, rHeight, smooth);
+
+        byte row[] = new byte[width * bpp()];
+        byte paletteRow[] = isPalette ? new byte[width * numBands] : null;
+        loadMip(row, 7, scaler, paletteRow);
+
+        return new ImageFrame(isPalette ? getPaletteType() : getType(),
+                scaler.getDestination(), rWidth, rHeight, rWidth * numBands,
+                null, metadata);
+    }
+
     // we won`t decode palette on fly, we will do it later
     // it is possible that we might want original paletteized image
     // ImageFrame does not support 16 bit color depth,
@@ -662,27 +934,32 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 null, null, null, null, null, rWidth, rHeight, null, null, null);
         updateImageMetadata(metaData);
 
-        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
+        boolean scaled = width != rWidth || height != rHeight;
+        ByteBuffer bb = null;
 
-        PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
-        Inflater inf = new Inflater();
-        InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf));
+        iDat = new PNGIDATChunkInputStream(stream, dataSize);
+        inflater = new Inflater();
+        inflaterInput = new byte[INFLATER_INPUT_SIZE];
 
         try {
-            load(bb.array(), data);
-        } catch (IOException e) {
-            throw e;
-        } finally {
-            if (inf != null) {
-                inf.end();
+            if (scaled && !isInterlaced) {
+                return loadScaled(rWidth, rHeight, smooth, metaData);
             }
+            bb = ByteBuffer.allocate(bpp * width * height);
+            load(bb.array());
+        } finally {
+            inflater.end();
+            inflater = null;
+            iDat = null;
+            inflaterInput = null;
         }
 
         ImageFrame imgPNG = colorType == PNG_COLOR_PALETTE
                 ? decodePalette(bb.array(), metaData)
                 : new ImageFrame(getType(), bb, width, height, bpp * width, palette, metaData);
 
-        if (width != rWidth || height != rHeight) {
+        if (scaled) {
+            // Interlaced images are only complete after the last pass
             imgPNG = ImageTools.scaleImageFrame(imgPNG, rWidth, rHeight, smooth);
         }
 
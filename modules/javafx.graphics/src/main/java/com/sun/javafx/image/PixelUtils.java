@@ -68,13 +68,14 @@ public class PixelUtils {
         int a = nonpre >>> 24;
         if (a == 0xff) return nonpre;
         if (a == 0x00) return 0;
-        int r = (nonpre >> 16) & 0xff;
-        int g = (nonpre >>  8) & 0xff;
-        int b = (nonpre      ) & 0xff;
-        r = (r * a + 0x7f) / 0xff;
-        g = (g * a + 0x7f) / 0xff;
-        b = (b * a + 0x7f) / 0xff;
-        return (a << 24) | (r << 16) | (g << 8) | b;
+        // Multiply red and blue at once, in two 16 bit lanes, and divide
+        // by 255 with (t + (t >> 8)) >> 8, which for t = c * a + 0x80
+        // gives the same result as (c * a + 0x7f) / 0xff
+        int rb = (nonpre & 0xff00ff) * a + 0x800080;
+        rb = ((rb + ((rb >> 8) & 0xff00ff)) >> 8) & 0xff00ff;
+        int g = ((nonpre >> 8) & 0xff) * a + 0x80;
+        g = ((g + (g >> 8)) >> 8) & 0xff;
+        return (a << 24) | rb | (g << 8);
     }
 
     public static int PretoNonPre(int pre) {
@@ -62,6 +62,23 @@ public abstract class BaseByteToIntConverter
                             IntBuffer  dstbuf, int dstoff, int dstscanints,
                             int w, int h);
 
+    private void convertArrays(byte srcarr[], int srcoff, int srcscanbytes,
+                               int  dstarr[], int dstoff, int dstscanints,
+                               int w, int h)
+    {
+        if (ParallelConversion.getBandCount(w, h) > 1) {
+            ParallelConversion.convert(w, h, nSrcElems, srcscanbytes, 1, dstscanints,
+                (srcpos, dstpos, bw, bh) ->
+                    doConvert(srcarr, srcoff + srcpos, srcscanbytes,
+                              dstarr, dstoff + dstpos, dstscanints,
+                              bw, bh));
+        } else {
+            doConvert(srcarr, srcoff, srcscanbytes,
+                      dstarr, dstoff, dstscanints,
+                      w, h);
+        }
+    }
+
     @Override
     public final void convert(byte srcarr[], int srcoff, int srcscanbytes,
                               int  dstarr[], int dstoff, int dstscanints,
@@ -74,9 +91,9 @@ public abstract class BaseByteToIntConverter
             w *= h;
             h = 1;
         }
-        doConvert(srcarr, srcoff, srcscanbytes,
-                  dstarr, dstoff, dstscanints,
-                  w, h);
+        convertArrays(srcarr, srcoff, srcscanbytes,
+                      dstarr, dstoff, dstscanints,
+                      w, h);
     }
 
     @Override
@@ -94,9 +111,9 @@ public abstract class BaseByteToIntConverter
         if (srcbuf.hasArray() && dstbuf.hasArray()) {
             srcoff += srcbuf.arrayOffset();
             dstoff += dstbuf.arrayOffset();
-            doConvert(srcbuf.array(), srcoff, srcscanbytes,
-                      dstbuf.array(), dstoff, dstscanints,
-                      w, h);
+            convertArrays(srcbuf.array(), srcoff, srcscanbytes,
+                          dstbuf.array(), dstoff, dstscanints,
+                          w, h);
         } else {
             doConvert(srcbuf, srcoff, srcscanbytes,
                       dstbuf, dstoff, dstscanints,
@@ -119,9 +136,9 @@ public abstract class BaseByteToIntConverter
         if (srcbuf.hasArray()) {
             byte srcarr[] = srcbuf.array();
             srcoff += srcbuf.arrayOffset();
-            doConvert(srcarr, srcoff, srcscanbytes,
-                      dstarr, dstoff, dstscanints,
-                      w, h);
+            convertArrays(srcarr, srcoff, srcscanbytes,
+                          dstarr, dstoff, dstscanints,
+                          w, h);
         } else {
             IntBuffer dstbuf = IntBuffer.wrap(dstarr);
             doConvert(srcbuf, srcoff, srcscanbytes,
@@ -145,9 +162,9 @@ public abstract class BaseByteToIntConverter
         if (dstbuf.hasArray()) {
             int dstarr[] = dstbuf.array();
             dstoff += dstbuf.arrayOffset();
-            doConvert(srcarr, srcoff, srcscanbytes,
-                      dstarr, dstoff, dstscanints,
-                      w, h);
+            convertArrays(srcarr, srcoff, srcscanbytes,
+                          dstarr, dstoff, dstscanints,
+                          w, h);
         } else {
             ByteBuffer srcbuf = ByteBuffer.wrap(srcarr);
             doConvert(srcbuf, srcoff, srcscanbytes,
@@ -62,6 +62,23 @@ public abstract class BaseIntToByteConverter
                             ByteBuffer dstbuf, int dstoff, int dstscanbytes,
                             int w, int h);
 
+    private void convertArrays(int  srcarr[], int srcoff, int srcscanints,
+                               byte dstarr[], int dstoff, int dstscanbytes,
+                               int w, int h)
+    {
+        if (ParallelConversion.getBandCount(w, h) > 1) {
+            ParallelConversion.convert(w, h, 1, srcscanints, nDstElems, dstscanbytes,
+                (srcpos, dstpos, bw, bh) ->
+                    doConvert(srcarr, srcoff + srcpos, srcscanints,
+                              dstarr, dstoff + dstpos, dstscanbytes,
+                              bw, bh));
+        } else {
+            doConvert(srcarr, srcoff, srcscanints,
+                      dstarr, dstoff, dstscanbytes,
+                      w, h);
+        }
+    }
+
     @Override
     public final void convert(int  srcarr[], int srcoff, int srcscanints,
                               byte dstarr[], int dstoff, int dstscanbytes,
@@ -74,9 +91,9 @@ public abstract class BaseIntToByteConverter
             w *= h;
             h = 1;
         }
-        doConvert(srcarr, srcoff, srcscanints,
-                  dstarr, dstoff, dstscanbytes,
-                  w, h);
+        convertArrays(srcarr, srcoff, srcscanints,
+                      dstarr, dstoff, dstscanbytes,
+                      w, h);
     }
 
     @Override
@@ -94,9 +111,9 @@ public abstract class BaseIntToByteConverter
         if (srcbuf.hasArray() && dstbuf.hasArray()) {
             srcoff += srcbuf.arrayOffset();
             dstoff += dstbuf.arrayOffset();
-            doConvert(srcbuf.array(), srcoff, srcscanints,
-                      dstbuf.array(), dstoff, dstscanbytes,
-                      w, h);
+            convertArrays(srcbuf.array(), srcoff, srcscanints,
+                          dstbuf.array(), dstoff, dstscanbytes,
+                          w, h);
         } else {
             doConvert(srcbuf, srcoff, srcscanints,
                       dstbuf, dstoff, dstscanbytes,
@@ -119,9 +136,9 @@ public abstract class BaseIntToByteConverter
         if (srcbuf.hasArray()) {
             int srcarr[] = srcbuf.array();
             srcoff += srcbuf.arrayOffset();
-            doConvert(srcarr, srcoff, srcscanints,
-                      dstarr, dstoff, dstscanbytes,
-                      w, h);
+            convertArrays(srcarr, srcoff, srcscanints,
+                          dstarr, dstoff, dstscanbytes,
+                          w, h);
         } else {
             ByteBuffer dstbuf = ByteBuffer.wrap(dstarr);
             doConvert(srcbuf, srcoff, srcscanints,
@@ -145,9 +162,9 @@ public abstract class BaseIntToByteConverter
         if (dstbuf.hasArray()) {
             byte dstarr[] = dstbuf.array();
             dstoff += dstbuf.arrayOffset();
-            doConvert(srcarr, srcoff, srcscanints,
-                      dstarr, dstoff, dstscanbytes,
-                      w, h);
+            convertArrays(srcarr, srcoff, srcscanints,
+                          dstarr, dstoff, dstscanbytes,
+                          w, h);
         } else {
             IntBuffer srcbuf = IntBuffer.wrap(srcarr);
             doConvert(srcbuf, srcoff, srcscanints,
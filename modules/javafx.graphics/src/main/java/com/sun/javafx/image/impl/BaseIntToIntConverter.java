@@ -60,6 +60,23 @@ public abstract class BaseIntToIntConverter
                             IntBuffer dstbuf, int dstoff, int dstscanints,
                             int w, int h);
 
+    private void convertArrays(int srcarr[], int srcoff, int srcscanints,
+                               int dstarr[], int dstoff, int dstscanints,
+                               int w, int h)
+    {
+        if (ParallelConversion.getBandCount(w, h) > 1) {
+            ParallelConversion.convert(w, h, 1, srcscanints, 1, dstscanints,
+                (srcpos, dstpos, bw, bh) ->
+                    doConvert(srcarr, srcoff + srcpos, srcscanints,
+                              dstarr, dstoff + dstpos, dstscanints,
+                              bw, bh));
+        } else {
+            doConvert(srcarr, srcoff, srcscanints,
+                      dstarr, dstoff, dstscanints,
+                      w, h);
+        }
+    }
+
     @Override
     public final void convert(int srcarr[], int srcoff, int srcscanints,
                               int dstarr[], int dstoff, int dstscanints,
@@ -72,9 +89,9 @@ public abstract class BaseIntToIntConverter
             w *= h;
             h = 1;
         }
-        doConvert(srcarr, srcoff, srcscanints,
-                  dstarr, dstoff, dstscanints,
-                  w, h);
+        convertArrays(srcarr, srcoff, srcscanints,
+                      dstarr, dstoff, dstscanints,
+                      w, h);
     }
 
     @Override
@@ -92,9 +109,9 @@ public abstract class BaseIntToIntConverter
         if (srcbuf.hasArray() && dstbuf.hasArray()) {
             srcoff += srcbuf.arrayOffset();
             dstoff += dstbuf.arrayOffset();
-            doConvert(srcbuf.array(), srcoff, srcscanints,
-                      dstbuf.array(), dstoff, dstscanints,
-                      w, h);
+            convertArrays(srcbuf.array(), srcoff, srcscanints,
+                          dstbuf.array(), dstoff, dstscanints,
+                          w, h);
         } else {
             doConvert(srcbuf, srcoff, srcscanints,
                       dstbuf, dstoff, dstscanints,
@@ -117,9 +134,9 @@ public abstract class BaseIntToIntConverter
         if (srcbuf.hasArray()) {
             int srcarr[] = srcbuf.array();
             srcoff += srcbuf.arrayOffset();
-            doConvert(srcarr, srcoff, srcscanints,
-                      dstarr, dstoff, dstscanints,
-                      w, h);
+            convertArrays(srcarr, srcoff, srcscanints,
+                          dstarr, dstoff, dstscanints,
+                          w, h);
         } else {
             IntBuffer dstbuf = IntBuffer.wrap(dstarr);
             doConvert(srcbuf, srcoff, srcscanints,
@@ -143,9 +160,9 @@ public abstract class BaseIntToIntConverter
         if (dstbuf.hasArray()) {
             int dstarr[] = dstbuf.array();
             dstoff += dstbuf.arrayOffset();
-            doConvert(srcarr, srcoff, srcscanints,
-                      dstarr, dstoff, dstscanints,
-                      w, h);
+            convertArrays(srcarr, srcoff, srcscanints,
+                          dstarr, dstoff, dstscanints,
+                          w, h);
         } else {
             IntBuffer srcbuf = IntBuffer.wrap(srcarr);
             doConvert(srcbuf, srcoff, srcscanints,
@@ -144,23 +144,10 @@ public class ByteBgra {
             dstscanbytes -= w * 4;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    byte b = srcarr[srcoff++];
-                    byte g = srcarr[srcoff++];
-                    byte r = srcarr[srcoff++];
-                    int  a = srcarr[srcoff++] & 0xff;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
-                        }
-                    }
-                    dstarr[dstoff++] = b;
-                    dstarr[dstoff++] = g;
-                    dstarr[dstoff++] = r;
-                    dstarr[dstoff++] = (byte) a;
+                    int pixel = LittleEndianInts.get(srcarr, srcoff);
+                    LittleEndianInts.set(dstarr, dstoff, PixelUtils.NonPretoPre(pixel));
+                    srcoff += 4;
+                    dstoff += 4;
                 }
                 srcoff += srcscanbytes;
                 dstoff += dstscanbytes;
@@ -220,11 +207,8 @@ public class ByteBgra {
             dstscanints -= w;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    dstarr[dstoff++] =
-                        ((srcarr[srcoff++] & 0xff)      ) |
-                        ((srcarr[srcoff++] & 0xff) <<  8) |
-                        ((srcarr[srcoff++] & 0xff) << 16) |
-                        ((srcarr[srcoff++]       ) << 24);
+                    dstarr[dstoff++] = LittleEndianInts.get(srcarr, srcoff);
+                    srcoff += 4;
                 }
                 srcoff += srcscanbytes;
                 dstoff += dstscanints;
@@ -269,21 +253,9 @@ public class ByteBgra {
             dstscanints  -= w;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int b = srcarr[srcoff++] & 0xff;
-                    int g = srcarr[srcoff++] & 0xff;
-                    int r = srcarr[srcoff++] & 0xff;
-                    int a = srcarr[srcoff++] & 0xff;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = (b * a + 0x7f) / 0xff;
-                            g = (g * a + 0x7f) / 0xff;
-                            r = (r * a + 0x7f) / 0xff;
-                        }
-                    }
-                    dstarr[dstoff++] =
-                        (a << 24) | (r << 16) | (g << 8) | b;
+                    int pixel = LittleEndianInts.get(srcarr, srcoff);
+                    dstarr[dstoff++] = PixelUtils.NonPretoPre(pixel);
+                    srcoff += 4;
                 }
                 dstoff += dstscanints;
                 srcoff += srcscanbytes;
@@ -127,11 +127,13 @@ public class ByteRgb {
             dstscanbytes -= w * 4;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    dstarr[dstoff++] = srcarr[srcoff + 2];
-                    dstarr[dstoff++] = srcarr[srcoff + 1];
-                    dstarr[dstoff++] = srcarr[srcoff    ];
-                    dstarr[dstoff++] = (byte) 0xff;
+                    int r = srcarr[srcoff    ] & 0xff;
+                    int g = srcarr[srcoff + 1] & 0xff;
+                    int b = srcarr[srcoff + 2] & 0xff;
+                    LittleEndianInts.set(dstarr, dstoff,
+                                         0xff000000 | (r << 16) | (g << 8) | b);
                     srcoff += 3;
+                    dstoff += 4;
                 }
                 srcoff += srcscanbytes;
                 dstoff += dstscanbytes;
@@ -136,19 +136,7 @@ public class IntArgb {
             dstscanints -= w;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int pixel = srcarr[srcoff++];
-                    int a = pixel >>> 24;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            pixel = 0;
-                        } else {
-                            int r = (((pixel >> 16) & 0xff) * a + 0x7f) / 0xff;
-                            int g = (((pixel >>  8) & 0xff) * a + 0x7f) / 0xff;
-                            int b = (((pixel      ) & 0xff) * a + 0x7f) / 0xff;
-                            pixel = (a << 24) | (r << 16) | (g << 8) | b;
-                        }
-                    }
-                    dstarr[dstoff++] = pixel;
+                    dstarr[dstoff++] = PixelUtils.NonPretoPre(srcarr[srcoff++]);
                 }
                 srcoff += srcscanints;
                 dstoff += dstscanints;
@@ -199,24 +187,9 @@ public class IntArgb {
             dstscanbytes -= w * 4;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int pixel = srcarr[srcoff++];
-                    int a = pixel >>> 24;
-                    int r = pixel >>  16;
-                    int g = pixel >>   8;
-                    int b = pixel       ;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = ((b & 0xff) * a + 0x7f) / 0xff;
-                            g = ((g & 0xff) * a + 0x7f) / 0xff;
-                            r = ((r & 0xff) * a + 0x7f) / 0xff;
-                        }
-                    }
-                    dstarr[dstoff++] = (byte) b;
-                    dstarr[dstoff++] = (byte) g;
-                    dstarr[dstoff++] = (byte) r;
-                    dstarr[dstoff++] = (byte) a;
+                    int pixel = PixelUtils.NonPretoPre(srcarr[srcoff++]);
+                    LittleEndianInts.set(dstarr, dstoff, pixel);
+                    dstoff += 4;
                 }
                 srcoff += srcscanints;
                 dstoff += dstscanbytes;
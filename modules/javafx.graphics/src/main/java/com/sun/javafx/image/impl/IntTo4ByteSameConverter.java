@@ -45,11 +45,8 @@ class IntTo4ByteSameConverter extends BaseIntToByteConverter {
         dstscanbytes -= w * 4;
         while (--h >= 0) {
             for (int x = 0; x < w; x++) {
-                int pixel = srcarr[srcoff++];
-                dstarr[dstoff++] = (byte) (pixel      );
-                dstarr[dstoff++] = (byte) (pixel >>  8);
-                dstarr[dstoff++] = (byte) (pixel >> 16);
-                dstarr[dstoff++] = (byte) (pixel >> 24);
+                LittleEndianInts.set(dstarr, dstoff, srcarr[srcoff++]);
+                dstoff += 4;
             }
             srcoff += srcscanints;
             dstoff += dstscanbytes;
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.image.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Splits the conversion of large images into bands of rows, or of pixels
+ * for images converted as a single row, which are converted concurrently
+ * on the common fork join pool.
+ */
+final class ParallelConversion {
+    // The smallest number of pixels worth converting on another thread,
+    // about a megabyte of 32 bit pixels
+    private static final int MIN_BAND_PIXELS = 1 << 18;
+
+    private static final int MAX_BANDS = Runtime.getRuntime().availableProcessors();
+
+    interface Band {
+        void convert(int srcpos, int dstpos, int w, int h);
+    }
+
+    private ParallelConversion() {}
+
+    /**
+     * Returns the number of bands a conversion of the given size should be
+     * split into, 1 if it should not be split.
+     */
+    static int getBandCount(int w, int h) {
+        if (MAX_BANDS <= 1) {
+            return 1;
+        }
+        long bands = ((long) w * h) / MIN_BAND_PIXELS;
+        return (int) Math.min(Math.min(bands, MAX_BANDS), (h == 1) ? w : h);
+    }
+
+    /**
+     * Converts {@code w} by {@code h} pixels in bands.  The band receives
+     * the offsets of its first source and destination pixels relative to
+     * those of the whole conversion, computed from the number of elements
+     * of a pixel when a single row is split, or from the scanline strides.
+     */
+    static void convert(int w, int h,
+                        int srcpixel, int srcscan,
+                        int dstpixel, int dstscan,
+                        Band band)
+    {
+        int n = getBandCount(w, h);
+        if (n <= 1) {
+            band.convert(0, 0, w, h);
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(n);
+        int total = (h == 1) ? w : h;
+        for (int i = 0; i < n; i++) {
+            int start = (int) ((long) total * i / n);
+            int count = (int) ((long) total * (i + 1) / n) - start;
+            tasks.add(ForkJoinTask.adapt((h == 1)
+                ? () -> band.convert(start * srcpixel, start * dstpixel, count, 1)
+                : () -> band.convert(start * srcscan, start * dstscan, w, count)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+}
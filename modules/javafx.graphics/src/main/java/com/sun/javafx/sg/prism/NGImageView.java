@@ -118,7 +118,7 @@ public class NGImageView extends NGNode {
         ResourceFactory factory = g.getResourceFactory();
         int maxSize = maxSizeWrapper(factory);
         if (imgW <= maxSize && imgH <= maxSize) {
-            Texture texture = factory.getCachedTexture(image, Texture.WrapMode.CLAMP_TO_EDGE);
+            Texture texture = factory.getCachedAtlasTexture(image);
             if (coords == null) {
                 g.drawTexture(texture, x, y, x + w, y + h, 0, 0, imgW, imgH);
             } else {
@@ -193,9 +193,10 @@ public class NGRegion extends NGGroup {
 
     /**
      * Is the key into the image cache that identifies the required background
-     * for the region.
+     * for the region. Only meaningful while {@code cacheKeyValid} is true.
      */
-    private Integer cacheKey;
+    private int cacheKey;
+    private boolean cacheKeyValid;
 
     /**
      * Simple Helper Function for cleanup.
@@ -235,7 +236,7 @@ public class NGRegion extends NGGroup {
         // Technically I don't think this is needed because whenever the shape changes, setOpaqueInsets
         // is also called, so this will get invalidated twice.
         invalidateOpaqueRegion();
-        cacheKey = null;
+        cacheKeyValid = false;
         visualsChanged();
     }
 
@@ -250,7 +251,7 @@ public class NGRegion extends NGGroup {
         this.width = width;
         this.height = height;
         invalidateOpaqueRegion();
-        cacheKey = null;
+        cacheKeyValid = false;
         visualsChanged();
         // We only have to clear the background insets when the size changes if the
         // background has fills who's insets are dependent on the size (as would be
@@ -373,7 +374,7 @@ public class NGRegion extends NGGroup {
             }
         }
         backgroundInsets = null;
-        cacheKey = null;
+        cacheKeyValid = false;
 
         // Only update the geom if the new background is geometrically different from the old
         if (!background.getOutsets().equals(old.getOutsets())) {
@@ -463,6 +464,7 @@ public class NGRegion extends NGGroup {
             RTTexture tex = cache.getBackingStore();
             if (tex.isSurfaceLost()) {
                 imageCacheMap.remove(screen);
+                cache.dispose();
                 cache = null;
             }
         }
@@ -473,8 +475,8 @@ public class NGRegion extends NGGroup {
         return cache;
     }
 
-    private Integer getCacheKey(int w, int h) {
-        if (cacheKey == null) {
+    private int getCacheKey(int w, int h) {
+        if (!cacheKeyValid) {
             int key = 31 * w;
             key = key * 37 + h;
             key = key * 47 + background.hashCode();
@@ -482,6 +484,7 @@ public class NGRegion extends NGGroup {
                 key = key * 73 + shape.hashCode();
             }
             cacheKey = key;
+            cacheKeyValid = true;
         }
         return cacheKey;
     }
@@ -616,13 +619,13 @@ public class NGRegion extends NGGroup {
             if (cacheMode != 0 && g.getTransformNoClone().isTranslateOrIdentity() && !(g instanceof PrinterGraphics)) {
                 final RegionImageCache imageCache = getImageCache(g);
                 if (imageCache.isImageCachable(textureWidth, textureHeight)) {
-                    final Integer key = getCacheKey(textureWidth, textureHeight);
+                    final int key = getCacheKey(textureWidth, textureHeight);
                     rect = TEMP_RECT;
                     rect.setBounds(0, 0, textureWidth + border, textureHeight + border);
                     boolean render = imageCache.getImageLocation(key, rect, background, shape, g);
                     if (!rect.isEmpty()) {
                         // An empty rect indicates a failure occurred in the imageCache
-                        cached = imageCache.getBackingStore();
+                        cached = imageCache.getLocationTexture();
                     }
                     if (cached != null && render) {
                         Graphics cachedGraphics = cached.createGraphics();
@@ -654,6 +657,7 @@ public class NGRegion extends NGGroup {
                 final float srcY2 = srcY1 + textureHeight;
 
                 g.drawTexture(cached, dstX1, dstY1, dstX2, dstY2, srcX1, srcY1, srcX2, srcY2);
+                cached.unlock();
                 if (PULSE_LOGGING_ENABLED) {
                     PulseLogger.incrementCounter("Cached region shape image used");
                 }
@@ -814,13 +818,13 @@ public class NGRegion extends NGGroup {
         if (cache) {
             RegionImageCache imageCache = getImageCache(g);
             if (imageCache.isImageCachable(textureWidth, textureHeight)) {
-                final Integer key = getCacheKey(textureWidth, textureHeight);
+                final int key = getCacheKey(textureWidth, textureHeight);
                 rect = TEMP_RECT;
                 rect.setBounds(0, 0, textureWidth + border, textureHeight + border);
                 boolean render = imageCache.getImageLocation(key, rect, background, shape, g);
                 if (!rect.isEmpty()) {
                     // An empty rect indicates a failure occurred in the imageCache
-                    cached = imageCache.getBackingStore();
+                    cached = imageCache.getLocationTexture();
                 }
                 if (cached != null && render) {
                     Graphics cacheGraphics = cached.createGraphics();
@@ -847,6 +851,7 @@ public class NGRegion extends NGGroup {
                     g, cached, rect, textureWidth, textureHeight,
                     topInset, rightInset, bottomInset, leftInset,
                     outsetsTop, outsetsRight, outsetsBottom, outsetsLeft);
+            cached.unlock();
         } else {
             // no cache, rendering backgrounds directly to graphics
             renderBackgroundRectanglesDirectly(g, width, height);
@@ -1973,7 +1978,7 @@ public class NGRegion extends NGGroup {
 
             // paint loop
             final Texture texture =
-                g.getResourceFactory().getCachedTexture(img, Texture.WrapMode.CLAMP_TO_EDGE);
+                g.getResourceFactory().getCachedAtlasTexture(img);
             final int srcX2 = srcX + srcW;
             final int srcY2 = srcY + srcH;
             final float regionX2 = regionX + regionWidth;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,7 +26,8 @@
 package com.sun.javafx.sg.prism;
 
 import javafx.scene.layout.Background;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.Shape;
 import com.sun.javafx.logging.PulseLogger;
@@ -35,31 +36,89 @@ import com.sun.prism.Graphics;
 import com.sun.prism.RTTexture;
 import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture.WrapMode;
+import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.TextureCacheGovernor;
 import com.sun.prism.impl.packrect.RectanglePacker;
 
 /**
- * RegionImageCache - A fixed pixel count sized cache of Images keyed by arbitrary set of arguments. All images are held with
- * SoftReferences so they will be dropped by the GC if heap memory gets tight. When our size hits max pixel count least
- * recently requested images are removed first.
- *
+ * RegionImageCache - A cache of rendered region backgrounds keyed by their size, background and shape.
+ * <p>
+ * Images are packed into one or more texture pages. The first page is shared with the super shader
+ * (see {@link ResourceFactory#setRegionTexture}) and lives as long as the cache. Additional pages are
+ * created on demand up to {@code prism.regionCacheMaxPages}, either as further shared pages or as
+ * dedicated pages for backgrounds too large to be packed. When no page has room left, the least
+ * recently used images are evicted one at a time and their space is reused, so that a working set
+ * slightly larger than the cache no longer flushes the whole cache every frame.
+ * <p>
+ * Additional pages take part in the shared texture memory budget through the
+ * {@link TextureCacheGovernor}, which may release pages that have not been used recently.
  */
-class RegionImageCache {
+class RegionImageCache implements TextureCacheGovernor.Client {
 
-    // Maximum cached image size in pixels
+    // Maximum cached image size in pixels for images packed into shared pages
     private final static int MAX_SIZE = 300 * 300;
     private static final int WIDTH = 1024;
     private static final int HEIGHT = 1024;
+    // Maximum cached image size in pixels for images on dedicated pages
+    private final static int MAX_LARGE_SIZE = WIDTH * HEIGHT;
+    // Number of single images evicted before giving up and flushing a page
+    private static final int MAX_EVICTIONS = 16;
+
+    private static class Page {
+        final RTTexture backingStore;
+        // null for dedicated pages holding a single large image
+        final RectanglePacker hPacker;
+        final RectanglePacker vPacker;
+        int imageCount;
+        // true when images were evicted from the page without clearing it
+        boolean dirty;
+        long lastUsed;
+
+        Page(RTTexture backingStore, RectanglePacker hPacker, RectanglePacker vPacker) {
+            this.backingStore = backingStore;
+            this.hPacker = hPacker;
+            this.vPacker = vPacker;
+        }
+
+        boolean isDedicated() {
+            return hPacker == null;
+        }
+
+        void clear() {
+            hPacker.clear();
+            vPacker.clear();
+            backingStore.createGraphics().clear();
+            imageCount = 0;
+            dirty = false;
+        }
+    }
 
-    private HashMap<Integer, CachedImage> imageMap;
-    private RTTexture backingStore;
-    private RectanglePacker hPacker;
-    private RectanglePacker vPacker;
+    private final ResourceFactory factory;
+    private final WrapMode mode;
+    private final int pad;
+    private final int maxPages;
+    private final int maxLargeDimension;
+    private final List<Page> pages = new ArrayList<>();
+    private final Page primary;
 
+    // Chained hash table of the cached images, indexed by their key. The
+    // keys are ints so that lookups do not box and colliding keys only
+    // cost an extra comparison instead of disabling the cache.
+    private CachedImage[] table = new CachedImage[64];
+    private int imageCount;
+    // Doubly linked list of the cached images, most recently used first
+    private CachedImage mruImage;
+    private CachedImage lruImage;
+
+    private final Rectangle tmpRect = new Rectangle();
+    private RTTexture locationTexture;
+    private long useCount;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
 
     RegionImageCache(final ResourceFactory factory) {
-        imageMap = new HashMap<>();
-        WrapMode mode;
-        int pad;
+        this.factory = factory;
         if (factory.isWrapModeSupported(WrapMode.CLAMP_TO_ZERO)) {
             mode = WrapMode.CLAMP_TO_ZERO;
             pad = 0;
@@ -67,10 +126,21 @@ class RegionImageCache {
             mode = WrapMode.CLAMP_NOT_NEEDED;
             pad = 1;
         }
-        backingStore = factory.createRTTexture(WIDTH + WIDTH, HEIGHT, mode);
+        maxPages = Math.max(1, PrismSettings.regionCacheMaxPages);
+        maxLargeDimension = factory.getMaximumTextureSize() - pad;
+        primary = createPage();
+        primary.backingStore.makePermanent();
+        factory.setRegionTexture(primary.backingStore);
+        pages.add(primary);
+        TextureCacheGovernor.register(this);
+    }
+
+    private Page createPage() {
+        RTTexture backingStore = factory.createRTTexture(WIDTH + WIDTH, HEIGHT, mode);
+        if (backingStore == null) {
+            return null;
+        }
         backingStore.contentsUseful();
-        backingStore.makePermanent();
-        factory.setRegionTexture(backingStore);
         // Subdivide the texture in two halves where on half is used to store
         // horizontal regions and the other vertical regions. Otherwise, mixing
         // horizontal and vertical regions on the same area, would result in
@@ -78,8 +148,26 @@ class RegionImageCache {
         // Note that requests are already padded on the right and bottom edges
         // (and that includes the gap between the caches) so we only have to
         // pad top and left edges if CLAMP_TO_ZERO needs to be simulated.
-        hPacker = new RectanglePacker(backingStore, pad, pad, WIDTH-pad, HEIGHT-pad, false);
-        vPacker = new RectanglePacker(backingStore, WIDTH, pad, WIDTH, HEIGHT-pad, true);
+        RectanglePacker hPacker = new RectanglePacker(backingStore, pad, pad, WIDTH-pad, HEIGHT-pad, false);
+        RectanglePacker vPacker = new RectanglePacker(backingStore, WIDTH, pad, WIDTH, HEIGHT-pad, true);
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache page created");
+        }
+        return new Page(backingStore, hPacker, vPacker);
+    }
+
+    private Page createDedicatedPage(Rectangle rect) {
+        RTTexture backingStore = factory.createRTTexture(rect.width + pad, rect.height + pad, mode);
+        if (backingStore == null) {
+            return null;
+        }
+        backingStore.contentsUseful();
+        rect.x = pad;
+        rect.y = pad;
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache page created");
+        }
+        return new Page(backingStore, null, null);
     }
 
     /**
@@ -90,19 +178,42 @@ class RegionImageCache {
      * @return True if the image size is less than max
      */
     boolean isImageCachable(int w, int h) {
+        return isImagePackable(w, h) ||
+               (maxPages > 1 &&
+                0 < w && w < maxLargeDimension &&
+                0 < h && h < maxLargeDimension &&
+                ((long) w * h) < MAX_LARGE_SIZE);
+    }
+
+    private static boolean isImagePackable(int w, int h) {
         return 0 < w && w < WIDTH &&
                0 < h && h < HEIGHT &&
                (w * h) < MAX_SIZE;
     }
 
+    /**
+     * Returns the first page of the cache, which is also the region texture
+     * of the resource factory. If it is lost the whole cache must be
+     * recreated.
+     */
     RTTexture getBackingStore() {
-        return backingStore;
+        return primary.backingStore;
+    }
+
+    /**
+     * Returns the texture holding the image located by the last successful
+     * call to {@link #getImageLocation}. The texture is locked and the
+     * caller must unlock it once it has finished rendering from it.
+     */
+    RTTexture getLocationTexture() {
+        return locationTexture;
     }
 
     /**
      * Search the cache for a background image representing the arguments.
      * When this method succeeds the x and y coordinates in rect are adjust
-     * to the location in the backing store when the image is stored.
+     * to the location in the texture returned by {@link #getLocationTexture}
+     * where the image is stored, and that texture is locked.
      * If a failure occurred the rect is set to empty to indicate the caller
      * to disable caching.
      *
@@ -111,48 +222,356 @@ class RegionImageCache {
      *        texture space. On ouput, the x and y the location in the texture
      * @param background the background used to validated if the correct image was found
      * @param shape the shape used to validated if the correct image was found
-     * @param g the graphics to flush if the texture needs to be restarted
+     * @param g the graphics to flush if the texture space needs to be reused
      * @return true means to caller needs to render to rect to initialize the content.
      */
-    boolean getImageLocation(Integer key, Rectangle rect, Background background,
+    boolean getImageLocation(int key, Rectangle rect, Background background,
                              Shape shape, Graphics g) {
-        CachedImage cache = imageMap.get(key);
-        if (cache != null) {
-            if (cache.equals(rect.width, rect.height, background, shape)) {
+        locationTexture = null;
+        for (CachedImage cache = table[key & (table.length - 1)]; cache != null; cache = cache.next) {
+            if (cache.key == key && cache.equals(rect.width, rect.height, background, shape)) {
+                Page page = cache.page;
+                page.backingStore.lock();
+                if (page.backingStore.isSurfaceLost()) {
+                    page.backingStore.unlock();
+                    removePage(page);
+                    break;
+                }
+                hitCount++;
+                if (PULSE_LOGGING_ENABLED) {
+                    PulseLogger.incrementCounter("Region image cache hit");
+                }
+                moveToFront(cache);
+                page.lastUsed = ++useCount;
                 rect.x = cache.x;
                 rect.y = cache.y;
+                locationTexture = page.backingStore;
                 return false;
             }
-            // hash collision, mark rectangle empty indicates the caller to
-            // disable caching
+        }
+
+        missCount++;
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache miss");
+        }
+        Page page = allocate(rect, g);
+        if (page == null) {
+            // mark rectangle empty indicates the caller to disable caching
             rect.width = rect.height = -1;
             return false;
         }
+        if (page.dirty) {
+            // The space may still hold the pixels of an evicted image
+            page.backingStore.createGraphics()
+                    .clearQuad(rect.x, rect.y, rect.x + rect.width, rect.y + rect.height);
+        }
+        CachedImage cache = new CachedImage(key, page, rect, background, shape);
+        insert(cache);
+        page.imageCount++;
+        page.lastUsed = ++useCount;
+        locationTexture = page.backingStore;
+        return true;
+    }
+
+    /**
+     * Finds room for the indicated rectangle, evicting the least recently
+     * used images if needed. The returned page is locked.
+     */
+    private Page allocate(Rectangle rect, Graphics g) {
+        // Drop the pages whose contents were lost
+        for (int i = pages.size() - 1; i > 0; i--) {
+            Page page = pages.get(i);
+            if (page.backingStore.isSurfaceLost()) {
+                removePage(page);
+            }
+        }
+
+        if (!isImagePackable(rect.width, rect.height)) {
+            if (pages.size() >= maxPages && !removeLeastRecentlyUsedPage(g)) {
+                return null;
+            }
+            Page page = createDedicatedPage(rect);
+            if (page != null) {
+                page.backingStore.lock();
+                pages.add(page);
+            }
+            return page;
+        }
+
         boolean vertical = rect.height > 64;
-        RectanglePacker packer = vertical ? vPacker : hPacker;
+        for (int i = 0, max = pages.size(); i < max; i++) {
+            Page page = pages.get(i);
+            if (!page.isDedicated() && (vertical ? page.vPacker : page.hPacker).add(rect)) {
+                page.backingStore.lock();
+                return page;
+            }
+        }
 
-        if (!packer.add(rect)) {
-            g.sync();
+        if (pages.size() < maxPages) {
+            Page page = createPage();
+            if (page != null) {
+                pages.add(page);
+                page.backingStore.lock();
+                if ((vertical ? page.vPacker : page.hPacker).add(rect)) {
+                    return page;
+                }
+                page.backingStore.unlock();
+            }
+        }
 
-            vPacker.clear();
-            hPacker.clear();
-            imageMap.clear();
-            packer.add(rect);
-            backingStore.createGraphics().clear();
-            if (PULSE_LOGGING_ENABLED) {
-                PulseLogger.incrementCounter("Region image cache flushed");
+        // Make sure that nothing that was rendered from the space we are
+        // about to reuse is still pending
+        g.sync();
+
+        for (int i = 0; i < MAX_EVICTIONS && lruImage != null; i++) {
+            CachedImage victim = lruImage;
+            Page page = victim.page;
+            evict(victim);
+            if (page.isDedicated()) {
+                removePage(page);
+                continue;
+            }
+            if (page.imageCount == 0) {
+                page.clear();
+            }
+            if ((vertical ? page.vPacker : page.hPacker).add(rect)) {
+                page.backingStore.lock();
+                return page;
             }
         }
-        imageMap.put(key, new CachedImage(rect, background, shape));
+
+        // Fall back to flushing a whole page
+        Page page = (lruImage != null && !lruImage.page.isDedicated()) ? lruImage.page : primary;
+        evictionCount += page.imageCount;
+        removeImages(page);
+        page.clear();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache flushed");
+        }
+        if (!(vertical ? page.vPacker : page.hPacker).add(rect)) {
+            return null;
+        }
+        page.backingStore.lock();
+        return page;
+    }
+
+    private boolean removeLeastRecentlyUsedPage(Graphics g) {
+        Page lru = null;
+        for (int i = 1, max = pages.size(); i < max; i++) {
+            Page page = pages.get(i);
+            if (!page.backingStore.isLocked() && (lru == null || page.lastUsed < lru.lastUsed)) {
+                lru = page;
+            }
+        }
+        if (lru == null) {
+            return false;
+        }
+        g.sync();
+        evictPage(lru);
         return true;
     }
 
+    private void evictPage(Page page) {
+        evictionCount += page.imageCount;
+        removePage(page);
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache page evicted");
+        }
+    }
+
+    private void evict(CachedImage cache) {
+        remove(cache);
+        Page page = cache.page;
+        page.imageCount--;
+        if (!page.isDedicated()) {
+            tmpRect.setBounds(cache.x, cache.y, cache.width, cache.height);
+            (cache.height > 64 ? page.vPacker : page.hPacker).remove(tmpRect);
+            page.dirty = true;
+        }
+        evictionCount++;
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Region image cache entry evicted");
+        }
+    }
+
+    private void removeImages(Page page) {
+        for (CachedImage cache = mruImage; cache != null; ) {
+            CachedImage next = cache.lruNext;
+            if (cache.page == page) {
+                remove(cache);
+            }
+            cache = next;
+        }
+        page.imageCount = 0;
+    }
+
+    private void removePage(Page page) {
+        removeImages(page);
+        if (page == primary) {
+            page.clear();
+            return;
+        }
+        pages.remove(page);
+        page.backingStore.dispose();
+    }
+
+    private void insert(CachedImage cache) {
+        if (imageCount >= table.length - (table.length >> 2)) {
+            CachedImage[] oldTable = table;
+            table = new CachedImage[oldTable.length << 1];
+            for (CachedImage c : oldTable) {
+                while (c != null) {
+                    CachedImage next = c.next;
+                    int index = c.key & (table.length - 1);
+                    c.next = table[index];
+                    table[index] = c;
+                    c = next;
+                }
+            }
+        }
+        int index = cache.key & (table.length - 1);
+        cache.next = table[index];
+        table[index] = cache;
+        imageCount++;
+
+        cache.lruNext = mruImage;
+        if (mruImage != null) {
+            mruImage.lruPrev = cache;
+        } else {
+            lruImage = cache;
+        }
+        mruImage = cache;
+    }
+
+    private void remove(CachedImage cache) {
+        int index = cache.key & (table.length - 1);
+        if (table[index] == cache) {
+            table[index] = cache.next;
+        } else {
+            for (CachedImage c = table[index]; c != null; c = c.next) {
+                if (c.next == cache) {
+                    c.next = cache.next;
+                    break;
+                }
+            }
+        }
+        cache.next = null;
+        imageCount--;
+
+        if (cache.lruPrev != null) {
+            cache.lruPrev.lruNext = cache.lruNext;
+        } else {
+            mruImage = cache.lruNext;
+        }
+        if (cache.lruNext != null) {
+            cache.lruNext.lruPrev = cache.lruPrev;
+        } else {
+            lruImage = cache.lruPrev;
+        }
+        cache.lruPrev = cache.lruNext = null;
+    }
+
+    private void moveToFront(CachedImage cache) {
+        if (cache == mruImage) {
+            return;
+        }
+        cache.lruPrev.lruNext = cache.lruNext;
+        if (cache.lruNext != null) {
+            cache.lruNext.lruPrev = cache.lruPrev;
+        } else {
+            lruImage = cache.lruPrev;
+        }
+        cache.lruPrev = null;
+        cache.lruNext = mruImage;
+        mruImage.lruPrev = cache;
+        mruImage = cache;
+    }
+
+    /**
+     * Releases the additional pages of this cache. The first page is owned
+     * by the resource factory as its region texture.
+     */
+    void dispose() {
+        TextureCacheGovernor.unregister(this);
+        for (int i = pages.size() - 1; i > 0; i--) {
+            removePage(pages.get(i));
+        }
+        removeImages(primary);
+    }
+
+    int getImageCount() {
+        return imageCount;
+    }
+
+    int getPageCount() {
+        return pages.size();
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+
+    long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String getCacheName() {
+        return "Region images";
+    }
+
+    @Override
+    public long getOccupancy() {
+        long size = 0;
+        for (int i = 0, max = pages.size(); i < max; i++) {
+            RTTexture tex = pages.get(i).backingStore;
+            size += (long) tex.getPhysicalWidth() * tex.getPhysicalHeight() *
+                    tex.getPixelFormat().getBytesPerPixelUnit();
+        }
+        return size;
+    }
+
+    @Override
+    public int getColdestAge() {
+        int age = -1;
+        for (int i = 1, max = pages.size(); i < max; i++) {
+            age = Math.max(age, TextureCacheGovernor.getTextureAge(pages.get(i).backingStore));
+        }
+        return age;
+    }
+
+    @Override
+    public long evict(long wanted, int minAge) {
+        long freed = 0;
+        for (int i = pages.size() - 1; i > 0 && freed < wanted; i--) {
+            RTTexture tex = pages.get(i).backingStore;
+            if (TextureCacheGovernor.getTextureAge(tex) >= minAge) {
+                freed += (long) tex.getPhysicalWidth() * tex.getPhysicalHeight() *
+                         tex.getPixelFormat().getBytesPerPixelUnit();
+                evictPage(pages.get(i));
+            }
+        }
+        return freed;
+    }
+
     static class CachedImage {
+        final int key;
+        final Page page;
         Background background;
         Shape shape;
         int x, y, width, height;
+        // next image in the same hash bucket
+        CachedImage next;
+        // neighbours in the least recently used list
+        CachedImage lruPrev, lruNext;
 
-        CachedImage(Rectangle rect, Background background, Shape shape) {
+        CachedImage(int key, Page page, Rectangle rect, Background background, Shape shape) {
+            this.key = key;
+            this.page = page;
             this.x = rect.x;
             this.y = rect.y;
             this.width = rect.width;
@@ -38,4 +38,8 @@ class LayoutCache {
     int runCount;
     TextLine[] lines;
     float layoutWidth, layoutHeight;
+    /* The properties of the layout the lines were built for */
+    float wrapWidth, spacing;
+    int tabSize;
+    int layoutFlags;
 }
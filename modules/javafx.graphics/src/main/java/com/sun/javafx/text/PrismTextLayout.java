@@ -49,8 +49,6 @@ import com.sun.javafx.scene.text.TextSpan;
 import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Hashtable;
 
 public class PrismTextLayout implements TextLayout {
     private static final BaseTransform IDENTITY = BaseTransform.IDENTITY_TRANSFORM;
@@ -58,18 +56,18 @@ public class PrismTextLayout implements TextLayout {
     private static final int Y_MIN_INDEX = 1;
     private static final int X_MAX_INDEX = 2;
     private static final int Y_MAX_INDEX = 3;
+    private static final int LAYOUT_MASK = ALIGN_MASK | BOUNDS_MASK | DIRECTION_MASK;
 
-    private static final Hashtable<Integer, LayoutCache> stringCache = new Hashtable<>();
-    private static final Object  CACHE_SIZE_LOCK = new Object();
-    private static int cacheSize = 0;
     private static final int MAX_STRING_SIZE = 256;
     private static final int MAX_CACHE_SIZE = PrismFontFactory.cacheLayoutSize;
+    private static final ShapingCache<LayoutCache> stringCache =
+            new ShapingCache<>(MAX_CACHE_SIZE);
 
     private char[] text;
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
     private PGFont font;        /* Single font text (null for rich text) */
     private FontStrike strike;  /* cached strike of font (identity) */
-    private Integer cacheKey;
+    private boolean cacheable;
     private TextLine[] lines;
     private TextRun[] runs;
     private int runCount;
@@ -127,7 +125,7 @@ public class PrismTextLayout implements TextLayout {
         this.font = null;
         this.strike = null;
         this.text = null;   /* Initialized in getText() */
-        this.cacheKey = null;
+        this.cacheable = false;
         return true;
     }
 
@@ -137,12 +135,8 @@ public class PrismTextLayout implements TextLayout {
         this.font = (PGFont)font;
         this.strike = ((PGFont)font).getStrike(IDENTITY);
         this.text = text.toCharArray();
-        if (MAX_CACHE_SIZE > 0) {
-            int length = text.length();
-            if (0 < length && length <= MAX_STRING_SIZE) {
-                cacheKey = text.hashCode() * strike.hashCode();
-            }
-        }
+        int length = text.length();
+        this.cacheable = MAX_CACHE_SIZE > 0 && 0 < length && length <= MAX_STRING_SIZE;
         return true;
     }
 
@@ -682,17 +676,21 @@ public class PrismTextLayout implements TextLayout {
     }
 
     private boolean copyCache() {
-        int align = flags & ALIGN_MASK;
-        int boundsType = flags & BOUNDS_MASK;
-        /* Caching for boundsType == Center, bias towards  Modena */
-        return wrapWidth != 0 || align != ALIGN_LEFT || boundsType == 0 || isMirrored();
+        /* The lines in the cache can only be used when they were built with
+         * the same properties as the ones of this instance.
+         */
+        return layoutCache.lines == null ||
+               layoutCache.wrapWidth != wrapWidth ||
+               layoutCache.spacing != spacing ||
+               layoutCache.tabSize != tabSize ||
+               layoutCache.layoutFlags != (flags & LAYOUT_MASK);
     }
 
     private void initCache() {
-        if (cacheKey != null) {
+        if (cacheable) {
             if (layoutCache == null) {
-                LayoutCache cache = stringCache.get(cacheKey);
-                if (cache != null && cache.font.equals(font) && Arrays.equals(cache.text, text)) {
+                LayoutCache cache = stringCache.get(text, font, flags & DIRECTION_MASK);
+                if (cache != null) {
                     layoutCache = cache;
                     runs = cache.runs;
                     runCount = cache.runCount;
@@ -713,17 +711,15 @@ public class PrismTextLayout implements TextLayout {
                         System.arraycopy(layoutCache.runs, 0, runs, 0, runCount);
                     }
                 } else {
-                    if (layoutCache.lines != null) {
-                        runs = layoutCache.runs;
-                        runCount = layoutCache.runCount;
-                        flags |= layoutCache.analysis;
-                        lines = layoutCache.lines;
-                        layoutWidth = layoutCache.layoutWidth;
-                        layoutHeight = layoutCache.layoutHeight;
-                        float ascent = lines[0].getBounds().getMinY();
-                        logicalBounds = logicalBounds.deriveWithNewBounds(0, ascent, 0,
-                                layoutWidth, layoutHeight + ascent, 0);
-                    }
+                    runs = layoutCache.runs;
+                    runCount = layoutCache.runCount;
+                    flags |= layoutCache.analysis;
+                    lines = layoutCache.lines;
+                    layoutWidth = layoutCache.layoutWidth;
+                    layoutHeight = layoutCache.layoutHeight;
+                    float ascent = lines[0].getBounds().getMinY();
+                    logicalBounds = logicalBounds.deriveWithNewBounds(0, ascent, 0,
+                            layoutWidth, layoutHeight + ascent, 0);
                 }
             }
         }
@@ -1292,11 +1288,12 @@ public class PrismTextLayout implements TextLayout {
 
 
         if (layoutCache != null) {
-            if (cacheKey != null && !layoutCache.valid && !copyCache()) {
+            if (cacheable && !layoutCache.valid) {
                 /* After layoutCache is added to the stringCache it can be
                  * accessed by multiple threads. All the data in it must
-                 * be immutable. See copyCache() for the cases where the entire
-                 * layout is immutable.
+                 * be immutable. See copyCache() for the cases where the
+                 * lines are reused, in all other cases the runs are copied
+                 * before they are modified.
                  */
                 layoutCache.font = font;
                 layoutCache.text = text;
@@ -1306,15 +1303,11 @@ public class PrismTextLayout implements TextLayout {
                 layoutCache.layoutWidth = layoutWidth;
                 layoutCache.layoutHeight = layoutHeight;
                 layoutCache.analysis = flags & ANALYSIS_MASK;
-                synchronized (CACHE_SIZE_LOCK) {
-                    int charCount = chars.length;
-                    if (cacheSize + charCount > MAX_CACHE_SIZE) {
-                        stringCache.clear();
-                        cacheSize = 0;
-                    }
-                    stringCache.put(cacheKey, layoutCache);
-                    cacheSize += charCount;
-                }
+                layoutCache.wrapWidth = wrapWidth;
+                layoutCache.spacing = spacing;
+                layoutCache.tabSize = tabSize;
+                layoutCache.layoutFlags = flags & LAYOUT_MASK;
+                stringCache.put(text, font, flags & DIRECTION_MASK, layoutCache);
             }
             layoutCache.valid = true;
         }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A bounded cache of the layouts of short strings, shared by all of the text
+ * layouts of the application, so that the many labels and cells displaying
+ * the same text with the same font only shape it once.
+ * <p>
+ * Entries are keyed by the content of the text, its font and the direction
+ * of the layout, which together determine the runs, glyphs and advances
+ * produced by shaping.  The size of the cache is measured in characters of
+ * text; when adding an entry would exceed the maximum size, the least
+ * recently used entries are evicted first.
+ * <p>
+ * The values must be immutable once added, as they can be used by several
+ * threads at the same time.
+ *
+ * @param <V> the type of the cached values
+ */
+public final class ShapingCache<V> {
+
+    private static final class Key {
+        final char[] text;
+        final Object font;
+        final int direction;
+        final int hash;
+
+        Key(char[] text, Object font, int direction) {
+            this.text = text;
+            this.font = font;
+            this.direction = direction;
+            this.hash = (Arrays.hashCode(text) * 31 + font.hashCode()) * 31 + direction;
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+
+        @Override public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key)obj;
+            return hash == other.hash &&
+                   direction == other.direction &&
+                   font.equals(other.font) &&
+                   Arrays.equals(text, other.text);
+        }
+    }
+
+    private final int maxSize;
+    private final LinkedHashMap<Key, V> map = new LinkedHashMap<>(64, 0.75f, true);
+    private int size;
+
+    /**
+     * Creates a cache holding at most {@code maxSize} characters of text.
+     *
+     * @param maxSize the maximum number of characters, 0 disables the cache
+     */
+    public ShapingCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    /**
+     * Returns the value cached for the given text, font and direction, or
+     * null if there is none.
+     */
+    public synchronized V get(char[] text, Object font, int direction) {
+        if (maxSize == 0) return null;
+        return map.get(new Key(text, font, direction));
+    }
+
+    /**
+     * Adds a value for the given text, font and direction, evicting the
+     * least recently used entries as needed.  The text must not be modified
+     * after this call.
+     */
+    public synchronized void put(char[] text, Object font, int direction, V value) {
+        int length = text.length;
+        if (maxSize == 0 || length > maxSize) return;
+        Key key = new Key(text, font, direction);
+        V old = map.remove(key);
+        if (old != null) {
+            size -= length;
+        }
+        Iterator<Key> it = map.keySet().iterator();
+        while (size + length > maxSize && it.hasNext()) {
+            size -= it.next().text.length;
+            it.remove();
+        }
+        map.put(key, value);
+        size += length;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     */
+    public synchronized int getEntryCount() {
+        return map.size();
+    }
+
+    /**
+     * Returns the total number of characters of the cached texts.
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        map.clear();
+        size = 0;
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk;
+
+import com.sun.javafx.runtime.async.AsyncOperation;
+import com.sun.javafx.runtime.async.AsyncOperationListener;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schedules, shares and caches the loading of images from URLs.
+ * <p>
+ * Background loads are throttled to a small number of concurrently running
+ * loads.  The remaining loads wait in a queue in which the loads that have
+ * been {@linkplain Request#prioritize() prioritized}, typically because
+ * their image is about to be shown, come first, most recently prioritized
+ * first, followed by the other loads in the order in which they were
+ * requested.  Requests for the same URL with the same loading parameters
+ * made while a load is in flight share that load.
+ * <p>
+ * A request only holds on to its owner, usually the {@code Image}, weakly.
+ * Once the owner has become unreachable the request is dropped, and a load
+ * left without requests is removed from the queue or, if it is already
+ * running, cancelled, which stops the decoding.  The requests of unreachable
+ * owners are dropped whenever a load is requested, makes progress, completes
+ * or is about to be started.
+ * <p>
+ * Loaded images can additionally be retained in a cache bounded by the
+ * estimated size of their decoded pixels, evicting the least recently used
+ * images first.  This cache is disabled unless its size in megabytes is set
+ * with the {@code javafx.imageCache.size} system property.
+ */
+public final class ImageCache {
+
+    // This is an artificial throttle on background image loading tasks.
+    // It has been shown that with large images, we can quickly use up the
+    // heap loading images, even if they result in thumbnails.
+    // The limit of MAX_RUNNING_LOADS is arbitrary, and was based on initial
+    // testing with about 60 2-6 megapixel images.
+    private static final int MAX_RUNNING_LOADS = 4;
+
+    @SuppressWarnings("removal")
+    private static final long DEFAULT_MAX_SIZE = 1024L * 1024L * Math.max(0,
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+                    Integer.getInteger("javafx.imageCache.size", 0)));
+
+    private static final ImageCache instance =
+            new ImageCache(MAX_RUNNING_LOADS, DEFAULT_MAX_SIZE);
+
+    /**
+     * Returns the image cache shared by all images.
+     */
+    public static ImageCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * A request for a background load, returned by {@link #load}.
+     */
+    public final class Request extends WeakReference<Object> {
+        private final AsyncOperationListener<ImageLoader> listener;
+
+        // The load this request is attached to, null once the request has
+        // been completed, cancelled or dropped
+        private Load load;
+
+        private Request(Object owner, AsyncOperationListener<ImageLoader> listener,
+                        Load load) {
+            super(owner, collected);
+            this.listener = listener;
+            this.load = load;
+        }
+
+        /**
+         * Cancels this request.  The listener is notified of the
+         * cancellation, and the load is cancelled as well unless it is
+         * shared with other requests.  Has no effect if the request has
+         * already completed.
+         */
+        public void cancel() {
+            synchronized (ImageCache.this) {
+                if (load == null) {
+                    return;
+                }
+                detach(this);
+            }
+            Toolkit.getToolkit().defer(listener::onCancel);
+        }
+
+        /**
+         * Moves the load of this request ahead of the loads which have not
+         * been prioritized, and ahead of the loads which have been
+         * prioritized earlier.  Has no effect if the load is already running.
+         */
+        public void prioritize() {
+            synchronized (ImageCache.this) {
+                if (load == null || load.running) {
+                    return;
+                }
+                // The load stays in the queue of the loads which have not
+                // been prioritized, where it is skipped
+                load.prioritized = true;
+                prioritized.push(load);
+            }
+        }
+    }
+
+    private final class Load implements AsyncOperationListener<ImageLoader> {
+        final Key key;
+        final List<Request> requests = new ArrayList<>(1);
+        AsyncOperation peer;
+        boolean prioritized;
+        boolean running;
+        boolean done;
+
+        Load(Key key) {
+            this.key = key;
+        }
+
+        @Override
+        public void onProgress(int cur, int max) {
+            List<Request> list;
+            synchronized (ImageCache.this) {
+                // Drop the requests of unreachable images while the loads
+                // are running rather than when they complete
+                expungeCollected();
+                if (done || requests.isEmpty()) {
+                    return;
+                }
+                list = new ArrayList<>(requests);
+            }
+            for (Request r : list) {
+                r.listener.onProgress(cur, max);
+            }
+        }
+
+        @Override
+        public void onCancel() {
+            for (Request r : complete(null)) {
+                r.listener.onCancel();
+            }
+        }
+
+        @Override
+        public void onException(Exception exception) {
+            for (Request r : complete(null)) {
+                r.listener.onException(exception);
+            }
+        }
+
+        @Override
+        public void onCompletion(ImageLoader loader) {
+            for (Request r : complete(loader)) {
+                r.listener.onCompletion(loader);
+            }
+        }
+
+        private List<Request> complete(ImageLoader loader) {
+            synchronized (ImageCache.this) {
+                if (done) {
+                    return Collections.emptyList();
+                }
+                done = true;
+                if (running) {
+                    running = false;
+                    runningCount--;
+                } else {
+                    pendingCount--;
+                }
+                if (loads.get(key) == this) {
+                    loads.remove(key);
+                }
+                if (loader != null && loader.getException() == null) {
+                    put(key, loader);
+                }
+                List<Request> list = new ArrayList<>(requests);
+                for (Request r : list) {
+                    r.load = null;
+                }
+                requests.clear();
+                startPending();
+                return list;
+            }
+        }
+    }
+
+    private static final class Key {
+        final String url;
+        final double width;
+        final double height;
+        final boolean preserveRatio;
+        final boolean smooth;
+
+        Key(String url, double width, double height,
+            boolean preserveRatio, boolean smooth) {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+            this.preserveRatio = preserveRatio;
+            this.smooth = smooth;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) obj;
+            return url.equals(k.url)
+                    && Double.compare(width, k.width) == 0
+                    && Double.compare(height, k.height) == 0
+                    && preserveRatio == k.preserveRatio
+                    && smooth == k.smooth;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = url.hashCode();
+            h = 31 * h + Double.hashCode(width);
+            h = 31 * h + Double.hashCode(height);
+            h = 31 * h + (preserveRatio ? 1 : 0);
+            return 31 * h + (smooth ? 1 : 0);
+        }
+    }
+
+    private static final class Entry {
+        final ImageLoader loader;
+        final long size;
+
+        Entry(ImageLoader loader, long size) {
+            this.loader = loader;
+            this.size = size;
+        }
+    }
+
+    private final int maxRunning;
+    private long maxSize;
+
+    // The loads in flight, pending or running, by key
+    private final Map<Key, Load> loads = new HashMap<>();
+    // The pending loads in the order in which they were requested, and the
+    // prioritized ones, most recently prioritized first.  Loads which have
+    // been started, prioritized or dropped are left in the queues and are
+    // skipped when they reach their head, so that they are removed in
+    // constant time.
+    private final ArrayDeque<Load> pending = new ArrayDeque<>();
+    private final ArrayDeque<Load> prioritized = new ArrayDeque<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private int pendingCount;
+    private int runningCount;
+
+    // The loaded images, least recently used first
+    private final LinkedHashMap<Key, Entry> images = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * Creates an image cache.
+     *
+     * @param maxRunning the maximum number of loads running at the same time
+     * @param maxSize the maximum estimated size in bytes of the decoded
+     *      images retained after their loads complete, 0 to retain none
+     */
+    public ImageCache(int maxRunning, long maxSize) {
+        if (maxRunning < 1) {
+            throw new IllegalArgumentException("maxRunning must be positive");
+        }
+        this.maxRunning = maxRunning;
+        this.maxSize = Math.max(0, maxSize);
+    }
+
+    /**
+     * Loads an image in the background, sharing the load with the other
+     * requests in flight for the same image.  The listener is notified on
+     * the thread on which the toolkit delivers the results of asynchronous
+     * image loads, or, when the request is cancelled, through
+     * {@link Toolkit#defer}.  The cache keeps a strong reference to the
+     * listener, but not to the owner.
+     *
+     * @param owner the object on behalf of which the image is loaded
+     * @param listener the listener to notify of the outcome of the load
+     * @param url the URL of the image
+     * @param width the requested width, or 0
+     * @param height the requested height, or 0
+     * @param preserveRatio whether to preserve the aspect ratio when scaling
+     * @param smooth whether to use a better quality filtering when scaling
+     * @return the request, which can be used to cancel or prioritize the load
+     */
+    public synchronized Request load(Object owner,
+                                     AsyncOperationListener<ImageLoader> listener,
+                                     String url, double width, double height,
+                                     boolean preserveRatio, boolean smooth) {
+        expungeCollected();
+        Key key = new Key(url, width, height, preserveRatio, smooth);
+        Load load = loads.get(key);
+        if (load == null) {
+            load = new Load(key);
+            loads.put(key, load);
+            pending.add(load);
+            pendingCount++;
+        }
+        Request request = new Request(owner, listener, load);
+        load.requests.add(request);
+        startPending();
+        return request;
+    }
+
+    /**
+     * Returns the loaded image retained for the given URL and loading
+     * parameters, or null if there is none.
+     */
+    public synchronized ImageLoader get(String url, double width, double height,
+                                        boolean preserveRatio, boolean smooth) {
+        if (images.isEmpty()) {
+            return null;
+        }
+        Entry e = images.get(new Key(url, width, height, preserveRatio, smooth));
+        return (e == null) ? null : e.loader;
+    }
+
+    /**
+     * Retains an image loaded for the given URL and loading parameters,
+     * evicting the least recently used images as needed.  Images which
+     * failed to load, or which are larger than the cache, are not retained.
+     */
+    public synchronized void put(String url, double width, double height,
+                                 boolean preserveRatio, boolean smooth,
+                                 ImageLoader loader) {
+        if (loader != null && loader.getException() == null) {
+            put(new Key(url, width, height, preserveRatio, smooth), loader);
+        }
+    }
+
+    /**
+     * Sets the maximum estimated size in bytes of the retained images,
+     * evicting the least recently used images as needed.
+     */
+    public synchronized void setMaxSize(long maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        trim();
+    }
+
+    /**
+     * Returns the maximum estimated size in bytes of the retained images.
+     */
+    public synchronized long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the estimated size in bytes of the retained images.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of loads currently running.
+     */
+    public synchronized int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * Returns the number of loads waiting to be started.
+     */
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Removes all retained images.  Loads in flight are not affected.
+     */
+    public synchronized void clear() {
+        images.clear();
+        size = 0;
+    }
+
+    private void put(Key key, ImageLoader loader) {
+        if (maxSize == 0) {
+            return;
+        }
+        long entrySize = (long) Math.ceil(loader.getWidth())
+                * (long) Math.ceil(loader.getHeight())
+                * 4 * (loader.isStreaming() ? 1 : Math.max(1, loader.getFrameCount()));
+        if (entrySize > maxSize) {
+            return;
+        }
+        Entry old = images.put(key, new Entry(loader, entrySize));
+        if (old != null) {
+            size -= old.size;
+        }
+        size += entrySize;
+        trim();
+    }
+
+    private void trim() {
+        for (Iterator<Entry> it = images.values().iterator(); size > maxSize && it.hasNext(); ) {
+            size -= it.next().size;
+            it.remove();
+        }
+    }
+
+    private void startPending() {
+        if (pendingCount == 0) {
+            return;
+        }
+        // Do not start the loads of images which have become unreachable
+        expungeCollected();
+        while (runningCount < maxRunning && pendingCount > 0) {
+            Load load = nextPending();
+            load.running = true;
+            pendingCount--;
+            runningCount++;
+            Key key = load.key;
+            load.peer = Toolkit.getToolkit().loadImageAsync(load, key.url,
+                    key.width, key.height, key.preserveRatio, key.smooth);
+            load.peer.start();
+        }
+    }
+
+    private Load nextPending() {
+        while (true) {
+            Load load = prioritized.poll();
+            if (load == null) {
+                load = pending.poll();
+                if (load.prioritized) {
+                    continue;
+                }
+            }
+            if (!load.running && !load.done) {
+                return load;
+            }
+        }
+    }
+
+    private void detach(Request request) {
+        Load load = request.load;
+        request.load = null;
+        load.requests.remove(request);
+        if (!load.requests.isEmpty()) {
+            return;
+        }
+        // Nobody is interested in the image anymore
+        if (loads.get(load.key) == load) {
+            loads.remove(load.key);
+        }
+        if (load.running) {
+            load.peer.cancel();
+        } else if (!load.done) {
+            load.done = true;
+            pendingCount--;
+        }
+    }
+
+    private void expungeCollected() {
+        Object ref;
+        while ((ref = collected.poll()) != null) {
+            Request request = (Request) ref;
+            if (request.load != null) {
+                detach(request);
+            }
+        }
+    }
+}
@@ -34,4 +34,43 @@ public interface ImageLoader {
     public int getLoopCount();
     public double getWidth();
     public double getHeight();
+
+    /**
+     * Returns whether the frames of this image, except the first one, are
+     * decoded on demand while it is animated rather than when it is loaded.
+     * The frames of such an image should be obtained from a
+     * {@link FrameCursor} and not be retained.
+     */
+    public default boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Returns a new cursor over the frames of this image.  A loader may be
+     * shared by several images, each animation of the image should use its
+     * own cursor, which follows the frames it shows.
+     */
+    public default FrameCursor newFrameCursor() {
+        return this::getFrame;
+    }
+
+    /**
+     * The playback position of an animation over the frames of an image.
+     */
+    public interface FrameCursor {
+        /**
+         * Returns the frame at the given index if it is available without
+         * decoding it, or null.  Cursors over frames which are decoded on
+         * demand start decoding that frame and the ones following it in
+         * the background.
+         */
+        public PlatformImage pollFrame(int index);
+
+        /**
+         * Releases the decoding state of this cursor once its animation
+         * has stopped.  No frame is decoded afterwards.
+         */
+        public default void dispose() {
+        }
+    }
 }
@@ -57,7 +57,9 @@ import javafx.stage.Window;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -865,6 +867,49 @@ public abstract class Toolkit {
 
     public abstract Object renderToImage(ImageRenderingContext context);
 
+    /*
+     * This method renders a PG-graph like renderToImage, but reads the
+     * rendered pixels back into the given buffer instead of returning a
+     * platform image.  The platformImage of the params is ignored.
+     * The buffer must be an IntBuffer, which receives INT_ARGB_PRE pixels,
+     * or a ByteBuffer, which receives BYTE_BGRA_PRE pixels, large enough
+     * to hold width * height pixels without any padding between rows.
+     * The method returns as soon as the PG-graph may be modified again,
+     * which may be before the pixels have been read back.  The onComplete
+     * runnable is then called on the FX thread, possibly before this
+     * method returns, once the buffer holds the rendered pixels.  If the
+     * rendering fails the buffer is left unchanged.
+     *
+     * This implementation renders to a platform image using renderToImage
+     * and copies its pixels to the buffer.
+     *
+     * @param context a ImageRenderingContext instance specifying
+     *               the various rendering parameters
+     * @param buffer the buffer receiving the pixels
+     * @param onComplete called when the pixels are in the buffer
+     */
+    public void renderToBuffer(ImageRenderingContext context, Buffer buffer,
+                               Runnable onComplete) {
+        Object saveImage = context.platformImage;
+        context.platformImage = null;
+        Object tkImage = renderToImage(context);
+        context.platformImage = saveImage;
+
+        if (tkImage != null) {
+            PlatformImage image = loadPlatformImage(tkImage).getFrame(0);
+            if (buffer instanceof IntBuffer) {
+                image.getPixels(0, 0, context.width, context.height,
+                                PixelFormat.getIntArgbPreInstance(),
+                                (IntBuffer) buffer, context.width);
+            } else {
+                image.getPixels(0, 0, context.width, context.height,
+                                PixelFormat.getByteBgraPreInstance(),
+                                (ByteBuffer) buffer, context.width * 4);
+            }
+        }
+        onComplete.run();
+    }
+
     /**
      * Returns the key code for the key which is commonly used on the
      * corresponding platform as a modifier key in shortcuts. For example
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk.quantum;
+
+/**
+ * Paces pulses to a target frame rate.
+ * <p>
+ * The pulse timer ticks at the refresh rate. When a target frame rate is
+ * set, the pacer lets through only the ticks needed to reach that rate.
+ * It also measures how long each frame takes, from the start of its pulse
+ * until its rendering has completed. If frames consistently take longer
+ * than the current interval, the pacer halves, thirds, ... the rate
+ * instead of letting frames arrive at irregular intervals.  It returns to
+ * a faster rate once frames comfortably fit into the shorter interval
+ * again.
+ * <p>
+ * {@link #shouldPulse} is called on the pulse timer thread,
+ * {@link #pulseStarted} and {@link #renderSubmitted} on the FX thread and
+ * {@link #frameRendered} on the render thread.
+ */
+final class FramePacer {
+
+    // Largest divisor of the target frame rate the pacer backs off to
+    private static final int MAX_DIVISOR = 4;
+    // Number of frames to observe between two adjustments of the divisor
+    private static final int SETTLE_FRAMES = 30;
+
+    private final long targetInterval;
+    // Ticks arriving this early are still accepted, to absorb timer jitter
+    private final long tolerance;
+
+    private volatile int divisor = 1;
+    private volatile long lastPulseStart;
+    private volatile long renderPulseStart;
+    // Exponentially weighted moving average of the frame times
+    private long averageFrameTime;
+    private int framesSinceAdjustment;
+
+    /**
+     * @param targetFps the target frame rate
+     * @param refreshRate the rate at which the pulse timer ticks
+     */
+    FramePacer(int targetFps, int refreshRate) {
+        targetInterval = 1000000000L / targetFps;
+        tolerance = 1000000000L / refreshRate / 4;
+    }
+
+    /**
+     * Returns whether a pulse should be posted for the current timer tick.
+     */
+    boolean shouldPulse(long now) {
+        return now - lastPulseStart >= getInterval() - tolerance;
+    }
+
+    void pulseStarted(long now) {
+        lastPulseStart = now;
+    }
+
+    /**
+     * Called when the rendering of the frame of the current pulse has been
+     * submitted to the render thread.
+     */
+    void renderSubmitted() {
+        renderPulseStart = lastPulseStart;
+    }
+
+    /**
+     * Called when all of the rendering submitted by the last call to
+     * {@link #renderSubmitted} has completed.
+     */
+    void frameRendered(long now) {
+        long frameTime = now - renderPulseStart;
+        if (averageFrameTime == 0) {
+            averageFrameTime = frameTime;
+        } else {
+            averageFrameTime += (frameTime - averageFrameTime) / 8;
+        }
+        if (++framesSinceAdjustment < SETTLE_FRAMES) {
+            return;
+        }
+        int d = divisor;
+        if (averageFrameTime > targetInterval * d + tolerance && d < MAX_DIVISOR) {
+            d++;
+        } else if (d > 1 && averageFrameTime < targetInterval * (d - 1) * 4 / 5) {
+            d--;
+        }
+        if (d != divisor) {
+            if (QuantumToolkit.verbose) {
+                System.err.println("FramePacer: pacing at " +
+                                   (1000000000L / (targetInterval * d)) + " fps, average frame time " +
+                                   (averageFrameTime / 1000000L) + "ms");
+            }
+            divisor = d;
+            framesSinceAdjustment = 0;
+        }
+    }
+
+    /**
+     * Returns the current pulse interval in nanoseconds.
+     */
+    long getInterval() {
+        return targetInterval * divisor;
+    }
+}
@@ -306,6 +306,11 @@ final class PaintCollector implements CompletionListener {
 
             Application.GetApplication().notifyRenderingFinished();
 
+            final FramePacer pacer = toolkit.getFramePacer();
+            if (pacer != null) {
+                pacer.frameRendered(System.nanoTime());
+            }
+
             // If pulse logging is enabled, then we must call renderEnd now
             // that we know that all of the scene's being rendered are finished
             if (PULSE_LOGGING_ENABLED) {
@@ -371,6 +376,13 @@ final class PaintCollector implements CompletionListener {
         setDirty(false);
         needsHint = false;
 
+        // Must happen before any job is submitted, as the last job to
+        // complete reports the frame to the pacer
+        final FramePacer pacer = toolkit.getFramePacer();
+        if (pacer != null) {
+            pacer.renderSubmitted();
+        }
+
         // If pulse logging is enabled, then we must call renderStart
         // BEFORE we actually call repaint on any of the dirty scenes.
         if (PULSE_LOGGING_ENABLED) {
@@ -28,6 +28,7 @@ package com.sun.javafx.tk.quantum;
 import java.io.IOException;
 import java.io.InputStream;
 
+import com.sun.javafx.iio.FrameStream;
 import com.sun.javafx.iio.ImageFrame;
 import com.sun.javafx.iio.ImageLoadListener;
 import com.sun.javafx.iio.ImageLoader;
@@ -45,8 +46,11 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -56,6 +60,12 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
 
     private static PlatformLogger imageioLogger = null;
 
+    /*
+     * The number of frames of a streamed image which are decoded ahead of
+     * the frame being shown.
+     */
+    private static final int DECODE_AHEAD = 2;
+
     private Image[] images;
     private int[] delayTimes;
     private int loopCount;
@@ -64,6 +74,10 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     private float pixelScale;
     private Exception exception;
 
+    // The frames of a streamed image are decoded on demand from the frame
+    // stream, only the first frame is kept in images.
+    private FrameStream frameStream;
+
     public PrismImageLoader2(String url, double width, double height,
                              boolean preserveRatio, float pixelScale,
                              boolean smooth)
@@ -96,9 +110,108 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         if (images == null) {
             return null;
         }
+        if (images[index] == null && frameStream != null) {
+            return decodeFrame(frameStream, index);
+        }
         return images[index];
     }
 
+    @Override
+    public boolean isStreaming() {
+        return frameStream != null;
+    }
+
+    @Override
+    public FrameCursor newFrameCursor() {
+        if (frameStream == null) {
+            return this::getFrame;
+        }
+        return new StreamedFrames(frameStream.copy());
+    }
+
+    private static Image decodeFrame(FrameStream stream, int index) {
+        ImageFrame frame = stream.getFrame(index);
+        return (frame == null) ? null : com.sun.prism.Image.convertImageFrame(frame);
+    }
+
+    /*
+     * The playback position of an animation over the frames of a streamed
+     * image.  The loader may be shared by several images, so each cursor
+     * has its own frame stream, and keeps the decoded frames which are
+     * about to be shown, by index.
+     */
+    private final class StreamedFrames implements FrameCursor {
+        private final FrameStream stream;
+        private final Map<Integer, Image> decodedFrames = new HashMap<>(); // guarded by this
+        private int currentFrame; // guarded by this
+        private boolean decoding; // guarded by this
+        private boolean disposed; // guarded by this
+
+        StreamedFrames(FrameStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public synchronized PlatformImage pollFrame(int index) {
+            if (disposed) {
+                return (index == 0) ? images[0] : null;
+            }
+            currentFrame = index;
+            decodedFrames.keySet().removeIf(i -> !isDecodedAhead(i));
+            if (!decoding) {
+                decoding = true;
+                FrameDecoder.EXECUTOR.execute(this::decodeAhead);
+            }
+            return (index == 0) ? images[0] : decodedFrames.get(index);
+        }
+
+        @Override
+        public void dispose() {
+            synchronized (this) {
+                disposed = true;
+                decodedFrames.clear();
+            }
+            // Waits for a frame being decoded ahead, if any
+            stream.dispose();
+        }
+
+        // Returns whether the frame at the given index is the current frame
+        // or one of the frames following it, wrapping around at the last frame
+        private boolean isDecodedAhead(int index) {
+            int n = images.length;
+            return (index - currentFrame + n) % n <= DECODE_AHEAD;
+        }
+
+        // Decodes the frames following the current frame that are missing,
+        // in order, as the frame stream decodes frames sequentially
+        private void decodeAhead() {
+            while (true) {
+                int index = -1;
+                synchronized (this) {
+                    for (int i = 0; i <= DECODE_AHEAD; i++) {
+                        int next = (currentFrame + i) % images.length;
+                        if (next != 0 && !decodedFrames.containsKey(next)) {
+                            index = next;
+                            break;
+                        }
+                    }
+                    if (index < 0 || disposed) {
+                        decoding = false;
+                        return;
+                    }
+                }
+                Image frame = decodeFrame(stream, index);
+                synchronized (this) {
+                    // A frame which cannot be decoded is recorded as null, so
+                    // that it is not decoded again until the animation loops
+                    if (!disposed && isDecodedAhead(index)) {
+                        decodedFrames.put(index, frame);
+                    }
+                }
+            }
+        }
+    }
+
     public int getFrameDelay(int index) {
         if (images == null) {
             return 0;
@@ -124,7 +237,8 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         ImageLoadListener listener = new PrismLoadListener();
         try {
             ImageFrame[] imgFrames =
-                ImageStorage.loadAll(url, listener, w, h, preserveRatio, pixelScale, smooth);
+                ImageStorage.loadAll(url, listener, w, h, preserveRatio, pixelScale, smooth,
+                                     PrismSettings.animatedImageStreamingSize);
             convertAll(imgFrames);
         } catch (ImageStorageException e) {
             handleException(e);
@@ -139,7 +253,8 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         ImageLoadListener listener = new PrismLoadListener();
         try {
             ImageFrame[] imgFrames =
-                ImageStorage.loadAll(stream, listener, w, h, preserveRatio, 1.0f, smooth);
+                ImageStorage.loadAll(stream, listener, w, h, preserveRatio, 1.0f, smooth,
+                                     PrismSettings.animatedImageStreamingSize);
             convertAll(imgFrames);
         } catch (ImageStorageException e) {
             handleException(e);
@@ -166,6 +281,11 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     }
 
     private void convertAll(ImageFrame[] imgFrames) {
+        frameStream = imgFrames[0].getFrameStream();
+        if (frameStream != null) {
+            convertStreamed(imgFrames[0]);
+            return;
+        }
         int numFrames = imgFrames.length;
         images = new Image[numFrames];
         delayTimes = new int[numFrames];
@@ -190,6 +310,24 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         }
     }
 
+    private void convertStreamed(ImageFrame first) {
+        int numFrames = frameStream.getFrameCount();
+        images = new Image[numFrames];
+        images[0] = com.sun.prism.Image.convertImageFrame(first);
+        delayTimes = new int[numFrames];
+        for (int i = 0; i < numFrames; i++) {
+            ImageMetadata metadata = frameStream.getMetadata(i);
+            if (metadata.delayTime != null) {
+                delayTimes[i] = metadata.delayTime;
+            }
+            if (metadata.loopCount != null) {
+                loopCount = metadata.loopCount;
+            }
+        }
+        width = first.getWidth();
+        height = first.getHeight();
+    }
+
     /**
      * Returns the PlatformLogger for logging imageio-related activities.
      */
@@ -222,6 +360,35 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         }
     }
 
+    /*
+     * The threads decoding the frames of streamed images, shared by all
+     * images and created on first use.
+     */
+    private static final class FrameDecoder {
+        static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor() {
+            @SuppressWarnings("removal")
+            final ThreadFactory threadFactory =
+                    runnable -> AccessController.doPrivileged(
+                            (PrivilegedAction<Thread>) () -> {
+                                final Thread newThread =
+                                        new Thread(runnable, "Animated image decoding");
+                                newThread.setDaemon(true);
+                                newThread.setPriority(Thread.MIN_PRIORITY);
+                                return newThread;
+                            }
+                    );
+
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads, threads, 1, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     static final class AsyncImageLoader
         extends AbstractRemoteResource<PrismImageLoader2>
     {
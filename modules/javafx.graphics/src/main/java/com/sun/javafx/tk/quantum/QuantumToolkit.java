@@ -59,6 +59,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.security.AccessControlContext;
 import java.security.AccessController;
@@ -166,6 +167,22 @@ public final class QuantumToolkit extends Toolkit {
     private static Integer pulseHZ =
             AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger("javafx.animation.pulse"));
 
+    /*
+     * When set, pulses are paced to the given frame rate, backing off to
+     * an even fraction of it when frames take longer than the interval.
+     */
+    @SuppressWarnings("removal")
+    private static final int targetFps =
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger("quantum.targetFps", 0));
+
+    /*
+     * The number of idle render targets kept for snapshots that are read
+     * back into buffers, see SnapshotTexturePool.
+     */
+    @SuppressWarnings("removal")
+    private static final int snapshotPoolSize =
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger("quantum.snapshotPoolSize", 4));
+
     @SuppressWarnings("removal")
     static final boolean liveResize =
             AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> {
@@ -237,6 +254,7 @@ public final class QuantumToolkit extends Toolkit {
     private Timer                   pulseTimer = null;
     private Thread                  shutdownHook = null;
     private PaintCollector          collector;
+    private FramePacer              framePacer;
     private QuantumRenderer         renderer;
     private GraphicsPipeline        pipeline;
 
@@ -384,6 +402,9 @@ public final class QuantumToolkit extends Toolkit {
                  */
                 pulseTimer.start(FULLSPEED_INTERVAL);
             } else {
+                if (targetFps > 0) {
+                    framePacer = new FramePacer(targetFps, getRefreshRate());
+                }
                 nativeSystemVsync = Screen.getVideoRefreshPeriod() != 0.0;
                 if (nativeSystemVsync) {
                     // system supports vsync
@@ -486,9 +507,22 @@ public final class QuantumToolkit extends Toolkit {
         return (renderer.submitRenderJob(r));
     }
 
+    FramePacer getFramePacer() {
+        return framePacer;
+    }
+
+    /**
+     * Returns whether the frame pacing allows a pulse to be posted now.
+     */
+    private boolean isPulseDue() {
+        final FramePacer pacer = framePacer;
+        return pacer == null || pacer.shouldPulse(System.nanoTime());
+    }
+
     void postPulse() {
         if (toolkitRunning.get() &&
             (animationRunning.get() || nextPulseRequested.get()) &&
+            isPulseDue() &&
             !setPulseRunning()) {
 
             Application.invokeLater(pulseRunnable);
@@ -564,6 +598,9 @@ public final class QuantumToolkit extends Toolkit {
             if (!toolkitRunning.get()) {
                 return;
             }
+            if (framePacer != null) {
+                framePacer.pulseStarted(System.nanoTime());
+            }
             nextPulseRequested.set(false);
             if (animationRunnable != null) {
                 animationRunning.set(true);
@@ -1450,6 +1487,49 @@ public final class QuantumToolkit extends Toolkit {
         return com.sun.prism.Image.fromByteBgraPreData(bytebuf, w, h);
     }
 
+    private static com.sun.prism.paint.Color getSnapshotClearColor(com.sun.prism.paint.Paint paint) {
+        if (paint == null) {
+            return com.sun.prism.paint.Color.WHITE;
+        } else if (paint.getType() == com.sun.prism.paint.Paint.Type.COLOR) {
+            return (com.sun.prism.paint.Color) paint;
+        } else if (paint.isOpaque()) {
+            return com.sun.prism.paint.Color.TRANSPARENT;
+        } else {
+            return com.sun.prism.paint.Color.WHITE;
+        }
+    }
+
+    private static void drawSnapshot(Graphics g, ImageRenderingContext params,
+                                     com.sun.prism.paint.Paint paint,
+                                     int x, int y, int w, int h) {
+        g.setLights(params.lights);
+        g.setDepthBuffer(params.depthBuffer);
+
+        g.clear(getSnapshotClearColor(paint));
+        if (paint != null &&
+                paint.getType() != com.sun.prism.paint.Paint.Type.COLOR) {
+            g.getRenderTarget().setOpaque(paint.isOpaque());
+            g.setPaint(paint);
+            g.fillQuad(0, 0, w, h);
+        }
+
+        // Set up transform
+        if (x != 0 || y != 0) {
+            g.translate(-x, -y);
+        }
+        if (params.transform != null) {
+            g.transform(params.transform);
+        }
+
+        if (params.root != null) {
+            if (params.camera != null) {
+                g.setCamera(params.camera);
+            }
+            NGNode ngNode = params.root;
+            ngNode.render(g);
+        }
+    }
+
     @Override
     public Object renderToImage(ImageRenderingContext p) {
         Object saveImage = p.platformImage;
@@ -1459,46 +1539,8 @@ public final class QuantumToolkit extends Toolkit {
 
         RenderJob re = new RenderJob(new Runnable() {
 
-            private com.sun.prism.paint.Color getClearColor() {
-                if (currentPaint == null) {
-                    return com.sun.prism.paint.Color.WHITE;
-                } else if (currentPaint.getType() == com.sun.prism.paint.Paint.Type.COLOR) {
-                    return (com.sun.prism.paint.Color) currentPaint;
-                } else if (currentPaint.isOpaque()) {
-                    return com.sun.prism.paint.Color.TRANSPARENT;
-                } else {
-                    return com.sun.prism.paint.Color.WHITE;
-                }
-            }
-
             private void draw(Graphics g, int x, int y, int w, int h) {
-                g.setLights(params.lights);
-                g.setDepthBuffer(params.depthBuffer);
-
-                g.clear(getClearColor());
-                if (currentPaint != null &&
-                        currentPaint.getType() != com.sun.prism.paint.Paint.Type.COLOR) {
-                    g.getRenderTarget().setOpaque(currentPaint.isOpaque());
-                    g.setPaint(currentPaint);
-                    g.fillQuad(0, 0, w, h);
-                }
-
-                // Set up transform
-                if (x != 0 || y != 0) {
-                    g.translate(-x, -y);
-                }
-                if (params.transform != null) {
-                    g.transform(params.transform);
-                }
-
-                if (params.root != null) {
-                    if (params.camera != null) {
-                        g.setCamera(params.camera);
-                    }
-                    NGNode ngNode = params.root;
-                    ngNode.render(g);
-                }
-
+                drawSnapshot(g, params, currentPaint, x, y, w, h);
             }
 
             private void renderTile(int x, int xOffset, int y, int yOffset, int w, int h,
@@ -1682,6 +1724,100 @@ public final class QuantumToolkit extends Toolkit {
         return image;
     }
 
+    /*
+     * Renders into a pooled render target and reads the pixels back
+     * directly into the buffer.  The FX thread only waits until the
+     * render graph has been drawn; the read back, which waits for the
+     * GPU to finish, then overlaps with the processing of the next
+     * snapshot on the FX thread.  Snapshots larger than the maximum
+     * texture size are rendered in tiles by renderToImage and copied.
+     */
+    @Override
+    public void renderToBuffer(ImageRenderingContext p, Buffer buffer,
+                               Runnable onComplete) {
+        final ImageRenderingContext params = p;
+        final com.sun.prism.paint.Paint currentPaint = p.platformPaint instanceof com.sun.prism.paint.Paint ?
+                (com.sun.prism.paint.Paint)p.platformPaint : null;
+        final int w = p.width;
+        final int h = p.height;
+        final CountDownLatch drawn = new CountDownLatch(1);
+        final AtomicBoolean tooLarge = new AtomicBoolean();
+
+        RenderJob re = new RenderJob(() -> {
+            ResourceFactory rf = GraphicsPipeline.getDefaultResourceFactory();
+            SnapshotTexturePool pool = null;
+            RTTexture rt = null;
+            boolean errored = false;
+            try {
+                if (!rf.isDeviceReady() || w <= 0 || h <= 0) {
+                    return;
+                }
+                int maxTextureSize = rf.getMaximumTextureSize();
+                if (w > maxTextureSize || h > maxTextureSize) {
+                    tooLarge.set(true);
+                    return;
+                }
+                pool = SnapshotTexturePool.getInstance(rf, snapshotPoolSize);
+                rt = pool.acquire(w, h);
+                if (rt == null) {
+                    return;
+                }
+                drawSnapshot(rt.createGraphics(), params, currentPaint, params.x, params.y, w, h);
+                // The render graph is no longer needed, let the FX thread go on
+                drawn.countDown();
+
+                int[] pixels = rt.getPixels();
+                if (pixels == null &&
+                        (buffer.isDirect() || (buffer.hasArray() && buffer.arrayOffset() == 0))) {
+                    rt.readPixels(buffer, rt.getContentX(), rt.getContentY(), w, h);
+                } else {
+                    // The pipelines can only read back into direct buffers
+                    // and whole arrays, go through a temporary array
+                    if (pixels == null) {
+                        IntBuffer ib = IntBuffer.allocate(w * h);
+                        if (rt.readPixels(ib, rt.getContentX(), rt.getContentY(), w, h)) {
+                            pixels = ib.array();
+                        }
+                    }
+                    if (pixels != null) {
+                        IntBuffer dst = (buffer instanceof IntBuffer)
+                                ? ((IntBuffer) buffer).duplicate()
+                                : ((ByteBuffer) buffer).duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                        dst.clear();
+                        dst.put(pixels, 0, w * h);
+                    }
+                }
+            } catch (Throwable t) {
+                errored = true;
+                t.printStackTrace(System.err);
+            } finally {
+                drawn.countDown();
+                if (rt != null) {
+                    pool.release(rt);
+                }
+                Disposer.cleanUp();
+                rf.getTextureResourcePool().freeDisposalRequestedAndCheckResources(errored);
+                if (!tooLarge.get()) {
+                    defer(onComplete);
+                }
+            }
+        });
+        addRenderJob(re);
+
+        do {
+            try {
+                drawn.await();
+                break;
+            } catch (InterruptedException ex) {
+                ex.printStackTrace();
+            }
+        } while (true);
+
+        if (tooLarge.get()) {
+            super.renderToBuffer(p, buffer, onComplete);
+        }
+    }
+
     @Override
     public FileChooserResult showFileChooser(final TKStage ownerWindow,
                                       final String title,
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.tk.quantum;
+
+import com.sun.prism.RTTexture;
+import com.sun.prism.ResourceFactory;
+import com.sun.prism.ResourceFactoryListener;
+import com.sun.prism.Texture.WrapMode;
+import com.sun.prism.impl.TextureCacheGovernor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pool of the render targets used by snapshots which are read back into
+ * buffers.
+ * <p>
+ * The content size of a render target is fixed and the pipelines can only
+ * read back its whole content, so a target is only reused for snapshots of
+ * exactly the same size.  Applications taking many snapshots, e.g. to render
+ * thumbnails, typically use a few sizes only.  Up to {@code maxIdle} idle
+ * targets are kept, the least recently released ones are disposed first,
+ * and they take part in the shared texture memory budget of the
+ * {@link TextureCacheGovernor}.
+ * <p>
+ * All methods must be called on the render thread.
+ */
+final class SnapshotTexturePool implements TextureCacheGovernor.Client, ResourceFactoryListener {
+
+    private static SnapshotTexturePool instance;
+
+    private final ResourceFactory factory;
+    private final int maxIdle;
+    // The idle render targets, least recently released first
+    private final List<RTTexture> idle = new ArrayList<>();
+
+    private SnapshotTexturePool(ResourceFactory factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+        factory.addFactoryListener(this);
+        TextureCacheGovernor.register(this);
+    }
+
+    /**
+     * Returns the pool for the given resource factory, replacing the pool
+     * of a previous factory.
+     */
+    static SnapshotTexturePool getInstance(ResourceFactory factory, int maxIdle) {
+        if (instance == null || instance.factory != factory) {
+            if (instance != null) {
+                instance.dispose();
+            }
+            instance = new SnapshotTexturePool(factory, maxIdle);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a locked render target with a content size of exactly
+     * {@code w} by {@code h}, or null if none could be allocated.
+     */
+    RTTexture acquire(int w, int h) {
+        for (int i = idle.size() - 1; i >= 0; i--) {
+            RTTexture rt = idle.get(i);
+            if (rt.getContentWidth() == w && rt.getContentHeight() == h) {
+                idle.remove(i);
+                rt.lock();
+                if (!rt.isSurfaceLost()) {
+                    return rt;
+                }
+                rt.dispose();
+            }
+        }
+        return factory.createRTTexture(w, h, WrapMode.CLAMP_TO_ZERO);
+    }
+
+    /**
+     * Unlocks a render target obtained from {@link #acquire} and keeps it
+     * for a later snapshot of the same size.
+     */
+    void release(RTTexture rt) {
+        rt.unlock();
+        if (maxIdle <= 0 || rt.isSurfaceLost()) {
+            rt.dispose();
+            return;
+        }
+        idle.add(rt);
+        while (idle.size() > maxIdle) {
+            idle.remove(0).dispose();
+        }
+    }
+
+    private void dispose() {
+        clear();
+        factory.removeFactoryListener(this);
+        TextureCacheGovernor.unregister(this);
+    }
+
+    private void clear() {
+        for (RTTexture rt : idle) {
+            rt.dispose();
+        }
+        idle.clear();
+    }
+
+    private static long getSize(RTTexture rt) {
+        return (long) rt.getPhysicalWidth() * rt.getPhysicalHeight() *
+               rt.getPixelFormat().getBytesPerPixelUnit();
+    }
+
+    @Override
+    public String getCacheName() {
+        return "Snapshot targets";
+    }
+
+    @Override
+    public long getOccupancy() {
+        long size = 0;
+        for (RTTexture rt : idle) {
+            size += getSize(rt);
+        }
+        return size;
+    }
+
+    @Override
+    public int getColdestAge() {
+        int age = -1;
+        for (RTTexture rt : idle) {
+            age = Math.max(age, TextureCacheGovernor.getTextureAge(rt));
+        }
+        return age;
+    }
+
+    @Override
+    public long evict(long wanted, int minAge) {
+        long freed = 0;
+        for (int i = 0; i < idle.size() && freed < wanted; ) {
+            RTTexture rt = idle.get(i);
+            if (TextureCacheGovernor.getTextureAge(rt) >= minAge) {
+                freed += getSize(rt);
+                idle.remove(i).dispose();
+            } else {
+                i++;
+            }
+        }
+        return freed;
+    }
+
+    @Override
+    public void factoryReset() {
+        clear();
+    }
+
+    @Override
+    public void factoryReleased() {
+        dispose();
+        if (instance == this) {
+            instance = null;
+        }
+    }
+}
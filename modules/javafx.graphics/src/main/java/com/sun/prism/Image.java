@@ -582,32 +582,118 @@ public class Image implements PlatformImage {
         return serial;
     }
 
-    private void updateSerial() {
-        updateSerial(null);
-    }
-
     private void updateSerial(Rectangle rect) {
         serial.update(rect);
     }
 
+    private void updateSerial(int x, int y, int w, int h) {
+        if (pixelScale != 1.0f) {
+            // The accessor scales the coordinates, mark the whole image
+            serial.update(null);
+        } else {
+            serial.update(x, y, w, h);
+        }
+    }
+
+    /**
+     * Tracks the updates of the pixels of an image, so that textures
+     * holding a copy of the image can tell whether they are up to date and,
+     * if not, which region of the image they need to upload again.
+     * <p>
+     * Each update increments the serial id.  The dirty regions of the
+     * updates made between two reads of the serial are merged into a single
+     * run, and the runs of the last few reads are remembered, so that a
+     * texture which is uploaded every frame only uploads what has changed
+     * since the previous frame even if the image was updated many times.
+     */
     public static class Serial {
+        // The number of runs of updates remembered
+        private static final int HISTORY_SIZE = 8;
+
         private int id;
-        private Rectangle dirtyRegion;
+
+        // Ring of the id of the first update of each run and of the union
+        // of the regions updated by the run, null if the whole image was
+        // updated
+        private final int[] runStart = new int[HISTORY_SIZE];
+        private final Rectangle[] runRegion = new Rectangle[HISTORY_SIZE];
+        private int runCount;
+        private int lastRun;
+
+        // Whether the serial has been read since the last update
+        private boolean read = true;
 
         Serial() {
             id = 0;
-            dirtyRegion = null;
         }
 
-        public synchronized Pair<Integer, Rectangle> getIdRect() {
+        public synchronized int getId() {
+            // Called on quantumRenderer-0
+            read = true;
+            return id;
+        }
+
+        /**
+         * Returns the current id together with the union of the regions
+         * updated since the given id, or with null if the whole image
+         * has to be considered dirty, because it was updated as a whole or
+         * because the updates since then are no longer remembered.
+         */
+        public synchronized Pair<Integer, Rectangle> getIdRect(int since) {
             // Called on quantumRenderer-0
-            return new Pair(id, (dirtyRegion == null)? null : new Rectangle(dirtyRegion));
+            read = true;
+            if (since == id) {
+                return new Pair<>(id, null);
+            }
+            Rectangle dirty = null;
+            int run = lastRun;
+            for (int i = 0; i < runCount; i++) {
+                Rectangle r = runRegion[run];
+                if (r == null) {
+                    break;
+                }
+                if (dirty == null) {
+                    dirty = new Rectangle(r);
+                } else {
+                    dirty.add(r);
+                }
+                if (runStart[run] - (since + 1) <= 0) {
+                    return new Pair<>(id, dirty);
+                }
+                run = (run + HISTORY_SIZE - 1) % HISTORY_SIZE;
+            }
+            return new Pair<>(id, null);
         }
 
         public synchronized void update(Rectangle rect) {
             // Called on FX Application thread
+            if (rect == null) {
+                update(0, 0, -1, -1);
+            } else {
+                update(rect.x, rect.y, rect.width, rect.height);
+            }
+        }
+
+        // A negative width marks the whole image dirty
+        synchronized void update(int x, int y, int w, int h) {
             id++;
-            dirtyRegion = rect;
+            if (!read && runCount > 0) {
+                Rectangle r = runRegion[lastRun];
+                if (r != null) {
+                    if (w < 0) {
+                        runRegion[lastRun] = null;
+                    } else {
+                        r.add(x, y);
+                        r.add(x + w, y + h);
+                    }
+                }
+                return;
+            }
+            lastRun = (lastRun + 1) % HISTORY_SIZE;
+            runStart[lastRun] = id;
+            runRegion[lastRun] = (w < 0) ? null : new Rectangle(x, y, w, h);
+            runCount = Math.min(runCount + 1, HISTORY_SIZE);
+            read = false;
         }
     }
 
@@ -685,7 +771,7 @@ public class Image implements PlatformImage {
     @Override
     public void setArgb(int x, int y, int argb) {
         getPixelAccessor().setArgb(x, y, argb);
-        updateSerial();
+        updateSerial(x, y, 1, 1);
     }
 
     @Override
@@ -724,7 +810,7 @@ public class Image implements PlatformImage {
     {
         getPixelAccessor().setPixels(x, y, w, h, pixelformat,
                                      pixels, scanlineBytes);
-        updateSerial();
+        updateSerial(x, y, w, h);
     }
 
     @Override
@@ -734,7 +820,7 @@ public class Image implements PlatformImage {
     {
         getPixelAccessor().setPixels(x, y, w, h, pixelformat,
                                      pixels, offset, scanlineBytes);
-        updateSerial();
+        updateSerial(x, y, w, h);
     }
 
     @Override
@@ -744,7 +830,7 @@ public class Image implements PlatformImage {
     {
         getPixelAccessor().setPixels(x, y, w, h, pixelformat,
                                      pixels, offset, scanlineInts);
-        updateSerial();
+        updateSerial(x, y, w, h);
     }
 
     @Override
@@ -752,7 +838,7 @@ public class Image implements PlatformImage {
                           PixelReader reader, int srcx, int srcy)
     {
         getPixelAccessor().setPixels(dstx, dsty, w, h, reader, srcx, srcy);
-        updateSerial();
+        updateSerial(dstx, dsty, w, h);
     }
 
     public boolean isOpaque() {
@@ -194,6 +194,25 @@ public interface ResourceFactory extends GraphicsResource {
      */
     public Texture getCachedTexture(Image image, Texture.WrapMode wrapMode, boolean useMipmap);
 
+    /**
+     * Returns a {@code Texture} for the given image which behaves like a
+     * {@code CLAMP_TO_EDGE} texture for the purposes of
+     * {@link Graphics#drawTexture}.
+     * Small images may be packed into a page of a shared texture atlas, in
+     * which case the returned texture has non-zero content offsets and
+     * shares its underlying resource with the textures of other images, so
+     * the caller must not dispose it nor mark its contents as not useful.
+     * Other images are handled as by
+     * {@link #getCachedTexture(Image, Texture.WrapMode)}.
+     * NOTE: the caller of this method should not hold a reference to the
+     * cached texture beyond its immediate needs since the cache may be
+     * cleared at any time.
+     *
+     * @param image the pixel data to be uploaded if the texture is new
+     * @return a cached texture
+     */
+    public Texture getCachedAtlasTexture(Image image);
+
     /**
      * Returns true if the given {@code PixelFormat} is supported; otherwise
      * returns false.
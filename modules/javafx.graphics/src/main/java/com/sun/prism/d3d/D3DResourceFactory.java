@@ -471,6 +471,11 @@ class D3DResourceFactory extends BaseShaderFactory {
         return true;
     }
 
+    @Override
+    protected boolean isImageAtlasSupported() {
+        return true;
+    }
+
     private int computeMaxTextureSize() {
         int size = nGetMaximumTextureSize(context.getContextHandle());
         if (PrismSettings.verbose) {
@@ -72,6 +72,19 @@ class D3DTexture extends BaseTexture<D3DTextureResource>
         return new D3DTexture(this, newMode);
     }
 
+    D3DTexture(D3DTexture parentTex, WrapMode newMode,
+               int x, int y, int w, int h)
+    {
+        super(parentTex, newMode, x, y, w, h);
+    }
+
+    @Override
+    protected Texture createSubTexture(WrapMode newMode,
+                                       int x, int y, int w, int h)
+    {
+        return new D3DTexture(this, newMode, x, y, w, h);
+    }
+
     public long getNativeSourceHandle() {
         return resource.getResource().getResource();
     }
@@ -125,6 +125,11 @@ public class ES2ResourceFactory extends BaseShaderFactory {
         return context.getGLContext().canCreateNonPowTwoTextures();
     }
 
+    @Override
+    protected boolean isImageAtlasSupported() {
+        return true;
+    }
+
     @Override
     public Texture createTexture(PixelFormat formatHint,
                                  Usage usageHint,
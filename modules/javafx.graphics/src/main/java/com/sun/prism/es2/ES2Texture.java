@@ -79,6 +79,20 @@ class ES2Texture<T extends ES2TextureData> extends BaseTexture<ES2TextureResourc
         return new ES2Texture(this, newMode);
     }
 
+    private ES2Texture(ES2Texture<T> parentTex, WrapMode newMode,
+                       int x, int y, int w, int h)
+    {
+        super(parentTex, newMode, x, y, w, h);
+        this.context = parentTex.context;
+    }
+
+    @Override
+    protected Texture createSubTexture(WrapMode newMode,
+                                       int x, int y, int w, int h)
+    {
+        return new ES2Texture<>(this, newMode, x, y, w, h);
+    }
+
     /**
      * Given a starting value and a maximum limit, returns the first
      * power-of-two greater than or equal to the starting value.  If the
@@ -37,6 +37,7 @@ import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.image.ByteToBytePixelConverter;
 import com.sun.javafx.image.impl.ByteGray;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.sg.prism.NGCamera;
 import com.sun.prism.PixelFormat;
 import com.sun.prism.RTTexture;
@@ -48,6 +49,8 @@ import com.sun.prism.impl.paint.PaintUtil;
 import com.sun.prism.impl.shape.MaskData;
 import com.sun.prism.paint.Gradient;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 public abstract class BaseContext {
 
     private final Screen screen;
@@ -122,6 +125,9 @@ public abstract class BaseContext {
 
     public void drawQuads(float coordArray[], byte colorArray[], int numVertices) {
         flushMask();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Vertex buffer draw calls");
+        }
         renderQuads(coordArray, colorArray, numVertices);
     }
 
@@ -34,9 +34,13 @@ import com.sun.prism.Texture;
 import com.sun.prism.Texture.Usage;
 import com.sun.prism.Texture.WrapMode;
 
+import java.nio.Buffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
-import java.util.Collection;
 
 import javafx.util.Pair;
 
@@ -56,6 +60,7 @@ public abstract class BaseResourceFactory implements ResourceFactory {
     private Texture regionTexture;
     private Texture glyphTexture;
     private boolean superShaderAllowed;
+    private ImageAtlas imageAtlas;
 
     public BaseResourceFactory() {
         this(new WeakHashMap<Image,Texture>(),
@@ -70,6 +75,98 @@ public abstract class BaseResourceFactory implements ResourceFactory {
         this.clampTexCache = clampTexCache;
         this.repeatTexCache = repeatTexCache;
         this.mipmapTexCache = mipmapTexCache;
+        TextureCacheGovernor.register(imageCacheClient);
+    }
+
+    /**
+     * Participates in the shared texture memory budget on behalf of the
+     * image texture caches, evicting the textures of the least recently
+     * drawn images first.
+     */
+    private final TextureCacheGovernor.Client imageCacheClient =
+            new TextureCacheGovernor.Client() {
+        @Override
+        public String getCacheName() {
+            return "Image textures";
+        }
+
+        @Override
+        public long getOccupancy() {
+            return cacheSize(clampTexCache) +
+                   cacheSize(repeatTexCache) +
+                   cacheSize(mipmapTexCache);
+        }
+
+        @Override
+        public int getColdestAge() {
+            return Math.max(coldestAge(clampTexCache),
+                   Math.max(coldestAge(repeatTexCache),
+                            coldestAge(mipmapTexCache)));
+        }
+
+        @Override
+        public long evict(long wanted, int minAge) {
+            List<Map.Entry<Image, Texture>> candidates = new ArrayList<>();
+            collectEvictable(clampTexCache, minAge, candidates);
+            collectEvictable(repeatTexCache, minAge, candidates);
+            collectEvictable(mipmapTexCache, minAge, candidates);
+            candidates.sort((e1, e2) -> TextureCacheGovernor.getTextureAge(e2.getValue()) -
+                                        TextureCacheGovernor.getTextureAge(e1.getValue()));
+            long freed = 0;
+            for (Map.Entry<Image, Texture> e : candidates) {
+                if (freed >= wanted) {
+                    break;
+                }
+                Texture tex = e.getValue();
+                // The resource may already have been released through a
+                // texture sharing it from one of the other caches
+                if (!tex.isSurfaceLost()) {
+                    freed += textureSize(tex);
+                    tex.dispose();
+                }
+                clampTexCache.remove(e.getKey(), tex);
+                repeatTexCache.remove(e.getKey(), tex);
+                mipmapTexCache.remove(e.getKey(), tex);
+            }
+            return freed;
+        }
+    };
+
+    long textureSize(Texture tex) {
+        return tex.getUseMipmap()
+                ? sizeWithMipMap(tex.getPhysicalWidth(), tex.getPhysicalHeight(),
+                                 tex.getPixelFormat())
+                : getTextureResourcePool().estimateTextureSize(tex.getPhysicalWidth(),
+                                                               tex.getPhysicalHeight(),
+                                                               tex.getPixelFormat());
+    }
+
+    private long cacheSize(Map<Image, Texture> texCache) {
+        long size = 0;
+        for (Texture tex : texCache.values()) {
+            if (!tex.isSurfaceLost()) {
+                size += textureSize(tex);
+            }
+        }
+        return size;
+    }
+
+    private static int coldestAge(Map<Image, Texture> texCache) {
+        int age = -1;
+        for (Texture tex : texCache.values()) {
+            age = Math.max(age, TextureCacheGovernor.getTextureAge(tex));
+        }
+        return age;
+    }
+
+    private static void collectEvictable(Map<Image, Texture> texCache, int minAge,
+                                         List<Map.Entry<Image, Texture>> list)
+    {
+        for (Map.Entry<Image, Texture> e : texCache.entrySet()) {
+            if (TextureCacheGovernor.getTextureAge(e.getValue()) >= minAge) {
+                list.add(new AbstractMap.SimpleEntry<>(e));
+            }
+        }
     }
 
     @Override public void addFactoryListener(ResourceFactoryListener l) {
@@ -90,6 +187,7 @@ public abstract class BaseResourceFactory implements ResourceFactory {
         clearTextureCache(clampTexCache);
         clearTextureCache(repeatTexCache);
         clearTextureCache(mipmapTexCache);
+        disposeImageAtlas();
     }
 
     protected void clearTextureCache(Map<Image,Texture> texCache) {
@@ -117,6 +215,14 @@ public abstract class BaseResourceFactory implements ResourceFactory {
             glyphTexture.dispose();
             glyphTexture = null;
         }
+        disposeImageAtlas();
+    }
+
+    private void disposeImageAtlas() {
+        if (imageAtlas != null) {
+            imageAtlas.dispose();
+            imageAtlas = null;
+        }
     }
 
     /**
@@ -223,8 +329,8 @@ public abstract class BaseResourceFactory implements ResourceFactory {
             }
         }
 
-        Pair <Integer, Rectangle> idRect = image.getSerial().getIdRect();
         if (tex == null) {
+            int serial = image.getSerial().getId();
             int w = image.getWidth();
             int h = image.getHeight();
             TextureResourcePool pool = getTextureResourcePool();
@@ -237,26 +343,71 @@ public abstract class BaseResourceFactory implements ResourceFactory {
 
             tex = createTexture(image, Usage.DEFAULT, wrapMode, useMipmap);
             if (tex != null) {
-                tex.setLastImageSerial(idRect.getKey());
+                tex.setLastImageSerial(serial);
                 texCache.put(image, tex);
             }
-        } else if (tex.getLastImageSerial() != idRect.getKey()) {
-            // If the image was updated only once, then the image is partially updated.
-            // Else whole image is updated.
-            if (idRect.getKey() - tex.getLastImageSerial() == 1 && idRect.getValue() != null) {
+        } else {
+            Pair<Integer, Rectangle> idRect =
+                    image.getSerial().getIdRect(tex.getLastImageSerial());
+            if (tex.getLastImageSerial() != idRect.getKey()) {
+                // Upload only the region updated since the last upload, if
+                // it is known, else the whole image
                 Rectangle dirtyRect = idRect.getValue();
-                tex.update(image.getPixelBuffer(), image.getPixelFormat(),
-                        dirtyRect.x, dirtyRect.y, dirtyRect.x, dirtyRect.y,
-                        dirtyRect.width, dirtyRect.height,
-                        image.getScanlineStride(), false);
-            } else {
-                tex.update(image, 0, 0, image.getWidth(), image.getHeight(), false);
+                if (dirtyRect != null) {
+                    dirtyRect.intersectWith(new Rectangle(image.getWidth(), image.getHeight()));
+                }
+                if (dirtyRect == null) {
+                    tex.update(image, 0, 0, image.getWidth(), image.getHeight(), false);
+                } else if (!dirtyRect.isEmpty()) {
+                    Buffer pbuffer = image.getPixelBuffer();
+                    int pos = pbuffer.position();
+                    tex.update(pbuffer, image.getPixelFormat(),
+                            dirtyRect.x, dirtyRect.y,
+                            image.getMinX() + dirtyRect.x, image.getMinY() + dirtyRect.y,
+                            dirtyRect.width, dirtyRect.height,
+                            image.getScanlineStride(), false);
+                    pbuffer.position(pos);
+                }
+                tex.setLastImageSerial(idRect.getKey());
             }
-            tex.setLastImageSerial(idRect.getKey());
         }
         return tex;
     }
 
+    /**
+     * Returns true if textures of this factory can hand out sub-regions
+     * of a shared texture via {@link BaseTexture#createSubTexture} and if
+     * drawing several such sub-regions in a row is cheaper than drawing
+     * individual textures.
+     */
+    protected boolean isImageAtlasSupported() {
+        return false;
+    }
+
+    @Override
+    public Texture getCachedAtlasTexture(Image image) {
+        if (checkDisposed()) return null;
+
+        if (image == null) {
+            throw new IllegalArgumentException("Image must be non-null");
+        }
+        if (imageAtlas == null &&
+            PrismSettings.imageAtlasMaxSize > 0 && isImageAtlasSupported())
+        {
+            imageAtlas = new ImageAtlas(this,
+                                        PrismSettings.imageAtlasMaxSize,
+                                        PrismSettings.imageAtlasPageSize,
+                                        PrismSettings.imageAtlasMaxPages);
+        }
+        if (imageAtlas != null) {
+            Texture tex = imageAtlas.getTexture(image);
+            if (tex != null) {
+                return tex;
+            }
+        }
+        return getCachedTexture(image, WrapMode.CLAMP_TO_EDGE);
+    }
+
     @Override
     public Texture createTexture(Image image, Usage usageHint, WrapMode wrapMode) {
         if (checkDisposed()) return null;
@@ -107,6 +107,9 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
      * <li> Go through more passes cleaning out even interesting resources that
      *      have not been used in a fairly long time with decreasing age limits.
      * <li> Attempt to grow the target to accommodate the new request.
+     * <li> Ask the caches registered with the {@link TextureCacheGovernor}
+     *      to evict their coldest textures, as much as the request is missing
+     *      below the maximum size of the pool.
      * <li> Finally, prune any resources that are not currently in the process
      *      of being used (i.e. locked or permanent).
      * </ol>
@@ -166,6 +169,25 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
                 return true;
             }
 
+            // The target cannot grow enough, so ask the caches which hold on
+            // to textures across frames to give up their coldest entries,
+            // only as much as this allocation is missing below max().
+            if (TextureCacheGovernor.reclaim(used() + needed - max()) > 0) {
+                if (PrismSettings.poolDebug) {
+                    System.err.println("Pruning cache evictions in pool: "+this);
+                }
+                cleanup((mr) -> { return false; });
+                if (used() + needed <= max()) {
+                    if (used() + needed > target()) {
+                        setTarget(used() + needed);
+                        if (PrismSettings.poolDebug || PrismSettings.verbose) {
+                            System.err.printf("Growing pool %s target to %,d\n", this, target());
+                        }
+                    }
+                    return true;
+                }
+            }
+
             // Finally, look to the garbage collector to dislodge some unreferenced
             // resources that we can free with a very aggressive age set of (0, 0)
             // which will target all unlocked/non-permanent textures.
@@ -372,6 +394,7 @@ public abstract class BaseResourcePool<T> implements ResourcePool<T> {
         printpoolpercent(numlocked, total, "locked");
         printpoolpercent(numinteresting, total, "contain interesting data");
         printpoolpercent(numgone, total, "disappeared");
+        TextureCacheGovernor.printSummary();
     }
 
     private static void printpoolpercent(int stat, int total, String desc) {
@@ -53,6 +53,9 @@ public abstract class BaseTexture<T extends ManagedResource> implements Texture
     private final boolean useMipmap;
     private boolean linearFiltering = true;
     private int lastImageSerial;
+    // The texture whose content area this texture is a sub-region of, such
+    // as an atlas page, or null
+    private final BaseTexture<T> subRegionOf;
 
     protected BaseTexture(BaseTexture<T> sharedTex, WrapMode newMode, boolean useMipmap) {
         this.resource = sharedTex.resource;
@@ -67,6 +70,26 @@ public abstract class BaseTexture<T extends ManagedResource> implements Texture
         this.maxContentWidth = sharedTex.maxContentWidth;
         this.maxContentHeight = sharedTex.maxContentHeight;
         this.useMipmap = useMipmap;
+        this.subRegionOf = null;
+    }
+
+    protected BaseTexture(BaseTexture<T> parentTex, WrapMode newMode,
+                          int contentX, int contentY,
+                          int contentWidth, int contentHeight)
+    {
+        this.resource = parentTex.resource;
+        this.format = parentTex.format;
+        this.wrapMode = newMode;
+        this.physicalWidth = parentTex.physicalWidth;
+        this.physicalHeight = parentTex.physicalHeight;
+        this.contentX = parentTex.contentX + contentX;
+        this.contentY = parentTex.contentY + contentY;
+        this.contentWidth = contentWidth;
+        this.contentHeight = contentHeight;
+        this.maxContentWidth = contentWidth;
+        this.maxContentHeight = contentHeight;
+        this.useMipmap = false;
+        this.subRegionOf = (parentTex.subRegionOf != null) ? parentTex.subRegionOf : parentTex;
     }
 
     protected BaseTexture(T resource,
@@ -94,6 +117,7 @@ public abstract class BaseTexture<T extends ManagedResource> implements Texture
         this.maxContentWidth = physicalWidth;
         this.maxContentHeight = physicalHeight;
         this.useMipmap = useMipmap;
+        this.subRegionOf = null;
     }
 
     protected BaseTexture(T resource,
@@ -115,6 +139,7 @@ public abstract class BaseTexture<T extends ManagedResource> implements Texture
         this.maxContentWidth = maxContentWidth;
         this.maxContentHeight = maxContentHeight;
         this.useMipmap = useMipmap;
+        this.subRegionOf = null;
     }
 
     @Override
@@ -227,6 +252,57 @@ public abstract class BaseTexture<T extends ManagedResource> implements Texture
      */
     protected abstract Texture createSharedTexture(WrapMode newMode);
 
+    /**
+     * Create a new version of this texture which shares the same
+     * {@code ManagedResource} reference, but whose content area is the
+     * indicated sub-region of the content area of this texture.
+     * This is used to hand out regions of a shared atlas page as if they
+     * were independent textures.
+     * The lock counts for the shared resource reference are not
+     * changed in the processing of this method.
+     * Pipelines which cannot address sub-regions of their textures
+     * return null, which is the default behavior.
+     *
+     * @param newMode the {@code WrapMode} to use for the new texture.
+     * @param x the x-offset of the sub-region relative to contentX
+     * @param y the y-offset of the sub-region relative to contentY
+     * @param w the width of the sub-region
+     * @param h the height of the sub-region
+     * @return a new {@code Texture} object sharing the underlying resource,
+     *         or null if sub-region textures are not supported
+     */
+    protected Texture createSubTexture(WrapMode newMode,
+                                       int x, int y, int w, int h)
+    {
+        return null;
+    }
+
+    /**
+     * Returns true if the indicated texture and this texture are both
+     * sub-regions created by {@link #createSubTexture} of the same texture,
+     * such as two images of an atlas page, and would be sampled with the
+     * same wrap and filtering state, so that vertices referencing either of
+     * the two textures can be rendered without rebinding the resource.
+     * Other textures sharing a resource, such as the ones created by
+     * {@link #createSharedTexture}, are always rebound, as the pipelines
+     * may apply per texture sampling state when binding them.
+     *
+     * @param other the texture to compare against
+     * @return true if the two textures can share a resource binding
+     */
+    public final boolean sharesBindingWith(Texture other) {
+        if (other == this) {
+            return true;
+        }
+        if (subRegionOf == null || !(other instanceof BaseTexture)) {
+            return false;
+        }
+        BaseTexture<?> bt = (BaseTexture<?>) other;
+        return (bt.subRegionOf == subRegionOf &&
+                bt.wrapMode == wrapMode &&
+                bt.linearFiltering == linearFiltering);
+    }
+
     @Override
     public final boolean getLinearFiltering() {
         return linearFiltering;
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.logging.PulseLogger;
+import com.sun.prism.Image;
+import com.sun.prism.PixelFormat;
+import com.sun.prism.Texture;
+import com.sun.prism.Texture.Usage;
+import com.sun.prism.Texture.WrapMode;
+import com.sun.prism.impl.packrect.RectanglePacker;
+import java.nio.Buffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
+/**
+ * Packs small images into a few shared texture pages so that consecutive
+ * draws of different images (e.g. the icons of a TreeView) reference the
+ * same underlying texture resource and can be accumulated in a single
+ * vertex batch.
+ * <p>
+ * Each image is stored with a one pixel gutter of duplicated edge pixels
+ * around it so that its region of the page samples like a
+ * {@code CLAMP_TO_EDGE} texture.  The textures handed out are views of the
+ * page created by {@link BaseTexture#createSubTexture}, so pipelines which
+ * cannot address sub-regions of a texture simply do not use the atlas.
+ * <p>
+ * The {@code RectanglePacker} cannot free individual rectangles, so when
+ * all pages of a format are full the least recently used page is cleared
+ * and the images which lived on it are re-uploaded on demand.  Under
+ * memory pressure the {@link TextureCacheGovernor} may also release whole
+ * pages which have not been drawn from recently.
+ */
+final class ImageAtlas implements TextureCacheGovernor.Client {
+
+    private static final int GUTTER = 1;
+
+    private static final class Page {
+        final Texture backingStore;
+        final RectanglePacker packer;
+        long lastUsed;
+
+        Page(Texture backingStore, int size) {
+            this.backingStore = backingStore;
+            this.packer = new RectanglePacker(backingStore, size, size);
+        }
+
+        boolean isValid() {
+            return !backingStore.isSurfaceLost();
+        }
+    }
+
+    private static final class Entry {
+        final Page page;
+        final Texture texture;
+
+        Entry(Page page, Texture texture) {
+            this.page = page;
+            this.texture = texture;
+        }
+    }
+
+    private final BaseResourceFactory factory;
+    private final int maxImageSize;
+    private final int pageSize;
+    private final int maxPages;
+
+    private final Map<PixelFormat, List<Page>> pages =
+            new EnumMap<PixelFormat, List<Page>>(PixelFormat.class);
+    // Use a WeakHashMap as it automatically removes dead images when they're
+    // collected, their space on the page is reclaimed when the page is reset
+    private final Map<Image, Entry> entries = new WeakHashMap<Image, Entry>();
+    private final Rectangle rect = new Rectangle();
+    private long useCount;
+    private boolean unsupported;
+
+    ImageAtlas(BaseResourceFactory factory,
+               int maxImageSize, int pageSize, int maxPages)
+    {
+        this.factory = factory;
+        this.maxImageSize = Math.min(maxImageSize, pageSize - 2 * GUTTER);
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        TextureCacheGovernor.register(this);
+    }
+
+    /**
+     * Returns true if the given image is small enough, and of a suitable
+     * format, to be packed into the atlas.
+     */
+    boolean accepts(Image image) {
+        if (unsupported) {
+            return false;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        if (w <= 0 || h <= 0 || w > maxImageSize || h > maxImageSize) {
+            return false;
+        }
+        switch (image.getPixelFormat()) {
+            case BYTE_BGRA_PRE:
+            case INT_ARGB_PRE:
+            case BYTE_RGB:
+            case BYTE_GRAY:
+                return factory.isFormatSupported(image.getPixelFormat());
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns a locked texture for the given image, backed by a region of
+     * one of the atlas pages, or null if the image could not be placed in
+     * the atlas, in which case the caller should fall back to a dedicated
+     * texture.
+     */
+    Texture getTexture(Image image) {
+        if (!accepts(image)) {
+            return null;
+        }
+        int serial = image.getSerial().getId();
+        Entry entry = entries.get(image);
+        if (entry != null) {
+            Texture tex = entry.texture;
+            tex.lock();
+            if (!entry.page.isValid()) {
+                tex.unlock();
+                removePage(entry.page);
+                entry = null;
+            } else {
+                if (tex.getLastImageSerial() != serial) {
+                    upload(entry.page.backingStore, image,
+                           tex.getContentX() - GUTTER, tex.getContentY() - GUTTER);
+                    tex.setLastImageSerial(serial);
+                }
+                entry.page.lastUsed = ++useCount;
+                return tex;
+            }
+        }
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        rect.setBounds(0, 0, w + 2 * GUTTER, h + 2 * GUTTER);
+        Page page = allocate(image.getPixelFormat(), rect);
+        if (page == null) {
+            return null;
+        }
+
+        Texture pageTex = page.backingStore;
+        Texture tex = ((BaseTexture<?>) pageTex)
+                .createSubTexture(WrapMode.CLAMP_TO_EDGE_SIMULATED,
+                                  rect.x + GUTTER, rect.y + GUTTER, w, h);
+        if (tex == null) {
+            // The pipeline cannot hand out sub-regions of a texture,
+            // there is no point in trying again.
+            unsupported = true;
+            pageTex.unlock();
+            dispose();
+            return null;
+        }
+        upload(pageTex, image, rect.x, rect.y);
+        tex.setLastImageSerial(serial);
+        // The page lock from allocate() is handed over to the caller
+        // through the shared resource of the returned texture.
+        entries.put(image, new Entry(page, tex));
+        page.lastUsed = ++useCount;
+        return tex;
+    }
+
+    /**
+     * Finds room for the indicated rectangle on a page of the given
+     * format, creating or resetting pages as needed.  The returned page
+     * is locked.
+     */
+    private Page allocate(PixelFormat format, Rectangle rect) {
+        List<Page> list = pages.get(format);
+        if (list == null) {
+            list = new ArrayList<Page>(maxPages);
+            pages.put(format, list);
+        }
+
+        Page lru = null;
+        for (Iterator<Page> it = list.iterator(); it.hasNext(); ) {
+            Page page = it.next();
+            page.backingStore.lock();
+            if (!page.isValid()) {
+                page.backingStore.unlock();
+                it.remove();
+                removeEntries(page);
+                continue;
+            }
+            if (page.packer.add(rect)) {
+                return page;
+            }
+            page.backingStore.unlock();
+            if (lru == null || page.lastUsed < lru.lastUsed) {
+                lru = page;
+            }
+        }
+
+        if (list.size() < maxPages) {
+            Page page = createPage(format);
+            if (page != null) {
+                list.add(page);
+                if (page.packer.add(rect)) {
+                    return page;
+                }
+                page.backingStore.unlock();
+                return null;
+            }
+        }
+
+        if (lru == null) {
+            return null;
+        }
+        lru.backingStore.lock();
+        if (lru.backingStore.getLockCount() > 1) {
+            // Someone is still holding on to an image on this page,
+            // most likely within the current render pass.
+            lru.backingStore.unlock();
+            return null;
+        }
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Image atlas page reset");
+        }
+        removeEntries(lru);
+        lru.packer.clear();
+        if (!lru.packer.add(rect)) {
+            lru.backingStore.unlock();
+            return null;
+        }
+        return lru;
+    }
+
+    private Page createPage(PixelFormat format) {
+        TextureResourcePool<?> pool = factory.getTextureResourcePool();
+        if (!pool.prepareForAllocation(pool.estimateTextureSize(pageSize, pageSize, format))) {
+            return null;
+        }
+        Texture tex = factory.createTexture(format, Usage.DEFAULT,
+                                            WrapMode.CLAMP_NOT_NEEDED,
+                                            pageSize, pageSize);
+        if (tex == null) {
+            return null;
+        }
+        if (!(tex instanceof BaseTexture) ||
+            tex.getContentWidth() < pageSize || tex.getContentHeight() < pageSize)
+        {
+            unsupported = true;
+            tex.dispose();
+            return null;
+        }
+        tex.contentsUseful();
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("Image atlas page created");
+        }
+        return new Page(tex, pageSize);
+    }
+
+    /**
+     * Uploads the image together with its edge pixels replicated into the
+     * surrounding gutter, the top left corner of the gutter being at
+     * {@code (x, y)}.  The vertex buffer is flushed by the first update in
+     * case pending vertices still refer to the previous contents.
+     */
+    private static void upload(Texture page, Image image, int x, int y) {
+        Buffer buf = image.getPixelBuffer();
+        int pos = buf.position();
+        PixelFormat format = image.getPixelFormat();
+        int scan = image.getScanlineStride();
+        int sx1 = image.getMinX();
+        int sy1 = image.getMinY();
+        int w = image.getWidth();
+        int h = image.getHeight();
+        int sx2 = sx1 + w - 1;
+        int sy2 = sy1 + h - 1;
+        int dx1 = x + GUTTER;
+        int dy1 = y + GUTTER;
+        int dx2 = dx1 + w;
+        int dy2 = dy1 + h;
+
+        page.update(buf, format, dx1, dy1, sx1, sy1, w, h, scan, false);
+        // edges
+        page.update(buf, format, dx1, y,   sx1, sy1, w, 1, scan, true);
+        page.update(buf, format, dx1, dy2, sx1, sy2, w, 1, scan, true);
+        page.update(buf, format, x,   dy1, sx1, sy1, 1, h, scan, true);
+        page.update(buf, format, dx2, dy1, sx2, sy1, 1, h, scan, true);
+        // corners
+        page.update(buf, format, x,   y,   sx1, sy1, 1, 1, scan, true);
+        page.update(buf, format, dx2, y,   sx2, sy1, 1, 1, scan, true);
+        page.update(buf, format, x,   dy2, sx1, sy2, 1, 1, scan, true);
+        page.update(buf, format, dx2, dy2, sx2, sy2, 1, 1, scan, true);
+        buf.position(pos);
+    }
+
+    private void removeEntries(Page page) {
+        entries.values().removeIf(e -> e.page == page);
+    }
+
+    private void removePage(Page page) {
+        List<Page> list = pages.get(page.backingStore.getPixelFormat());
+        if (list != null) {
+            list.remove(page);
+        }
+        removeEntries(page);
+        page.packer.dispose();
+    }
+
+    @Override
+    public String getCacheName() {
+        return "Image atlas";
+    }
+
+    @Override
+    public long getOccupancy() {
+        long size = 0;
+        for (List<Page> list : pages.values()) {
+            for (Page page : list) {
+                if (page.isValid()) {
+                    size += factory.textureSize(page.backingStore);
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int getColdestAge() {
+        int age = -1;
+        for (List<Page> list : pages.values()) {
+            for (Page page : list) {
+                age = Math.max(age, TextureCacheGovernor.getTextureAge(page.backingStore));
+            }
+        }
+        return age;
+    }
+
+    @Override
+    public long evict(long wanted, int minAge) {
+        long freed = 0;
+        while (freed < wanted) {
+            Page lru = null;
+            for (List<Page> list : pages.values()) {
+                for (Page page : list) {
+                    if (TextureCacheGovernor.getTextureAge(page.backingStore) >= minAge &&
+                        (lru == null || page.lastUsed < lru.lastUsed))
+                    {
+                        lru = page;
+                    }
+                }
+            }
+            if (lru == null) {
+                break;
+            }
+            freed += factory.textureSize(lru.backingStore);
+            removePage(lru);
+        }
+        return freed;
+    }
+
+    void dispose() {
+        TextureCacheGovernor.unregister(this);
+        entries.clear();
+        for (List<Page> list : pages.values()) {
+            for (Page page : list) {
+                page.packer.dispose();
+            }
+        }
+        pages.clear();
+    }
+}
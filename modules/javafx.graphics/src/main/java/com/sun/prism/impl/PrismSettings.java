@@ -77,6 +77,11 @@ public final class PrismSettings {
     public static final boolean disableEffects;
     public static final int glyphCacheWidth;
     public static final int glyphCacheHeight;
+    public static final int imageAtlasMaxSize;
+    public static final int imageAtlasPageSize;
+    public static final int imageAtlasMaxPages;
+    public static final int regionCacheMaxPages;
+    public static final long animatedImageStreamingSize;
     public static final String perfLog;
     public static final boolean perfLogExitFlush;
     public static final boolean perfLogFirstPaintFlush;
@@ -334,6 +339,34 @@ public final class PrismSettings {
         glyphCacheHeight = getInt(systemProperties, "prism.glyphCacheHeight", 1024,
                 "Try -Dprism.glyphCacheHeight=<number>");
 
+        /*
+         * Image atlas settings. Images whose width and height are both at
+         * most imageAtlasMaxSize are packed into shared texture pages when
+         * the pipeline supports it. A value of <= 0 disables the atlas.
+         */
+        imageAtlasMaxSize = getInt(systemProperties, "prism.imageAtlasMaxSize", 64,
+                "Try -Dprism.imageAtlasMaxSize=<number>");
+        imageAtlasPageSize = getInt(systemProperties, "prism.imageAtlasPageSize", 1024,
+                "Try -Dprism.imageAtlasPageSize=<number>");
+        imageAtlasMaxPages = getInt(systemProperties, "prism.imageAtlasMaxPages", 4,
+                "Try -Dprism.imageAtlasMaxPages=<number>");
+
+        /*
+         * Maximum number of texture pages used by the region background
+         * cache, including the first page which is shared with the super
+         * shader.
+         */
+        regionCacheMaxPages = getInt(systemProperties, "prism.regionCacheMaxPages", 4,
+                "Try -Dprism.regionCacheMaxPages=<number>");
+
+        /*
+         * Animated images whose decoded frames would take more than this
+         * many bytes are decoded frame by frame while they play instead of
+         * when they are loaded. A negative value disables streaming.
+         */
+        animatedImageStreamingSize = getLong(systemProperties, "prism.animatedImageStreamingSize",
+                64 * 1024 * 1024, "Try -Dprism.animatedImageStreamingSize=<long>[kKmMgG]");
+
         /*
          * Performance Logger flags
          * Enable the performance logger, print on exit, print on first paint etc.
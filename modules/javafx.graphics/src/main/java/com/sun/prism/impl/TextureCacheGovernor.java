@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.impl;
+
+import com.sun.prism.Texture;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Coordinates the texture caches of the scene graph and the pipelines so
+ * that they share the single texture memory budget of the resource pools.
+ * <p>
+ * Caches which hold on to textures beyond a single frame (the image
+ * texture caches of the resource factory, the image atlas, the region
+ * image cache, ...) register a {@link Client} with the governor.  When a
+ * {@link BaseResourcePool} cannot satisfy an allocation by pruning
+ * unreferenced resources nor by growing its target up to its maximum size,
+ * it asks the governor to reclaim the missing amount.  The governor then
+ * repeatedly picks the coldest client, i.e. the one whose least recently used entry
+ * has been idle for the most frames, and asks it to evict entries which
+ * are at least as cold as the least recently used entry of the next
+ * coldest client.  This gives a least recently used order across all
+ * caches without requiring the caches to share a data structure.
+ * <p>
+ * All methods must be called on the render thread, which is the manager
+ * thread of the resource pools.
+ */
+public final class TextureCacheGovernor {
+
+    /**
+     * A cache participating in the shared texture memory budget.
+     */
+    public interface Client {
+        /**
+         * Returns a short human readable name for this cache, used when
+         * reporting occupancy statistics.
+         */
+        public String getCacheName();
+
+        /**
+         * Returns the estimated number of bytes of texture memory currently
+         * held by this cache.
+         */
+        public long getOccupancy();
+
+        /**
+         * Returns the number of frames since the least recently used
+         * evictable entry of this cache was last used, or -1 if this cache
+         * has nothing that could be evicted right now (e.g. because all of
+         * its entries are locked).
+         */
+        public int getColdestAge();
+
+        /**
+         * Evicts entries, least recently used first, that have been idle
+         * for at least {@code minAge} frames until at least {@code wanted}
+         * bytes have been released.
+         *
+         * @param wanted the number of bytes the caller would like released
+         * @param minAge the minimum age of the entries that may be evicted
+         * @return the estimated number of bytes actually released
+         */
+        public long evict(long wanted, int minAge);
+    }
+
+    /**
+     * Entries which have been used within this many frames are never
+     * evicted by the governor, as they are likely still part of the scene.
+     */
+    static final int MIN_AGE = 2;
+
+    private static final List<WeakReference<Client>> clients =
+            new ArrayList<WeakReference<Client>>();
+
+    private TextureCacheGovernor() {
+    }
+
+    /**
+     * Registers a cache with the governor.  The governor holds only a weak
+     * reference to the client, so the owner of the cache must keep it
+     * reachable for as long as the cache exists.
+     *
+     * @param client the cache to register
+     */
+    public static void register(Client client) {
+        if (client == null) {
+            throw new IllegalArgumentException("Client must be non-null");
+        }
+        clients.add(new WeakReference<Client>(client));
+    }
+
+    /**
+     * Removes a cache previously registered with {@link #register}.
+     *
+     * @param client the cache to remove
+     */
+    public static void unregister(Client client) {
+        for (Iterator<WeakReference<Client>> it = clients.iterator(); it.hasNext(); ) {
+            Client c = it.next().get();
+            if (c == null || c == client) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the currently registered caches.
+     */
+    public static List<Client> getClients() {
+        List<Client> list = new ArrayList<Client>(clients.size());
+        for (Iterator<WeakReference<Client>> it = clients.iterator(); it.hasNext(); ) {
+            Client c = it.next().get();
+            if (c == null) {
+                it.remove();
+            } else {
+                list.add(c);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Asks the registered caches to release their least recently used
+     * entries, coldest cache first, until at least {@code needed} bytes
+     * have been released or no cache has anything left that is old enough
+     * to be evicted.
+     *
+     * @param needed the number of bytes to reclaim
+     * @return the estimated number of bytes released
+     */
+    public static long reclaim(long needed) {
+        if (needed <= 0) {
+            return 0;
+        }
+        List<Client> list = getClients();
+        long freed = 0;
+        while (freed < needed) {
+            Client coldest = null;
+            int coldestAge = -1;
+            int runnerUpAge = -1;
+            for (Client c : list) {
+                int age = c.getColdestAge();
+                if (age > coldestAge) {
+                    runnerUpAge = coldestAge;
+                    coldestAge = age;
+                    coldest = c;
+                } else if (age > runnerUpAge) {
+                    runnerUpAge = age;
+                }
+            }
+            if (coldest == null || coldestAge < MIN_AGE) {
+                break;
+            }
+            // Evict from the coldest cache only down to the age of the
+            // next coldest cache, then re-evaluate.
+            int minAge = Math.max(runnerUpAge, MIN_AGE);
+            long f = coldest.evict(needed - freed, minAge);
+            if (f <= 0) {
+                // The cache reported an evictable entry but could not
+                // release it, do not ask it again during this pass.
+                list.remove(coldest);
+                continue;
+            }
+            if (PrismSettings.poolDebug) {
+                System.err.printf("Evicted %,d from cache %s (age >= %d)\n",
+                                  f, coldest.getCacheName(), minAge);
+            }
+            freed += f;
+        }
+        return freed;
+    }
+
+    /**
+     * Returns the number of frames since the given texture was last locked,
+     * or -1 if the texture cannot be evicted right now because it is
+     * locked, permanent or already lost, or is not managed by a resource
+     * pool.  Clients may use this to implement {@link Client#getColdestAge}.
+     *
+     * @param tex the texture to query
+     * @return the age of the texture in frames, or -1
+     */
+    public static int getTextureAge(Texture tex) {
+        if (!(tex instanceof BaseTexture) || tex.isLocked() || tex.isSurfaceLost()) {
+            return -1;
+        }
+        ManagedResource<?> mr = ((BaseTexture<?>) tex).resource;
+        return mr.isPermanent() ? -1 : mr.getAge();
+    }
+
+    /**
+     * Returns the total estimated number of bytes held by all of the
+     * registered caches.
+     */
+    public static long getTotalOccupancy() {
+        long total = 0;
+        for (Client c : getClients()) {
+            total += c.getOccupancy();
+        }
+        return total;
+    }
+
+    /**
+     * Prints the occupancy of each registered cache.
+     */
+    public static void printSummary() {
+        for (Client c : getClients()) {
+            int age = c.getColdestAge();
+            System.err.printf("cache %s: %,d bytes, coldest entry age %s\n",
+                              c.getCacheName(), c.getOccupancy(),
+                              (age < 0) ? "n/a" : Integer.toString(age));
+        }
+    }
+}
@@ -26,6 +26,7 @@
 package com.sun.prism.impl.packrect;
 
 import com.sun.javafx.geom.Rectangle;
+import java.util.Arrays;
 
 class Level {
     int length;
@@ -33,32 +34,107 @@ class Level {
     private int sizeOffset;
     private int lengthOffset;
 
+    // Free segments released by remove(), sorted by offset and never
+    // adjacent to each other or to the unused tail of the level
+    private int[] holeOffsets;
+    private int[] holeLengths;
+    private int numHoles;
+
     Level(int length, int size, int sizeOffset) {
         this.length = length;
         this.size = size;
         this.sizeOffset = sizeOffset;
     }
 
+    int getSizeOffset() {
+        return sizeOffset;
+    }
+
     /**
      * Tries to add the given rectangle to this level.
      */
     boolean add(Rectangle rect, int x, int y, int requestedLength, int requestedSize, boolean vertical) {
-        // See whether we can add at the end
-        if (lengthOffset + requestedLength <= length && requestedSize <= size) {
-            if (vertical) {
-                rect.x = sizeOffset;
-                rect.y = lengthOffset;
-            } else {
-                rect.x = lengthOffset;
-                rect.y = sizeOffset;
+        if (requestedSize > size) {
+            return false;
+        }
+        int offset = -1;
+        // See whether we can reuse space released by a removed rectangle
+        for (int i = 0; i < numHoles; i++) {
+            if (holeLengths[i] >= requestedLength) {
+                offset = holeOffsets[i];
+                if (holeLengths[i] == requestedLength) {
+                    removeHole(i);
+                } else {
+                    holeOffsets[i] += requestedLength;
+                    holeLengths[i] -= requestedLength;
+                }
+                break;
             }
+        }
+        // See whether we can add at the end
+        if (offset < 0 && lengthOffset + requestedLength <= length) {
+            offset = lengthOffset;
             lengthOffset += requestedLength;
+        }
+        if (offset < 0) {
+            return false;
+        }
+        if (vertical) {
+            rect.x = sizeOffset;
+            rect.y = offset;
+        } else {
+            rect.x = offset;
+            rect.y = sizeOffset;
+        }
 
-            // this x,y location are external offsets and should not be flipped
-            rect.x += x;
-            rect.y += y;
-            return true;
+        // this x,y location are external offsets and should not be flipped
+        rect.x += x;
+        rect.y += y;
+        return true;
+    }
+
+    /**
+     * Releases the segment of this level starting at {@code offset} so that
+     * it can be reused by subsequent calls to {@code add}.
+     */
+    void remove(int offset, int requestedLength) {
+        int end = offset + requestedLength;
+        int i = 0;
+        while (i < numHoles && holeOffsets[i] < offset) {
+            i++;
+        }
+        // Coalesce with the previous and the next hole
+        if (i > 0 && holeOffsets[i - 1] + holeLengths[i - 1] == offset) {
+            i--;
+            offset = holeOffsets[i];
+            removeHole(i);
         }
-        return false;
+        if (i < numHoles && holeOffsets[i] == end) {
+            end += holeLengths[i];
+            removeHole(i);
+        }
+        if (end == lengthOffset) {
+            // The segment is at the tail of the level, just retract the tail
+            lengthOffset = offset;
+            return;
+        }
+        if (holeOffsets == null) {
+            holeOffsets = new int[4];
+            holeLengths = new int[4];
+        } else if (numHoles == holeOffsets.length) {
+            holeOffsets = Arrays.copyOf(holeOffsets, numHoles * 2);
+            holeLengths = Arrays.copyOf(holeLengths, numHoles * 2);
+        }
+        System.arraycopy(holeOffsets, i, holeOffsets, i + 1, numHoles - i);
+        System.arraycopy(holeLengths, i, holeLengths, i + 1, numHoles - i);
+        holeOffsets[i] = offset;
+        holeLengths[i] = end - offset;
+        numHoles++;
+    }
+
+    private void removeHole(int i) {
+        numHoles--;
+        System.arraycopy(holeOffsets, i + 1, holeOffsets, i, numHoles - i);
+        System.arraycopy(holeLengths, i + 1, holeLengths, i, numHoles - i);
     }
 }
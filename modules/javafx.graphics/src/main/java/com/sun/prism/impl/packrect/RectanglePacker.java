@@ -159,6 +159,29 @@ public class RectanglePacker {
         return newLevel.add(rect, x, y, requestedLength, requestedSize, vertical);
     }
 
+    /**
+     * Releases the space occupied by a rectangle previously placed by
+     * {@link #add} so that it can be reused by subsequent additions.
+     * The rectangle must not have been modified since it was added.
+     *
+     * @param rect the rectangle to remove
+     */
+    public final void remove(Rectangle rect) {
+        final int requestedLength = vertical ? rect.height : rect.width;
+        final int lengthPos = vertical ? rect.y - y : rect.x - x;
+        final int sizePos = vertical ? rect.x - x : rect.y - y;
+        for (int i = 0, max = levels.size(); i < max; i++) {
+            Level level = levels.get(i);
+            if (level.getSizeOffset() == sizePos) {
+                level.remove(lengthPos, requestedLength);
+                // Start the next search at this level, the binary search
+                // only finds the last level of a given size
+                recentUsedLevelIndex = i;
+                return;
+            }
+        }
+    }
+
     /**
      * Clears all Rectangles contained in this RectanglePacker.
      */
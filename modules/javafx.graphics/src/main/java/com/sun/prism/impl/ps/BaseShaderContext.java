@@ -30,6 +30,7 @@ import com.sun.javafx.geom.Rectangle;
 import com.sun.javafx.geom.transform.Affine3D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.sg.prism.NGCamera;
 import com.sun.prism.CompositeMode;
 import com.sun.prism.PixelFormat;
@@ -39,6 +40,7 @@ import com.sun.prism.ResourceFactory;
 import com.sun.prism.Texture;
 import com.sun.prism.impl.BaseContext;
 import com.sun.prism.impl.BaseGraphics;
+import com.sun.prism.impl.BaseTexture;
 import com.sun.prism.paint.Color;
 import com.sun.prism.paint.Gradient;
 import com.sun.prism.paint.ImagePattern;
@@ -48,6 +50,8 @@ import com.sun.prism.paint.RadialGradient;
 import com.sun.prism.ps.Shader;
 import com.sun.prism.ps.ShaderFactory;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 /**
  * Maintains resources such as Shaders and GlyphCaches that are intended to
  * be cached on a per-Screen basis, and provides methods that are called by
@@ -723,10 +727,22 @@ public abstract class BaseShaderContext extends BaseContext {
         if (checkDisposed()) return;
 
         if (tex != null) tex.assertLocked();
-        if (tex != state.lastTextures[texUnit]) {
+        Texture lastTex = state.lastTextures[texUnit];
+        if (tex != lastTex) {
+            // Regions of a shared atlas page are distinct Texture objects,
+            // but they can be batched together without rebinding
+            if (tex instanceof BaseTexture && lastTex != null &&
+                ((BaseTexture<?>) tex).sharesBindingWith(lastTex))
+            {
+                state.lastTextures[texUnit] = tex;
+                return;
+            }
             flushVertexBuffer();
             updateTexture(texUnit, tex);
             state.lastTextures[texUnit] = tex;
+            if (PULSE_LOGGING_ENABLED) {
+                PulseLogger.incrementCounter("Texture binds");
+            }
         }
     }
 
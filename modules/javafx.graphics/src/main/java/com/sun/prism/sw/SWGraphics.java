@@ -42,6 +42,7 @@ import com.sun.javafx.geom.transform.Affine2D;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.scene.text.GlyphList;
 import com.sun.javafx.sg.prism.NGCamera;
 import com.sun.javafx.sg.prism.NGLightBase;
@@ -64,6 +65,8 @@ import com.sun.prism.paint.ImagePattern;
 import com.sun.prism.paint.Paint;
 import com.sun.javafx.font.CharToGlyphMapper;
 
+import static com.sun.javafx.logging.PulseLogger.PULSE_LOGGING_ENABLED;
+
 final class SWGraphics implements ReadbackGraphics {
 
     private static final BasicStroke DEFAULT_STROKE =
@@ -713,6 +716,10 @@ final class SWGraphics implements ReadbackGraphics {
             System.out.println("Composite rule: " + compositeMode);
         }
 
+        if (PULSE_LOGGING_ENABLED) {
+            PulseLogger.incrementCounter("SW texture draws");
+        }
+
         final SWArgbPreTexture swTex = (SWArgbPreTexture) tex;
         int data[] = swTex.getDataNoClone();
 
@@ -88,14 +88,21 @@ public class JSWBoxBlurPeer extends JSWEffectPeer<BoxRenderState> {
             if (neww > finalw) neww = finalw;
             if (newh > finalh) newh = finalh;
             HeapImage dst = (HeapImage)getRenderer().getCompatibleImage(neww, newh);
-            int newscan = dst.getScanlineStride();
-            int[] newPixels = dst.getPixelArray();
+            final int newscan = dst.getScanlineStride();
+            final int[] newPixels = dst.getPixelArray();
+            final int dstw = neww, dsth = newh;
+            final int[] srcPixels = curPixels;
+            final int srcw = curw, srch = curh, srcscan = curscan;
             if (horizontal) {
-                filterHorizontal(newPixels, neww, newh, newscan,
-                                 curPixels, curw, curh, curscan);
+                filterBands(dsth, dstw * dsth, (y0, y1) ->
+                    filterHorizontal(newPixels, dstw, dsth, newscan,
+                                     srcPixels, srcw, srch, srcscan,
+                                     y0, y1));
             } else {
-                filterVertical(newPixels, neww, newh, newscan,
-                               curPixels, curw, curh, curscan);
+                filterBands(dstw, dstw * dsth, (x0, x1) ->
+                    filterVertical(newPixels, dstw, dsth, newscan,
+                                   srcPixels, srcw, srch, srcscan,
+                                   x0, x1));
             }
             if (cur != src) {
                 getRenderer().releaseCompatibleImage(cur);
@@ -112,14 +119,18 @@ public class JSWBoxBlurPeer extends JSWEffectPeer<BoxRenderState> {
         return new ImageData(getFilterContext(), cur, resBounds);
     }
 
+    /*
+     * Filters the rows y0 (inclusive) to y1 (exclusive) of the destination.
+     */
     protected void filterHorizontal(int dstPixels[], int dstw, int dsth, int dstscan,
-                                    int srcPixels[], int srcw, int srch, int srcscan)
+                                    int srcPixels[], int srcw, int srch, int srcscan,
+                                    int y0, int y1)
     {
         int hsize = dstw - srcw + 1;
         int kscale = 0x7fffffff / (hsize * 255);
-        int srcoff = 0;
-        int dstoff = 0;
-        for (int y = 0; y < dsth; y++) {
+        int srcoff = y0 * srcscan;
+        int dstoff = y0 * dstscan;
+        for (int y = y0; y < y1; y++) {
             int suma = 0;
             int sumr = 0;
             int sumg = 0;
@@ -149,41 +160,60 @@ public class JSWBoxBlurPeer extends JSWEffectPeer<BoxRenderState> {
         }
     }
 
+    /*
+     * Filters the columns x0 (inclusive) to x1 (exclusive) of the destination.
+     * The columns are processed together one row at a time, keeping a set of
+     * running sums per column, so that the source and destination are
+     * accessed sequentially rather than a whole scanline apart.
+     */
     protected void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
-                                  int srcPixels[], int srcw, int srch, int srcscan)
+                                  int srcPixels[], int srcw, int srch, int srcscan,
+                                  int x0, int x1)
     {
         int vsize = dsth - srch + 1;
         int kscale = 0x7fffffff / (vsize * 255);
-        int voff = vsize * srcscan;
-        for (int x = 0; x < dstw; x++) {
-            int suma = 0;
-            int sumr = 0;
-            int sumg = 0;
-            int sumb = 0;
-            int srcoff = x;
-            int dstoff = x;
-            for (int y = 0; y < dsth; y++) {
+        int ncols = x1 - x0;
+        int sums[] = getScratchInts(ncols * 4);
+        for (int i = 0; i < ncols * 4; i++) {
+            sums[i] = 0;
+        }
+        int suboff = x0 - vsize * srcscan;
+        int srcoff = x0;
+        int dstoff = x0;
+        for (int y = 0; y < dsth; y++) {
+            boolean sub = (y >= vsize);
+            boolean add = (y < srch);
+            for (int i = 0, s = 0; i < ncols; i++, s += 4) {
                 int rgb;
+                int suma = sums[s  ];
+                int sumr = sums[s+1];
+                int sumg = sums[s+2];
+                int sumb = sums[s+3];
                 // Un-accumulate the data for row-vsize location into the sums.
-                rgb = (srcoff >= voff) ? srcPixels[srcoff - voff] : 0;
+                rgb = sub ? srcPixels[suboff + i] : 0;
                 suma -= (rgb >>> 24);
                 sumr -= (rgb >>  16) & 0xff;
                 sumg -= (rgb >>   8) & 0xff;
                 sumb -= (rgb       ) & 0xff;
                 // Accumulate the data for this row location into the sums.
-                rgb = (y < srch) ? srcPixels[srcoff] : 0;
+                rgb = add ? srcPixels[srcoff + i] : 0;
                 suma += (rgb >>> 24);
                 sumr += (rgb >>  16) & 0xff;
                 sumg += (rgb >>   8) & 0xff;
                 sumb += (rgb       ) & 0xff;
-                dstPixels[dstoff] =
+                sums[s  ] = suma;
+                sums[s+1] = sumr;
+                sums[s+2] = sumg;
+                sums[s+3] = sumb;
+                dstPixels[dstoff + i] =
                     (((suma * kscale) >> 23) << 24) +
                     (((sumr * kscale) >> 23) << 16) +
                     (((sumg * kscale) >> 23) <<  8) +
                     (((sumb * kscale) >> 23)      );
-                srcoff += srcscan;
-                dstoff += dstscan;
             }
+            suboff += srcscan;
+            srcoff += srcscan;
+            dstoff += dstscan;
         }
     }
 
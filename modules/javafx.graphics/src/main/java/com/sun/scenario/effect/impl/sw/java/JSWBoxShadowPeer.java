@@ -93,36 +93,44 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
             if (neww > finalw) neww = finalw;
             if (newh > finalh) newh = finalh;
             HeapImage dst = (HeapImage)getRenderer().getCompatibleImage(neww, newh);
-            int newscan = dst.getScanlineStride();
-            int[] newPixels = dst.getPixelArray();
+            final int newscan = dst.getScanlineStride();
+            final int[] newPixels = dst.getPixelArray();
+            final int dstw = neww, dsth = newh;
+            final int[] srcPixels = curPixels;
+            final int srcw = curw, srch = curh, srcscan = curscan;
             if (iterations == 0) {
                 // The last "fixup" iteration of 2 should have no spread.
                 spread = 0f;
             }
+            final float passSpread = spread;
             if (horizontal) {
-                filterHorizontalBlack(newPixels, neww, newh, newscan,
-                                      curPixels, curw, curh, curscan,
-                                      spread);
+                filterBands(dsth, dstw * dsth, (y0, y1) ->
+                    filterHorizontalBlack(newPixels, dstw, dsth, newscan,
+                                          srcPixels, srcw, srch, srcscan,
+                                          passSpread, y0, y1));
             } else if (neww < finalw || newh < finalh) {
                 // Use BLACK for shadow color until very last pass
-                filterVerticalBlack(newPixels, neww, newh, newscan,
-                                    curPixels, curw, curh, curscan,
-                                    spread);
+                filterBands(dstw, dstw * dsth, (x0, x1) ->
+                    filterVerticalBlack(newPixels, dstw, dsth, newscan,
+                                        srcPixels, srcw, srch, srcscan,
+                                        passSpread, x0, x1));
             } else {
-                float shadowColor[] =
+                final float shadowColor[] =
                      brstate.getShadowColor().getPremultipliedRGBComponents();
                 if (shadowColor[3] == 1f &&
                     shadowColor[0] == 0f &&
                     shadowColor[1] == 0f &&
                     shadowColor[2] == 0f)
                 {
-                    filterVerticalBlack(newPixels, neww, newh, newscan,
-                                        curPixels, curw, curh, curscan,
-                                        spread);
+                    filterBands(dstw, dstw * dsth, (x0, x1) ->
+                        filterVerticalBlack(newPixels, dstw, dsth, newscan,
+                                            srcPixels, srcw, srch, srcscan,
+                                            passSpread, x0, x1));
                 } else {
-                    filterVertical(newPixels, neww, newh, newscan,
-                                   curPixels, curw, curh, curscan,
-                                   spread, shadowColor);
+                    filterBands(dstw, dstw * dsth, (x0, x1) ->
+                        filterVertical(newPixels, dstw, dsth, newscan,
+                                       srcPixels, srcw, srch, srcscan,
+                                       passSpread, shadowColor, x0, x1));
                 }
             }
             if (cur != src) {
@@ -142,9 +150,12 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         return new ImageData(getFilterContext(), cur, resBounds);
     }
 
+    /*
+     * Filters the rows y0 (inclusive) to y1 (exclusive) of the destination.
+     */
     protected void filterHorizontalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
                                          int srcPixels[], int srcw, int srch, int srcscan,
-                                         float spread)
+                                         float spread, int y0, int y1)
     {
         int hsize = dstw - srcw + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
@@ -152,9 +163,9 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         amax += (255 - amax) * spread;
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
-        int srcoff = 0;
-        int dstoff = 0;
-        for (int y = 0; y < dsth; y++) {
+        int srcoff = y0 * srcscan;
+        int dstoff = y0 * dstscan;
+        for (int y = y0; y < y1; y++) {
             int suma = 0;
             for (int x = 0; x < dstw; x++) {
                 int rgb;
@@ -175,9 +186,13 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         }
     }
 
+    /*
+     * Filters the columns x0 (inclusive) to x1 (exclusive) of the destination,
+     * one row at a time with a running sum per column.
+     */
     protected void filterVerticalBlack(int dstPixels[], int dstw, int dsth, int dstscan,
                                        int srcPixels[], int srcw, int srch, int srcscan,
-                                       float spread)
+                                       float spread, int x0, int x1)
     {
         int vsize = dsth - srch + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
@@ -185,33 +200,46 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         amax += (255 - amax) * spread;
         int kscale = 0x7fffffff / amax;
         int amin = (amax / 255);
-        int voff = vsize * srcscan;
-        for (int x = 0; x < dstw; x++) {
-            int suma = 0;
-            int srcoff = x;
-            int dstoff = x;
-            for (int y = 0; y < dsth; y++) {
+        int ncols = x1 - x0;
+        int sums[] = getScratchInts(ncols);
+        for (int i = 0; i < ncols; i++) {
+            sums[i] = 0;
+        }
+        int suboff = x0 - vsize * srcscan;
+        int srcoff = x0;
+        int dstoff = x0;
+        for (int y = 0; y < dsth; y++) {
+            boolean sub = (y >= vsize);
+            boolean add = (y < srch);
+            for (int i = 0; i < ncols; i++) {
                 int rgb;
+                int suma = sums[i];
                 // Un-accumulate the data for row-vsize location into the sums.
-                rgb = (srcoff >= voff) ? srcPixels[srcoff - voff] : 0;
+                rgb = sub ? srcPixels[suboff + i] : 0;
                 suma -= (rgb >>> 24);
                 // Accumulate the data for this row location into the sums.
-                rgb = (y < srch) ? srcPixels[srcoff] : 0;
+                rgb = add ? srcPixels[srcoff + i] : 0;
                 suma += (rgb >>> 24);
+                sums[i] = suma;
                 // Clamp, scale and convert the sum into a color.
-                dstPixels[dstoff] =
+                dstPixels[dstoff + i] =
                     ((suma < amin) ? 0
                      : ((suma >= amax) ? 0xff000000
                         : (((suma * kscale) >> 23) << 24)));
-                srcoff += srcscan;
-                dstoff += dstscan;
             }
+            suboff += srcscan;
+            srcoff += srcscan;
+            dstoff += dstscan;
         }
     }
 
+    /*
+     * Filters the columns x0 (inclusive) to x1 (exclusive) of the destination,
+     * one row at a time with a running sum per column.
+     */
     protected void filterVertical(int dstPixels[], int dstw, int dsth, int dstscan,
                                   int srcPixels[], int srcw, int srch, int srcscan,
-                                  float spread, float shadowColor[])
+                                  float spread, float shadowColor[], int x0, int x1)
     {
         int vsize = dsth - srch + 1;
         // amax goes from hsize*255 to 255 as spread goes from 0 to 1
@@ -223,35 +251,44 @@ public class JSWBoxShadowPeer extends JSWEffectPeer<BoxRenderState> {
         int kscaleb = (int) (kscalea * shadowColor[2]);
         kscalea *= shadowColor[3];
         int amin = (amax / 255);
-        int voff = vsize * srcscan;
         int shadowRGB =
             (((int) (shadowColor[0] * 255)) << 16) |
             (((int) (shadowColor[1] * 255)) <<  8) |
             (((int) (shadowColor[2] * 255))      ) |
             (((int) (shadowColor[3] * 255)) << 24);
-        for (int x = 0; x < dstw; x++) {
-            int suma = 0;
-            int srcoff = x;
-            int dstoff = x;
-            for (int y = 0; y < dsth; y++) {
+        int ncols = x1 - x0;
+        int sums[] = getScratchInts(ncols);
+        for (int i = 0; i < ncols; i++) {
+            sums[i] = 0;
+        }
+        int suboff = x0 - vsize * srcscan;
+        int srcoff = x0;
+        int dstoff = x0;
+        for (int y = 0; y < dsth; y++) {
+            boolean sub = (y >= vsize);
+            boolean add = (y < srch);
+            for (int i = 0; i < ncols; i++) {
                 int rgb;
+                int suma = sums[i];
                 // Un-accumulate the data for row-vsize location into the sums.
-                rgb = (srcoff >= voff) ? srcPixels[srcoff - voff] : 0;
+                rgb = sub ? srcPixels[suboff + i] : 0;
                 suma -= (rgb >>> 24);
                 // Accumulate the data for this row location into the sums.
-                rgb = (y < srch) ? srcPixels[srcoff] : 0;
+                rgb = add ? srcPixels[srcoff + i] : 0;
                 suma += (rgb >>> 24);
+                sums[i] = suma;
                 // Clamp, scale and convert the sum into a color.
-                dstPixels[dstoff] =
+                dstPixels[dstoff + i] =
                     ((suma < amin) ? 0
                      : ((suma >= amax) ? shadowRGB
                         : ((((suma * kscalea) >> 23) << 24) |
                            (((suma * kscaler) >> 23) << 16) |
                            (((suma * kscaleg) >> 23) <<  8) |
                            (((suma * kscaleb) >> 23)      ))));
-                srcoff += srcscan;
-                dstoff += dstscan;
             }
+            suboff += srcscan;
+            srcoff += srcscan;
+            dstoff += dstscan;
         }
     }
 
@@ -25,6 +25,12 @@
 
 package com.sun.scenario.effect.impl.sw.java;
 
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.impl.EffectPeer;
 import com.sun.scenario.effect.impl.Renderer;
@@ -32,10 +38,140 @@ import com.sun.scenario.effect.impl.state.RenderState;
 
 public abstract class JSWEffectPeer<T extends RenderState> extends EffectPeer<T> {
 
+    /**
+     * A filter operation on the band of rows (or columns) of the
+     * destination image from {@code start} inclusive to {@code end}
+     * exclusive.  Bands of the same image are filtered concurrently, so
+     * an operation must only write to the destination pixels of its band.
+     */
+    protected interface BandFilter {
+        public void filter(int start, int end);
+    }
+
+    /*
+     * Large images are split into bands which are filtered in parallel by
+     * the calling thread and a small pool of worker threads.  The number
+     * of threads, including the calling thread, can be set with
+     * decora.swThreads, a value of 1 filters everything on the calling
+     * thread.
+     */
+    private static final int NUM_THREADS;
+    // Images with fewer destination pixels are not worth splitting
+    private static final int MIN_PARALLEL_PIXELS = 128 * 128;
+    private static final ExecutorService bandExecutor;
+
+    static {
+        final int defThreads =
+            Math.min(Runtime.getRuntime().availableProcessors(), 4);
+        @SuppressWarnings("removal")
+        int threads = AccessController.doPrivileged(
+                (PrivilegedAction<Integer>) () -> Integer.getInteger(
+                        "decora.swThreads", defThreads));
+        NUM_THREADS = Math.max(1, threads);
+        if (NUM_THREADS > 1) {
+            bandExecutor = Executors.newFixedThreadPool(NUM_THREADS - 1, r -> {
+                Thread t = new Thread(r, "Decora SW Filter Thread");
+                t.setDaemon(true);
+                return t;
+            });
+        } else {
+            bandExecutor = null;
+        }
+    }
+
+    // Per thread scratch buffers, so that band filters do not need to
+    // allocate temporary arrays on every pass
+    private static final ThreadLocal<int[]> intScratch = new ThreadLocal<>();
+    private static final ThreadLocal<float[]> floatScratch = new ThreadLocal<>();
+
     protected JSWEffectPeer(FilterContext fctx, Renderer r, String uniqueName) {
         super(fctx, r, uniqueName);
     }
 
+    /**
+     * Applies the filter to the rows (or columns) {@code 0} to
+     * {@code count} of the destination, splitting them into bands filtered
+     * in parallel if the destination is large enough.  Returns once all of
+     * the bands have been filtered.
+     *
+     * @param count the number of rows (or columns) to filter
+     * @param pixels the total number of destination pixels
+     * @param filter the filter to apply to each band
+     */
+    protected static void filterBands(int count, int pixels, BandFilter filter) {
+        int bands = Math.min(NUM_THREADS, count);
+        if (bands < 2 || pixels < MIN_PARALLEL_PIXELS) {
+            filter.filter(0, count);
+            return;
+        }
+        Future<?> futures[] = new Future<?>[bands - 1];
+        for (int b = 1; b < bands; b++) {
+            final int start = (int) ((long) count * b / bands);
+            final int end = (int) ((long) count * (b + 1) / bands);
+            futures[b - 1] = bandExecutor.submit(() -> filter.filter(start, end));
+        }
+        Throwable failure = null;
+        try {
+            filter.filter(0, count / bands);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+        // The other bands are still writing to the destination, so we have
+        // to wait for them even if we are interrupted.
+        boolean interrupted = false;
+        for (Future<?> f : futures) {
+            while (true) {
+                try {
+                    f.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    /**
+     * Returns a scratch array of at least the indicated length, owned by
+     * the calling thread.  The contents of the array are undefined.
+     */
+    protected static int[] getScratchInts(int length) {
+        int arr[] = intScratch.get();
+        if (arr == null || arr.length < length) {
+            arr = new int[length];
+            intScratch.set(arr);
+        }
+        return arr;
+    }
+
+    /**
+     * Returns a scratch array of at least the indicated length, owned by
+     * the calling thread.  The contents of the array are undefined.
+     */
+    protected static float[] getScratchFloats(int length) {
+        float arr[] = floatScratch.get();
+        if (arr == null || arr.length < length) {
+            arr = new float[length];
+            floatScratch.set(arr);
+        }
+        return arr;
+    }
+
     protected final static int FVALS_A = 3;
     protected final static int FVALS_R = 0;
     protected final static int FVALS_G = 1;
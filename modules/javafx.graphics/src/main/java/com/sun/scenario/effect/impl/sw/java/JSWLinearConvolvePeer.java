@@ -68,15 +68,15 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
         Rectangle dstBounds = new Rectangle(dstRawBounds);
         dstBounds.intersectWith(outputClip);
         setDestBounds(dstBounds);
-        int dstw = dstBounds.width;
-        int dsth = dstBounds.height;
+        final int dstw = dstBounds.width;
+        final int dsth = dstBounds.height;
 
         // NOTE: for now, all input images must be TYPE_INT_ARGB_PRE
         HeapImage src = (HeapImage)inputs[0].getUntransformedImage();
-        int srcw = src.getPhysicalWidth();
-        int srch = src.getPhysicalHeight();
-        int srcscan = src.getScanlineStride();
-        int[] srcPixels = src.getPixelArray();
+        final int srcw = src.getPhysicalWidth();
+        final int srch = src.getPhysicalHeight();
+        final int srcscan = src.getScanlineStride();
+        final int[] srcPixels = src.getPixelArray();
 
         Rectangle src0Bounds = inputs[0].getUntransformedBounds();
         BaseTransform src0Transform = inputs[0].getTransform();
@@ -88,10 +88,10 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
 
         HeapImage dst = (HeapImage)getRenderer().getCompatibleImage(dstw, dsth);
         setDestNativeBounds(dst.getPhysicalWidth(), dst.getPhysicalHeight());
-        int dstscan = dst.getScanlineStride();
-        int[] dstPixels = dst.getPixelArray();
+        final int dstscan = dst.getScanlineStride();
+        final int[] dstPixels = dst.getPixelArray();
 
-        int count = lcrstate.getPassKernelSize();
+        final int count = lcrstate.getPassKernelSize();
         FloatBuffer weights_buf = lcrstate.getPassWeights();
 
         PassType type = lcrstate.getPassType();
@@ -108,23 +108,25 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
             type = PassType.GENERAL_VECTOR;
         }
         if (type == PassType.HORIZONTAL_CENTERED) {
-            float[] weights_arr = new float[count * 2];
+            final float[] weights_arr = new float[count * 2];
             weights_buf.get(weights_arr, 0, count);
             weights_buf.rewind();
             weights_buf.get(weights_arr, count, count);
-            filterHV(dstPixels, dstw, dsth, 1, dstscan,
-                     srcPixels, srcw, srch, 1, srcscan,
-                     weights_arr);
+            filterBands(dsth, dstw * dsth, (r0, r1) ->
+                filterHV(dstPixels, dstw, dsth, 1, dstscan,
+                         srcPixels, srcw, srch, 1, srcscan,
+                         weights_arr, r0, r1));
         } else if (type == PassType.VERTICAL_CENTERED) {
-            float[] weights_arr = new float[count * 2];
+            final float[] weights_arr = new float[count * 2];
             weights_buf.get(weights_arr, 0, count);
             weights_buf.rewind();
             weights_buf.get(weights_arr, count, count);
-            filterHV(dstPixels, dsth, dstw, dstscan, 1,
-                     srcPixels, srch, srcw, srcscan, 1,
-                     weights_arr);
+            filterBands(dstw, dstw * dsth, (r0, r1) ->
+                filterHV(dstPixels, dsth, dstw, dstscan, 1,
+                         srcPixels, srch, srcw, srcscan, 1,
+                         weights_arr, r0, r1));
         } else {
-            float[] weights_arr = new float[count];
+            final float[] weights_arr = new float[count];
             weights_buf.get(weights_arr, 0, count);
 
             float[] srcRect = new float[8];
@@ -133,9 +135,9 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
                                                 src0NativeBounds.width,
                                                 src0NativeBounds.height,
                                                 dstBounds, src0Transform);
-            float srcx0 = srcRect[0] * srcw;
-            float srcy0 = srcRect[1] * srch;
-            float dxcol, dycol, dxrow, dyrow;
+            final float srcx0 = srcRect[0] * srcw;
+            final float srcy0 = srcRect[1] * srch;
+            final float dxcol, dycol, dxrow, dyrow;
             if (nCoords < 8) {
                 dxcol = (srcRect[2] - srcRect[0]) * srcw / dstBounds.width;
                 dycol = 0f;
@@ -149,18 +151,20 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
             }
 
             float[] offset_arr = lcrstate.getPassVector();
-            float deltax = offset_arr[0] * srcw;
-            float deltay = offset_arr[1] * srch;
-            float offsetx = offset_arr[2] * srcw;
-            float offsety = offset_arr[3] * srch;
+            final float deltax = offset_arr[0] * srcw;
+            final float deltay = offset_arr[1] * srch;
+            final float offsetx = offset_arr[2] * srcw;
+            final float offsety = offset_arr[3] * srch;
 
-            filterVector(dstPixels, dstw, dsth, dstscan,
-                         srcPixels, srcw, srch, srcscan,
-                         weights_arr, count,
-                         srcx0, srcy0,
-                         offsetx, offsety,
-                         deltax, deltay,
-                         dxcol, dycol, dxrow, dyrow);
+            filterBands(dsth, dstw * dsth, (dy0, dy1) ->
+                filterVector(dstPixels, dstw, dsth, dstscan,
+                             srcPixels, srcw, srch, srcscan,
+                             weights_arr, count,
+                             srcx0, srcy0,
+                             offsetx, offsety,
+                             deltax, deltay,
+                             dxcol, dycol, dxrow, dyrow,
+                             dy0, dy1));
         }
 
         return new ImageData(getFilterContext(), dst, dstBounds);
@@ -175,16 +179,19 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
                                 float srcx0, float srcy0,
                                 float offsetx, float offsety,
                                 float deltax, float deltay,
-                                float dxcol, float dycol, float dxrow, float dyrow)
+                                float dxcol, float dycol, float dxrow, float dyrow,
+                                int dy0, int dy1)
     {
-        int dstrow = 0;
-        float fvals[] = new float[4];
+        int dstrow = dy0 * dstscan;
+        float fvals[] = getScratchFloats(4);
         // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
         srcx0 += (dxrow + dxcol) * 0.5f;
         srcy0 += (dyrow + dycol) * 0.5f;
-        for (int dy = 0; dy < dsth; dy++) {
-            float srcx = srcx0;
-            float srcy = srcy0;
+        for (int dy = dy0; dy < dy1; dy++) {
+            // Computed from the row index rather than accumulated so that
+            // the result does not depend on how the rows are split in bands
+            float srcx = srcx0 + dy * dxrow;
+            float srcy = srcy0 + dy * dyrow;
             for (int dx = 0; dx < dstw; dx++) {
                 fvals[0] = fvals[1] = fvals[2] = fvals[3] = 0.0f;
                 float sampx = srcx + offsetx;
@@ -204,8 +211,6 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
                 srcx += dxcol;
                 srcy += dycol;
             }
-            srcx0 += dxrow;
-            srcy0 += dyrow;
             dstrow += dstscan;
         }
     }
@@ -217,24 +222,26 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
      * the other coordinate that increments along the row.
      * Rows are horizontal in the first pass and vertical in the second pass.
      * Cols are vice versa.
+     * Only the rows from row0 (inclusive) to row1 (exclusive) are filtered.
      */
     protected void filterHV(int dstPixels[], int dstcols, int dstrows, int dcolinc, int drowinc,
                             int srcPixels[], int srccols, int srcrows, int scolinc, int srowinc,
-                            float weights[])
+                            float weights[], int row0, int row1)
     {
         // cvals stores the component values from the surrounding K pixels
         // from x-r to x+r
         int kernelSize = weights.length / 2;
-        float cvals[] = new float[kernelSize * 4];
-        int dstrow = 0;
-        int srcrow = 0;
-        for (int r = 0; r < dstrows; r++) {
+        int nvals = kernelSize * 4;
+        float cvals[] = getScratchFloats(nvals);
+        int dstrow = row0 * drowinc;
+        int srcrow = row0 * srowinc;
+        for (int r = row0; r < row1; r++) {
             int dstoff = dstrow;
             int srcoff = srcrow;
             // Must clear out the array at the start of every line
             // Might be able to rely on the fact that the previous line must
             // have run out of data towards the end of the scan line, though.
-            for (int i = 0; i < cvals.length; i++) {
+            for (int i = 0; i < nvals; i++) {
                 cvals[i] = 0f;
             }
             int koff = kernelSize;
@@ -254,7 +261,7 @@ public class JSWLinearConvolvePeer extends JSWEffectPeer<LinearConvolveRenderSta
                 float sumr = 0;
                 float sumg = 0;
                 float sumb = 0;
-                for (i = 0; i < cvals.length; i += 4) {
+                for (i = 0; i < nvals; i += 4) {
                     float factor = weights[koff + (i>>2)];
                     suma += cvals[i+0] * factor;
                     sumr += cvals[i+1] * factor;
@@ -30,10 +30,34 @@
 
 package com.sun.scenario.effect.impl.sw.java;
 
+import java.util.Arrays;
 import com.sun.scenario.effect.FilterContext;
 import com.sun.scenario.effect.impl.Renderer;
 
 public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
+
+    /*
+     * The shadow pixels for each alpha value of a shadow color.  The table
+     * of the last color used is kept, since the bands of a pass and most
+     * consecutive passes share the same color.
+     */
+    private static final class ShadowTable {
+        final float color[];
+        final int rgbs[] = new int[256];
+
+        ShadowTable(float shadowColor[]) {
+            color = shadowColor.clone();
+            for (int i = 0; i < rgbs.length; i++) {
+                rgbs[i] = ((int) (color[0] * i) << 16) |
+                          ((int) (color[1] * i) <<  8) |
+                          ((int) (color[2] * i)      ) |
+                          ((int) (color[3] * i) << 24);
+            }
+        }
+    }
+
+    private volatile ShadowTable shadowTable;
+
     public JSWLinearConvolveShadowPeer(FilterContext fctx, Renderer r, String uniqueName) {
         super(fctx, r, uniqueName);
     }
@@ -42,6 +66,15 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
         return getRenderState().getPassShadowColorComponents();
     }
 
+    private int[] getShadowRGBs(float shadowColor[]) {
+        ShadowTable table = shadowTable;
+        if (table == null || !Arrays.equals(table.color, shadowColor)) {
+            table = new ShadowTable(shadowColor);
+            shadowTable = table;
+        }
+        return table.rgbs;
+    }
+
     @Override
     protected void filterVector(int dstPixels[], int dstw, int dsth, int dstscan,
                                 int srcPixels[], int srcw, int srch, int srcscan,
@@ -49,17 +82,18 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
                                 float srcx0, float srcy0,
                                 float offsetx, float offsety,
                                 float deltax, float deltay,
-                                float dxcol, float dycol, float dxrow, float dyrow)
+                                float dxcol, float dycol, float dxrow, float dyrow,
+                                int dy0, int dy1)
     {
         float shadowColor[] = getShadowColor();
 
-        int dstrow = 0;
+        int dstrow = dy0 * dstscan;
         // srcxy0 point at UL corner, shift them to center of 1st dest pixel:
         srcx0 += (dxrow + dxcol) * 0.5f;
         srcy0 += (dyrow + dycol) * 0.5f;
-        for (int dy = 0; dy < dsth; dy++) {
-            float srcx = srcx0;
-            float srcy = srcy0;
+        for (int dy = dy0; dy < dy1; dy++) {
+            float srcx = srcx0 + dy * dxrow;
+            float srcy = srcy0 + dy * dyrow;
             for (int dx = 0; dx < dstw; dx++) {
                 float sum = 0.0f;
                 float sampx = srcx + offsetx;
@@ -85,8 +119,6 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
                 srcx += dxcol;
                 srcy += dycol;
             }
-            srcx0 += dxrow;
-            srcy0 += dyrow;
             dstrow += dstscan;
         }
     }
@@ -98,34 +130,27 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
      * the other coordinate that increments along the row.
      * Rows are horizontal in the first pass and vertical in the second pass.
      * Cols are vice versa.
+     * Only the rows from row0 (inclusive) to row1 (exclusive) are filtered.
      */
     @Override
     protected void filterHV(int dstPixels[], int dstcols, int dstrows, int dcolinc, int drowinc,
                             int srcPixels[], int srccols, int srcrows, int scolinc, int srowinc,
-                            float weights[])
+                            float weights[], int row0, int row1)
     {
-        float shadowColor[] = getShadowColor();
-
         // avals stores the alpha values from the surrounding K pixels
         // from x-r to x+r
         int kernelSize = weights.length / 2;
-        float avals[] = new float[kernelSize];
-        int dstrow = 0;
-        int srcrow = 0;
-        int shadowRGBs[] = new int[256];
-        for (int i = 0; i < shadowRGBs.length; i++) {
-            shadowRGBs[i] = ((int) (shadowColor[0] * i) << 16) |
-                            ((int) (shadowColor[1] * i) <<  8) |
-                            ((int) (shadowColor[2] * i)      ) |
-                            ((int) (shadowColor[3] * i) << 24);
-        }
-        for (int r = 0; r < dstrows; r++) {
+        float avals[] = getScratchFloats(kernelSize);
+        int dstrow = row0 * drowinc;
+        int srcrow = row0 * srowinc;
+        int shadowRGBs[] = getShadowRGBs(getShadowColor());
+        for (int r = row0; r < row1; r++) {
             int dstoff = dstrow;
             int srcoff = srcrow;
             // Must clear out the array at the start of every line
             // Might be able to rely on the fact that the previous line must
             // have run out of data towards the end of the scan line, though.
-            for (int i = 0; i < avals.length; i++) {
+            for (int i = 0; i < kernelSize; i++) {
                 avals[i] = 0f;
             }
             int koff = kernelSize;
@@ -138,7 +163,7 @@ public class JSWLinearConvolveShadowPeer extends JSWLinearConvolvePeer {
                     koff += kernelSize;
                 }
                 float sum = -0.5f;
-                for (int i = 0; i < avals.length; i++) {
+                for (int i = 0; i < kernelSize; i++) {
                     sum += avals[i] * weights[koff + i];
                 }
                 dstPixels[dstoff] =
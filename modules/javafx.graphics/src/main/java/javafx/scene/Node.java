@@ -78,6 +78,7 @@ import javafx.geometry.Point3D;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.effect.BlendMode;
 import javafx.scene.effect.Effect;
+import javafx.scene.image.PixelBuffer;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.ContextMenuEvent;
 import javafx.scene.input.DragEvent;
@@ -100,6 +101,7 @@ import javafx.scene.transform.Rotate;
 import javafx.scene.transform.Transform;
 import javafx.stage.Window;
 import javafx.util.Callback;
+import java.nio.Buffer;
 import java.security.AccessControlContext;
 
 import java.util.ArrayList;
@@ -2076,6 +2078,11 @@ public abstract class Node implements EventTarget, Styleable {
     }
 
     private WritableImage doSnapshot(SnapshotParameters params, WritableImage img) {
+        return doSnapshot(params, img, null, null);
+    }
+
+    private WritableImage doSnapshot(SnapshotParameters params, WritableImage img,
+            PixelBuffer<? extends Buffer> pixelBuffer, Runnable onComplete) {
         if (getScene() != null) {
             getScene().doCSSLayoutSyncForSnapshot(this);
         } else {
@@ -2109,6 +2116,12 @@ public abstract class Node implements EventTarget, Styleable {
             w = tempBounds.getWidth();
             h = tempBounds.getHeight();
         }
+        if (pixelBuffer != null) {
+            Scene.doSnapshot(getScene(), x, y, this, transform,
+                    params.isDepthBufferInternal(), params.getFill(),
+                    params.getEffectiveCamera(), pixelBuffer, onComplete);
+            return null;
+        }
         WritableImage result = Scene.doSnapshot(getScene(), x, y, w, h,
                 this, transform, params.isDepthBufferInternal(),
                 params.getFill(), params.getEffectiveCamera(), img);
@@ -2306,6 +2319,95 @@ public abstract class Node implements EventTarget, Styleable {
         Scene.addSnapshotRunnable(snapshotRunnable);
     }
 
+    /**
+     * Takes a snapshot of this node at the next frame, stores the rendered
+     * pixels in the buffer of the specified {@code PixelBuffer} and calls
+     * the specified callback method when they are ready.
+     * CSS and layout processing will be done for the node, and any of its
+     * children, prior to rendering it.
+     * The entire buffer is cleared to the fill {@code Paint}
+     * specified by the SnapshotParameters. This node is then rendered to
+     * the buffer.
+     * The upper-left pixel of the viewport specified by the
+     * SnapshotParameters, or of the {@code boundsInParent} of this node
+     * transformed by the transform of the SnapshotParameters if there is
+     * no viewport, is mapped to the upper-left pixel (0,0) in the buffer,
+     * as for {@link #snapshot(Callback, SnapshotParameters, WritableImage)}.
+     * The width and height of the pixel buffer determine the area that is
+     * rendered.
+     *
+     * <p>
+     * This method is intended for applications that take many snapshots,
+     * such as thumbnails or exported images. It reads the rendered pixels
+     * directly into the buffer without creating an intermediate image,
+     * and it reuses its rendering resources between snapshots of the same
+     * size. Once the node has been rendered, the pixels are read back while
+     * the JavaFX Application Thread goes on, so that several snapshots can
+     * be in progress at the same time. The buffer must not be accessed
+     * until the callback is called. Any {@code WritableImage} created with
+     * the pixel buffer is updated before the callback is called.
+     * </p>
+     *
+     * <p>
+     * NOTE: In order for CSS and layout to function correctly, the node
+     * must be part of a Scene (the Scene may be attached to a Stage, but need
+     * not be).
+     * </p>
+     *
+     * @param params the snapshot parameters containing attributes that
+     * will control the rendering. If the SnapshotParameters object is null,
+     * then the Scene's attributes will be used if this node is part of a scene,
+     * or default attributes will be used if this node is not part of a scene.
+     *
+     * @param pixelBuffer the pixel buffer that will hold the rendered node.
+     * It must not be null.
+     *
+     * @param callback a class whose call method will be called when the
+     * pixels are ready. The SnapshotResult that is passed into the call
+     * method of the callback will contain the pixel buffer, the source node
+     * that was rendered, and a copy of the SnapshotParameters.
+     * The callback parameter must not be null.
+     *
+     * @throws IllegalStateException if this method is called on a thread
+     *     other than the JavaFX Application Thread.
+     *
+     * @throws NullPointerException if the pixel buffer or the callback
+     *     parameter is null.
+     * @since 17.0.14
+     */
+    public void snapshotToBuffer(SnapshotParameters params,
+            PixelBuffer<? extends Buffer> pixelBuffer,
+            Callback<SnapshotResult, Void> callback) {
+
+        Toolkit.getToolkit().checkFxUserThread();
+        if (pixelBuffer == null) {
+            throw new NullPointerException("The pixel buffer must not be null");
+        }
+        if (callback == null) {
+            throw new NullPointerException("The callback must not be null");
+        }
+
+        if (params == null) {
+            params = new SnapshotParameters();
+            Scene s = getScene();
+            if (s != null) {
+                params.setCamera(s.getEffectiveCamera());
+                params.setDepthBuffer(s.isDepthBufferInternal());
+                params.setFill(s.getFill());
+            }
+        } else {
+            params = params.copy();
+        }
+
+        final SnapshotParameters theParams = params;
+        final Runnable snapshotRunnable = () -> {
+            doSnapshot(theParams, null, pixelBuffer,
+                    () -> Scene.callSnapshotCallback(callback,
+                            new SnapshotResult(pixelBuffer, Node.this, theParams)));
+        };
+        Scene.addSnapshotRunnable(snapshotRunnable);
+    }
+
     /* ************************************************************************
      *                                                                        *
      *
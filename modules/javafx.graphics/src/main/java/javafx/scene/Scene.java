@@ -71,6 +71,7 @@ import javafx.css.StyleableObjectProperty;
 import javafx.css.Stylesheet;
 import javafx.event.*;
 import javafx.geometry.*;
+import javafx.scene.image.PixelBuffer;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.*;
 import javafx.scene.paint.Color;
@@ -85,6 +86,7 @@ import com.sun.javafx.logging.PlatformLogger;
 import com.sun.javafx.logging.PlatformLogger.Level;
 
 import java.io.File;
+import java.nio.Buffer;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -1292,6 +1294,28 @@ public class Scene implements EventTarget {
             double x, double y, double w, double h,
             Node root, BaseTransform transform, boolean depthBuffer,
             Paint fill, Camera camera, WritableImage wimg) {
+        return doSnapshot(scene, x, y, w, h, root, transform, depthBuffer,
+                fill, camera, wimg, null, null);
+    }
+
+    // Shared method for the Scene.snapshot and Node.snapshot variants that
+    // read back into a PixelBuffer. The size of the pixel buffer determines
+    // the area that is rendered. The onComplete runnable is called on the
+    // FX thread once the pixels are in the buffer, possibly before this
+    // method returns.
+    static void doSnapshot(Scene scene, double x, double y,
+            Node root, BaseTransform transform, boolean depthBuffer,
+            Paint fill, Camera camera, PixelBuffer<? extends Buffer> pixelBuffer,
+            Runnable onComplete) {
+        doSnapshot(scene, x, y, pixelBuffer.getWidth(), pixelBuffer.getHeight(),
+                root, transform, depthBuffer, fill, camera, null, pixelBuffer, onComplete);
+    }
+
+    private static WritableImage doSnapshot(Scene scene,
+            double x, double y, double w, double h,
+            Node root, BaseTransform transform, boolean depthBuffer,
+            Paint fill, Camera camera, WritableImage wimg,
+            PixelBuffer<? extends Buffer> pixelBuffer, Runnable onComplete) {
 
         Toolkit tk = Toolkit.getToolkit();
         Toolkit.ImageRenderingContext context = new Toolkit.ImageRenderingContext();
@@ -1300,7 +1324,10 @@ public class Scene implements EventTarget {
         int yMin = (int)Math.floor(y);
         int width;
         int height;
-        if (wimg == null) {
+        if (pixelBuffer != null) {
+            width = pixelBuffer.getWidth();
+            height = pixelBuffer.getHeight();
+        } else if (wimg == null) {
             int xMax = (int)Math.ceil(x + w);
             int yMax = (int)Math.ceil(y + h);
             width = Math.max(xMax - xMin, 1);
@@ -1344,12 +1371,17 @@ public class Scene implements EventTarget {
         }
 
         Toolkit.WritableImageAccessor accessor = Toolkit.getWritableImageAccessor();
-        context.platformImage = accessor.getTkImageLoader(wimg);
-        setAllowPGAccess(false);
-        Object tkImage = tk.renderToImage(context);
+        if (pixelBuffer != null) {
+            setAllowPGAccess(false);
+            tk.renderToBuffer(context, pixelBuffer.getBuffer(), onComplete);
+        } else {
+            context.platformImage = accessor.getTkImageLoader(wimg);
+            setAllowPGAccess(false);
+            Object tkImage = tk.renderToImage(context);
 
-        if (tkImage != null) {
-            accessor.loadTkImage(wimg, tkImage);
+            if (tkImage != null) {
+                accessor.loadTkImage(wimg, tkImage);
+            }
         }
 
         if (camera != null) {
@@ -1548,6 +1580,88 @@ public class Scene implements EventTarget {
         addSnapshotRunnable(snapshotRunnable);
     }
 
+    /**
+     * Takes a snapshot of this scene at the next frame, stores the rendered
+     * pixels in the buffer of the specified {@code PixelBuffer} and calls
+     * the specified callback method when they are ready.
+     * CSS and layout processing will be done for the scene prior to
+     * rendering it.
+     * The entire buffer is cleared using the fill {@code Paint}
+     * of this scene. The nodes in the scene are then rendered to the buffer.
+     * The point (0,0) in scene coordinates is mapped to (0,0) in the buffer.
+     * The width and height of the pixel buffer determine the area that is
+     * rendered.
+     *
+     * <p>
+     * This method is intended for applications that take many snapshots,
+     * such as thumbnails or exported images. Unlike
+     * {@link #snapshot(Callback, WritableImage)}, it reads the rendered
+     * pixels directly into the buffer without creating an intermediate
+     * image, and it reuses its rendering resources between snapshots of
+     * the same size. Once the scene has been rendered, the pixels are read
+     * back while the JavaFX Application Thread goes on, so that several
+     * snapshots can be in progress at the same time. The buffer must not
+     * be accessed until the callback is called. Any {@code WritableImage}
+     * created with the pixel buffer is updated before the callback is
+     * called.
+     * </p>
+     *
+     * <p>
+     * When taking a snapshot of a scene that is being animated, either
+     * explicitly by the application or implicitly (such as chart animation),
+     * the snapshot will be rendered based on the state of the scene graph at
+     * the moment the snapshot is taken and will not reflect any subsequent
+     * animation changes.
+     * </p>
+     *
+     * @param pixelBuffer the pixel buffer that will hold the rendered scene.
+     * It must not be null.
+     *
+     * @param callback a class whose call method will be called when the
+     * pixels are ready. The SnapshotResult that is passed into the call
+     * method of the callback will contain the pixel buffer and the source
+     * scene that was rendered. The callback parameter must not be null.
+     *
+     * @throws IllegalStateException if this method is called on a thread
+     *     other than the JavaFX Application Thread.
+     *
+     * @throws NullPointerException if the pixel buffer or the callback
+     *     parameter is null.
+     * @since 17.0.14
+     */
+    public void snapshotToBuffer(PixelBuffer<? extends Buffer> pixelBuffer,
+            Callback<SnapshotResult, Void> callback) {
+        Toolkit.getToolkit().checkFxUserThread();
+        if (pixelBuffer == null) {
+            throw new NullPointerException("The pixel buffer must not be null");
+        }
+        if (callback == null) {
+            throw new NullPointerException("The callback must not be null");
+        }
+
+        final Runnable snapshotRunnable = () -> {
+            doCSSLayoutSyncForSnapshot(getRoot());
+            doSnapshot(this, 0, 0, getRoot(), BaseTransform.IDENTITY_TRANSFORM,
+                    isDepthBufferInternal(), getFill(), getEffectiveCamera(),
+                    pixelBuffer, () -> callSnapshotCallback(callback,
+                            new SnapshotResult(pixelBuffer, Scene.this, null)));
+        };
+        addSnapshotRunnable(snapshotRunnable);
+    }
+
+    // Marks the images created from the pixel buffer of the result dirty
+    // and passes the result to the callback
+    static void callSnapshotCallback(Callback<SnapshotResult, Void> callback,
+            SnapshotResult result) {
+        try {
+            result.getPixelBuffer().updateBuffer(pb -> null);
+            callback.call(result);
+        } catch (Throwable th) {
+            System.err.println("Exception in snapshot callback");
+            th.printStackTrace(System.err);
+        }
+    }
+
     /**
      * Defines the mouse cursor for this {@code Scene}.
      */
@@ -25,6 +25,8 @@
 
 package javafx.scene;
 
+import java.nio.Buffer;
+import javafx.scene.image.PixelBuffer;
 import javafx.scene.image.WritableImage;
 
 /**
@@ -33,6 +35,7 @@ import javafx.scene.image.WritableImage;
  */
 public class SnapshotResult {
     private WritableImage image;
+    private PixelBuffer<? extends Buffer> pixelBuffer;
     private Object source;
     private SnapshotParameters params;
 
@@ -43,15 +46,41 @@ public class SnapshotResult {
         this.params = params;
     }
 
+    // Package scope constructor
+    SnapshotResult(PixelBuffer<? extends Buffer> pixelBuffer, Object source, SnapshotParameters params) {
+        this.pixelBuffer = pixelBuffer;
+        this.source = source;
+        this.params = params;
+    }
+
     /**
      * Gets the image generated by the snapshot operation.
+     * If the snapshot was rendered into a {@code PixelBuffer}, the image
+     * is created on the first call of this method and shares the buffer
+     * of the pixel buffer.
      *
      * @return the generated image
      */
     public WritableImage getImage() {
+        if (image == null && pixelBuffer != null) {
+            image = new WritableImage(pixelBuffer);
+        }
         return image;
     }
 
+    /**
+     * Gets the pixel buffer holding the pixels rendered by the snapshot
+     * operation.
+     * This will be null unless the snapshot was rendered into a
+     * {@code PixelBuffer}.
+     *
+     * @return the pixel buffer the snapshot was rendered into, or null
+     * @since 17.0.14
+     */
+    public PixelBuffer<? extends Buffer> getPixelBuffer() {
+        return pixelBuffer;
+    }
+
     /**
      * Gets the source Node or Scene on which the snapshot was called.
      *
@@ -32,8 +32,6 @@ import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.regex.Pattern;
 import javafx.animation.KeyFrame;
@@ -50,8 +48,8 @@ import javafx.beans.property.ReadOnlyObjectPropertyBase;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
-import com.sun.javafx.runtime.async.AsyncOperation;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
+import com.sun.javafx.tk.ImageCache;
 import com.sun.javafx.tk.ImageLoader;
 import com.sun.javafx.tk.PlatformImage;
 import com.sun.javafx.tk.Toolkit;
@@ -783,6 +781,16 @@ public class Image {
         }
     }
 
+    /*
+     * Loads this image ahead of the other images being loaded in the
+     * background, used when the image is about to be shown.
+     */
+    void prioritizeLoading() {
+        if (backgroundTask != null) {
+            backgroundTask.prioritize();
+        }
+    }
+
     /*
      * used for testing
      */
@@ -795,7 +803,7 @@ public class Image {
         });
     }
 
-    private ImageTask backgroundTask;
+    private ImageCache.Request backgroundTask;
 
     private void initialize(Object externalImage) {
         // we need to check the original values here, because setting placeholder
@@ -805,20 +813,28 @@ public class Image {
             // object (e.g. a BufferedImage in the case of the Swing profile)
             ImageLoader loader = loadPlatformImage(externalImage);
             finishImage(loader);
-        } else if (isBackgroundLoading() && (inputSource == null)) {
-            // Load image in the background.
-            loadInBackground();
-        } else {
+        } else if (inputSource != null) {
             // Load image immediately.
-            ImageLoader loader;
-            if (inputSource != null) {
-                loader = loadImage(inputSource, getRequestedWidth(), getRequestedHeight(),
-                                   isPreserveRatio(), isSmooth());
+            ImageLoader loader = loadImage(inputSource, getRequestedWidth(), getRequestedHeight(),
+                                           isPreserveRatio(), isSmooth());
+            finishImage(loader);
+        } else {
+            final ImageCache cache = ImageCache.getInstance();
+            ImageLoader loader = cache.get(getUrl(), getRequestedWidth(), getRequestedHeight(),
+                                           isPreserveRatio(), isSmooth());
+            if (loader != null) {
+                finishImage(loader);
+            } else if (isBackgroundLoading()) {
+                // Load image in the background.
+                loadInBackground();
             } else {
+                // Load image immediately.
                 loader = loadImage(getUrl(), getRequestedWidth(), getRequestedHeight(),
                                    isPreserveRatio(), isSmooth());
+                cache.put(getUrl(), getRequestedWidth(), getRequestedHeight(),
+                          isPreserveRatio(), isSmooth(), loader);
+                finishImage(loader);
             }
-            finishImage(loader);
         }
     }
 
@@ -858,10 +874,20 @@ public class Image {
     // Generates the animation Timeline for multiframe images.
     private void initializeAnimatedImage(ImageLoader loader) {
         final int frameCount = loader.getFrameCount();
-        animFrames = new PlatformImage[frameCount];
+        // The frames of an image which are decoded while it plays are
+        // obtained from a cursor of the animation instead of animFrames
+        final ImageLoader.FrameCursor cursor;
+        if (loader.isStreaming()) {
+            cursor = loader.newFrameCursor();
+            // Start decoding the frames following the first one
+            cursor.pollFrame(0);
+        } else {
+            cursor = null;
+            animFrames = new PlatformImage[frameCount];
 
-        for (int i = 0; i < frameCount; ++i) {
-            animFrames[i] = loader.getFrame(i);
+            for (int i = 0; i < frameCount; ++i) {
+                animFrames[i] = loader.getFrame(i);
+            }
         }
 
         PlatformImage zeroFrame = loader.getFrame(0);
@@ -872,13 +898,14 @@ public class Image {
 
         isAnimated = true;
         Platform.runLater(() -> {
-            animation = new Animation(this, loader);
+            animation = new Animation(this, loader, cursor);
             animation.start();
         });
     }
 
     private static final class Animation {
         final WeakReference<Image> imageRef;
+        final ImageLoader.FrameCursor cursor;
         final Timeline timeline;
         final SimpleIntegerProperty frameIndex = new SimpleIntegerProperty() {
             @Override
@@ -887,11 +914,15 @@ public class Image {
             }
         };
 
-        public Animation(final Image image, final ImageLoader loader) {
+        public Animation(final Image image, final ImageLoader loader,
+                         final ImageLoader.FrameCursor cursor) {
             imageRef = new WeakReference<Image>(image);
+            this.cursor = cursor;
             timeline = new Timeline();
             int loopCount = loader.getLoopCount();
             timeline.setCycleCount(loopCount == 0 ? Timeline.INDEFINITE : loopCount);
+            // The last frame stays shown, no other frame will be needed
+            timeline.setOnFinished(e -> disposeCursor());
 
             final int frameCount = loader.getFrameCount();
             int duration = 0;
@@ -912,15 +943,27 @@ public class Image {
 
         public void stop() {
             timeline.stop();
+            disposeCursor();
+        }
+
+        private void disposeCursor() {
+            if (cursor != null) {
+                cursor.dispose();
+            }
         }
 
         private void updateImage(final int frameIndex) {
             final Image image = imageRef.get();
             if (image != null) {
-                image.platformImagePropertyImpl().set(
-                        image.animFrames[frameIndex]);
+                final PlatformImage frame = (image.animFrames != null)
+                        ? image.animFrames[frameIndex]
+                        : cursor.pollFrame(frameIndex);
+                // A frame which has not been decoded in time is skipped
+                if (frame != null) {
+                    image.platformImagePropertyImpl().set(frame);
+                }
             } else {
-                timeline.stop();
+                stop();
             }
         }
 
@@ -932,36 +975,12 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
-        synchronized (pendingTasks) {
-            runningTasks--;
-            // do we have any pending tasks to run ?
-            // we can assume we are under the throttle limit because
-            // one task just completed.
-            final ImageTask nextTask = pendingTasks.poll();
-            if (nextTask != null) {
-                runningTasks++;
-                nextTask.start();
-            }
-        }
-    }
-
     private void loadInBackground() {
-        backgroundTask = new ImageTask();
-        // This is an artificial throttle on background image loading tasks.
-        // It has been shown that with large images, we can quickly use up the
-        // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
-        // about 60 2-6 megapixel images.
-        synchronized (pendingTasks) {
-            if (runningTasks >= MAX_RUNNING_TASKS) {
-                pendingTasks.offer(backgroundTask);
-            } else {
-                runningTasks++;
-                backgroundTask.start();
-            }
-        }
+        // The cache throttles, orders and shares the background loads, and
+        // drops the loads of images which have become unreachable.
+        backgroundTask = ImageCache.getInstance().load(this, new ImageTask(this),
+                                                       url, requestedWidth, requestedHeight,
+                                                       preserveRatio, smooth);
     }
 
     // Used by SwingUtils.toFXImage
@@ -1009,61 +1028,51 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
-    private static int runningTasks = 0;
-    private static final Queue<ImageTask> pendingTasks =
-            new LinkedList<ImageTask>();
-
-    private final class ImageTask
+    private static final class ImageTask
             implements AsyncOperationListener<ImageLoader> {
 
-        private final AsyncOperation peer;
+        // The image cache holds on to this task, it must not keep the
+        // image reachable
+        private final WeakReference<Image> imageRef;
 
-        public ImageTask() {
-            peer = constructPeer();
+        public ImageTask(Image image) {
+            imageRef = new WeakReference<Image>(image);
         }
 
         @Override
         public void onCancel() {
-            finishImage(new CancellationException("Loading cancelled"));
-            cycleTasks();
+            final Image image = imageRef.get();
+            if (image != null) {
+                image.finishImage(new CancellationException("Loading cancelled"));
+            }
         }
 
         @Override
         public void onException(Exception exception) {
-            finishImage(exception);
-            cycleTasks();
+            final Image image = imageRef.get();
+            if (image != null) {
+                image.finishImage(exception);
+            }
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
-            finishImage(value);
-            cycleTasks();
+            final Image image = imageRef.get();
+            if (image != null) {
+                image.finishImage(value);
+            }
         }
 
         @Override
         public void onProgress(int cur, int max) {
-            if (max > 0) {
+            final Image image = imageRef.get();
+            if ((image != null) && (max > 0)) {
                 double curProgress = (double) cur / max;
-                if ((curProgress < 1) && (curProgress >= (getProgress() + 0.1))) {
-                    setProgress(curProgress);
+                if ((curProgress < 1) && (curProgress >= (image.getProgress() + 0.1))) {
+                    image.setProgress(curProgress);
                 }
             }
         }
-
-        public void start() {
-            peer.start();
-        }
-
-        public void cancel() {
-            peer.cancel();
-        }
-
-        private AsyncOperation constructPeer() {
-            return loadImageAsync(this, url,
-                                  requestedWidth, requestedHeight,
-                                  preserveRatio, smooth);
-        }
     }
 
     private static ImageLoader loadImage(
@@ -1082,15 +1091,6 @@ public class Image {
 
     }
 
-    private static AsyncOperation loadImageAsync(
-            AsyncOperationListener<? extends ImageLoader> listener,
-            String url, double width, double height,
-            boolean preserveRatio, boolean smooth) {
-        return Toolkit.getToolkit().loadImageAsync(listener, url,
-                                                   width, height,
-                                                   preserveRatio, smooth);
-    }
-
     private static ImageLoader loadPlatformImage(Object platformImage) {
         return Toolkit.getToolkit().loadPlatformImage(platformImage);
     }
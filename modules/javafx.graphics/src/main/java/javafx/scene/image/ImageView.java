@@ -885,8 +885,14 @@ public class ImageView extends Node {
             peer.setSmooth(isSmooth());
         }
         if (NodeHelper.isDirty(this, DirtyBits.NODE_CONTENTS)) {
-            peer.setImage(getImage() != null
-                    ? Toolkit.getImageAccessor().getPlatformImage(getImage()) : null);
+            final Image image = getImage();
+            if (image != null && image.getProgress() < 1) {
+                // The image is about to be shown, load it ahead of the
+                // images that are not
+                image.prioritizeLoading();
+            }
+            peer.setImage(image != null
+                    ? Toolkit.getImageAccessor().getPlatformImage(image) : null);
         }
         // The NG part expects this to be called when image changes
         if (NodeHelper.isDirty(this, DirtyBits.NODE_VIEWPORT) || NodeHelper.isDirty(this, DirtyBits.NODE_CONTENTS)) {
@@ -27,6 +27,8 @@ package javafx.scene.text;
 
 import java.text.BreakIterator;
 
+import com.sun.javafx.scene.text.HitInfoHelper;
+
 /**
  * Represents the hit information in a Text node.
  *
@@ -34,6 +36,18 @@ import java.text.BreakIterator;
  */
 public class HitInfo {
 
+    static {
+        // This is used by classes in different packages to get access to
+        // private and package private methods.
+        HitInfoHelper.setHitInfoAccessor(new HitInfoHelper.HitInfoAccessor() {
+
+            @Override
+            public HitInfo createHitInfo(int charIndex, int insertionIndex, boolean leading, String text) {
+                return new HitInfo(charIndex, insertionIndex, leading, text);
+            }
+        });
+    }
+
     private int charIndex;
     private boolean leading;
     private int insertionIndex;
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.text;
+
+import com.sun.javafx.geom.BaseBounds;
+import com.sun.javafx.scene.text.FontHelper;
+import com.sun.javafx.scene.text.TextLayout;
+import com.sun.javafx.scene.text.TextLine;
+import com.sun.javafx.tk.Toolkit;
+
+/**
+ * Measures text without creating {@link Text} nodes.
+ * <p>
+ * A {@code TextMeasurer} lays out text the same way as a {@code Text} node
+ * with the same font, wrapping width, line spacing and bounds type, left
+ * aligned and left to right, and reports its size and line breaks as
+ * {@link TextMetrics}.  Unlike {@code Text} nodes, which must be used on
+ * the JavaFX Application Thread once they are part of a live scene, a
+ * {@code TextMeasurer} is immutable and can be used from any thread,
+ * including several threads at the same time.  This makes it possible to
+ * compute the sizes of large amounts of text, for example to size the
+ * columns of a table with many rows, on a background thread.
+ * <p>
+ * The shaping results of short strings are kept in a cache shared with the
+ * {@code Text} nodes, so that a node later showing text that has already
+ * been measured with the same font does not need to shape it again.
+ * <p>
+ * The JavaFX runtime must be started before a {@code TextMeasurer} is used.
+ *
+ * <pre><code>
+ * TextMeasurer measurer = new TextMeasurer(Font.getDefault());
+ * double width = 0;
+ * for (String s : strings) {
+ *     width = Math.max(width, measurer.computeWidth(s));
+ * }
+ * </code></pre>
+ *
+ * @see TextMetrics
+ * @since 17.0.14
+ */
+public final class TextMeasurer {
+
+    /* TextLayout is not thread safe, use one per thread */
+    private static final ThreadLocal<TextLayout> LAYOUT = ThreadLocal.withInitial(
+            () -> Toolkit.getToolkit().getTextLayoutFactory().createLayout());
+
+    private final Font font;
+    private final double wrappingWidth;
+    private final double lineSpacing;
+    private final TextBoundsType boundsType;
+
+    /**
+     * Creates a measurer for unwrapped text in the given font, using logical
+     * bounds.
+     *
+     * @param font the font of the text
+     * @throws NullPointerException if {@code font} is null
+     */
+    public TextMeasurer(Font font) {
+        this(font, 0, 0, TextBoundsType.LOGICAL);
+    }
+
+    /**
+     * Creates a measurer for text in the given font.
+     *
+     * @param font the font of the text
+     * @param wrappingWidth the width at which the text is wrapped, or 0 for
+     *        no wrapping, see {@link Text#wrappingWidthProperty()}
+     * @param lineSpacing the vertical space between lines, see
+     *        {@link Text#lineSpacingProperty()}
+     * @param boundsType the type of bounds to measure, see
+     *        {@link Text#boundsTypeProperty()}
+     * @throws NullPointerException if {@code font} or {@code boundsType} is
+     *         null
+     */
+    public TextMeasurer(Font font, double wrappingWidth, double lineSpacing,
+                        TextBoundsType boundsType) {
+        if (font == null) {
+            throw new NullPointerException("font cannot be null");
+        }
+        if (boundsType == null) {
+            throw new NullPointerException("boundsType cannot be null");
+        }
+        this.font = font;
+        this.wrappingWidth = wrappingWidth;
+        this.lineSpacing = lineSpacing;
+        this.boundsType = boundsType;
+    }
+
+    /**
+     * Returns the font of the measured text.
+     *
+     * @return the font
+     */
+    public Font getFont() {
+        return font;
+    }
+
+    /**
+     * Returns the width at which the measured text is wrapped, or 0 if it is
+     * not wrapped.
+     *
+     * @return the wrapping width
+     */
+    public double getWrappingWidth() {
+        return wrappingWidth;
+    }
+
+    /**
+     * Returns the vertical space between the lines of the measured text.
+     *
+     * @return the line spacing
+     */
+    public double getLineSpacing() {
+        return lineSpacing;
+    }
+
+    /**
+     * Returns the type of bounds measured.
+     *
+     * @return the bounds type
+     */
+    public TextBoundsType getBoundsType() {
+        return boundsType;
+    }
+
+    /**
+     * Returns the width of the given text.  This is equivalent to, but
+     * cheaper than, {@code measure(text).getWidth()}.
+     *
+     * @param text the text to measure, null is treated as an empty string
+     * @return the width of the text
+     */
+    public double computeWidth(String text) {
+        TextLayout layout = getLayout(text);
+        return getBounds(layout).getWidth();
+    }
+
+    /**
+     * Measures the given text.
+     *
+     * @param text the text to measure, null is treated as an empty string
+     * @return the metrics of the text
+     */
+    public TextMetrics measure(String text) {
+        if (text == null) text = "";
+        TextLayout layout = getLayout(text);
+        BaseBounds bounds = getBounds(layout);
+        TextLine[] lines = layout.getLines();
+        int[] lineStarts = new int[lines.length];
+        int[] lineEnds = new int[lines.length];
+        double[] lineWidths = new double[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            TextLine line = lines[i];
+            lineStarts[i] = line.getStart();
+            lineEnds[i] = line.getStart() + line.getLength();
+            lineWidths[i] = line.getBounds().getWidth();
+        }
+        // Same as Text.getBaselineOffset(), which always uses the logical bounds
+        double baselineOffset = -layout.getBounds().getMinY();
+        return new TextMetrics(text, bounds.getWidth(), bounds.getHeight(),
+                               baselineOffset, lineStarts, lineEnds, lineWidths);
+    }
+
+    private TextLayout getLayout(String text) {
+        TextLayout layout = LAYOUT.get();
+        layout.setContent(text != null ? text : "", FontHelper.getNativeFont(font));
+        layout.setAlignment(TextAlignment.LEFT.ordinal());
+        layout.setDirection(TextLayout.DIRECTION_LTR);
+        layout.setWrapWidth((float)wrappingWidth);
+        layout.setLineSpacing((float)lineSpacing);
+        layout.setTabSize(TextLayout.DEFAULT_TAB_SIZE);
+        if (boundsType == TextBoundsType.LOGICAL_VERTICAL_CENTER) {
+            layout.setBoundsType(TextLayout.BOUNDS_CENTER);
+        } else {
+            layout.setBoundsType(0);
+        }
+        return layout;
+    }
+
+    private BaseBounds getBounds(TextLayout layout) {
+        if (boundsType == TextBoundsType.VISUAL) {
+            return layout.getVisualBounds(TextLayout.TYPE_TEXT);
+        }
+        return layout.getBounds();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.text;
+
+/**
+ * The size and line breaks of a text, as measured by a
+ * {@link TextMeasurer}.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @see TextMeasurer#measure(String)
+ * @since 17.0.14
+ */
+public final class TextMetrics {
+
+    private final String text;
+    private final double width;
+    private final double height;
+    private final double baselineOffset;
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+    private final double[] lineWidths;
+
+    TextMetrics(String text, double width, double height, double baselineOffset,
+                int[] lineStarts, int[] lineEnds, double[] lineWidths) {
+        this.text = text;
+        this.width = width;
+        this.height = height;
+        this.baselineOffset = baselineOffset;
+        this.lineStarts = lineStarts;
+        this.lineEnds = lineEnds;
+        this.lineWidths = lineWidths;
+    }
+
+    /**
+     * Returns the measured text.
+     *
+     * @return the text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the width of the text, that is the width of the layout bounds
+     * of a {@code Text} node showing it.
+     *
+     * @return the width
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the text, that is the height of the layout
+     * bounds of a {@code Text} node showing it.
+     *
+     * @return the height
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the offset of the baseline of the first line from the top of
+     * the text, see {@link Text#getBaselineOffset()}.
+     *
+     * @return the baseline offset
+     */
+    public double getBaselineOffset() {
+        return baselineOffset;
+    }
+
+    /**
+     * Returns the number of lines of the text, including the lines created
+     * by wrapping.
+     *
+     * @return the number of lines, at least 1
+     */
+    public int getLineCount() {
+        return lineStarts.length;
+    }
+
+    /**
+     * Returns the index of the first character of a line.
+     *
+     * @param line the index of the line
+     * @return the index of the first character of the line
+     * @throws IndexOutOfBoundsException if {@code line} is not a valid line
+     */
+    public int getLineStart(int line) {
+        return lineStarts[checkLine(line)];
+    }
+
+    /**
+     * Returns the index following the last character of a line, including
+     * the trailing white space and line break characters.
+     *
+     * @param line the index of the line
+     * @return the end index of the line
+     * @throws IndexOutOfBoundsException if {@code line} is not a valid line
+     */
+    public int getLineEnd(int line) {
+        return lineEnds[checkLine(line)];
+    }
+
+    /**
+     * Returns the width of a line.
+     *
+     * @param line the index of the line
+     * @return the width of the line
+     * @throws IndexOutOfBoundsException if {@code line} is not a valid line
+     */
+    public double getLineWidth(int line) {
+        return lineWidths[checkLine(line)];
+    }
+
+    private int checkLine(int line) {
+        if (line < 0 || line >= lineStarts.length) {
+            throw new IndexOutOfBoundsException("line: " + line + ", line count: " + lineStarts.length);
+        }
+        return line;
+    }
+
+    @Override public String toString() {
+        return "TextMetrics[text=\"" + text + "\", width=" + width +
+               ", height=" + height + ", baselineOffset=" + baselineOffset +
+               ", lineCount=" + lineStarts.length + "]";
+    }
+}
@@ -151,4 +151,6 @@ module javafx.graphics {
         javafx.web;
     exports com.sun.scenario.effect.impl.prism to
         javafx.web;
+
+    uses com.sun.javafx.iio.ImageLoaderFactory;
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.scenario.effect.impl.sw.java;
+
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.state.LinearConvolveRenderState;
+
+public class JSWEffectPeerShim {
+
+    public interface BandFilter {
+        public void filter(int start, int end);
+    }
+
+    private static class ShadowPeer extends JSWLinearConvolveShadowPeer {
+        ShadowPeer(FilterContext fctx, LinearConvolveRenderState state) {
+            super(fctx, null, "LinearConvolveShadow");
+            setRenderState(state);
+        }
+    }
+
+    public static void filterBands(int count, int pixels, BandFilter filter) {
+        JSWEffectPeer.filterBands(count, pixels, filter::filter);
+    }
+
+    public static BandFilter boxBlurHorizontal(FilterContext fctx,
+                                               int dst[], int dstw, int dsth,
+                                               int src[], int srcw, int srch) {
+        JSWBoxBlurPeer peer = new JSWBoxBlurPeer(fctx, null, "BoxBlur");
+        return (y0, y1) -> peer.filterHorizontal(dst, dstw, dsth, dstw,
+                                                 src, srcw, srch, srcw, y0, y1);
+    }
+
+    public static BandFilter boxBlurVertical(FilterContext fctx,
+                                             int dst[], int dstw, int dsth,
+                                             int src[], int srcw, int srch) {
+        JSWBoxBlurPeer peer = new JSWBoxBlurPeer(fctx, null, "BoxBlur");
+        return (x0, x1) -> peer.filterVertical(dst, dstw, dsth, dstw,
+                                               src, srcw, srch, srcw, x0, x1);
+    }
+
+    public static BandFilter linearConvolveVertical(FilterContext fctx,
+                                                    int dst[], int dstw, int dsth,
+                                                    int src[], int srcw, int srch,
+                                                    float weights[]) {
+        JSWLinearConvolvePeer peer = new JSWLinearConvolvePeer(fctx, null, "LinearConvolve");
+        return (r0, r1) -> peer.filterHV(dst, dsth, dstw, dstw, 1,
+                                         src, srch, srcw, srcw, 1,
+                                         weights, r0, r1);
+    }
+
+    public static BandFilter linearConvolveShadowHorizontal(FilterContext fctx,
+                                                            LinearConvolveRenderState state,
+                                                            int dst[], int dstw, int dsth,
+                                                            int src[], int srcw, int srch,
+                                                            float weights[]) {
+        JSWLinearConvolvePeer peer = new ShadowPeer(fctx, state);
+        return (r0, r1) -> peer.filterHV(dst, dstw, dsth, 1, dstw,
+                                         src, srcw, srch, 1, srcw,
+                                         weights, r0, r1);
+    }
+}
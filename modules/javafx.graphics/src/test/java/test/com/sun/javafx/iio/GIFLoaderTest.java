@@ -25,12 +25,18 @@
 
 package test.com.sun.javafx.iio;
 
+import com.sun.javafx.iio.FrameStream;
 import com.sun.javafx.iio.ImageFrame;
 import com.sun.javafx.iio.ImageLoader;
+import com.sun.javafx.iio.ImageMetadata;
 import com.sun.javafx.iio.ImageStorage;
 import com.sun.javafx.iio.gif.GIFImageLoader2;
 import java.awt.image.*;
 import java.io.*;
+import java.nio.ByteBuffer;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
@@ -235,6 +241,108 @@ public class GIFLoaderTest {
         }
     }
 
+    private static byte[] createAnimatedGIF(int w, int h, int frameCount) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = javax.imageio.ImageIO.getImageWritersByFormatName("gif").next();
+        try (ImageOutputStream ios = javax.imageio.ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < frameCount; i++) {
+                BufferedImage bimg = new BufferedImage(w, h, BufferedImage.TYPE_BYTE_INDEXED);
+                java.awt.Graphics2D g = bimg.createGraphics();
+                g.setColor(java.awt.Color.WHITE);
+                g.fillRect(0, 0, w, h);
+                g.setColor(java.awt.Color.RED);
+                g.fillRect(i % w, 0, 1 + i, h / 2);
+                g.dispose();
+                writer.writeToSequence(new IIOImage(bimg, null, null), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertSameFrame(ImageFrame expected, ImageFrame actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(expected.getPixelScale(), actual.getPixelScale(), 0);
+        assertEquals((ByteBuffer) expected.getImageData(), (ByteBuffer) actual.getImageData());
+    }
+
+    @Test
+    public void testSkipReportsFramesWithoutDecoding() throws IOException {
+        byte[] data = createAnimatedGIF(16, 8, 5);
+        GIFImageLoader2 loader = new GIFImageLoader2(new ByteArrayInputStream(data));
+        for (int i = 0; i < 5; i++) {
+            ImageMetadata metadata = loader.skip(8, 0, true);
+            assertNotNull(metadata);
+            assertEquals(8, (int) metadata.imageWidth);
+            assertEquals(4, (int) metadata.imageHeight);
+        }
+        assertNull(loader.skip(0, 0, true));
+    }
+
+    @Test
+    public void testSmallAnimatedImageIsNotStreamed() throws Exception {
+        byte[] data = createAnimatedGIF(16, 8, 5);
+        ImageFrame[] frames = ImageStorage.loadAll(new ByteArrayInputStream(data), null,
+                0, 0, true, 1.0f, false, 16 * 8 * 4 * 5);
+        assertEquals(5, frames.length);
+        assertNull(frames[0].getFrameStream());
+    }
+
+    @Test
+    public void testStreamedFramesMatchDecodedFrames() throws Exception {
+        byte[] data = createAnimatedGIF(16, 8, 5);
+        ImageFrame[] expected = ImageStorage.loadAll(new ByteArrayInputStream(data), null,
+                0, 0, true, 1.0f, false);
+        assertEquals(5, expected.length);
+
+        ImageFrame[] frames = ImageStorage.loadAll(new ByteArrayInputStream(data), null,
+                0, 0, true, 1.0f, false, 0);
+        assertEquals(1, frames.length);
+        assertSameFrame(expected[0], frames[0]);
+
+        FrameStream stream = frames[0].getFrameStream();
+        assertNotNull(stream);
+        assertEquals(5, stream.getFrameCount());
+        assertEquals(expected[3].getMetadata().delayTime, stream.getMetadata(3).delayTime);
+        // In order, then looping back to the start, then skipping ahead
+        int[] order = { 1, 2, 3, 4, 0, 1, 4, 2 };
+        for (int index : order) {
+            assertSameFrame(expected[index], stream.getFrame(index));
+        }
+        assertNull(stream.getFrame(5));
+
+        stream.dispose();
+        assertNull(stream.getFrame(0));
+    }
+
+    @Test
+    public void testCopiedFrameStreamsDecodeIndependently() throws Exception {
+        byte[] data = createAnimatedGIF(16, 8, 5);
+        ImageFrame[] expected = ImageStorage.loadAll(new ByteArrayInputStream(data), null,
+                0, 0, true, 1.0f, false);
+        ImageFrame[] frames = ImageStorage.loadAll(new ByteArrayInputStream(data), null,
+                0, 0, true, 1.0f, false, 0);
+        FrameStream stream = frames[0].getFrameStream();
+        FrameStream copy = stream.copy();
+        assertNotSame(stream, copy);
+
+        // Two animations of the same image at different positions
+        assertSameFrame(expected[3], stream.getFrame(3));
+        assertSameFrame(expected[1], copy.getFrame(1));
+        assertSameFrame(expected[4], stream.getFrame(4));
+        assertSameFrame(expected[2], copy.getFrame(2));
+
+        stream.dispose();
+        assertNull(stream.getFrame(0));
+        assertSameFrame(expected[3], copy.getFrame(3));
+        copy.dispose();
+    }
+
 //    public static void main(String[] args) throws IOException {
 //        new GIFLoaderTest().testReadGIFFile();
 //    }
@@ -25,21 +25,40 @@
 
 package test.com.sun.javafx.iio;
 
+import com.sun.javafx.iio.ImageFormatDescription;
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageLoader;
+import com.sun.javafx.iio.ImageLoaderFactory;
 import com.sun.javafx.iio.ImageStorage;
 import com.sun.javafx.iio.ImageStorageException;
+import com.sun.javafx.iio.RegionImageDecoder;
+import com.sun.javafx.iio.common.ImageDescriptor;
 import com.sun.javafx.iio.common.ImageTools;
 import static org.junit.Assert.*;
+import org.junit.After;
 import org.junit.ComparisonFailure;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
 
 public class ImageStorageTest {
+    private TileLoaderFactory tileLoaderFactory;
+
+    @After
+    public void removeTileLoaderFactory() {
+        if (tileLoaderFactory != null) {
+            ImageStorage.removeImageLoaderFactory(tileLoaderFactory);
+        }
+    }
+
     private String getResourcePath(String path) {
         return this.getClass().getResource(path).toString();
     }
@@ -223,4 +242,138 @@ public class ImageStorageTest {
         assertEquals(0, data[7]);
         assertEquals(-1, data[8]);
     }
+
+    /**
+     * A region decoder for images of the "TILE" test format, whose pixels
+     * encode their own coordinates.  A file in that format holds the
+     * signature, followed by the width and height of the image as bytes,
+     * in units of 100 pixels, and by whether the decoder should fail.
+     */
+    private static final class TileDecoder implements RegionImageDecoder {
+        static final AtomicInteger regions = new AtomicInteger();
+        final int width, height;
+        final boolean fail;
+
+        TileDecoder(byte[] file) {
+            width = file[4] * 100;
+            height = file[5] * 100;
+            fail = file[6] != 0;
+        }
+
+        @Override public int getWidth() { return width; }
+        @Override public int getHeight() { return height; }
+        @Override public int getTileWidth() { return 128; }
+        @Override public int getTileHeight() { return 64; }
+        @Override public ImageStorage.ImageType getImageType() { return ImageStorage.ImageType.RGB; }
+        @Override public void dispose() {}
+
+        @Override
+        public ImageFrame decodeRegion(int x, int y, int w, int h,
+                                       int outWidth, int outHeight, boolean smooth) throws IOException {
+            if (fail) {
+                throw new IOException("Cannot decode region");
+            }
+            regions.incrementAndGet();
+            assertEquals(0, x % 128);
+            assertEquals(0, y % 64);
+            byte[] data = new byte[outWidth * outHeight * 3];
+            for (int j = 0, i = 0; j < outHeight; j++) {
+                for (int k = 0; k < outWidth; k++) {
+                    int sx = x + k * w / outWidth;
+                    int sy = y + j * h / outHeight;
+                    data[i++] = (byte) sx;
+                    data[i++] = (byte) sy;
+                    data[i++] = (byte) (sx >> 8 | sy >> 8 << 4);
+                }
+            }
+            return new ImageFrame(ImageStorage.ImageType.RGB, ByteBuffer.wrap(data),
+                                  outWidth, outHeight, outWidth * 3, null, null);
+        }
+    }
+
+    private static final class TileLoaderFactory implements ImageLoaderFactory {
+        @Override
+        public ImageFormatDescription getFormatDescription() {
+            return new ImageDescriptor("TILE", new String[] { "tile" },
+                    new ImageFormatDescription.Signature[] {
+                        new ImageFormatDescription.Signature((byte) 'T', (byte) 'I', (byte) 'L', (byte) 'E')
+                    });
+        }
+
+        @Override
+        public ImageLoader createImageLoader(InputStream input) throws IOException {
+            throw new IOException("TILE images can only be decoded in regions");
+        }
+
+        @Override
+        public RegionImageDecoder createRegionDecoder(String input) throws IOException {
+            return new TileDecoder(Files.readAllBytes(new File(input).toPath()));
+        }
+    }
+
+    private String createTileImage(int width, int height, boolean fail) throws IOException {
+        tileLoaderFactory = new TileLoaderFactory();
+        ImageStorage.addImageLoaderFactory(tileLoaderFactory);
+        File file = File.createTempFile("region", ".tile");
+        file.deleteOnExit();
+        Files.write(file.toPath(), new byte[] {
+            'T', 'I', 'L', 'E', (byte) width, (byte) height, (byte) (fail ? 1 : 0), 0, 0, 0, 0, 0, 0, 0, 0, 0
+        });
+        return file.getPath();
+    }
+
+    @Test
+    public void testRegionDecoderAssemblesTiles() throws Exception {
+        String path = createTileImage(10, 7, false);
+        TileDecoder.regions.set(0);
+        ImageFrame[] frames = ImageStorage.loadAll(path, null, 0, 0, true, 1.0f, false);
+
+        assertEquals(1, frames.length);
+        ImageFrame frame = frames[0];
+        assertEquals(1000, frame.getWidth());
+        assertEquals(700, frame.getHeight());
+        assertEquals(ImageStorage.ImageType.RGB, frame.getImageType());
+        // 1000 x 700 in groups of 256 x 256 pixels, rounded up to tiles of 128 x 64
+        assertEquals(4 * 3, TileDecoder.regions.get());
+
+        byte[] data = ((ByteBuffer) frame.getImageData()).array();
+        for (int y = 0, i = 0; y < 700; y++) {
+            for (int x = 0; x < 1000; x++) {
+                assertEquals((byte) x, data[i++]);
+                assertEquals((byte) y, data[i++]);
+                assertEquals((byte) (x >> 8 | y >> 8 << 4), data[i++]);
+            }
+        }
+    }
+
+    @Test
+    public void testRegionDecoderScalesTiles() throws Exception {
+        String path = createTileImage(100, 50, false);
+        TileDecoder.regions.set(0);
+        ImageFrame[] frames = ImageStorage.loadAll(path, null, 500, 500, true, 1.0f, false);
+
+        assertEquals(1, frames.length);
+        assertEquals(500, frames[0].getWidth());
+        assertEquals(250, frames[0].getHeight());
+        // Each region is at least 256 pixels wide once scaled down
+        assertEquals(2 * 1, TileDecoder.regions.get());
+    }
+
+    @Test(expected = ImageStorageException.class)
+    public void testRegionDecoderFailure() throws Exception {
+        String path = createTileImage(10, 10, true);
+        ImageStorage.loadAll(path, null, 0, 0, true, 1.0f, false);
+    }
+
+    @Test
+    public void testRemovedFactoryNoLongerLoadsItsFormat() throws Exception {
+        String path = createTileImage(10, 7, false);
+        ImageStorage.removeImageLoaderFactory(tileLoaderFactory);
+        try {
+            ImageStorage.loadAll(path, null, 0, 0, true, 1.0f, false);
+            fail("Expected ImageStorageException");
+        } catch (ImageStorageException e) {
+            // expected, no factory matches the signature
+        }
+    }
 }
@@ -25,13 +25,22 @@
 
 package test.com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageStorage;
+import com.sun.javafx.iio.common.ImageTools;
 import com.sun.javafx.iio.png.PNGImageLoader2;
 import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
 public class PNGImageLoaderTest {
 
     private void testImage(InputStream stream) throws IOException {
@@ -39,6 +48,111 @@ public class PNGImageLoaderTest {
         loader.load(0, 0, 0, true, true);
     }
 
+    private void testPixels(int width, int height, int type) throws IOException {
+        BufferedImage bImg = new BufferedImage(width, height, type);
+        ImageTestHelper.drawImageHue(bImg);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int alpha = (x * 255 / width) << 24;
+                bImg.setRGB(x, y, (bImg.getRGB(x, y) & 0xffffff) | alpha);
+            }
+        }
+        InputStream stream = ImageTestHelper.writeImageToStream(bImg, "png", null);
+        ImageFrame frame = new PNGImageLoader2(stream).load(0, 0, 0, true, true);
+
+        boolean alpha = bImg.getColorModel().hasAlpha();
+        assertEquals(width, frame.getWidth());
+        assertEquals(height, frame.getHeight());
+        assertEquals(alpha ? ImageStorage.ImageType.RGBA : ImageStorage.ImageType.RGB,
+                     frame.getImageType());
+
+        ByteBuffer buf = (ByteBuffer) frame.getImageData();
+        int bpp = alpha ? 4 : 3;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int argb = bImg.getRGB(x, y);
+                int pos = y * frame.getStride() + x * bpp;
+                int actual = ((buf.get(pos) & 0xff) << 16) |
+                             ((buf.get(pos + 1) & 0xff) << 8) |
+                             (buf.get(pos + 2) & 0xff);
+                actual |= alpha ? (buf.get(pos + 3) & 0xff) << 24 : 0xff000000;
+                if (actual != argb) {
+                    assertEquals("pixel at " + x + ", " + y,
+                                 Integer.toHexString(argb), Integer.toHexString(actual));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRGBPixels() throws IOException {
+        testPixels(509, 157, BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    public void testRGBAPixels() throws IOException {
+        testPixels(157, 509, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Test
+    public void testLargeRGBAPixels() throws IOException {
+        // Large enough for the rows to be inflated on their own thread
+        testPixels(1024, 1024, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static byte[] getBytes(ImageFrame frame) {
+        ByteBuffer buf = ((ByteBuffer) frame.getImageData()).duplicate();
+        buf.rewind();
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return bytes;
+    }
+
+    private void testScaledLoad(int type, int width, int height, boolean smooth) throws IOException {
+        BufferedImage bImg = new BufferedImage(301, 211, type);
+        ImageTestHelper.drawImageHue(bImg);
+        byte[] data = ImageTestHelper.writeImageToStream(bImg, "png", null).readAllBytes();
+
+        ImageFrame full = new PNGImageLoader2(new ByteArrayInputStream(data)).load(0, 0, 0, true, smooth);
+        ImageFrame expected = ImageTools.scaleImageFrame(full, width, height, smooth);
+        ImageFrame scaled = new PNGImageLoader2(new ByteArrayInputStream(data)).load(0, width, height, false, smooth);
+
+        assertEquals(expected.getImageType(), scaled.getImageType());
+        assertEquals(width, scaled.getWidth());
+        assertEquals(height, scaled.getHeight());
+        assertEquals(expected.getStride(), scaled.getStride());
+        assertArrayEquals(getBytes(expected), getBytes(scaled));
+    }
+
+    @Test
+    public void testScaledLoadRGBA() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_INT_ARGB, 64, 40, true);
+        testScaledLoad(BufferedImage.TYPE_INT_ARGB, 64, 40, false);
+    }
+
+    @Test
+    public void testScaledLoadPalette() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_BYTE_INDEXED, 100, 70, true);
+    }
+
+    @Test
+    public void testScaledLoadGray16() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_USHORT_GRAY, 30, 30, true);
+    }
+
+    @Test
+    public void testScaledLoadMagnified() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_INT_RGB, 400, 300, true);
+    }
+
+    @Test(timeout = 5000, expected = IOException.class)
+    public void testTruncatedImageData() throws IOException {
+        BufferedImage bImg = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_ARGB);
+        ImageTestHelper.drawImageRandom(bImg);
+        byte[] data = ImageTestHelper.writeImageToStream(bImg, "png", null).readAllBytes();
+        testImage(new ByteArrayInputStream(Arrays.copyOf(data, data.length / 2)));
+    }
+
     @Test
     public void testRT35133() throws IOException {
         InputStream stream = ImageTestHelper.createTestImageStream("png");
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.image;
+
+import com.sun.javafx.image.AlphaType;
+import com.sun.javafx.image.BytePixelGetter;
+import com.sun.javafx.image.BytePixelSetter;
+import com.sun.javafx.image.PixelConverter;
+import com.sun.javafx.image.PixelGetter;
+import com.sun.javafx.image.PixelSetter;
+import com.sun.javafx.image.PixelUtils;
+import com.sun.javafx.image.impl.ByteBgra;
+import com.sun.javafx.image.impl.ByteBgraPre;
+import com.sun.javafx.image.impl.ByteRgb;
+import com.sun.javafx.image.impl.IntArgb;
+import com.sun.javafx.image.impl.IntArgbPre;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the converters which read or write whole pixels at once, on
+ * images large enough to be converted in several bands on machines with
+ * more than one processor.
+ */
+public class LargeImageConverterTest {
+
+    private static final int W = 1000;
+    private static final int H = 700;
+    private static final int PAD = 3;
+
+    private static final PixelGetter<?> GETTERS[] = {
+        ByteBgra.getter, ByteBgraPre.getter, ByteRgb.getter,
+        IntArgb.getter, IntArgbPre.getter,
+    };
+
+    private static final PixelSetter<?> SETTERS[] = {
+        ByteBgra.setter, ByteBgraPre.setter, IntArgb.setter, IntArgbPre.setter,
+    };
+
+    @Test
+    public void testNonPretoPreMatchesPerComponentFormula() {
+        for (int a = 0; a < 256; a++) {
+            for (int c = 0; c < 256; c++) {
+                int argb = (a << 24) | (c << 16) | ((255 - c) << 8) | (c ^ 0x5a);
+                int expected = (a == 0) ? 0 : (a << 24)
+                        | (PixelUtils.NonPretoPre(c, a) << 16)
+                        | (PixelUtils.NonPretoPre(255 - c, a) << 8)
+                        | PixelUtils.NonPretoPre(c ^ 0x5a, a);
+                assertEquals(expected, PixelUtils.NonPretoPre(argb));
+            }
+        }
+    }
+
+    @Test
+    public void testContiguousConversions() {
+        for (PixelGetter<?> getter : GETTERS) {
+            for (PixelSetter<?> setter : SETTERS) {
+                check(getter, setter, 0);
+            }
+        }
+    }
+
+    @Test
+    public void testPaddedConversions() {
+        for (PixelGetter<?> getter : GETTERS) {
+            for (PixelSetter<?> setter : SETTERS) {
+                check(getter, setter, PAD);
+            }
+        }
+    }
+
+    private static Buffer allocate(int numElements, boolean isByte, int size) {
+        return isByte ? ByteBuffer.allocate(size * numElements)
+                      : IntBuffer.allocate(size);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void check(PixelGetter getter, PixelSetter setter, int pad) {
+        if (getter.getAlphaType() == AlphaType.PREMULTIPLIED &&
+            setter.getAlphaType() == AlphaType.NONPREMULTIPLIED)
+        {
+            // Lossy, and not computed from the same code on both sides
+            return;
+        }
+        int srcelems = getter.getNumElements();
+        int dstelems = setter.getNumElements();
+        boolean srcbytes = (getter instanceof BytePixelGetter);
+        boolean dstbytes = (setter instanceof BytePixelSetter);
+        int srcscan = (W + pad) * srcelems;
+        int dstscan = (W + pad) * dstelems;
+
+        Buffer src = allocate(srcelems, srcbytes, (W + pad) * H);
+        Random random = new Random(W * 31 + srcelems);
+        if (srcbytes) {
+            random.nextBytes(((ByteBuffer) src).array());
+        } else {
+            int arr[] = ((IntBuffer) src).array();
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt();
+            }
+        }
+        // Make premultiplied sources valid
+        if (getter.getAlphaType() == AlphaType.PREMULTIPLIED) {
+            PixelSetter same = srcbytes ? ByteBgraPre.setter : IntArgbPre.setter;
+            for (int i = 0; i < (W + pad) * H; i++) {
+                int p = getter.getArgb(src, i * srcelems);
+                same.setArgb(src, i * srcelems, p);
+            }
+        }
+
+        Buffer dst = allocate(dstelems, dstbytes, (W + pad) * H);
+        PixelConverter converter = PixelUtils.getConverter(getter, setter);
+        converter.convert(src, 0, srcscan, dst, 0, dstscan, W, H);
+
+        boolean pre = (getter.getAlphaType() == AlphaType.PREMULTIPLIED);
+        Buffer expected = allocate(dstelems, dstbytes, (W + pad) * H);
+        for (int y = 0; y < H; y++) {
+            for (int x = 0; x < W; x++) {
+                int srcoff = y * srcscan + x * srcelems;
+                int dstoff = y * dstscan + x * dstelems;
+                if (pre) {
+                    setter.setArgbPre(expected, dstoff, getter.getArgbPre(src, srcoff));
+                } else {
+                    setter.setArgb(expected, dstoff, getter.getArgb(src, srcoff));
+                }
+            }
+        }
+        String name = getter.getClass().getName() + " -> " + setter.getClass().getName();
+        assertEquals(name, expected, dst);
+    }
+}
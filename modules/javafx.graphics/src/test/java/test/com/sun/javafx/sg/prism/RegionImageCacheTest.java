@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.sg.prism;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.javafx.sg.prism.RegionImageCacheShim;
+import com.sun.prism.Graphics;
+import com.sun.prism.impl.PrismSettings;
+import com.sun.prism.impl.TextureCacheGovernor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RegionImageCacheTest {
+
+    // The number of 256x256 images that fit in the vertical half of a page
+    private static final int IMAGES_PER_PAGE = 16;
+
+    private Graphics g;
+    private TextureCacheGovernor.Client cache;
+
+    @Before
+    public void setUp() {
+        g = new TestGraphics();
+        cache = RegionImageCacheShim.createRegionImageCache(g.getResourceFactory());
+    }
+
+    @After
+    public void tearDown() {
+        RegionImageCacheShim.dispose(cache);
+    }
+
+    private boolean getImageLocation(int key) {
+        Rectangle rect = new Rectangle(0, 0, 256, 256);
+        boolean render = RegionImageCacheShim.getImageLocation(cache, key, rect, g);
+        assertFalse(rect.isEmpty());
+        return render;
+    }
+
+    @Test
+    public void testHitsAndMissesAreCounted() {
+        assertTrue(getImageLocation(1));
+        assertTrue(getImageLocation(2));
+        assertFalse(getImageLocation(1));
+
+        assertEquals(1, RegionImageCacheShim.getHitCount(cache));
+        assertEquals(2, RegionImageCacheShim.getMissCount(cache));
+        assertEquals(0, RegionImageCacheShim.getEvictionCount(cache));
+        assertEquals(2, RegionImageCacheShim.getImageCount(cache));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedImageIsEvictedWhenAllPagesAreFull() {
+        int capacity = PrismSettings.regionCacheMaxPages * IMAGES_PER_PAGE;
+        for (int key = 0; key < capacity; key++) {
+            assertTrue(getImageLocation(key));
+        }
+        assertEquals(PrismSettings.regionCacheMaxPages, RegionImageCacheShim.getPageCount(cache));
+        assertEquals(0, RegionImageCacheShim.getEvictionCount(cache));
+        // Make the first image the most recently used one
+        assertFalse(getImageLocation(0));
+
+        assertTrue(getImageLocation(capacity));
+        assertEquals(1, RegionImageCacheShim.getEvictionCount(cache));
+        assertEquals(capacity, RegionImageCacheShim.getImageCount(cache));
+        assertEquals(PrismSettings.regionCacheMaxPages, RegionImageCacheShim.getPageCount(cache));
+
+        // The first image is still cached while the second one was evicted
+        assertFalse(getImageLocation(0));
+        assertTrue(getImageLocation(1));
+        assertEquals(2, RegionImageCacheShim.getEvictionCount(cache));
+        assertEquals(2, RegionImageCacheShim.getHitCount(cache));
+        assertEquals(capacity + 2, RegionImageCacheShim.getMissCount(cache));
+    }
+}
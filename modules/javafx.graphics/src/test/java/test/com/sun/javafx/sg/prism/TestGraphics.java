@@ -191,6 +191,7 @@ public class TestGraphics extends BaseGraphics {
         @Override public boolean isWrapModeSupported(Texture.WrapMode mode) { return true; }
         @Override public Texture getCachedTexture(Image image, WrapMode wrapMode) { return null; }
         @Override public Texture getCachedTexture(Image image, WrapMode wrapMode, boolean useMipmap) { return null; }
+        @Override public Texture getCachedAtlasTexture(Image image) { return null; }
         @Override public boolean isFormatSupported(PixelFormat format) { return false; }
         @Override public int getMaximumTextureSize() { return 0; }
         @Override public Texture createMaskTexture(int width, int height, Texture.WrapMode wrapMode) { return null; }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import com.sun.javafx.text.ShapingCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ShapingCacheTest {
+
+    private static final Object FONT = "System 12";
+    private static final Object BOLD_FONT = "System Bold 12";
+
+    @Test
+    public void testEntriesAreKeyedByTextContent() {
+        ShapingCache<String> cache = new ShapingCache<>(100);
+        cache.put("USD".toCharArray(), FONT, 0, "usd");
+
+        assertSame("usd", cache.get("USD".toCharArray(), FONT, 0));
+        assertNull(cache.get("EUR".toCharArray(), FONT, 0));
+    }
+
+    @Test
+    public void testEntriesAreKeyedByFontAndDirection() {
+        ShapingCache<String> cache = new ShapingCache<>(100);
+        cache.put("0.00".toCharArray(), FONT, 0, "plain");
+        cache.put("0.00".toCharArray(), BOLD_FONT, 0, "bold");
+        cache.put("0.00".toCharArray(), FONT, 1, "rtl");
+
+        assertEquals(3, cache.getEntryCount());
+        assertSame("plain", cache.get("0.00".toCharArray(), FONT, 0));
+        assertSame("bold", cache.get("0.00".toCharArray(), BOLD_FONT, 0));
+        assertSame("rtl", cache.get("0.00".toCharArray(), FONT, 1));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() {
+        ShapingCache<String> cache = new ShapingCache<>(9);
+        cache.put("aaa".toCharArray(), FONT, 0, "a");
+        cache.put("bbb".toCharArray(), FONT, 0, "b");
+        cache.put("ccc".toCharArray(), FONT, 0, "c");
+        assertEquals(9, cache.getSize());
+
+        // Touch the oldest entry, so that the next one is evicted instead
+        assertSame("a", cache.get("aaa".toCharArray(), FONT, 0));
+        cache.put("dddd".toCharArray(), FONT, 0, "d");
+
+        assertSame("a", cache.get("aaa".toCharArray(), FONT, 0));
+        assertNull(cache.get("bbb".toCharArray(), FONT, 0));
+        assertNull(cache.get("ccc".toCharArray(), FONT, 0));
+        assertSame("d", cache.get("dddd".toCharArray(), FONT, 0));
+        assertEquals(7, cache.getSize());
+    }
+
+    @Test
+    public void testReplacingAnEntryKeepsTheSize() {
+        ShapingCache<String> cache = new ShapingCache<>(10);
+        cache.put("abc".toCharArray(), FONT, 0, "first");
+        cache.put("abc".toCharArray(), FONT, 0, "second");
+
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(3, cache.getSize());
+        assertSame("second", cache.get("abc".toCharArray(), FONT, 0));
+    }
+
+    @Test
+    public void testTextLargerThanTheCacheIsNotAdded() {
+        ShapingCache<String> cache = new ShapingCache<>(4);
+        cache.put("abc".toCharArray(), FONT, 0, "small");
+        cache.put("abcde".toCharArray(), FONT, 0, "large");
+
+        assertEquals(1, cache.getEntryCount());
+        assertSame("small", cache.get("abc".toCharArray(), FONT, 0));
+        assertNull(cache.get("abcde".toCharArray(), FONT, 0));
+    }
+
+    @Test
+    public void testEmptyCacheHoldsNothing() {
+        ShapingCache<String> cache = new ShapingCache<>(0);
+        cache.put("".toCharArray(), FONT, 0, "empty");
+        assertNull(cache.get("".toCharArray(), FONT, 0));
+    }
+}
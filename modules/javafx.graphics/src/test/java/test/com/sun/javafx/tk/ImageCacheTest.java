@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk;
+
+import com.sun.javafx.runtime.async.AsyncOperationListener;
+import com.sun.javafx.tk.ImageCache;
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.Toolkit;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubAsyncImageLoader;
+import test.com.sun.javafx.pgstub.StubImageLoaderFactory;
+import test.com.sun.javafx.pgstub.StubPlatformImageInfo;
+import test.com.sun.javafx.pgstub.StubToolkit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ImageCacheTest {
+
+    private static class TestListener implements AsyncOperationListener<ImageLoader> {
+        final List<String> events = new ArrayList<>();
+        ImageLoader loader;
+
+        @Override public void onProgress(int cur, int max) {
+            events.add("progress " + cur);
+        }
+
+        @Override public void onCompletion(ImageLoader value) {
+            events.add("completed");
+            loader = value;
+        }
+
+        @Override public void onCancel() {
+            events.add("cancelled");
+        }
+
+        @Override public void onException(Exception exception) {
+            events.add("failed");
+        }
+    }
+
+    private StubImageLoaderFactory imageLoaderFactory;
+    private final List<Object> owners = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        imageLoaderFactory = ((StubToolkit) Toolkit.getToolkit()).getImageLoaderFactory();
+        imageLoaderFactory.reset();
+    }
+
+    private ImageCache.Request load(ImageCache cache, String url, TestListener listener) {
+        imageLoaderFactory.registerImage(url, new StubPlatformImageInfo(100, 50));
+        Object owner = new Object();
+        owners.add(owner);
+        return cache.load(owner, listener, url, 0, 0, false, false);
+    }
+
+    @Test
+    public void testLoadsAreThrottled() {
+        ImageCache cache = new ImageCache(2, 0);
+        TestListener l1 = new TestListener();
+        TestListener l2 = new TestListener();
+        TestListener l3 = new TestListener();
+
+        load(cache, "file:a.png", l1);
+        StubAsyncImageLoader a = imageLoaderFactory.getLastAsyncImageLoader();
+        load(cache, "file:b.png", l2);
+        StubAsyncImageLoader b = imageLoaderFactory.getLastAsyncImageLoader();
+        load(cache, "file:c.png", l3);
+
+        assertTrue(a.isStarted());
+        assertTrue(b.isStarted());
+        assertSame(b, imageLoaderFactory.getLastAsyncImageLoader());
+        assertEquals(2, cache.getRunningCount());
+        assertEquals(1, cache.getPendingCount());
+
+        a.finish();
+        StubAsyncImageLoader c = imageLoaderFactory.getLastAsyncImageLoader();
+        assertNotSame(b, c);
+        assertTrue(c.isStarted());
+        assertEquals(2, cache.getRunningCount());
+        assertEquals(0, cache.getPendingCount());
+
+        b.finish();
+        c.finish();
+        assertEquals(0, cache.getRunningCount());
+        assertEquals("completed", l1.events.get(l1.events.size() - 1));
+        assertEquals("completed", l2.events.get(l2.events.size() - 1));
+        assertEquals("completed", l3.events.get(l3.events.size() - 1));
+    }
+
+    @Test
+    public void testIdenticalLoadsAreShared() {
+        ImageCache cache = new ImageCache(2, 0);
+        TestListener l1 = new TestListener();
+        TestListener l2 = new TestListener();
+
+        load(cache, "file:shared.png", l1);
+        StubAsyncImageLoader loader = imageLoaderFactory.getLastAsyncImageLoader();
+        imageLoaderFactory.reset();
+        load(cache, "file:shared.png", l2);
+
+        assertNull(imageLoaderFactory.getLastAsyncImageLoader());
+        assertEquals(1, cache.getRunningCount());
+
+        loader.setProgress(10, 100);
+        loader.finish();
+        assertEquals(List.of("progress 10", "progress 100", "completed"), l1.events);
+        assertEquals(l1.events, l2.events);
+        assertNotNull(l1.loader);
+        assertSame(l1.loader, l2.loader);
+
+        // Once completed, the load is no longer shared
+        load(cache, "file:shared.png", new TestListener());
+        assertNotNull(imageLoaderFactory.getLastAsyncImageLoader());
+    }
+
+    @Test
+    public void testPrioritizedThenOldestLoadsStartFirst() {
+        ImageCache cache = new ImageCache(1, 0);
+        TestListener first = new TestListener();
+        TestListener old = new TestListener();
+        TestListener prioritized = new TestListener();
+        TestListener newest = new TestListener();
+
+        load(cache, "file:first.png", first);
+        load(cache, "file:old.png", old);
+        ImageCache.Request request = load(cache, "file:prioritized.png", prioritized);
+        load(cache, "file:newest.png", newest);
+        request.prioritize();
+        assertEquals(3, cache.getPendingCount());
+
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertTrue(prioritized.events.contains("completed"));
+        assertTrue(old.events.isEmpty());
+
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertTrue(old.events.contains("completed"));
+        assertTrue(newest.events.isEmpty());
+
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertTrue(newest.events.contains("completed"));
+        assertEquals(0, cache.getPendingCount());
+    }
+
+    @Test
+    public void testLastPrioritizedLoadStartsFirst() {
+        ImageCache cache = new ImageCache(1, 0);
+        TestListener earlier = new TestListener();
+        TestListener later = new TestListener();
+
+        load(cache, "file:first.png", new TestListener());
+        ImageCache.Request r1 = load(cache, "file:earlier.png", earlier);
+        ImageCache.Request r2 = load(cache, "file:later.png", later);
+        r1.prioritize();
+        r2.prioritize();
+
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertTrue(later.events.contains("completed"));
+        assertTrue(earlier.events.isEmpty());
+
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertTrue(earlier.events.contains("completed"));
+        assertEquals(0, cache.getPendingCount());
+    }
+
+    @Test
+    public void testCancelSharedRequest() {
+        ImageCache cache = new ImageCache(2, 0);
+        TestListener l1 = new TestListener();
+        TestListener l2 = new TestListener();
+
+        ImageCache.Request r1 = load(cache, "file:cancel.png", l1);
+        ImageCache.Request r2 = load(cache, "file:cancel.png", l2);
+        StubAsyncImageLoader loader = imageLoaderFactory.getLastAsyncImageLoader();
+
+        r1.cancel();
+        assertEquals(List.of("cancelled"), l1.events);
+        assertFalse(loader.isCancelled());
+
+        r2.cancel();
+        assertEquals(List.of("cancelled"), l2.events);
+        assertTrue(loader.isCancelled());
+        assertEquals(0, cache.getRunningCount());
+
+        // Cancelling again has no effect
+        r2.cancel();
+        assertEquals(List.of("cancelled"), l2.events);
+    }
+
+    @Test
+    public void testCancelPendingLoad() {
+        ImageCache cache = new ImageCache(1, 0);
+        TestListener running = new TestListener();
+        TestListener waiting = new TestListener();
+
+        load(cache, "file:running.png", running);
+        StubAsyncImageLoader loader = imageLoaderFactory.getLastAsyncImageLoader();
+        ImageCache.Request request = load(cache, "file:waiting.png", waiting);
+        assertEquals(1, cache.getPendingCount());
+
+        request.cancel();
+        assertEquals(List.of("cancelled"), waiting.events);
+        assertEquals(0, cache.getPendingCount());
+        assertEquals(1, cache.getRunningCount());
+
+        loader.finish();
+        assertEquals(0, cache.getRunningCount());
+        assertSame(loader, imageLoaderFactory.getLastAsyncImageLoader());
+    }
+
+    @Test
+    public void testUnreachableOwnerCancelsLoad() throws Exception {
+        ImageCache cache = new ImageCache(1, 0);
+        TestListener listener = new TestListener();
+
+        load(cache, "file:running.png", listener);
+        StubAsyncImageLoader loader = imageLoaderFactory.getLastAsyncImageLoader();
+        load(cache, "file:waiting.png", new TestListener());
+        assertEquals(1, cache.getPendingCount());
+
+        WeakReference<Object> ref = new WeakReference<>(owners.get(0));
+        WeakReference<Object> pendingRef = new WeakReference<>(owners.get(1));
+        owners.clear();
+        for (int i = 0; i < 10 && (ref.get() != null || pendingRef.get() != null); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+        assertNull(pendingRef.get());
+
+        // The next notification drops the requests of the collected owners
+        loader.setProgress(50, 100);
+
+        assertTrue(loader.isCancelled());
+        assertTrue(listener.events.isEmpty());
+        assertEquals(0, cache.getRunningCount());
+        assertEquals(0, cache.getPendingCount());
+    }
+
+    @Test
+    public void testUnreachableOwnerIsNotStarted() throws Exception {
+        ImageCache cache = new ImageCache(1, 0);
+        TestListener running = new TestListener();
+        TestListener waiting = new TestListener();
+
+        load(cache, "file:running.png", running);
+        StubAsyncImageLoader loader = imageLoaderFactory.getLastAsyncImageLoader();
+        load(cache, "file:collected.png", new TestListener());
+        load(cache, "file:waiting.png", waiting);
+        assertEquals(2, cache.getPendingCount());
+
+        WeakReference<Object> ref = new WeakReference<>(owners.remove(1));
+        for (int i = 0; i < 10 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+
+        // The load of the collected owner is dropped when the next load is
+        // started, without any progress of the running load
+        loader.finish();
+        StubAsyncImageLoader next = imageLoaderFactory.getLastAsyncImageLoader();
+        assertNotSame(loader, next);
+        assertEquals(0, cache.getPendingCount());
+        next.finish();
+        assertTrue(waiting.events.contains("completed"));
+        assertSame(next, imageLoaderFactory.getLastAsyncImageLoader());
+    }
+
+    @Test
+    public void testLoadedImagesAreRetainedLeastRecentlyUsedFirst() {
+        // Room for two 100x50 images
+        ImageCache cache = new ImageCache(4, 2 * 100 * 50 * 4);
+        String[] urls = { "file:lru1.png", "file:lru2.png", "file:lru3.png" };
+
+        load(cache, urls[0], new TestListener());
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        load(cache, urls[1], new TestListener());
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertEquals(2 * 100 * 50 * 4, cache.getSize());
+
+        assertNotNull(cache.get(urls[0], 0, 0, false, false));
+        assertNull(cache.get(urls[0], 10, 0, false, false));
+
+        load(cache, urls[2], new TestListener());
+        imageLoaderFactory.getLastAsyncImageLoader().finish();
+        assertNotNull(cache.get(urls[0], 0, 0, false, false));
+        assertNull(cache.get(urls[1], 0, 0, false, false));
+        assertNotNull(cache.get(urls[2], 0, 0, false, false));
+        assertEquals(2 * 100 * 50 * 4, cache.getSize());
+
+        cache.setMaxSize(100 * 50 * 4);
+        assertNull(cache.get(urls[0], 0, 0, false, false));
+        assertNotNull(cache.get(urls[2], 0, 0, false, false));
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertNull(cache.get(urls[2], 0, 0, false, false));
+    }
+
+    @Test
+    public void testFailedLoadsAreNotRetained() {
+        ImageCache cache = new ImageCache(4, 1024 * 1024);
+        TestListener listener = new TestListener();
+
+        load(cache, "file:failed.png", listener);
+        imageLoaderFactory.getLastAsyncImageLoader().finish(new Exception("failed"));
+
+        assertEquals(List.of("failed"), listener.events);
+        assertNull(cache.get("file:failed.png", 0, 0, false, false));
+        assertEquals(0, cache.getSize());
+    }
+}
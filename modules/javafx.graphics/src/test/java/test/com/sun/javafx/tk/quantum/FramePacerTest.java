@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.tk.quantum.FramePacerShim;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FramePacerTest {
+
+    private static final long MS = 1000000L;
+    private static final long INTERVAL_60 = 1000000000L / 60;
+
+    private long now;
+
+    /*
+     * Runs the given number of frames, each rendered in frameTime and
+     * started as soon as the pacer allows it.
+     */
+    private void renderFrames(Object pacer, int frames, long frameTime) {
+        for (int i = 0; i < frames; i++) {
+            now += FramePacerShim.getInterval(pacer);
+            assertTrue(FramePacerShim.shouldPulse(pacer, now));
+            FramePacerShim.pulseStarted(pacer, now);
+            FramePacerShim.renderSubmitted(pacer);
+            FramePacerShim.frameRendered(pacer, now + frameTime);
+        }
+    }
+
+    @Test
+    public void testPulsesArePacedToTheTargetRate() {
+        Object pacer = FramePacerShim.createFramePacer(30, 60);
+        long interval = 1000000000L / 30;
+        assertEquals(interval, FramePacerShim.getInterval(pacer));
+
+        FramePacerShim.pulseStarted(pacer, 1000 * MS);
+        assertFalse(FramePacerShim.shouldPulse(pacer, 1000 * MS + interval / 2));
+        assertTrue(FramePacerShim.shouldPulse(pacer, 1000 * MS + interval));
+    }
+
+    @Test
+    public void testEarlyTicksWithinAQuarterOfTheRefreshPeriodAreAccepted() {
+        Object pacer = FramePacerShim.createFramePacer(30, 60);
+        long interval = 1000000000L / 30;
+        long quarter = 1000000000L / 60 / 4;
+
+        FramePacerShim.pulseStarted(pacer, 1000 * MS);
+        assertTrue(FramePacerShim.shouldPulse(pacer, 1000 * MS + interval - quarter));
+        assertFalse(FramePacerShim.shouldPulse(pacer, 1000 * MS + interval - quarter - 1));
+    }
+
+    @Test
+    public void testFramesThatFitKeepTheTargetRate() {
+        Object pacer = FramePacerShim.createFramePacer(60, 60);
+        renderFrames(pacer, 300, 15 * MS);
+        assertEquals(INTERVAL_60, FramePacerShim.getInterval(pacer));
+    }
+
+    @Test
+    public void testSlowFramesHalveTheRate() {
+        Object pacer = FramePacerShim.createFramePacer(60, 60);
+        renderFrames(pacer, 29, 25 * MS);
+        // The divisor is only adjusted once enough frames were observed
+        assertEquals(INTERVAL_60, FramePacerShim.getInterval(pacer));
+        renderFrames(pacer, 1, 25 * MS);
+        assertEquals(2 * INTERVAL_60, FramePacerShim.getInterval(pacer));
+        // The frames now fit into the longer interval
+        renderFrames(pacer, 300, 25 * MS);
+        assertEquals(2 * INTERVAL_60, FramePacerShim.getInterval(pacer));
+    }
+
+    @Test
+    public void testRateIsNeverReducedBelowAQuarterOfTheTarget() {
+        Object pacer = FramePacerShim.createFramePacer(60, 60);
+        renderFrames(pacer, 600, 200 * MS);
+        assertEquals(4 * INTERVAL_60, FramePacerShim.getInterval(pacer));
+    }
+
+    @Test
+    public void testRateRecoversWhenFramesGetFaster() {
+        Object pacer = FramePacerShim.createFramePacer(60, 60);
+        renderFrames(pacer, 600, 200 * MS);
+        renderFrames(pacer, 600, 5 * MS);
+        assertEquals(INTERVAL_60, FramePacerShim.getInterval(pacer));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.util.Pair;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ImageSerialTest {
+
+    private Image image;
+    private Image.Serial serial;
+    private int[] pixels;
+
+    @Before
+    public void setUp() {
+        image = Image.fromIntArgbPreData(new int[100 * 50], 100, 50);
+        serial = image.getSerial();
+        pixels = new int[100 * 50];
+    }
+
+    private void setPixels(int x, int y, int w, int h) {
+        image.setPixels(x, y, w, h, PixelFormat.getIntArgbPreInstance(),
+                        pixels, 0, w);
+    }
+
+    @Test
+    public void testUnchangedImageHasNoDirtyRegion() {
+        int id = serial.getId();
+        Pair<Integer, Rectangle> idRect = serial.getIdRect(id);
+        assertEquals(id, (int) idRect.getKey());
+        assertNull(idRect.getValue());
+    }
+
+    @Test
+    public void testSinglePixelUpdate() {
+        int id = serial.getId();
+        image.setArgb(7, 9, 0xffffffff);
+
+        Pair<Integer, Rectangle> idRect = serial.getIdRect(id);
+        assertEquals(id + 1, (int) idRect.getKey());
+        assertEquals(new Rectangle(7, 9, 1, 1), idRect.getValue());
+    }
+
+    @Test
+    public void testUpdatesBetweenReadsAreMerged() {
+        int id = serial.getId();
+        setPixels(10, 10, 5, 5);
+        setPixels(30, 20, 10, 2);
+        image.setArgb(12, 40, 0);
+
+        Pair<Integer, Rectangle> idRect = serial.getIdRect(id);
+        assertEquals(id + 3, (int) idRect.getKey());
+        assertEquals(new Rectangle(10, 10, 30, 31), idRect.getValue());
+    }
+
+    @Test
+    public void testUpdatesSinceOlderReadAreMerged() {
+        int id = serial.getId();
+        setPixels(0, 0, 2, 2);
+        int id2 = serial.getIdRect(id).getKey();
+        setPixels(50, 40, 4, 4);
+
+        assertEquals(new Rectangle(50, 40, 4, 4), serial.getIdRect(id2).getValue());
+        assertEquals(new Rectangle(0, 0, 54, 44), serial.getIdRect(id).getValue());
+    }
+
+    @Test
+    public void testWholeImageUpdate() {
+        int id = serial.getId();
+        setPixels(0, 0, 2, 2);
+        image.bufferDirty(null);
+        setPixels(4, 4, 2, 2);
+        assertNull(serial.getIdRect(id).getValue());
+
+        int id2 = serial.getId();
+        image.bufferDirty(new Rectangle(1, 2, 3, 4));
+        assertEquals(new Rectangle(1, 2, 3, 4), serial.getIdRect(id2).getValue());
+    }
+
+    @Test
+    public void testForgottenUpdatesMarkWholeImage() {
+        int id = serial.getId();
+        for (int i = 0; i < 20; i++) {
+            image.setArgb(i, i, 0);
+            serial.getId();
+        }
+        assertNull(serial.getIdRect(id).getValue());
+
+        int id2 = serial.getId() - 2;
+        assertEquals(new Rectangle(18, 18, 2, 2), serial.getIdRect(id2).getValue());
+    }
+}
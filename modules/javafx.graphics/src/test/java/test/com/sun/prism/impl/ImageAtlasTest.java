@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.Image;
+import com.sun.prism.MediaFrame;
+import com.sun.prism.Mesh;
+import com.sun.prism.MeshView;
+import com.sun.prism.PhongMaterial;
+import com.sun.prism.PixelFormat;
+import com.sun.prism.Presentable;
+import com.sun.prism.PresentableState;
+import com.sun.prism.RTTexture;
+import com.sun.prism.Texture;
+import com.sun.prism.impl.BaseResourceFactory;
+import com.sun.prism.impl.BaseResourcePool;
+import com.sun.prism.impl.BaseTexture;
+import com.sun.prism.impl.ImageAtlasShim;
+import com.sun.prism.impl.ManagedResource;
+import com.sun.prism.impl.TextureCacheGovernor;
+import com.sun.prism.impl.TextureResourcePool;
+import com.sun.prism.shape.ShapeRep;
+import java.nio.Buffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ImageAtlasTest {
+
+    private static final int PAGE_SIZE = 32;
+
+    private static final class TestPool extends BaseResourcePool<Object>
+            implements TextureResourcePool<Object> {
+        TestPool() {
+            super(1L << 30, 1L << 30);
+        }
+
+        @Override public long size(Object resource) {
+            return PAGE_SIZE * PAGE_SIZE * 4;
+        }
+
+        @Override public long estimateTextureSize(int width, int height, PixelFormat format) {
+            return (long) width * height * format.getBytesPerPixelUnit();
+        }
+
+        @Override public long estimateRTTextureSize(int width, int height, boolean hasDepth) {
+            return (long) width * height * 4;
+        }
+    }
+
+    private static final class TestResource extends ManagedResource<Object> {
+        // The number of rectangles uploaded into the texture
+        int updates;
+
+        TestResource(TestPool pool) {
+            super(new Object(), pool);
+        }
+    }
+
+    private static final class TestTexture extends BaseTexture<TestResource> {
+        TestTexture(TestResource resource, PixelFormat format, int w, int h) {
+            super(resource, format, WrapMode.CLAMP_NOT_NEEDED, w, h);
+        }
+
+        private TestTexture(TestTexture sharedTex, WrapMode newMode) {
+            super(sharedTex, newMode, false);
+        }
+
+        private TestTexture(TestTexture parentTex, WrapMode newMode, int x, int y, int w, int h) {
+            super(parentTex, newMode, x, y, w, h);
+        }
+
+        TestResource getResource() {
+            return resource;
+        }
+
+        @Override protected Texture createSharedTexture(WrapMode newMode) {
+            return new TestTexture(this, newMode);
+        }
+
+        @Override protected Texture createSubTexture(WrapMode newMode, int x, int y, int w, int h) {
+            return new TestTexture(this, newMode, x, y, w, h);
+        }
+
+        @Override public void update(Buffer buffer, PixelFormat format,
+                                     int dstx, int dsty, int srcx, int srcy,
+                                     int srcw, int srch, int srcscan, boolean skipFlush) {
+            resource.updates++;
+        }
+
+        @Override public void update(MediaFrame frame, boolean skipFlush) {
+        }
+    }
+
+    private static final class TestResourceFactory extends BaseResourceFactory {
+        final TestPool pool = new TestPool();
+        int pagesCreated;
+
+        @Override public TextureResourcePool<?> getTextureResourcePool() {
+            return pool;
+        }
+
+        @Override public Texture createTexture(PixelFormat formatHint, Texture.Usage usageHint,
+                                               Texture.WrapMode wrapMode, int w, int h) {
+            pagesCreated++;
+            return new TestTexture(new TestResource(pool), formatHint, w, h);
+        }
+
+        @Override public Texture createTexture(PixelFormat formatHint, Texture.Usage usageHint,
+                                               Texture.WrapMode wrapMode, int w, int h,
+                                               boolean useMipmap) {
+            return createTexture(formatHint, usageHint, wrapMode, w, h);
+        }
+
+        @Override public boolean isFormatSupported(PixelFormat format) {
+            return true;
+        }
+
+        @Override public Texture createTexture(MediaFrame frame) { return null; }
+        @Override public int getMaximumTextureSize() { return 4096; }
+        @Override public int getRTTWidth(int w, Texture.WrapMode wrapMode) { return w; }
+        @Override public int getRTTHeight(int h, Texture.WrapMode wrapMode) { return h; }
+        @Override public RTTexture createRTTexture(int width, int height, Texture.WrapMode wrapMode) { return null; }
+        @Override public RTTexture createRTTexture(int width, int height, Texture.WrapMode wrapMode, boolean msaa) { return null; }
+        @Override public boolean isCompatibleTexture(Texture tex) { return tex instanceof TestTexture; }
+        @Override public Presentable createPresentable(PresentableState pState) { return null; }
+        @Override public ShapeRep createPathRep() { return null; }
+        @Override public ShapeRep createRoundRectRep() { return null; }
+        @Override public ShapeRep createEllipseRep() { return null; }
+        @Override public ShapeRep createArcRep() { return null; }
+        @Override public PhongMaterial createPhongMaterial() { return null; }
+        @Override public MeshView createMeshView(Mesh mesh) { return null; }
+        @Override public Mesh createMesh() { return null; }
+    }
+
+    private TestResourceFactory factory;
+    private TextureCacheGovernor.Client atlas;
+
+    @Before
+    public void setUp() {
+        factory = new TestResourceFactory();
+    }
+
+    @After
+    public void tearDown() {
+        if (atlas != null) {
+            ImageAtlasShim.dispose(atlas);
+        }
+        factory.dispose();
+    }
+
+    private void createAtlas(int maxPages) {
+        atlas = ImageAtlasShim.createImageAtlas(factory, 24, PAGE_SIZE, maxPages);
+    }
+
+    private static Image createImage(int w, int h) {
+        return Image.fromIntArgbPreData(new int[w * h], w, h);
+    }
+
+    private TestTexture getTexture(Image image) {
+        Texture tex = ImageAtlasShim.getTexture(atlas, image);
+        if (tex != null) {
+            assertTrue(tex.isLocked());
+            tex.unlock();
+        }
+        return (TestTexture) tex;
+    }
+
+    private static Rectangle getBounds(Texture tex) {
+        return new Rectangle(tex.getContentX(), tex.getContentY(),
+                             tex.getContentWidth(), tex.getContentHeight());
+    }
+
+    @Test
+    public void testSmallImagesArePackedIntoOnePage() {
+        createAtlas(2);
+        TestTexture t1 = getTexture(createImage(10, 10));
+        TestTexture t2 = getTexture(createImage(12, 8));
+
+        assertSame(t1.getResource(), t2.getResource());
+        assertEquals(1, factory.pagesCreated);
+        assertEquals(10, t1.getContentWidth());
+        assertEquals(8, t2.getContentHeight());
+        // The regions are separated by their gutters
+        Rectangle r1 = getBounds(t1);
+        Rectangle r2 = getBounds(t2);
+        r1.grow(1, 1);
+        assertTrue(r1.x >= 0 && r1.y >= 0);
+        assertTrue(r1.intersection(r2).isEmpty());
+    }
+
+    @Test
+    public void testOnlyRegionsOfTheSamePageShareBindings() {
+        createAtlas(2);
+        TestTexture t1 = getTexture(createImage(10, 10));
+        TestTexture t2 = getTexture(createImage(12, 8));
+        assertTrue(t1.sharesBindingWith(t2));
+
+        t2.setLinearFiltering(false);
+        assertFalse(t1.sharesBindingWith(t2));
+        t2.setLinearFiltering(true);
+
+        // Textures which share a resource without being regions of a page
+        // are rebound, whatever their sampling state
+        TestTexture texture = new TestTexture(new TestResource(factory.pool), PixelFormat.BYTE_BGRA_PRE, 16, 16);
+        TestTexture shared = new TestTexture(texture, texture.getWrapMode());
+        assertSame(texture.getResource(), shared.getResource());
+        assertFalse(texture.sharesBindingWith(shared));
+        assertFalse(t1.sharesBindingWith(texture));
+    }
+
+    @Test
+    public void testLargeImagesAreNotPacked() {
+        createAtlas(2);
+        Image image = createImage(25, 10);
+
+        assertFalse(ImageAtlasShim.accepts(atlas, image));
+        assertNull(ImageAtlasShim.getTexture(atlas, image));
+        assertEquals(0, factory.pagesCreated);
+    }
+
+    @Test
+    public void testImageIsUploadedOnlyWhenItsSerialChanges() {
+        createAtlas(2);
+        Image image = createImage(10, 10);
+        TestTexture t1 = getTexture(image);
+        int updates = t1.getResource().updates;
+        assertTrue(updates > 0);
+
+        TestTexture t2 = getTexture(image);
+        assertSame(t1, t2);
+        assertEquals(updates, t2.getResource().updates);
+
+        image.setArgb(1, 1, 0xffffffff);
+        TestTexture t3 = getTexture(image);
+        assertSame(t1, t3);
+        assertEquals(2 * updates, t3.getResource().updates);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPageIsResetWhenAllPagesAreFull() {
+        createAtlas(2);
+        // Only one of these fits on a page, with its gutter
+        Image i1 = createImage(20, 20);
+        Image i2 = createImage(20, 20);
+        Image i3 = createImage(20, 20);
+        TestTexture t1 = getTexture(i1);
+        TestTexture t2 = getTexture(i2);
+        assertNotSame(t1.getResource(), t2.getResource());
+        // i2 is now the most recently used image
+        getTexture(i2);
+
+        TestTexture t3 = getTexture(i3);
+        assertEquals(2, factory.pagesCreated);
+        assertSame(t1.getResource(), t3.getResource());
+
+        // i1 lost its place and is uploaded again, replacing i2
+        TestTexture t4 = getTexture(i1);
+        assertNotSame(t1, t4);
+        assertSame(t2.getResource(), t4.getResource());
+    }
+
+    @Test
+    public void testPageInUseIsNotReset() {
+        createAtlas(1);
+        Texture t1 = ImageAtlasShim.getTexture(atlas, createImage(20, 20));
+        assertNotNull(t1);
+
+        // The only page is locked by the first image
+        assertNull(ImageAtlasShim.getTexture(atlas, createImage(20, 20)));
+        t1.unlock();
+        assertNotNull(getTexture(createImage(20, 20)));
+    }
+
+    @Test
+    public void testColdPagesAreEvicted() {
+        createAtlas(2);
+        TestTexture t1 = getTexture(createImage(20, 20));
+        TestTexture t2 = getTexture(createImage(20, 20));
+        long pageSize = PAGE_SIZE * PAGE_SIZE * 4;
+        assertEquals(2 * pageSize, atlas.getOccupancy());
+
+        for (int i = 0; i < 5; i++) {
+            t1.getResource().bumpAge(100);
+        }
+        assertEquals(5, atlas.getColdestAge());
+
+        assertEquals(pageSize, atlas.evict(1, 3));
+        assertEquals(pageSize, atlas.getOccupancy());
+        assertTrue(t1.isSurfaceLost());
+        assertFalse(t2.isSurfaceLost());
+        // The remaining page has just been used
+        assertEquals(0, atlas.evict(1, 3));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl;
+
+import com.sun.prism.impl.TextureCacheGovernor;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TextureCacheGovernorTest {
+
+    /**
+     * A cache of equally sized entries, each identified by its age.
+     */
+    private static class TestCache implements TextureCacheGovernor.Client {
+        final String name;
+        final List<Integer> ages = new ArrayList<>();
+        final long entrySize;
+
+        TestCache(String name, long entrySize, int... ages) {
+            this.name = name;
+            this.entrySize = entrySize;
+            for (int age : ages) {
+                this.ages.add(age);
+            }
+        }
+
+        @Override public String getCacheName() {
+            return name;
+        }
+
+        @Override public long getOccupancy() {
+            return ages.size() * entrySize;
+        }
+
+        @Override public int getColdestAge() {
+            int max = -1;
+            for (int age : ages) {
+                max = Math.max(max, age);
+            }
+            return max;
+        }
+
+        @Override public long evict(long wanted, int minAge) {
+            long freed = 0;
+            ages.sort((a1, a2) -> a2 - a1);
+            while (freed < wanted && !ages.isEmpty() && ages.get(0) >= minAge) {
+                ages.remove(0);
+                freed += entrySize;
+            }
+            return freed;
+        }
+    }
+
+    private final List<TestCache> caches = new ArrayList<>();
+    private List<TextureCacheGovernor.Client> savedClients;
+
+    private TestCache register(String name, long entrySize, int... ages) {
+        TestCache cache = new TestCache(name, entrySize, ages);
+        caches.add(cache);
+        TextureCacheGovernor.register(cache);
+        return cache;
+    }
+
+    @Before
+    public void setUp() {
+        // Other caches may have been registered by the toolkit, they are
+        // restored once the test is done
+        savedClients = TextureCacheGovernor.getClients();
+        for (TextureCacheGovernor.Client c : savedClients) {
+            TextureCacheGovernor.unregister(c);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        for (TestCache cache : caches) {
+            TextureCacheGovernor.unregister(cache);
+        }
+        for (TextureCacheGovernor.Client c : savedClients) {
+            TextureCacheGovernor.register(c);
+        }
+    }
+
+    @Test
+    public void testOccupancyIsReportedPerCache() {
+        register("a", 100, 5, 6);
+        register("b", 10, 1, 2, 3);
+        assertEquals(2, TextureCacheGovernor.getClients().size());
+        assertEquals(230, TextureCacheGovernor.getTotalOccupancy());
+    }
+
+    @Test
+    public void testEvictsFromColdestCacheFirst() {
+        TestCache hot = register("hot", 100, 3, 4, 5);
+        TestCache cold = register("cold", 100, 50, 60, 70);
+
+        long freed = TextureCacheGovernor.reclaim(200);
+
+        assertEquals(200, freed);
+        assertEquals(3, hot.ages.size());
+        assertEquals(1, cold.ages.size());
+        assertEquals(50, (int) cold.ages.get(0));
+    }
+
+    @Test
+    public void testEvictionInterleavesByAge() {
+        TestCache a = register("a", 100, 10, 30);
+        TestCache b = register("b", 100, 20, 40);
+
+        long freed = TextureCacheGovernor.reclaim(300);
+
+        // 40 from b, 30 from a, 20 from b, in that order
+        assertEquals(300, freed);
+        assertEquals(1, a.ages.size());
+        assertEquals(10, (int) a.ages.get(0));
+        assertTrue(b.ages.isEmpty());
+    }
+
+    @Test
+    public void testRecentlyUsedEntriesAreNotEvicted() {
+        TestCache cache = register("recent", 100, 0, 1, 0);
+
+        assertEquals(0, TextureCacheGovernor.reclaim(100));
+        assertEquals(3, cache.ages.size());
+    }
+
+    @Test
+    public void testReclaimStopsWhenNothingIsLeft() {
+        TestCache cache = register("small", 100, 10, 20);
+
+        assertEquals(200, TextureCacheGovernor.reclaim(1000));
+        assertTrue(cache.ages.isEmpty());
+        assertEquals(0, TextureCacheGovernor.reclaim(1000));
+    }
+
+    @Test
+    public void testUnregisteredCacheIsIgnored() {
+        TestCache cache = register("gone", 100, 10, 20);
+        TextureCacheGovernor.unregister(cache);
+
+        assertEquals(0, TextureCacheGovernor.reclaim(100));
+        assertEquals(2, cache.ages.size());
+        assertFalse(TextureCacheGovernor.getClients().contains(cache));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.impl.packrect;
+
+import com.sun.javafx.geom.Rectangle;
+import com.sun.prism.impl.packrect.RectanglePacker;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RectanglePackerTest {
+
+    private static Rectangle add(RectanglePacker packer, int w, int h) {
+        Rectangle rect = new Rectangle(0, 0, w, h);
+        assertTrue(packer.add(rect));
+        return rect;
+    }
+
+    @Test
+    public void testRemovedSpaceIsReused() {
+        RectanglePacker packer = new RectanglePacker(null, 100, 20);
+        Rectangle r1 = add(packer, 40, 20);
+        add(packer, 40, 20);
+        assertFalse(packer.add(new Rectangle(0, 0, 40, 20)));
+
+        packer.remove(r1);
+        Rectangle r3 = add(packer, 40, 20);
+        assertEquals(0, r3.x);
+        assertEquals(0, r3.y);
+    }
+
+    @Test
+    public void testSmallerRectanglesFillRemovedSpace() {
+        RectanglePacker packer = new RectanglePacker(null, 100, 20);
+        Rectangle r1 = add(packer, 40, 20);
+        add(packer, 60, 20);
+
+        packer.remove(r1);
+        assertEquals(0, add(packer, 30, 20).x);
+        assertEquals(30, add(packer, 10, 20).x);
+        assertFalse(packer.add(new Rectangle(0, 0, 1, 20)));
+    }
+
+    @Test
+    public void testAdjacentRemovedSpaceIsCoalesced() {
+        RectanglePacker packer = new RectanglePacker(null, 100, 20);
+        Rectangle r1 = add(packer, 30, 20);
+        Rectangle r2 = add(packer, 30, 20);
+        Rectangle r3 = add(packer, 30, 20);
+        add(packer, 10, 20);
+
+        packer.remove(r1);
+        packer.remove(r3);
+        packer.remove(r2);
+        Rectangle r = add(packer, 90, 20);
+        assertEquals(0, r.x);
+    }
+
+    @Test
+    public void testRemovingTheLastRectangleReleasesTheTail() {
+        RectanglePacker packer = new RectanglePacker(null, 100, 20);
+        add(packer, 50, 20);
+        Rectangle r2 = add(packer, 30, 20);
+        Rectangle r3 = add(packer, 20, 20);
+
+        packer.remove(r2);
+        packer.remove(r3);
+        assertEquals(50, add(packer, 50, 20).x);
+    }
+
+    @Test
+    public void testRemoveFromVerticalPacker() {
+        RectanglePacker packer = new RectanglePacker(null, 10, 5, 20, 100, true);
+        Rectangle r1 = add(packer, 20, 60);
+        add(packer, 20, 40);
+        assertEquals(10, r1.x);
+        assertEquals(5, r1.y);
+
+        packer.remove(r1);
+        Rectangle r3 = add(packer, 20, 50);
+        assertEquals(10, r3.x);
+        assertEquals(5, r3.y);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.scenario.effect.impl.sw.java;
+
+import com.sun.scenario.effect.Color4f;
+import com.sun.scenario.effect.FilterContext;
+import com.sun.scenario.effect.impl.state.GaussianRenderState;
+import com.sun.scenario.effect.impl.sw.java.JSWEffectPeerShim;
+import com.sun.scenario.effect.impl.sw.java.JSWEffectPeerShim.BandFilter;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class JSWEffectPeerTest {
+
+    // Large enough for the passes to be split into bands
+    private static final int SRC_W = 300;
+    private static final int SRC_H = 200;
+    private static final int GROW = 6;
+    private static final int DST_W = SRC_W + GROW;
+    private static final int DST_H = SRC_H + GROW;
+
+    private final FilterContext fctx = new FilterContext(new Object()) {};
+    private final int src[] = createSource();
+
+    private static int[] createSource() {
+        Random random = new Random(42);
+        int pixels[] = new int[SRC_W * SRC_H];
+        for (int i = 0; i < pixels.length; i++) {
+            int a = random.nextInt(256);
+            int r = random.nextInt(a + 1);
+            int g = random.nextInt(a + 1);
+            int b = random.nextInt(a + 1);
+            pixels[i] = (a << 24) | (r << 16) | (g << 8) | b;
+        }
+        return pixels;
+    }
+
+    private static float[] createWeights() {
+        // The weights are repeated so that filterHV can index them from
+        // any offset in its circular buffer of samples
+        int kernelSize = GROW + 1;
+        float weights[] = new float[kernelSize * 2];
+        for (int i = 0; i < kernelSize; i++) {
+            weights[i] = weights[i + kernelSize] = (i + 1) / 28f;
+        }
+        return weights;
+    }
+
+    /*
+     * Filters the destination in one call, then in uneven bands filtered
+     * out of order and finally through filterBands, and checks that the
+     * results are identical.
+     */
+    private static void assertBandsMatchSequential(int count, int dst[], BandFilter filter) {
+        filter.filter(0, count);
+        int expected[] = dst.clone();
+
+        Arrays.fill(dst, 0);
+        int split1 = count / 5;
+        int split2 = count / 2 + 1;
+        filter.filter(split2, count);
+        filter.filter(0, split1);
+        filter.filter(split1, split2);
+        assertArrayEquals(expected, dst);
+
+        Arrays.fill(dst, 0);
+        JSWEffectPeerShim.filterBands(count, DST_W * DST_H, filter);
+        assertArrayEquals(expected, dst);
+    }
+
+    @Test
+    public void testBoxBlurHorizontalBands() {
+        int dst[] = new int[DST_W * SRC_H];
+        assertBandsMatchSequential(SRC_H, dst,
+            JSWEffectPeerShim.boxBlurHorizontal(fctx, dst, DST_W, SRC_H, src, SRC_W, SRC_H));
+    }
+
+    @Test
+    public void testBoxBlurVerticalBands() {
+        int dst[] = new int[SRC_W * DST_H];
+        assertBandsMatchSequential(SRC_W, dst,
+            JSWEffectPeerShim.boxBlurVertical(fctx, dst, SRC_W, DST_H, src, SRC_W, SRC_H));
+    }
+
+    @Test
+    public void testLinearConvolveVerticalBands() {
+        int dst[] = new int[SRC_W * DST_H];
+        assertBandsMatchSequential(SRC_W, dst,
+            JSWEffectPeerShim.linearConvolveVertical(fctx, dst, SRC_W, DST_H,
+                                                     src, SRC_W, SRC_H, createWeights()));
+    }
+
+    @Test
+    public void testLinearConvolveShadowHorizontalBands() {
+        GaussianRenderState state =
+            new GaussianRenderState(3f, 3f, 0f, true, new Color4f(1f, 0.5f, 0.25f, 1f), null);
+        int dst[] = new int[DST_W * SRC_H];
+        assertBandsMatchSequential(SRC_H, dst,
+            JSWEffectPeerShim.linearConvolveShadowHorizontal(fctx, state, dst, DST_W, SRC_H,
+                                                             src, SRC_W, SRC_H, createWeights()));
+    }
+}
@@ -237,6 +237,24 @@ public final class ImageTest {
         verifyLoadedImage(image2, 0, 0, false, false, 200, 100);
     }
 
+    @Test
+    public void loadSameImageAsyncSharesLoadTest() {
+        final String url = "file:shared.png";
+        registerImage(url, 200, 100);
+
+        final Image image1 = new Image(url, true);
+        final StubAsyncImageLoader lastAsyncImageLoader =
+                getLastAsyncImageLoader();
+        imageLoaderFactory.reset();
+        registerImage(url, 200, 100);
+        final Image image2 = new Image(url, true);
+        assertNull(imageLoaderFactory.getLastAsyncImageLoader());
+
+        lastAsyncImageLoader.finish();
+        verifyLoadedImage(image1, 0, 0, false, false, 200, 100);
+        verifyLoadedImage(image2, 0, 0, false, false, 200, 100);
+    }
+
     @Test
     public void loadImageAsyncErrorTest() {
         final String url = "file:test.png";
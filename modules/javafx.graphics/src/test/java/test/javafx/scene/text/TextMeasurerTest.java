@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextBoundsType;
+import javafx.scene.text.TextMeasurer;
+import javafx.scene.text.TextMetrics;
+
+import com.sun.javafx.tk.Toolkit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TextMeasurerTest {
+
+    private final Font font = new Font(12);
+
+    @Before
+    public void setUp() {
+        Toolkit.getToolkit();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullFontIsRejected() {
+        new TextMeasurer(null);
+    }
+
+    @Test
+    public void testDefaults() {
+        TextMeasurer measurer = new TextMeasurer(font);
+        assertSame(font, measurer.getFont());
+        assertEquals(0, measurer.getWrappingWidth(), 0);
+        assertEquals(0, measurer.getLineSpacing(), 0);
+        assertEquals(TextBoundsType.LOGICAL, measurer.getBoundsType());
+    }
+
+    @Test
+    public void testMetricsMatchTextNode() {
+        String s = "USD\n0.00";
+        Text text = new Text(s);
+        text.setFont(font);
+        text.setLineSpacing(3);
+
+        TextMetrics metrics = new TextMeasurer(font, 0, 3, TextBoundsType.LOGICAL).measure(s);
+
+        assertEquals(s, metrics.getText());
+        assertEquals(text.getLayoutBounds().getWidth(), metrics.getWidth(), 0);
+        assertEquals(text.getLayoutBounds().getHeight(), metrics.getHeight(), 0);
+        assertEquals(text.getBaselineOffset(), metrics.getBaselineOffset(), 0);
+        assertEquals(1, metrics.getLineCount());
+    }
+
+    @Test
+    public void testComputeWidth() {
+        TextMeasurer measurer = new TextMeasurer(font);
+        assertEquals(measurer.measure("0.00").getWidth(), measurer.computeWidth("0.00"), 0);
+        assertEquals(0, measurer.computeWidth(null), 0);
+        assertEquals("", measurer.measure(null).getText());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testInvalidLineIsRejected() {
+        new TextMeasurer(font).measure("USD").getLineStart(1);
+    }
+
+    @Test
+    public void testMeasuringOnSeveralThreads() throws Exception {
+        TextMeasurer measurer = new TextMeasurer(font);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            strings.add(Integer.toString(i * 7919));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    double[] widths = new double[strings.size()];
+                    for (int i = 0; i < widths.length; i++) {
+                        widths[i] = measurer.computeWidth(strings.get(i));
+                    }
+                    return widths;
+                }));
+            }
+            for (Future<double[]> future : futures) {
+                double[] widths = future.get();
+                for (int i = 0; i < widths.length; i++) {
+                    assertEquals(measurer.computeWidth(strings.get(i)), widths[i], 0);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package pixelconverters;
+
+import com.sun.javafx.image.PixelConverter;
+import com.sun.javafx.image.PixelGetter;
+import com.sun.javafx.image.PixelSetter;
+import com.sun.javafx.image.PixelUtils;
+import com.sun.javafx.image.impl.ByteArgb;
+import com.sun.javafx.image.impl.ByteBgr;
+import com.sun.javafx.image.impl.ByteBgra;
+import com.sun.javafx.image.impl.ByteBgraPre;
+import com.sun.javafx.image.impl.ByteGray;
+import com.sun.javafx.image.impl.ByteGrayAlpha;
+import com.sun.javafx.image.impl.ByteGrayAlphaPre;
+import com.sun.javafx.image.impl.ByteIndexed;
+import com.sun.javafx.image.impl.ByteRgb;
+import com.sun.javafx.image.impl.ByteRgba;
+import com.sun.javafx.image.impl.IntArgb;
+import com.sun.javafx.image.impl.IntArgbPre;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.image.PixelFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of every pair of pixel formats for which
+ * {@link PixelUtils#getConverter} returns a converter, on square images of
+ * the given size stored in heap or direct buffers.
+ * <p>
+ * The converters are internal, the benchmarks must be compiled and run
+ * against the JavaFX modules with
+ * {@code --add-exports javafx.graphics/com.sun.javafx.image=ALL-UNNAMED}
+ * and
+ * {@code --add-exports javafx.graphics/com.sun.javafx.image.impl=ALL-UNNAMED},
+ * for example:
+ * <pre>
+ * java -cp jmh-benchmarks.jar --module-path $JAVAFX_SDK/lib \
+ *      --add-modules javafx.graphics --add-exports ... \
+ *      org.openjdk.jmh.Main PixelConverterBenchmark -p src=ByteBgra -p dst=IntArgbPre
+ * </pre>
+ * The opaque formats {@code ByteBgr} and {@code ByteGray} can only be
+ * written from opaque sources, the setup of the other combinations fails
+ * and JMH moves on to the next set of parameters.
+ * <p>
+ * Large images are converted in parallel bands on machines with more than
+ * one processor; run with {@code -jvmArgs -XX:ActiveProcessorCount=1} to
+ * measure the conversion loops alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PixelConverterBenchmark {
+
+    @Param({ "ByteArgb", "ByteBgr", "ByteBgra", "ByteBgraPre", "ByteGray",
+             "ByteGrayAlpha", "ByteGrayAlphaPre", "ByteIndexed", "ByteRgb",
+             "ByteRgba", "IntArgb", "IntArgbPre" })
+    public String src;
+
+    @Param({ "ByteArgb", "ByteBgr", "ByteBgra", "ByteBgraPre", "ByteGray",
+             "ByteGrayAlpha", "ByteGrayAlphaPre", "ByteRgba", "IntArgb",
+             "IntArgbPre" })
+    public String dst;
+
+    @Param({ "64", "512", "4096" })
+    public int size;
+
+    @Param({ "false", "true" })
+    public boolean direct;
+
+    private PixelConverter<Buffer, Buffer> converter;
+    private Buffer srcbuf;
+    private Buffer dstbuf;
+    private int srcscan;
+    private int dstscan;
+
+    private static PixelGetter<?> getter(String name) {
+        switch (name) {
+            case "ByteArgb":         return ByteArgb.getter;
+            case "ByteBgr":          return ByteBgr.getter;
+            case "ByteBgra":         return ByteBgra.getter;
+            case "ByteBgraPre":      return ByteBgraPre.getter;
+            case "ByteGray":         return ByteGray.getter;
+            case "ByteGrayAlpha":    return ByteGrayAlpha.getter;
+            case "ByteGrayAlphaPre": return ByteGrayAlphaPre.getter;
+            case "ByteRgb":          return ByteRgb.getter;
+            case "ByteRgba":         return ByteRgba.getter;
+            case "IntArgb":          return IntArgb.getter;
+            case "IntArgbPre":       return IntArgbPre.getter;
+            case "ByteIndexed": {
+                int colors[] = new int[256];
+                Random random = new Random(0);
+                for (int i = 0; i < colors.length; i++) {
+                    colors[i] = random.nextInt();
+                }
+                return ByteIndexed.createGetter(
+                        PixelFormat.createByteIndexedInstance(colors));
+            }
+            default: throw new IllegalArgumentException(name);
+        }
+    }
+
+    private static PixelSetter<?> setter(String name) {
+        switch (name) {
+            case "ByteArgb":         return ByteArgb.setter;
+            case "ByteBgr":          return ByteBgr.setter;
+            case "ByteBgra":         return ByteBgra.setter;
+            case "ByteBgraPre":      return ByteBgraPre.setter;
+            case "ByteGray":         return ByteGray.setter;
+            case "ByteGrayAlpha":    return ByteGrayAlpha.setter;
+            case "ByteGrayAlphaPre": return ByteGrayAlphaPre.setter;
+            case "ByteRgba":         return ByteRgba.setter;
+            case "IntArgb":          return IntArgb.setter;
+            case "IntArgbPre":       return IntArgbPre.setter;
+            default: throw new IllegalArgumentException(name);
+        }
+    }
+
+    private Buffer allocate(boolean isByte, int elems) {
+        int count = size * size * elems;
+        if (isByte) {
+            return direct ? ByteBuffer.allocateDirect(count) : ByteBuffer.allocate(count);
+        }
+        return direct ? ByteBuffer.allocateDirect(count * 4).asIntBuffer() : IntBuffer.allocate(count);
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        PixelGetter<?> getter = getter(src);
+        PixelSetter<?> setter = setter(dst);
+        converter = (PixelConverter<Buffer, Buffer>) PixelUtils.getConverter(getter, setter);
+        if (converter == null) {
+            throw new IllegalStateException("No converter from " + src + " to " + dst);
+        }
+        boolean srcbytes = src.startsWith("Byte");
+        boolean dstbytes = dst.startsWith("Byte");
+        srcscan = size * getter.getNumElements();
+        dstscan = size * setter.getNumElements();
+        srcbuf = allocate(srcbytes, getter.getNumElements());
+        dstbuf = allocate(dstbytes, setter.getNumElements());
+
+        Random random = new Random(1);
+        if (srcbuf instanceof ByteBuffer) {
+            ByteBuffer b = (ByteBuffer) srcbuf;
+            for (int i = 0; i < b.capacity(); i++) {
+                b.put(i, (byte) random.nextInt());
+            }
+        } else {
+            IntBuffer b = (IntBuffer) srcbuf;
+            for (int i = 0; i < b.capacity(); i++) {
+                b.put(i, random.nextInt());
+            }
+        }
+    }
+
+    @Benchmark
+    public Buffer convert() {
+        converter.convert(srcbuf, 0, srcscan, dstbuf, 0, dstscan, size, size);
+        return dstbuf;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2012, 2016, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.SnapshotResult;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import junit.framework.AssertionFailedError;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import test.util.Util;
+
+import static org.junit.Assert.*;
+import static test.util.Util.TIMEOUT;
+
+/**
+ * Tests for the snapshot methods rendering into a PixelBuffer.
+ */
+public class SnapshotPixelBufferTest extends SnapshotCommon {
+
+    @BeforeClass
+    public static void setupOnce() {
+        doSetupOnce();
+    }
+
+    @AfterClass
+    public static void teardownOnce() {
+        doTeardownOnce();
+    }
+
+    private static PixelBuffer<IntBuffer> createIntPixelBuffer(int w, int h) {
+        return new PixelBuffer<>(w, h, IntBuffer.allocate(w * h),
+                PixelFormat.getIntArgbPreInstance());
+    }
+
+    private static PixelBuffer<ByteBuffer> createBytePixelBuffer(int w, int h) {
+        return new PixelBuffer<>(w, h, ByteBuffer.allocateDirect(w * h * 4),
+                PixelFormat.getByteBgraPreInstance());
+    }
+
+    // Runs the given code on the FX thread, passing it a consumer which the
+    // snapshot callbacks must call with their result, and waits for the
+    // given number of callbacks
+    private void runAndWaitForCallbacks(int count, Consumer<Consumer<Runnable>> code) {
+        final Throwable[] testError = new Throwable[1];
+        final CountDownLatch latch = new CountDownLatch(count);
+
+        Util.runAndWait(() -> code.accept(check -> {
+            try {
+                assertTrue(Platform.isFxApplicationThread());
+                check.run();
+            } catch (Throwable th) {
+                testError[0] = th;
+            } finally {
+                latch.countDown();
+            }
+        }));
+
+        try {
+            if (!latch.await(TIMEOUT, TimeUnit.MILLISECONDS)) {
+                throw new AssertionFailedError("Timeout waiting for snapshot callback");
+            }
+        } catch (InterruptedException ex) {
+            AssertionFailedError err = new AssertionFailedError("Unexpected exception");
+            err.initCause(ex);
+            throw err;
+        }
+
+        if (testError[0] instanceof Error) {
+            throw (Error) testError[0];
+        } else if (testError[0] != null) {
+            throw new RuntimeException(testError[0]);
+        }
+    }
+
+    private static void assertIntPixels(int expected, IntBuffer buffer, int count) {
+        for (int i = 0; i < count; i++) {
+            assertEquals("pixel " + i, Integer.toHexString(expected), Integer.toHexString(buffer.get(i)));
+        }
+    }
+
+    // ========================== TEST CASES ==========================
+
+    @Test (expected=IllegalStateException.class)
+    public void testSceneSnapshotWrongThread() {
+        Scene scene = new Scene(new Group(), 20, 10);
+        scene.snapshotToBuffer(createIntPixelBuffer(20, 10), result -> null);
+    }
+
+    @Test (expected=IllegalStateException.class)
+    public void testNodeSnapshotWrongThread() {
+        new Rectangle(10, 10).snapshotToBuffer(null, createIntPixelBuffer(10, 10), result -> null);
+    }
+
+    @Test (expected=NullPointerException.class)
+    public void testNullPixelBuffer() {
+        Util.runAndWait(() -> new Rectangle(10, 10).snapshotToBuffer(null, null, result -> null));
+    }
+
+    @Test (expected=NullPointerException.class)
+    public void testNullCallback() {
+        Util.runAndWait(() -> new Rectangle(10, 10).snapshotToBuffer(null, createIntPixelBuffer(10, 10), null));
+    }
+
+    @Test
+    public void testSceneSnapshotIntBuffer() {
+        final PixelBuffer<IntBuffer> pixelBuffer = createIntPixelBuffer(40, 20);
+        final Scene[] scene = new Scene[1];
+
+        runAndWaitForCallbacks(1, done -> {
+            scene[0] = new Scene(new Group(), 40, 20);
+            scene[0].setFill(Color.RED);
+            scene[0].snapshotToBuffer(pixelBuffer, result -> {
+                done.accept(() -> {
+                    assertSame(scene[0], result.getSource());
+                    assertNull(result.getSnapshotParameters());
+                    assertSame(pixelBuffer, result.getPixelBuffer());
+                    assertIntPixels(0xffff0000, pixelBuffer.getBuffer(), 40 * 20);
+                });
+                return null;
+            });
+        });
+    }
+
+    @Test
+    public void testNodeSnapshotByteBuffer() {
+        final PixelBuffer<ByteBuffer> pixelBuffer = createBytePixelBuffer(10, 10);
+
+        runAndWaitForCallbacks(1, done -> {
+            Rectangle rect = new Rectangle(10, 10, Color.BLUE);
+            rect.snapshotToBuffer(new SnapshotParameters(), pixelBuffer, result -> {
+                done.accept(() -> {
+                    assertNotNull(result.getSnapshotParameters());
+                    ByteBuffer bytes = pixelBuffer.getBuffer();
+                    for (int i = 0; i < 10 * 10 * 4; i += 4) {
+                        assertEquals((byte) 0xff, bytes.get(i));
+                        assertEquals((byte) 0x00, bytes.get(i + 1));
+                        assertEquals((byte) 0x00, bytes.get(i + 2));
+                        assertEquals((byte) 0xff, bytes.get(i + 3));
+                    }
+                });
+                return null;
+            });
+        });
+    }
+
+    @Test
+    public void testImagesOfPixelBufferAreUpdated() {
+        final PixelBuffer<IntBuffer> pixelBuffer = createIntPixelBuffer(10, 10);
+        final WritableImage image = new WritableImage(pixelBuffer);
+
+        runAndWaitForCallbacks(1, done -> {
+            Rectangle rect = new Rectangle(10, 10, Color.LIME);
+            rect.snapshotToBuffer(null, pixelBuffer, result -> {
+                done.accept(() -> {
+                    assertEquals(0xff00ff00, image.getPixelReader().getArgb(5, 5));
+                    assertEquals(0xff00ff00, result.getImage().getPixelReader().getArgb(5, 5));
+                });
+                return null;
+            });
+        });
+    }
+
+    @Test
+    public void testManySnapshotsInFlight() {
+        final int count = 32;
+        final Color[] colors = new Color[count];
+        for (int i = 0; i < count; i++) {
+            colors[i] = Color.rgb(i * 8, 255 - i * 8, 128);
+        }
+
+        runAndWaitForCallbacks(count, done -> {
+            for (int i = 0; i < count; i++) {
+                final PixelBuffer<IntBuffer> pixelBuffer = createIntPixelBuffer(16, 16);
+                final Color color = colors[i];
+                Rectangle rect = new Rectangle(16, 16, color);
+                rect.snapshotToBuffer(null, pixelBuffer, result -> {
+                    done.accept(() -> {
+                        int argb = 0xff000000 |
+                                ((int) Math.round(color.getRed() * 255) << 16) |
+                                ((int) Math.round(color.getGreen() * 255) << 8) |
+                                ((int) Math.round(color.getBlue() * 255));
+                        assertIntPixels(argb, pixelBuffer.getBuffer(), 16 * 16);
+                    });
+                    return null;
+                });
+            }
+        });
+    }
+}